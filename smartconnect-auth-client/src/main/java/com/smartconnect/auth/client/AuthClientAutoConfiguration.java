@@ -0,0 +1,99 @@
+package com.smartconnect.auth.client;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto-configuration for local token verification
+ * Active once smartconnect.auth.client.jwks-uri is set; the revocation stream additionally
+ * needs smartconnect.auth.client.revocations.base-url, and reports its health when actuator is present.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(AuthClientProperties.class)
+@ConditionalOnProperty(prefix = "smartconnect.auth.client", name = "jwks-uri")
+public class AuthClientAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RevocationCache revocationCache() {
+        return new RevocationCache();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JwksKeySet jwksKeySet(AuthClientProperties properties) {
+        return new JwksKeySet(properties.getJwksUri(), properties.getJwksMinRefreshInterval());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TokenVerifier tokenVerifier(AuthClientProperties properties, JwksKeySet jwksKeySet,
+                                       RevocationCache revocationCache,
+                                       ObjectProvider<RevocationStreamClient> streamClient) {
+        if (!properties.getRevocations().isFailClosedWhenStale()) {
+            return new TokenVerifier(jwksKeySet, properties.getClockSkew(), revocationCache);
+        }
+        RevocationStreamClient client = streamClient.getIfAvailable();
+        if (client == null) {
+            throw new IllegalStateException("smartconnect.auth.client.revocations.fail-closed-when-stale needs the revocation stream enabled");
+        }
+        return new TokenVerifier(jwksKeySet, properties.getClockSkew(), revocationCache, client::isCurrent);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "smartconnect.auth.client.revocations", name = "enabled", matchIfMissing = true)
+    public RevocationStreamClient revocationStreamClient(AuthClientProperties properties, RevocationCache revocationCache) {
+        AuthClientProperties.Revocations revocations = properties.getRevocations();
+        return new RevocationStreamClient(revocations.getBaseUrl(), revocations.getServiceKey(),
+                revocations.getReconnectDelay(), revocations.getMaxStaleness(), revocations.isFailClosedWhenStale(),
+                revocationCache);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BearerTokenResolver bearerTokenResolver() {
+        return BearerTokenResolver.authorizationHeader();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public BearerTokenAuthenticationFilter bearerTokenAuthenticationFilter(TokenVerifier tokenVerifier,
+                                                                           BearerTokenResolver bearerTokenResolver) {
+        return new BearerTokenAuthenticationFilter(tokenVerifier, bearerTokenResolver);
+    }
+
+    /**
+     * The filter belongs in the security chain, not in the servlet container's filter list
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<BearerTokenAuthenticationFilter> bearerTokenAuthenticationFilterRegistration(
+            BearerTokenAuthenticationFilter filter) {
+        FilterRegistrationBean<BearerTokenAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(HealthIndicator.class)
+    @ConditionalOnProperty(prefix = "smartconnect.auth.client.revocations", name = "enabled", matchIfMissing = true)
+    static class RevocationStreamHealthConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "revocationStreamHealthIndicator")
+        public RevocationStreamHealthIndicator revocationStreamHealthIndicator(RevocationStreamClient revocationStreamClient) {
+            return new RevocationStreamHealthIndicator(revocationStreamClient);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.smartconnect.auth.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for verifying SmartConnect access tokens locally
+ */
+@Data
+@ConfigurationProperties(prefix = "smartconnect.auth.client")
+public class AuthClientProperties {
+
+    /**
+     * Auth service's JSON Web Key Set, e.g. http://auth-service:8088/api/v1/auth/jwks
+     */
+    private String jwksUri;
+
+    /**
+     * Shortest time between two fetches of the key set when a token names an unknown kid
+     */
+    private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * Allowed clock difference when checking exp
+     */
+    private Duration clockSkew = Duration.ofSeconds(30);
+
+    private Revocations revocations = new Revocations();
+
+    @Data
+    public static class Revocations {
+
+        /**
+         * Follow the auth service's revocation stream; without it, logged-out tokens stay valid until they expire
+         */
+        private boolean enabled = true;
+
+        /**
+         * Auth service base URL including its context path, e.g. http://auth-service:8088/api
+         */
+        private String baseUrl;
+
+        /**
+         * Service key sent in X-Service-Key; the auth service lists its SHA-256 digest in
+         * app.revocations.stream.service-keys. It does not expire and can only read the stream.
+         */
+        private String serviceKey;
+
+        private Duration reconnectDelay = Duration.ofSeconds(5);
+
+        /**
+         * Longest silence (events or keep-alives) before the feed counts as stale; the service sends a keep-alive every 15s
+         */
+        private Duration maxStaleness = Duration.ofSeconds(45);
+
+        /**
+         * Reject every token while the feed is disconnected or stale, and after a gap reject tokens issued
+         * before the oldest retained revocation, instead of accepting tokens whose revocation may have been missed
+         */
+        private boolean failClosedWhenStale = false;
+    }
+}
@@ -0,0 +1,32 @@
+package com.smartconnect.auth.client;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Slim principal built from access token claims alone
+ * Profile ids are keyed by profile type (STUDENT, TEACHER, ADMIN) and are only present when
+ * the auth service issues profile claims.
+ */
+public record AuthenticatedUser(
+        UUID userId,
+        String username,
+        String email,
+        String role,
+        Map<String, UUID> profileIds,
+        String tokenId,
+        Instant issuedAt,
+        Instant expiresAt
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public boolean hasRole(String candidate) {
+        return role != null && role.equals(candidate);
+    }
+}
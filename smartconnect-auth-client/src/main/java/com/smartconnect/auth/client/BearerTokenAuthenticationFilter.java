@@ -0,0 +1,66 @@
+package com.smartconnect.auth.client;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates requests from a locally verified access token
+ *
+ * Add it to the consuming service's chain, e.g.
+ * {@code http.addFilterBefore(filter, UsernamePasswordAuthenticationFilter.class)}. The principal
+ * is an {@link AuthenticatedUser} with a single ROLE_&lt;role&gt; authority. Requests with a
+ * missing or invalid token continue unauthenticated, so the chain's rules decide the response.
+ */
+@Slf4j
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private final TokenVerifier tokenVerifier;
+    private final BearerTokenResolver tokenResolver;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
+    public BearerTokenAuthenticationFilter(TokenVerifier tokenVerifier, BearerTokenResolver tokenResolver) {
+        this.tokenVerifier = tokenVerifier;
+        this.tokenResolver = tokenResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String token = tokenResolver.resolve(request);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            try {
+                AuthenticatedUser user = tokenVerifier.verify(token);
+                List<GrantedAuthority> authorities = user.role() != null
+                        ? List.of(new SimpleGrantedAuthority("ROLE_" + user.role()))
+                        : List.of();
+                UsernamePasswordAuthenticationToken authentication =
+                        UsernamePasswordAuthenticationToken.authenticated(user, null, authorities);
+                authentication.setDetails(detailsSource.buildDetails(request));
+
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            } catch (InvalidTokenException e) {
+                log.debug("Rejected bearer token: {}", e.getMessage());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,33 @@
+package com.smartconnect.auth.client;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Finds the access token in a request
+ * Same shape as Spring Security's OAuth2 resource server resolver, without pulling that module in.
+ */
+@FunctionalInterface
+public interface BearerTokenResolver {
+
+    String AUTHORIZATION_HEADER = "Authorization";
+    String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * @return the token, or null when the request carries none
+     */
+    String resolve(HttpServletRequest request);
+
+    /**
+     * Reads "Authorization: Bearer &lt;token&gt;"
+     */
+    static BearerTokenResolver authorizationHeader() {
+        return request -> {
+            String header = request.getHeader(AUTHORIZATION_HEADER);
+            if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+                return null;
+            }
+            String token = header.substring(BEARER_PREFIX.length()).trim();
+            return token.isEmpty() ? null : token;
+        };
+    }
+}
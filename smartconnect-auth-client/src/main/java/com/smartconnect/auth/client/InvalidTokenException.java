@@ -0,0 +1,15 @@
+package com.smartconnect.auth.client;
+
+/**
+ * Thrown when an access token is malformed, forged, expired, revoked or not an access token
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
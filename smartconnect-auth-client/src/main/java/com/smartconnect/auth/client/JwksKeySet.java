@@ -0,0 +1,113 @@
+package com.smartconnect.auth.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Public keys of the auth service, read from its JSON Web Key Set (GET /v1/auth/jwks)
+ *
+ * Keys are found by the token's kid header. An unknown kid refetches the set, at most once per
+ * minRefreshInterval, so a key rotated in on the service is picked up with its first token while
+ * tokens with made-up kids cannot turn into a request each. Only RSA signing keys are read; the
+ * client never holds anything that can sign a token.
+ */
+@Slf4j
+public class JwksKeySet {
+
+    private final URI jwksUri;
+    private final long minRefreshIntervalNanos;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private boolean fetched;
+    private long lastFetchNanos;
+
+    public JwksKeySet(String jwksUri) {
+        this(jwksUri, Duration.ofSeconds(30));
+    }
+
+    public JwksKeySet(String jwksUri, Duration minRefreshInterval) {
+        if (jwksUri == null || jwksUri.isBlank()) {
+            throw new IllegalArgumentException("smartconnect.auth.client.jwks-uri must be set");
+        }
+        this.jwksUri = URI.create(jwksUri);
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+    }
+
+    /**
+     * Key published under the kid, or null if the service does not publish it (even after a refetch)
+     */
+    public PublicKey publicKey(String keyId) {
+        if (keyId == null) {
+            return null;
+        }
+        PublicKey key = keys.get(keyId);
+        if (key == null) {
+            refresh();
+            key = keys.get(keyId);
+        }
+        return key;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private synchronized void refresh() {
+        long now = System.nanoTime();
+        if (fetched && now - lastFetchNanos < minRefreshIntervalNanos) {
+            return;
+        }
+        fetched = true;
+        lastFetchNanos = now;
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(jwksUri).timeout(Duration.ofSeconds(10)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                log.warn("Fetching signing keys from {} failed with HTTP {}", jwksUri, response.statusCode());
+                return;
+            }
+            keys = parse(response.body());
+            log.debug("Loaded {} signing key(s) from {}", keys.size(), jwksUri);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException | GeneralSecurityException e) {
+            log.warn("Fetching signing keys from {} failed: {}", jwksUri, e.getMessage());
+        }
+    }
+
+    private Map<String, PublicKey> parse(String body) throws IOException, GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (JsonNode jwk : objectMapper.readTree(body).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !"sig".equals(jwk.path("use").asText("sig"))
+                    || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+            parsed.put(jwk.get("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return Map.copyOf(parsed);
+    }
+}
@@ -0,0 +1,77 @@
+package com.smartconnect.auth.client;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local view of revoked tokens and users, fed by {@link RevocationStreamClient}
+ *
+ * Token entries only live until the token would have expired anyway, so the map stays as small
+ * as the set of logged-out but unexpired tokens. User entries keep the newest notBefore; they are
+ * tiny and deactivations are rare, so they are never evicted. A global cut-off rejects every token
+ * issued up to a point in time, for when revocations from that period were lost.
+ */
+public class RevocationCache {
+
+    private static final long PURGE_INTERVAL_SECONDS = 60;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> userNotBefore = new ConcurrentHashMap<>();
+    private final AtomicLong issuedNotBefore = new AtomicLong(Long.MIN_VALUE);
+    private final Clock clock;
+    private volatile long nextPurge;
+
+    public RevocationCache() {
+        this(Clock.systemUTC());
+    }
+
+    public RevocationCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    public void apply(RevocationEvent event) {
+        if (event.type() == RevocationEvent.Type.TOKEN && event.tokenId() != null && event.expiresAt() != null) {
+            revokedTokens.merge(event.tokenId(), event.expiresAt(), Math::max);
+        } else if (event.type() == RevocationEvent.Type.RESTORED && event.tokenId() != null) {
+            revokedTokens.remove(event.tokenId());
+        } else if (event.type() == RevocationEvent.Type.USER && event.userId() != null && event.notBefore() != null) {
+            userNotBefore.merge(event.userId(), event.notBefore(), Math::max);
+        }
+        purgeExpiredIfDue();
+    }
+
+    /**
+     * Reject every token issued at or before the given epoch second
+     */
+    public void revokeIssuedUpTo(long epochSecond) {
+        issuedNotBefore.accumulateAndGet(epochSecond, Math::max);
+    }
+
+    /**
+     * Check a token by its nonce, owner and issue time (epoch seconds)
+     */
+    public boolean isRevoked(String tokenId, UUID userId, long issuedAt) {
+        if (issuedAt <= issuedNotBefore.get() || tokenId != null && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        Long notBefore = userId != null ? userNotBefore.get(userId) : null;
+        // iat has second precision, so a token issued in the revocation second is revoked too
+        return notBefore != null && issuedAt <= notBefore;
+    }
+
+    public int revokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    void purgeExpiredIfDue() {
+        long now = clock.instant().getEpochSecond();
+        if (now < nextPurge) {
+            return;
+        }
+        nextPurge = now + PURGE_INTERVAL_SECONDS;
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+    }
+}
@@ -0,0 +1,27 @@
+package com.smartconnect.auth.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.UUID;
+
+/**
+ * Revocation notice as sent by the auth service's revocation stream
+ * TOKEN revokes one token (by its nonce claim) until expiresAt; RESTORED lifts a TOKEN revocation
+ * again; USER revokes every token of a user issued before notBefore. Times are epoch seconds.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record RevocationEvent(
+        String id,
+        Type type,
+        String tokenId,
+        UUID userId,
+        Long notBefore,
+        Long expiresAt
+) {
+
+    public enum Type {
+        TOKEN,
+        RESTORED,
+        USER
+    }
+}
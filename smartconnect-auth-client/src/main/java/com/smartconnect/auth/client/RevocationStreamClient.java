@@ -0,0 +1,252 @@
+package com.smartconnect.auth.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Follows the auth service's revocation stream (GET /v1/auth/revocations/stream) into a {@link RevocationCache}
+ *
+ * The first connection replays everything the service still retains, so tokens revoked before
+ * this process started are rejected too. Reconnects resume after the last applied event via
+ * Last-Event-ID. The feed is current while connected and something (an event or the service's
+ * keep-alive) arrived within maxStaleness; a rejected service key keeps it not current and is logged
+ * as an error on every attempt.
+ *
+ * A "gap" event means entries were trimmed while disconnected. The service replays everything it still
+ * retains right after it; the trimmed revocations cannot be recovered. When failing closed, the cache is
+ * rebuilt around that hole by rejecting every token issued up to the oldest retained entry.
+ */
+@Slf4j
+public class RevocationStreamClient {
+
+    static final String STREAM_PATH = "/v1/auth/revocations/stream";
+    static final String REPLAY_ALL = "0-0";
+
+    private final URI streamUri;
+    static final String SERVICE_KEY_HEADER = "X-Service-Key";
+
+    private final String serviceKey;
+    private final Duration reconnectDelay;
+    private final long maxStalenessNanos;
+    private final boolean failClosed;
+    private final RevocationCache revocationCache;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile String lastEventId;
+    private volatile long lastActivityNanos;
+    private volatile String lastError;
+    private Thread readerThread;
+
+    public RevocationStreamClient(String baseUrl, String serviceKey, Duration reconnectDelay,
+                                  RevocationCache revocationCache) {
+        this(baseUrl, serviceKey, reconnectDelay, Duration.ofSeconds(45), false, revocationCache);
+    }
+
+    /**
+     * @param maxStaleness longest silence before the feed is no longer current
+     * @param failClosed   after a gap, reject tokens issued before the oldest retained revocation
+     */
+    public RevocationStreamClient(String baseUrl, String serviceKey, Duration reconnectDelay, Duration maxStaleness,
+                                  boolean failClosed, RevocationCache revocationCache) {
+        if (baseUrl == null || baseUrl.isBlank()) {
+            throw new IllegalArgumentException("smartconnect.auth.client.revocations.base-url must be set");
+        }
+        this.streamUri = URI.create(baseUrl.replaceAll("/+$", "") + STREAM_PATH);
+        this.serviceKey = serviceKey;
+        this.reconnectDelay = reconnectDelay;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.failClosed = failClosed;
+        this.revocationCache = revocationCache;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        readerThread = Thread.ofPlatform().daemon().name("auth-revocation-stream").start(this::follow);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        httpClient.shutdownNow();
+        if (readerThread != null) {
+            readerThread.interrupt();
+        }
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Connected and heard from the service within maxStaleness
+     */
+    public boolean isCurrent() {
+        return connected && System.nanoTime() - lastActivityNanos <= maxStalenessNanos;
+    }
+
+    /**
+     * Time since the last event or keep-alive, or null if never connected
+     */
+    public Duration getSilence() {
+        return lastActivityNanos == 0 ? null : Duration.ofNanos(System.nanoTime() - lastActivityNanos);
+    }
+
+    /**
+     * Why the last connection attempt failed or ended, or null
+     */
+    public String getLastError() {
+        return lastError;
+    }
+
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    private void follow() {
+        while (running) {
+            try {
+                readStream();
+            } catch (IOException | UncheckedIOException e) {
+                if (running) {
+                    lastError = e.getMessage();
+                    log.warn("Revocation stream disconnected, retrying in {}: {}", reconnectDelay, e.getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                connected = false;
+            }
+            sleepBeforeReconnect();
+        }
+    }
+
+    private void readStream() throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(lastEventId == null
+                        ? URI.create(streamUri + "?since=" + REPLAY_ALL)
+                        : streamUri)
+                .header("Accept", "text/event-stream")
+                .GET();
+        if (serviceKey != null) {
+            request.header(SERVICE_KEY_HEADER, serviceKey);
+        }
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+
+        HttpResponse<Stream<String>> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        try (Stream<String> lines = response.body()) {
+            if (response.statusCode() == 401 || response.statusCode() == 403) {
+                lastError = "HTTP " + response.statusCode() + ": service key rejected";
+                log.error("Revocation stream refused the service key (HTTP {}); revocations are not being received",
+                        response.statusCode());
+                return;
+            }
+            if (response.statusCode() != 200) {
+                lastError = "HTTP " + response.statusCode();
+                log.warn("Revocation stream refused with HTTP {}, retrying in {}", response.statusCode(), reconnectDelay);
+                return;
+            }
+            lastActivityNanos = System.nanoTime();
+            lastError = null;
+            connected = true;
+            log.info("Revocation stream connected, resuming after {}", lastEventId != null ? lastEventId : REPLAY_ALL);
+
+            String id = null;
+            String name = null;
+            StringBuilder data = new StringBuilder();
+            for (Iterator<String> it = lines.iterator(); it.hasNext() && running; ) {
+                String line = it.next();
+                lastActivityNanos = System.nanoTime();
+                if (line.isEmpty()) {
+                    dispatch(id, name, data.toString());
+                    id = null;
+                    name = null;
+                    data.setLength(0);
+                } else if (line.startsWith("id:")) {
+                    id = fieldValue(line, 3);
+                } else if (line.startsWith("event:")) {
+                    name = fieldValue(line, 6);
+                } else if (line.startsWith("data:")) {
+                    if (!data.isEmpty()) {
+                        data.append('\n');
+                    }
+                    data.append(fieldValue(line, 5));
+                }
+                // ":" comment lines are keep-alives
+            }
+        }
+    }
+
+    void dispatch(String id, String name, String data) {
+        if ("gap".equals(name)) {
+            onGap(data);
+            return;
+        }
+        if (!"revocation".equals(name) || data.isEmpty()) {
+            return;
+        }
+        try {
+            revocationCache.apply(objectMapper.readValue(data, RevocationEvent.class));
+        } catch (IOException e) {
+            log.warn("Skipping unreadable revocation {}: {}", id, e.getMessage());
+        }
+        if (id != null) {
+            lastEventId = id;
+        }
+    }
+
+    private void onGap(String oldestRetained) {
+        if (!failClosed) {
+            log.warn("Revocation stream trimmed past {} while disconnected (oldest retained: {}); missed revocations expire with their tokens",
+                    lastEventId, oldestRetained);
+            return;
+        }
+        // Anything revoked in the hole was issued before the oldest retained entry was written
+        long oldestSecond;
+        try {
+            oldestSecond = Long.parseLong(oldestRetained.substring(0, oldestRetained.indexOf('-'))) / 1000;
+        } catch (RuntimeException e) {
+            oldestSecond = Instant.now().getEpochSecond();
+        }
+        revocationCache.revokeIssuedUpTo(oldestSecond);
+        log.warn("Revocation stream trimmed past {} while disconnected; rejecting tokens issued up to {}",
+                lastEventId, Instant.ofEpochSecond(oldestSecond));
+    }
+
+    private void sleepBeforeReconnect() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(reconnectDelay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static String fieldValue(String line, int prefixLength) {
+        return line.length() > prefixLength && line.charAt(prefixLength) == ' '
+                ? line.substring(prefixLength + 1)
+                : line.substring(prefixLength);
+    }
+}
@@ -0,0 +1,36 @@
+package com.smartconnect.auth.client;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+import java.time.Duration;
+
+/**
+ * Health of the revocation feed: DOWN while disconnected or stale, so a resource server that
+ * silently stopped receiving revocations (expired credential, network split) shows up in monitoring
+ */
+public class RevocationStreamHealthIndicator extends AbstractHealthIndicator {
+
+    private final RevocationStreamClient streamClient;
+
+    public RevocationStreamHealthIndicator(RevocationStreamClient streamClient) {
+        super("Revocation stream health check failed");
+        this.streamClient = streamClient;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        builder.status(streamClient.isCurrent() ? "UP" : "DOWN")
+                .withDetail("connected", streamClient.isConnected());
+        Duration silence = streamClient.getSilence();
+        if (silence != null) {
+            builder.withDetail("silenceSeconds", silence.toSeconds());
+        }
+        if (streamClient.getLastEventId() != null) {
+            builder.withDetail("lastEventId", streamClient.getLastEventId());
+        }
+        if (streamClient.getLastError() != null) {
+            builder.withDetail("lastError", streamClient.getLastError());
+        }
+    }
+}
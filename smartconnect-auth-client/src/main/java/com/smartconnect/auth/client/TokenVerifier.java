@@ -0,0 +1,113 @@
+package com.smartconnect.auth.client;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Verifies SmartConnect access tokens without calling the auth service
+ *
+ * Signatures (RS256) are checked with the service's public keys from {@link JwksKeySet}, picked by
+ * the token's kid; the parser is built once, so a verification is one RSA check, a claims read and
+ * two map lookups in the {@link RevocationCache}. Claim names mirror the auth service's JwtService.
+ * With a feed check, every token is rejected while the revocation feed is not current (fail closed).
+ */
+public class TokenVerifier {
+
+    static final String CLAIM_USER_ID = "userId";
+    static final String CLAIM_EMAIL = "email";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_TOKEN_TYPE = "tokenType";
+    static final String CLAIM_NONCE = "nonce";
+    static final String CLAIM_PROFILES = "profiles";
+    static final String TOKEN_TYPE_REFRESH = "refresh";
+
+    private final JwtParser parser;
+    private final RevocationCache revocationCache;
+    private final BooleanSupplier revocationsCurrent;
+
+    public TokenVerifier(JwksKeySet keySet, Duration clockSkew, RevocationCache revocationCache) {
+        this(keySet, clockSkew, revocationCache, () -> true);
+    }
+
+    /**
+     * @param revocationsCurrent whether the revocation cache is up to date; tokens are rejected while it is not
+     */
+    public TokenVerifier(JwksKeySet keySet, Duration clockSkew, RevocationCache revocationCache,
+                         BooleanSupplier revocationsCurrent) {
+        this.parser = Jwts.parser()
+                .keyLocator(header -> verificationKey(keySet, header))
+                .clockSkewSeconds(clockSkew.toSeconds())
+                .build();
+        this.revocationCache = revocationCache;
+        this.revocationsCurrent = revocationsCurrent;
+    }
+
+    public AuthenticatedUser verify(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Invalid access token: " + e.getMessage(), e);
+        }
+
+        if (!revocationsCurrent.getAsBoolean()) {
+            throw new InvalidTokenException("Revocation feed is unavailable, tokens cannot be checked");
+        }
+        if (TOKEN_TYPE_REFRESH.equals(claims.get(CLAIM_TOKEN_TYPE, String.class))) {
+            throw new InvalidTokenException("Refresh tokens cannot be used for authentication");
+        }
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        String tokenId = claims.get(CLAIM_NONCE, String.class);
+        Date issuedAt = claims.getIssuedAt();
+        if (userId == null || issuedAt == null) {
+            throw new InvalidTokenException("Access token is missing required claims");
+        }
+
+        AuthenticatedUser user = new AuthenticatedUser(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                claims.get(CLAIM_EMAIL, String.class),
+                claims.get(CLAIM_ROLE, String.class),
+                profileIds(claims),
+                tokenId,
+                issuedAt.toInstant(),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : Instant.MAX);
+        if (revocationCache.isRevoked(tokenId, user.userId(), issuedAt.toInstant().getEpochSecond())) {
+            throw new InvalidTokenException("Access token has been revoked");
+        }
+        return user;
+    }
+
+    private static PublicKey verificationKey(JwksKeySet keySet, Header header) {
+        String keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        PublicKey key = keySet.publicKey(keyId);
+        if (key == null) {
+            throw new SignatureException("No published key matches the token signature (kid " + keyId + ")");
+        }
+        return key;
+    }
+
+    private static Map<String, UUID> profileIds(Claims claims) {
+        Map<?, ?> profiles = claims.get(CLAIM_PROFILES, Map.class);
+        if (profiles == null || profiles.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, UUID> profileIds = new HashMap<>();
+        profiles.forEach((type, id) -> profileIds.put(type.toString(), UUID.fromString(id.toString())));
+        return Map.copyOf(profileIds);
+    }
+}
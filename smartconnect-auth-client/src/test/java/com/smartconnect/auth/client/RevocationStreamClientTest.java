@@ -0,0 +1,146 @@
+package com.smartconnect.auth.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for RevocationStreamClient against StubAuthServer
+ */
+@DisplayName("RevocationStreamClient Tests")
+class RevocationStreamClientTest {
+
+    private StubAuthServer authServer;
+    private RevocationCache revocationCache;
+    private RevocationStreamClient streamClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        authServer = new StubAuthServer();
+        revocationCache = new RevocationCache();
+        streamClient = new RevocationStreamClient(authServer.baseUrl(), StubAuthServer.SERVICE_KEY, Duration.ofMillis(100), revocationCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamClient.stop();
+        authServer.close();
+    }
+
+    // ==================== STREAM TESTS ====================
+
+    @Test
+    @DisplayName("Should replay retained revocations on first connect and apply live ones")
+    void shouldReplayThenFollow() {
+        UUID userId = UUID.randomUUID();
+        long expiresAt = Instant.now().plusSeconds(900).getEpochSecond();
+        authServer.revokeToken("before-start", userId, expiresAt);
+
+        streamClient.start();
+        await().atMost(Duration.ofSeconds(5)).until(() -> revocationCache.isRevoked("before-start", userId, 0));
+
+        authServer.revokeToken("while-live", userId, expiresAt);
+        await().atMost(Duration.ofSeconds(5)).until(() -> revocationCache.isRevoked("while-live", userId, 0));
+        assertThat(authServer.resumeOffsets()).containsExactly(RevocationStreamClient.REPLAY_ALL);
+    }
+
+    @Test
+    @DisplayName("Should accept a token again once its revocation is lifted")
+    void shouldApplyRestoredToken() {
+        UUID userId = UUID.randomUUID();
+        streamClient.start();
+        authServer.revokeToken("restored", userId, Instant.now().plusSeconds(900).getEpochSecond());
+        await().atMost(Duration.ofSeconds(5)).until(() -> revocationCache.isRevoked("restored", userId, 0));
+
+        authServer.restoreToken("restored");
+        await().atMost(Duration.ofSeconds(5)).until(() -> !revocationCache.isRevoked("restored", userId, 0));
+        assertThat(revocationCache.revokedTokenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should resume after the last applied event when reconnecting")
+    void shouldResumeAfterReconnect() {
+        UUID userId = UUID.randomUUID();
+        streamClient.start();
+        authServer.revokeToken("first", userId, Instant.now().plusSeconds(900).getEpochSecond());
+        await().atMost(Duration.ofSeconds(5)).until(() -> "1-0".equals(streamClient.getLastEventId()));
+
+        authServer.dropConnections();
+        await().atMost(Duration.ofSeconds(5)).until(() -> authServer.resumeOffsets().size() == 2);
+        authServer.revokeUser(userId, Instant.now().getEpochSecond());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> revocationCache.isRevoked(null, userId, 0));
+        assertThat(authServer.resumeOffsets()).containsExactly(RevocationStreamClient.REPLAY_ALL, "1-0");
+    }
+
+    // ==================== FEED HEALTH TESTS ====================
+
+    @Test
+    @DisplayName("Should stay not current and reject tokens when the service key is refused")
+    void shouldFailClosedWhenServiceKeyRejected() {
+        RevocationStreamClient rejected = new RevocationStreamClient(authServer.baseUrl(), "wrong-key",
+                Duration.ofMillis(100), Duration.ofSeconds(45), true, revocationCache);
+        TokenVerifier verifier = new TokenVerifier(new JwksKeySet(authServer.jwksUri()), Duration.ofSeconds(30), revocationCache,
+                rejected::isCurrent);
+        try {
+            rejected.start();
+            await().atMost(Duration.ofSeconds(5)).until(() -> rejected.getLastError() != null);
+
+            assertThat(rejected.isCurrent()).isFalse();
+            assertThat(rejected.getLastError()).contains("401");
+            String token = authServer.issueAccessToken(UUID.randomUUID(), "STUDENT", Duration.ofMinutes(15));
+            assertThatThrownBy(() -> verifier.verify(token))
+                    .isInstanceOf(InvalidTokenException.class)
+                    .hasMessageContaining("Revocation feed");
+        } finally {
+            rejected.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should turn stale when the service goes silent")
+    void shouldTurnStaleWithoutKeepAlives() {
+        streamClient.stop();
+        streamClient = new RevocationStreamClient(authServer.baseUrl(), StubAuthServer.SERVICE_KEY,
+                Duration.ofMillis(100), Duration.ofMillis(300), true, revocationCache);
+
+        streamClient.start();
+        await().atMost(Duration.ofSeconds(5)).until(streamClient::isCurrent);
+
+        // The stub only sends a keep-alive every 5s
+        await().atMost(Duration.ofSeconds(4)).until(() -> !streamClient.isCurrent());
+        assertThat(streamClient.isConnected()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued before the oldest retained entry after a gap when failing closed")
+    void shouldCloseGapWhenFailingClosed() {
+        streamClient.stop();
+        streamClient = new RevocationStreamClient(authServer.baseUrl(), StubAuthServer.SERVICE_KEY,
+                Duration.ofMillis(100), Duration.ofSeconds(45), true, revocationCache);
+        UUID userId = UUID.randomUUID();
+        streamClient.start();
+        authServer.revokeToken("first", userId, Instant.now().plusSeconds(900).getEpochSecond());
+        await().atMost(Duration.ofSeconds(5)).until(() -> "1-0".equals(streamClient.getLastEventId()));
+
+        authServer.dropConnections();
+        authServer.revokeToken("lost", userId, Instant.now().plusSeconds(900).getEpochSecond());
+        authServer.revokeToken("kept", userId, Instant.now().plusSeconds(900).getEpochSecond());
+        authServer.trimBefore(2);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> revocationCache.isRevoked("kept", userId, Long.MAX_VALUE - 1));
+        // Stub offsets are tiny, so the cut-off lands at epoch second 0
+        assertThat(revocationCache.isRevoked(null, UUID.randomUUID(), 0)).isTrue();
+        assertThat(revocationCache.isRevoked(null, UUID.randomUUID(), 1)).isFalse();
+        assertThat(revocationCache.isRevoked("lost", userId, 1)).isFalse();
+    }
+}
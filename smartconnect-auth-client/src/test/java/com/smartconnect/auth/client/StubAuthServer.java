@@ -0,0 +1,233 @@
+package com.smartconnect.auth.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for the auth service, for tests of services using this client
+ *
+ * Issues RS256 tokens with the service's claim layout, publishes its public keys at /api/v1/auth/jwks
+ * ({@link #rotateKey()} signs with a fresh key from then on) and serves /api/v1/auth/revocations/stream with
+ * the same event names, ids and resume semantics (since / Last-Event-ID). Subscribers must send
+ * {@link #SERVICE_KEY} in X-Service-Key. Entries before {@link #trimBefore(int)} behave as trimmed and
+ * trigger a "gap" event.
+ */
+public class StubAuthServer implements AutoCloseable {
+
+    public static final String SERVICE_KEY = "stub-service-key";
+    static final String JWKS_PATH = "/v1/auth/jwks";
+
+    private final List<KeyPair> keys = new CopyOnWriteArrayList<>();
+    private final HttpServer server;
+    private final List<String> entries = new CopyOnWriteArrayList<>();
+    private final List<LinkedBlockingQueue<Integer>> connections = new CopyOnWriteArrayList<>();
+    private final List<String> resumeOffsets = new CopyOnWriteArrayList<>();
+    private volatile int trimmedBefore;
+
+    public StubAuthServer() throws IOException {
+        rotateKey();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api" + JWKS_PATH, this::jwks);
+        server.createContext("/api" + RevocationStreamClient.STREAM_PATH, this::stream);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+    }
+
+    public String jwksUri() {
+        return baseUrl() + JWKS_PATH;
+    }
+
+    /**
+     * Sign with a new key from now on; earlier keys stay published, as on the service
+     */
+    public void rotateKey() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            keys.add(generator.generateKeyPair());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String issueAccessToken(UUID userId, String role, Duration lifetime) {
+        return issueAccessToken(userId, role, Instant.now(), lifetime, Map.of());
+    }
+
+    public String issueAccessToken(UUID userId, String role, Instant issuedAt, Duration lifetime,
+                                   Map<String, Object> extraClaims) {
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(TokenVerifier.CLAIM_USER_ID, userId.toString());
+        claims.put(TokenVerifier.CLAIM_EMAIL, "user@smartconnect.test");
+        claims.put(TokenVerifier.CLAIM_ROLE, role);
+        claims.putIfAbsent(TokenVerifier.CLAIM_NONCE, UUID.randomUUID().toString());
+        KeyPair key = keys.get(keys.size() - 1);
+        return Jwts.builder()
+                .header().keyId(keyId(key)).and()
+                .claims(claims)
+                .subject("user-" + userId)
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plus(lifetime)))
+                .signWith(key.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    public String issueRefreshToken(UUID userId) {
+        return issueAccessToken(userId, null, Instant.now(), Duration.ofDays(7),
+                Map.of(TokenVerifier.CLAIM_TOKEN_TYPE, TokenVerifier.TOKEN_TYPE_REFRESH));
+    }
+
+    public void revokeToken(String tokenId, UUID userId, long expiresAt) {
+        append("{\"type\":\"TOKEN\",\"tokenId\":\"" + tokenId + "\",\"userId\":\"" + userId + "\",\"expiresAt\":" + expiresAt + "}");
+    }
+
+    public void restoreToken(String tokenId) {
+        append("{\"type\":\"RESTORED\",\"tokenId\":\"" + tokenId + "\"}");
+    }
+
+    public void revokeUser(UUID userId, long notBefore) {
+        append("{\"type\":\"USER\",\"userId\":\"" + userId + "\",\"notBefore\":" + notBefore + "}");
+    }
+
+    /**
+     * Forget entries before the given offset, as stream trimming does
+     */
+    public void trimBefore(int offset) {
+        trimmedBefore = offset;
+    }
+
+    /**
+     * End every open stream; clients are expected to reconnect
+     */
+    public void dropConnections() {
+        connections.forEach(queue -> queue.add(-1));
+    }
+
+    /**
+     * Offsets clients asked to resume after, one per connection
+     */
+    public List<String> resumeOffsets() {
+        return new ArrayList<>(resumeOffsets);
+    }
+
+    private synchronized void append(String json) {
+        entries.add(json);
+        connections.forEach(queue -> queue.add(entries.size()));
+    }
+
+    private void jwks(HttpExchange exchange) throws IOException {
+        List<String> jwks = new ArrayList<>();
+        for (KeyPair key : keys) {
+            RSAPublicKey publicKey = (RSAPublicKey) key.getPublic();
+            jwks.add("{\"kty\":\"RSA\",\"use\":\"sig\",\"alg\":\"RS256\",\"kid\":\"" + keyId(key)
+                    + "\",\"n\":\"" + base64Url(publicKey.getModulus()) + "\",\"e\":\"" + base64Url(publicKey.getPublicExponent()) + "\"}");
+        }
+        byte[] body = ("{\"keys\":[" + String.join(",", jwks) + "]}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private String keyId(KeyPair key) {
+        return "stub-key-" + keys.indexOf(key);
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private void stream(HttpExchange exchange) throws IOException {
+        if (!SERVICE_KEY.equals(exchange.getRequestHeaders().getFirst(RevocationStreamClient.SERVICE_KEY_HEADER))) {
+            exchange.sendResponseHeaders(401, -1);
+            exchange.close();
+            return;
+        }
+        String lastEventId = exchange.getRequestHeaders().getFirst("Last-Event-ID");
+        String query = exchange.getRequestURI().getQuery();
+        String since = lastEventId != null ? lastEventId
+                : query != null && query.startsWith("since=") ? query.substring(6) : null;
+        resumeOffsets.add(String.valueOf(since));
+
+        LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            int sent;
+            synchronized (this) {
+                sent = since != null ? offsetOf(since) : entries.size();
+                connections.add(queue);
+            }
+            if (since != null && sent < trimmedBefore) {
+                write(out, "event: gap\ndata: " + trimmedBefore + "-0\n\n");
+                sent = trimmedBefore;
+            }
+            while (true) {
+                for (; sent < entries.size(); sent++) {
+                    write(out, "id: " + (sent + 1) + "-0\nevent: revocation\ndata: " + entries.get(sent) + "\n\n");
+                }
+                Integer signal = queue.poll(5, TimeUnit.SECONDS);
+                if (signal == null) {
+                    write(out, ":keep-alive\n\n");
+                } else if (signal < 0) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // client went away
+        } finally {
+            connections.remove(queue);
+        }
+    }
+
+    private static int offsetOf(String streamId) {
+        return Integer.parseInt(streamId.substring(0, streamId.indexOf('-')));
+    }
+
+    private static void write(OutputStream out, String chunk) throws IOException {
+        out.write(chunk.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        dropConnections();
+        server.stop(0);
+    }
+}
@@ -0,0 +1,59 @@
+package com.smartconnect.auth.client;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of verifying one access token locally, with an empty and a populated revocation cache
+ * Not a unit test; run main() (or the JMH runner) from the IDE with the test classpath.
+ * Compare against the round trip of calling /v1/users/me per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenVerificationBenchmark {
+
+    @Param({"0", "100000"})
+    public int revokedTokens;
+
+    private StubAuthServer authServer;
+    private TokenVerifier tokenVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        authServer = new StubAuthServer();
+        RevocationCache revocationCache = new RevocationCache();
+        long expiresAt = Instant.now().plus(Duration.ofHours(1)).getEpochSecond();
+        for (int i = 0; i < revokedTokens; i++) {
+            revocationCache.apply(new RevocationEvent(null, RevocationEvent.Type.TOKEN,
+                    UUID.randomUUID().toString(), UUID.randomUUID(), null, expiresAt));
+        }
+        tokenVerifier = new TokenVerifier(new JwksKeySet(authServer.jwksUri()), Duration.ofSeconds(30), revocationCache);
+        token = authServer.issueAccessToken(UUID.randomUUID(), "STUDENT", Duration.ofHours(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        authServer.close();
+    }
+
+    @Benchmark
+    public AuthenticatedUser verify() {
+        return tokenVerifier.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TokenVerificationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
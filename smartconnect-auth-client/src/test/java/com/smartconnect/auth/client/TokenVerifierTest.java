@@ -0,0 +1,146 @@
+package com.smartconnect.auth.client;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TokenVerifier
+ */
+@DisplayName("TokenVerifier Tests")
+class TokenVerifierTest {
+
+    private StubAuthServer authServer;
+    private RevocationCache revocationCache;
+    private TokenVerifier tokenVerifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        authServer = new StubAuthServer();
+        revocationCache = new RevocationCache();
+        tokenVerifier = new TokenVerifier(new JwksKeySet(authServer.jwksUri()), Duration.ofSeconds(30), revocationCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        authServer.close();
+    }
+
+    // ==================== VERIFICATION TESTS ====================
+
+    @Test
+    @DisplayName("Should build the principal from access token claims")
+    void shouldVerifyAccessToken() {
+        UUID userId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        String token = authServer.issueAccessToken(userId, "STUDENT", Instant.now(), Duration.ofMinutes(15),
+                Map.of(TokenVerifier.CLAIM_PROFILES, Map.of("STUDENT", studentId.toString())));
+
+        AuthenticatedUser user = tokenVerifier.verify(token);
+
+        assertThat(user.userId()).isEqualTo(userId);
+        assertThat(user.hasRole("STUDENT")).isTrue();
+        assertThat(user.profileIds()).containsEntry("STUDENT", studentId);
+        assertThat(user.tokenId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("Should reject tampered, expired and refresh tokens")
+    void shouldRejectUnusableTokens() {
+        UUID userId = UUID.randomUUID();
+        String token = authServer.issueAccessToken(userId, "ADMIN", Duration.ofMinutes(15));
+        String expired = authServer.issueAccessToken(userId, "ADMIN", Instant.now().minus(Duration.ofHours(2)),
+                Duration.ofHours(1), Map.of());
+
+        assertThatThrownBy(() -> tokenVerifier.verify(token.substring(0, token.length() - 2) + "xx"))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> tokenVerifier.verify(expired)).isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> tokenVerifier.verify(authServer.issueRefreshToken(userId)))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("Refresh");
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with a shared secret, even under a published kid")
+    void shouldRejectHmacTokens() {
+        // StubAuthServer names its first key stub-key-0
+        String forged = Jwts.builder()
+                .header().keyId("stub-key-0").and()
+                .claim(TokenVerifier.CLAIM_USER_ID, UUID.randomUUID().toString())
+                .issuedAt(new Date())
+                .signWith(Keys.hmacShaKeyFor(new byte[64]))
+                .compact();
+
+        assertThatThrownBy(() -> tokenVerifier.verify(forged)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    // ==================== KEY ROTATION TESTS ====================
+
+    @Test
+    @DisplayName("Should fetch the key set again when a token names a new key")
+    void shouldPickUpRotatedKey() {
+        TokenVerifier verifier = new TokenVerifier(new JwksKeySet(authServer.jwksUri(), Duration.ZERO),
+                Duration.ofSeconds(30), revocationCache);
+        UUID userId = UUID.randomUUID();
+        String before = authServer.issueAccessToken(userId, "STUDENT", Duration.ofMinutes(15));
+        assertThat(verifier.verify(before).userId()).isEqualTo(userId);
+
+        authServer.rotateKey();
+        String after = authServer.issueAccessToken(userId, "STUDENT", Duration.ofMinutes(15));
+
+        assertThat(verifier.verify(after).userId()).isEqualTo(userId);
+        assertThat(verifier.verify(before).userId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("Should not refetch the key set more often than the minimum interval")
+    void shouldThrottleRefetches() {
+        JwksKeySet keySet = new JwksKeySet(authServer.jwksUri(), Duration.ofHours(1));
+        TokenVerifier verifier = new TokenVerifier(keySet, Duration.ofSeconds(30), revocationCache);
+        UUID userId = UUID.randomUUID();
+        verifier.verify(authServer.issueAccessToken(userId, "STUDENT", Duration.ofMinutes(15)));
+
+        authServer.rotateKey();
+
+        assertThatThrownBy(() -> verifier.verify(authServer.issueAccessToken(userId, "STUDENT", Duration.ofMinutes(15))))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("No published key");
+        assertThat(keySet.size()).isEqualTo(1);
+    }
+
+    // ==================== REVOCATION TESTS ====================
+
+    @Test
+    @DisplayName("Should reject revoked tokens and tokens issued before a user revocation")
+    void shouldRejectRevokedTokens() {
+        UUID userId = UUID.randomUUID();
+        String token = authServer.issueAccessToken(userId, "TEACHER", Duration.ofMinutes(15));
+        String tokenId = tokenVerifier.verify(token).tokenId();
+        long expiresAt = Instant.now().plus(Duration.ofMinutes(15)).getEpochSecond();
+
+        revocationCache.apply(new RevocationEvent("1-0", RevocationEvent.Type.TOKEN, tokenId, userId, null, expiresAt));
+        assertThatThrownBy(() -> tokenVerifier.verify(token)).hasMessageContaining("revoked");
+
+        UUID otherUserId = UUID.randomUUID();
+        String older = authServer.issueAccessToken(otherUserId, "TEACHER", Instant.now().minusSeconds(60),
+                Duration.ofMinutes(15), Map.of());
+        revocationCache.apply(new RevocationEvent("2-0", RevocationEvent.Type.USER, null, otherUserId,
+                Instant.now().minusSeconds(30).getEpochSecond(), null));
+
+        assertThatThrownBy(() -> tokenVerifier.verify(older)).hasMessageContaining("revoked");
+        assertThat(tokenVerifier.verify(authServer.issueAccessToken(otherUserId, "TEACHER", Duration.ofMinutes(15))))
+                .isNotNull();
+    }
+}
@@ -0,0 +1,94 @@
+package com.smartconnect.auth.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub channel carrying in-process cache invalidations to every replica
+ * A message is "topic:key"; every replica, the publisher included, hands the key to the listeners
+ * of that topic. Delivery is best effort: a replica cut off from Redis misses what was published
+ * meanwhile, so caches fed by this bus keep a short expiry as well.
+ * Only present with the redis blacklist store; the memory store runs a single node.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.security.blacklist.store", havingValue = "redis", matchIfMissing = true)
+public class CacheInvalidationBus {
+
+    static final String CHANNEL = "cache:invalidations";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(RedisTemplate<String, String> redisTemplate, RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> dispatch(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            container.afterPropertiesSet();
+            container.start();
+        } catch (Exception e) {
+            // The container keeps retrying the subscription in the background
+            log.warn("Cache invalidation channel not subscribed yet, Redis unavailable: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        container.destroy();
+    }
+
+    /**
+     * Call the listener with the key of every invalidation published on the topic, from any replica
+     */
+    public void subscribe(String topic, Consumer<String> listener) {
+        listeners.computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Tell every replica to drop the key; failures are logged, local state is unaffected
+     */
+    public void publish(String topic, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, topic + ":" + key);
+        } catch (Exception e) {
+            log.error("Error publishing {} cache invalidation: {}", topic, e.getMessage());
+        }
+    }
+
+    void dispatch(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        String key = message.substring(separator + 1);
+        for (Consumer<String> listener : listeners.getOrDefault(message.substring(0, separator), List.of())) {
+            try {
+                listener.accept(key);
+            } catch (Exception e) {
+                log.warn("Cache invalidation listener failed for {}: {}", message, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.smartconnect.auth.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Keeps the per-JVM second-level cache of every replica in step with committed writes
+ * Hibernate only maintains the Caffeine regions of the node that ran the write. After each commit
+ * touching a cached entity this announces the entity on the {@link CacheInvalidationBus}; every
+ * replica then evicts that entity, the natural-id entries of its type and the cached query results,
+ * whose table timestamps are per node too. The short region expiry in hibernate-cache.conf bounds
+ * what a missed broadcast or a load racing the eviction can leave behind.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.security.blacklist.store", havingValue = "redis", matchIfMissing = true)
+public class SecondLevelCacheInvalidator
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    static final String INVALIDATION_TOPIC = "second-level-cache";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheInvalidationBus invalidationBus;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory, CacheInvalidationBus invalidationBus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.invalidationBus = invalidationBus;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        invalidationBus.subscribe(INVALIDATION_TOPIC, this::evict);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // A new profile turns cached "no profile for this user" query results stale
+        announce(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        announce(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        announce(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void announce(EntityPersister persister, Object id) {
+        if (persister.canWriteToCache() && id != null) {
+            invalidationBus.publish(INVALIDATION_TOPIC, persister.getEntityName() + "#" + id);
+        }
+    }
+
+    /**
+     * Drop an entity changed on some replica, plus the natural-id and query entries that may point at it
+     */
+    void evict(String key) {
+        int separator = key.lastIndexOf('#');
+        String entityName = key.substring(0, separator);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(entityName);
+        if (persister == null) {
+            return;
+        }
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(entityName, UUID.fromString(key.substring(separator + 1)));
+        if (persister.hasNaturalIdCache()) {
+            cache.evictNaturalIdData(entityName);
+        }
+        cache.evictQueryRegions();
+        log.debug("Second-level cache entries evicted for {}", key);
+    }
+}
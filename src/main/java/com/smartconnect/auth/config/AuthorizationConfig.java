@@ -0,0 +1,63 @@
+package com.smartconnect.auth.config;
+
+import com.google.common.base.Suppliers;
+import com.smartconnect.auth.security.AdminPermissionAuthorizationManager;
+import com.smartconnect.auth.security.AdminPermissionCache;
+import com.smartconnect.auth.security.Authorize;
+import com.smartconnect.auth.security.AuthorizeAuthorizationManager;
+import com.smartconnect.auth.security.RequiresAdminPermission;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+
+/**
+ * Typed method authorization
+ * Registers the interceptors enforcing {@link Authorize} (in the @PreAuthorize slot) and
+ * {@link RequiresAdminPermission} (right after it)
+ */
+@Configuration
+public class AuthorizationConfig {
+
+    /**
+     * Compiles @Authorize rules; also validates every controller once the context has started
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static AuthorizeAuthorizationManager authorizeAuthorizationManager(ListableBeanFactory beanFactory) {
+        return new AuthorizeAuthorizationManager(beanFactory);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor authorizeAdvisor(AuthorizeAuthorizationManager authorizeAuthorizationManager) {
+        Pointcut pointcut = new ComposablePointcut(AnnotationMatchingPointcut.forMethodAnnotation(Authorize.class))
+                .union(new AnnotationMatchingPointcut(Authorize.class, true));
+        AuthorizationManagerBeforeMethodInterceptor interceptor =
+                new AuthorizationManagerBeforeMethodInterceptor(pointcut, authorizeAuthorizationManager);
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
+    /**
+     * Advisors are created before ordinary beans, so the permission cache is looked up on first use
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor adminPermissionAuthorizationAdvisor(ObjectProvider<AdminPermissionCache> permissionCache) {
+        Pointcut pointcut = new ComposablePointcut(AnnotationMatchingPointcut.forMethodAnnotation(RequiresAdminPermission.class))
+                .union(new AnnotationMatchingPointcut(RequiresAdminPermission.class, true));
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                pointcut, new AdminPermissionAuthorizationManager(Suppliers.memoize(permissionCache::getObject)));
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder() + 1);
+        return interceptor;
+    }
+}
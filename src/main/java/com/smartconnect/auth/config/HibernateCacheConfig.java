@@ -0,0 +1,72 @@
+package com.smartconnect.auth.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.smartconnect.auth.util.Constants;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Hibernate second-level cache configuration
+ * Regions live in a Caffeine JCache manager built from hibernate-cache.conf; each region is exposed
+ * to Micrometer so evictions and sizes can be watched next to Hibernate's own hit/miss statistics.
+ * The manager is local to the JVM: writes on other replicas reach it only through
+ * {@link com.smartconnect.auth.cache.SecondLevelCacheInvalidator} and the short region expiry.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final String CACHE_CONFIG = "classpath:hibernate-cache.conf";
+
+    static final List<String> REGIONS = List.of(
+            Constants.CACHE_REGION_USERS,
+            Constants.CACHE_REGION_STUDENTS,
+            Constants.CACHE_REGION_TEACHERS,
+            Constants.CACHE_REGION_ADMINS,
+            Constants.CACHE_REGION_STUDENTS_BY_CODE,
+            Constants.CACHE_REGION_TEACHERS_BY_CODE,
+            Constants.CACHE_REGION_ADMINS_BY_CODE,
+            Constants.CACHE_REGION_PROFILES_BY_USER_ID,
+            "default-query-results-region",
+            "default-update-timestamps-region"
+    );
+
+    /**
+     * JCache manager backing the second-level cache; regions are created from hibernate-cache.conf
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create(CACHE_CONFIG), HibernateCacheConfig.class.getClassLoader());
+    }
+
+    /**
+     * Hand the configured manager to Hibernate instead of letting it create a default one
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    /**
+     * Publish gets, puts and evictions of every region
+     */
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> REGIONS.forEach(region -> {
+            Cache<Object, Object> cache = hibernateCacheManager.getCache(region);
+            if (cache != null) {
+                JCacheMetrics.monitor(registry, cache);
+            }
+        });
+    }
+}
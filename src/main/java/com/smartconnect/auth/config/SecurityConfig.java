@@ -1,7 +1,9 @@
 package com.smartconnect.auth.config;
 
 import com.smartconnect.auth.filter.JwtAuthenticationFilter;
+import com.smartconnect.auth.filter.ServiceKeyAuthenticationFilter;
 import com.smartconnect.auth.util.Constants;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,6 +34,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ServiceKeyAuthenticationFilter serviceKeyAuthenticationFilter;
     private final UserDetailsService userDetailsService;
     private final CorsConfigurationSource corsConfigurationSource;
 
@@ -40,7 +43,7 @@ public class SecurityConfig {
      * - Disable CSRF (using JWT tokens)
      * - Configure public endpoints (Swagger, Health checks, Auth endpoints)
      * - Set session to STATELESS
-     * - Add JWT authentication filter
+     * - Add service key (revocation stream only) and JWT authentication filters
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -53,6 +56,9 @@ public class SecurityConfig {
             
             // Configure authorization
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches complete streamed responses that were already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Public endpoints - accessible without authentication
                 .requestMatchers(Constants.PUBLIC_URLS).permitAll()
                 
@@ -83,7 +89,8 @@ public class SecurityConfig {
             // Set authentication provider
             .authenticationProvider(authenticationProvider())
             
-            // Add JWT authentication filter
+            // Add service key and JWT authentication filters
+            .addFilterBefore(serviceKeyAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -1,10 +1,22 @@
 package com.smartconnect.auth.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartconnect.auth.dto.request.AdminCreateRequest;
 import com.smartconnect.auth.dto.request.AdminUpdateRequest;
+import com.smartconnect.auth.dto.request.BatchGetRequest;
 import com.smartconnect.auth.dto.response.AdminResponse;
+import com.smartconnect.auth.dto.response.AdminSummaryResponse;
 import com.smartconnect.auth.dto.response.ApiResponse;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.CursorPageResponse;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.security.AdminSecurity;
+import com.smartconnect.auth.security.Authorize;
+import com.smartconnect.auth.security.UserSecurity;
 import com.smartconnect.auth.service.AdminService;
+import com.smartconnect.auth.util.KeysetCursor;
+import com.smartconnect.auth.util.StreamingResponses;
+import com.smartconnect.auth.util.SummarySort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -18,10 +30,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -36,10 +49,23 @@ import java.util.UUID;
 @SecurityRequirement(name = "Bearer Authentication")
 public class AdminController {
 
+    /** Sort keys accepted by /summaries, mapped to the entity paths the projection query orders by */
+    private static final Map<String, String> SUMMARY_SORT_PROPERTIES = Map.ofEntries(
+            Map.entry("createdAt", "createdAt"),
+            Map.entry("adminCode", "adminCode"),
+            Map.entry("fullName", "user.fullName"),
+            Map.entry("email", "user.email"),
+            Map.entry("department", "department"),
+            Map.entry("position", "position"),
+            Map.entry("accessLevel", "accessLevel"),
+            Map.entry("isActive", "isActive")
+    );
+
     private final AdminService adminService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Create admin profile", description = "Super Admin only")
     public ResponseEntity<ApiResponse<AdminResponse>> createAdmin(
             @Valid @RequestBody AdminCreateRequest request) {
@@ -50,7 +76,7 @@ public class AdminController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or @adminSecurity.isOwner(#id)")
+    @Authorize(roles = UserRole.SUPER_ADMIN, owner = AdminSecurity.class)
     @Operation(summary = "Update admin profile")
     public ResponseEntity<ApiResponse<AdminResponse>> updateAdmin(
             @PathVariable UUID id,
@@ -61,7 +87,7 @@ public class AdminController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or @adminSecurity.isOwner(#id)")
+    @Authorize(roles = UserRole.SUPER_ADMIN, owner = AdminSecurity.class)
     @Operation(summary = "Get admin by ID")
     public ResponseEntity<ApiResponse<AdminResponse>> getAdminById(@PathVariable UUID id) {
         AdminResponse response = adminService.getAdminById(id);
@@ -69,15 +95,24 @@ public class AdminController {
     }
 
     @GetMapping("/code/{adminCode}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Get admin by code")
     public ResponseEntity<ApiResponse<AdminResponse>> getAdminByCode(@PathVariable String adminCode) {
         AdminResponse response = adminService.getAdminByCode(adminCode);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping("/batch")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
+    @Operation(summary = "Get admins by IDs and/or codes")
+    public ResponseEntity<ApiResponse<BatchGetResponse<AdminResponse>>> getAdminsBatch(
+            @Valid @RequestBody BatchGetRequest request) {
+        BatchGetResponse<AdminResponse> response = adminService.getAdminsBatch(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/user/{userId}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or @userSecurity.isOwner(#userId)")
+    @Authorize(roles = UserRole.SUPER_ADMIN, owner = UserSecurity.class, ownerParam = "userId")
     @Operation(summary = "Get admin by user ID")
     public ResponseEntity<ApiResponse<AdminResponse>> getAdminByUserId(@PathVariable UUID userId) {
         AdminResponse response = adminService.getAdminByUserId(userId);
@@ -85,7 +120,7 @@ public class AdminController {
     }
 
     @GetMapping
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Get all admins")
     public ResponseEntity<ApiResponse<Page<AdminResponse>>> getAllAdmins(
             @RequestParam(defaultValue = "0") int page,
@@ -93,22 +128,93 @@ public class AdminController {
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "DESC") String direction) {
         Sort sort = Sort.by(Sort.Direction.fromString(direction), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), sort);
         Page<AdminResponse> response = adminService.getAllAdmins(pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/department/{department}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Get admins by department")
-    public ResponseEntity<ApiResponse<List<AdminResponse>>> getAdminsByDepartment(
+    public ResponseEntity<ApiResponse<Page<AdminResponse>>> getAdminsByDepartment(
+            @PathVariable String department,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<AdminResponse> response = adminService.getAdminsByDepartment(department, PageRequest.of(page, KeysetCursor.pageSize(size)));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping(value = "/department/{department}/stream", produces = "application/x-ndjson")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
+    @Operation(summary = "Get admins by department (NDJSON stream)",
+               description = "Streams every match as newline-delimited JSON without loading them all in memory")
+    public ResponseEntity<StreamingResponseBody> streamAdminsByDepartment(
             @PathVariable String department) {
-        List<AdminResponse> response = adminService.getAdminsByDepartment(department);
+        return StreamingResponses.<AdminResponse>ndjson(objectMapper,
+                sink -> adminService.streamAdminsByDepartment(department, sink));
+    }
+
+    @GetMapping("/summaries")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
+    @Operation(summary = "Get all admins (summary view)",
+               description = "Compact list rows projected straight from the database; use GET /{id} for the full profile")
+    public ResponseEntity<ApiResponse<Page<AdminSummaryResponse>>> getAdminSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String direction) {
+        Sort sort = SummarySort.of(sortBy, direction, SUMMARY_SORT_PROPERTIES);
+        Page<AdminSummaryResponse> response = adminService.getAdminSummaries(PageRequest.of(page, KeysetCursor.pageSize(size), sort));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/department/{department}/summaries")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
+    @Operation(summary = "Get admins by department (summary view)")
+    public ResponseEntity<ApiResponse<Page<AdminSummaryResponse>>> getAdminSummariesByDepartment(
+            @PathVariable String department,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<AdminSummaryResponse> response = adminService.getAdminSummariesByDepartment(department, PageRequest.of(page, KeysetCursor.pageSize(size)));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/summary")
+    @Authorize(roles = UserRole.SUPER_ADMIN, owner = AdminSecurity.class)
+    @Operation(summary = "Get admin summary by ID")
+    public ResponseEntity<ApiResponse<AdminSummaryResponse>> getAdminSummaryById(@PathVariable UUID id) {
+        AdminSummaryResponse response = adminService.getAdminSummaryById(id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/cursor")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
+    @Operation(
+        summary = "Get all admins (cursor pagination)",
+        description = "Newest first; pass nextCursor from the previous page to continue. Cost does not grow with depth"
+    )
+    public ResponseEntity<ApiResponse<CursorPageResponse<AdminResponse>>> getAdminsCursor(
+            @Parameter(description = "Cursor from the previous page (omit for the first page)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Include total count") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageResponse<AdminResponse> response = adminService.getAdminsCursor(cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/department/{department}/cursor")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
+    @Operation(summary = "Get admins by department (cursor pagination)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<AdminResponse>>> getAdminsByDepartmentCursor(
+            @PathVariable String department,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageResponse<AdminResponse> response = adminService.getAdminsByDepartmentCursor(department, cursor, size, includeTotal);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/access-level/{accessLevel}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Get admins by access level")
     public ResponseEntity<ApiResponse<List<AdminResponse>>> getAdminsByAccessLevel(
             @PathVariable Integer accessLevel) {
@@ -117,15 +223,26 @@ public class AdminController {
     }
 
     @GetMapping("/active")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Get active admins")
-    public ResponseEntity<ApiResponse<List<AdminResponse>>> getActiveAdmins() {
-        List<AdminResponse> response = adminService.getActiveAdmins();
+    public ResponseEntity<ApiResponse<Page<AdminResponse>>> getActiveAdmins(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<AdminResponse> response = adminService.getActiveAdmins(PageRequest.of(page, KeysetCursor.pageSize(size)));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping(value = "/active/stream", produces = "application/x-ndjson")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
+    @Operation(summary = "Get active admins (NDJSON stream)",
+               description = "Streams every match as newline-delimited JSON without loading them all in memory")
+    public ResponseEntity<StreamingResponseBody> streamActiveAdmins() {
+        return StreamingResponses.<AdminResponse>ndjson(objectMapper,
+                sink -> adminService.streamActiveAdmins(sink));
+    }
+
     @GetMapping("/super-admins")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Get super admins")
     public ResponseEntity<ApiResponse<List<AdminResponse>>> getSuperAdmins() {
         List<AdminResponse> response = adminService.getSuperAdmins();
@@ -133,19 +250,19 @@ public class AdminController {
     }
 
     @GetMapping("/search")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Search admins")
     public ResponseEntity<ApiResponse<Page<AdminResponse>>> searchAdmins(
             @Parameter(description = "Search keyword") @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size));
         Page<AdminResponse> response = adminService.searchAdmins(keyword, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Delete admin profile")
     public ResponseEntity<ApiResponse<Void>> deleteAdmin(@PathVariable UUID id) {
         log.info("Deleting admin profile with ID: {}", id);
@@ -154,7 +271,7 @@ public class AdminController {
     }
 
     @GetMapping("/exists/code/{adminCode}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Check if admin code exists")
     public ResponseEntity<ApiResponse<Boolean>> existsByAdminCode(@PathVariable String adminCode) {
         boolean exists = adminService.existsByAdminCode(adminCode);
@@ -162,7 +279,7 @@ public class AdminController {
     }
 
     @GetMapping("/count/department/{department}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Count admins by department")
     public ResponseEntity<ApiResponse<Long>> countAdminsByDepartment(@PathVariable String department) {
         long count = adminService.countAdminsByDepartment(department);
@@ -170,7 +287,7 @@ public class AdminController {
     }
 
     @GetMapping("/count/active")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Count active admins")
     public ResponseEntity<ApiResponse<Long>> countActiveAdmins() {
         long count = adminService.countActiveAdmins();
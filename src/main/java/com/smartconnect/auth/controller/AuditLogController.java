@@ -1,27 +1,46 @@
 package com.smartconnect.auth.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartconnect.auth.dto.response.ApiResponse;
 import com.smartconnect.auth.dto.response.AuditLogResponse;
+import com.smartconnect.auth.dto.response.NetworkActivityResponse;
+import com.smartconnect.auth.exception.BadRequestException;
+import com.smartconnect.auth.model.entity.User;
 import com.smartconnect.auth.model.enums.ActionType;
+import com.smartconnect.auth.model.enums.AdminPermission;
 import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.ExportFormat;
+import com.smartconnect.auth.model.enums.TextSearchMode;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.security.Authorize;
+import com.smartconnect.auth.security.RequiresAdminPermission;
+import com.smartconnect.auth.security.UserSecurity;
 import com.smartconnect.auth.service.AuditLogService;
+import com.smartconnect.auth.util.CsvExportWriter;
+import com.smartconnect.auth.util.KeysetCursor;
+import com.smartconnect.auth.util.StreamingResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -36,10 +55,32 @@ import java.util.UUID;
 @SecurityRequirement(name = "Bearer Authentication")
 public class AuditLogController {
 
+    private static final List<CsvExportWriter.Column<AuditLogResponse>> CSV_COLUMNS = List.of(
+            CsvExportWriter.Column.of("id", AuditLogResponse::getId),
+            CsvExportWriter.Column.of("created_at", AuditLogResponse::getCreatedAt),
+            CsvExportWriter.Column.of("user_id", AuditLogResponse::getUserId),
+            CsvExportWriter.Column.of("username", AuditLogResponse::getUsername),
+            CsvExportWriter.Column.of("action", AuditLogResponse::getAction),
+            CsvExportWriter.Column.of("entity_type", AuditLogResponse::getEntityType),
+            CsvExportWriter.Column.of("entity_id", AuditLogResponse::getEntityId),
+            CsvExportWriter.Column.of("entity_name", AuditLogResponse::getEntityName),
+            CsvExportWriter.Column.of("description", AuditLogResponse::getDescription),
+            CsvExportWriter.Column.of("ip_address", AuditLogResponse::getIpAddress),
+            CsvExportWriter.Column.of("user_agent", AuditLogResponse::getUserAgent),
+            CsvExportWriter.Column.of("request_method", AuditLogResponse::getRequestMethod),
+            CsvExportWriter.Column.of("request_url", AuditLogResponse::getRequestUrl),
+            CsvExportWriter.Column.of("status_code", AuditLogResponse::getStatusCode),
+            CsvExportWriter.Column.of("error_message", AuditLogResponse::getErrorMessage),
+            CsvExportWriter.Column.of("session_id", AuditLogResponse::getSessionId),
+            CsvExportWriter.Column.of("duration_ms", AuditLogResponse::getDurationMs)
+    );
+
     private final AuditLogService auditLogService;
+    private final ObjectMapper objectMapper;
+    private final AuditedExport auditedExport;
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get audit log by ID")
     public ResponseEntity<ApiResponse<AuditLogResponse>> getAuditLogById(@PathVariable UUID id) {
         AuditLogResponse response = auditLogService.getAuditLogById(id);
@@ -47,7 +88,7 @@ public class AuditLogController {
     }
 
     @GetMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get all audit logs")
     public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getAllAuditLogs(
             @RequestParam(defaultValue = "0") int page,
@@ -55,49 +96,49 @@ public class AuditLogController {
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "DESC") String direction) {
         Sort sort = Sort.by(Sort.Direction.fromString(direction), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), sort);
         Page<AuditLogResponse> response = auditLogService.getAllAuditLogs(pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/user/{userId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN') or @userSecurity.isOwner(#userId)")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN}, owner = UserSecurity.class, ownerParam = "userId")
     @Operation(summary = "Get audit logs by user ID")
     public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getAuditLogsByUserId(
             @PathVariable UUID userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<AuditLogResponse> response = auditLogService.getAuditLogsByUserId(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/action/{action}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get audit logs by action type")
     public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getAuditLogsByAction(
             @PathVariable ActionType action,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<AuditLogResponse> response = auditLogService.getAuditLogsByAction(action, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/entity-type/{entityType}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get audit logs by entity type")
     public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getAuditLogsByEntityType(
             @PathVariable EntityType entityType,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<AuditLogResponse> response = auditLogService.getAuditLogsByEntityType(entityType, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/entity/{entityType}/{entityId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get audit logs by entity")
     public ResponseEntity<ApiResponse<List<AuditLogResponse>>> getAuditLogsByEntity(
             @PathVariable EntityType entityType,
@@ -107,7 +148,7 @@ public class AuditLogController {
     }
 
     @GetMapping("/date-range")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get audit logs by date range")
     public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getAuditLogsByDateRange(
             @Parameter(description = "Start date (ISO format)") 
@@ -116,35 +157,147 @@ public class AuditLogController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<AuditLogResponse> response = auditLogService.getAuditLogsByDateRange(startDate, endDate, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/network")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get audit logs from a network",
+               description = "Matches every address inside the CIDR block, e.g. 203.0.113.0/24 or 2001:db8::/64")
+    public ResponseEntity<ApiResponse<Slice<AuditLogResponse>>> getAuditLogsByNetwork(
+            @Parameter(description = "Network in CIDR notation") @RequestParam String cidr,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size));
+        Slice<AuditLogResponse> response = auditLogService.getAuditLogsByNetwork(cidr, startDate, endDate, pageable);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/ip-range")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get audit logs from an IP address range (inclusive)")
+    public ResponseEntity<ApiResponse<Slice<AuditLogResponse>>> getAuditLogsByIpRange(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size));
+        Slice<AuditLogResponse> response = auditLogService.getAuditLogsByIpRange(from, to, startDate, endDate, pageable);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/top-networks")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get top offending networks",
+               description = "Aggregates events per IPv4/IPv6 network over a time window (default: last 24 hours). " +
+                       "Pass action (e.g. LOGIN_FAILED) to count one action only; without it every action is counted.")
+    public ResponseEntity<ApiResponse<List<NetworkActivityResponse>>> getTopNetworks(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) ActionType action,
+            @RequestParam(defaultValue = "24") int ipv4Prefix,
+            @RequestParam(defaultValue = "64") int ipv6Prefix,
+            @RequestParam(defaultValue = "20") int limit) {
+        LocalDateTime end = endDate != null ? endDate : LocalDateTime.now();
+        LocalDateTime start = startDate != null ? startDate : end.minusHours(24);
+        List<NetworkActivityResponse> response = auditLogService.getTopNetworks(
+                start, end, action, ipv4Prefix, ipv6Prefix, Math.max(1, Math.min(limit, 500)));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/search")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Full-text search audit log descriptions",
+               description = "Results are ranked by relevance, then recency. " +
+                       "mode=WORDS matches all words, PHRASE matches the exact phrase, PREFIX matches word prefixes.")
+    public ResponseEntity<ApiResponse<Slice<AuditLogResponse>>> searchAuditLogs(
+            @Parameter(description = "Search text") @RequestParam String q,
+            @RequestParam(defaultValue = "WORDS") TextSearchMode mode,
+            @RequestParam(required = false) ActionType action,
+            @RequestParam(required = false) EntityType entityType,
+            @Parameter(description = "Start date (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "End date (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size));
+        Slice<AuditLogResponse> response = auditLogService.searchAuditLogs(
+                q, mode, action, entityType, startDate, endDate, pageable);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/export")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @RequiresAdminPermission(AdminPermission.VIEW_REPORTS)
+    @Operation(summary = "Export audit logs",
+               description = "Streams matching audit logs as NDJSON or CSV, optionally gzip-compressed. " +
+                       "CSV omits the old/new value and metadata payloads; use NDJSON for the full record.")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @Parameter(description = "Start date (ISO format)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "End date (ISO format)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) ActionType action,
+            @RequestParam(required = false) EntityType entityType,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("startDate must not be after endDate");
+        }
+        log.info("Exporting audit logs from {} to {} as {} for user: {}", startDate, endDate, format, currentUser.getUsername());
+
+        Map<String, Object> filters = new HashMap<>();
+        filters.put("startDate", startDate.toString());
+        filters.put("endDate", endDate.toString());
+        if (action != null) {
+            filters.put("action", action.name());
+        }
+        if (entityType != null) {
+            filters.put("entityType", entityType.name());
+        }
+        if (userId != null) {
+            filters.put("userId", userId.toString());
+        }
+
+        return auditedExport.stream(EntityType.SYSTEM, "audit_logs", CSV_COLUMNS, format, gzip, filters,
+                currentUser, request,
+                sink -> auditLogService.streamAuditLogs(startDate, endDate, action, entityType, userId, sink));
+    }
+
     @GetMapping("/security")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Get security-related audit logs")
     public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getSecurityAuditLogs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<AuditLogResponse> response = auditLogService.getSecurityAuditLogs(pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/failed-actions")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Get failed actions audit logs")
     public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> getFailedActions(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<AuditLogResponse> response = auditLogService.getFailedActions(pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/count/user/{userId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Count audit logs by user")
     public ResponseEntity<ApiResponse<Long>> countAuditLogsByUser(@PathVariable UUID userId) {
         long count = auditLogService.countAuditLogsByUser(userId);
@@ -152,7 +305,7 @@ public class AuditLogController {
     }
 
     @GetMapping("/count/action/{action}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Count audit logs by action")
     public ResponseEntity<ApiResponse<Long>> countAuditLogsByAction(@PathVariable ActionType action) {
         long count = auditLogService.countAuditLogsByAction(action);
@@ -160,7 +313,7 @@ public class AuditLogController {
     }
 
     @GetMapping("/count/failed-actions")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @Authorize(roles = UserRole.SUPER_ADMIN)
     @Operation(summary = "Count failed actions")
     public ResponseEntity<ApiResponse<Long>> countFailedActions() {
         long count = auditLogService.countFailedActions();
@@ -0,0 +1,105 @@
+package com.smartconnect.auth.controller;
+
+import com.smartconnect.auth.dto.response.ApiResponse;
+import com.smartconnect.auth.dto.response.ImportJobResponse;
+import com.smartconnect.auth.exception.BadRequestException;
+import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.AdminPermission;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.ExportFormat;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.security.Authorize;
+import com.smartconnect.auth.security.RequiresAdminPermission;
+import com.smartconnect.auth.service.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * REST Controller for bulk student / teacher imports
+ * Uploads are accepted immediately and processed as background jobs; poll the job for progress
+ */
+@RestController
+@RequestMapping("/v1/imports")
+@RequiredArgsConstructor
+@Slf4j
+@RequiresAdminPermission(AdminPermission.MANAGE_USERS)
+@Tag(name = "Imports", description = "APIs for bulk onboarding of students and teachers")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @PostMapping(value = "/students", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Import students",
+               description = "Creates user accounts and student profiles from a CSV (header row) or NDJSON file. " +
+                       "Columns: username, email, password, fullName, phone, studentCode, majorId, admissionYear, " +
+                       "gpa, status, dateOfBirth, address, parentPhone, emergencyContact")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> importStudents(
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Upload format") @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request) {
+        return startImport(EntityType.STUDENT, file, format, currentUser, request);
+    }
+
+    @PostMapping(value = "/teachers", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Import teachers",
+               description = "Creates user accounts and teacher profiles from a CSV (header row) or NDJSON file. " +
+                       "Columns: username, email, password, fullName, phone, teacherCode, facultyId, title, degree, " +
+                       "specialization, office, officeHours, bio, researchInterests, publicationsCount, hireDate, isActive")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> importTeachers(
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "Upload format") @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request) {
+        return startImport(EntityType.TEACHER, file, format, currentUser, request);
+    }
+
+    @GetMapping("/{jobId}")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get import job progress", description = "Progress counters and rejected rows of an import job")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> getImportJob(@PathVariable UUID jobId) {
+        ImportJobResponse response = importService.getImportJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    private ResponseEntity<ApiResponse<ImportJobResponse>> startImport(
+            EntityType profileType,
+            MultipartFile file,
+            ExportFormat format,
+            User currentUser,
+            HttpServletRequest request) {
+        log.info("{} import uploaded by {}: {} ({} bytes)",
+                profileType, currentUser.getUsername(), file.getOriginalFilename(), file.getSize());
+
+        // Read the upload now: multipart temp files are removed when the request completes
+        byte[] content;
+        try {
+            content = file.getBytes();
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read uploaded file");
+        }
+
+        ImportJobResponse response = importService.startImport(
+                profileType, format, content, currentUser.getId(),
+                request.getRemoteAddr(), request.getHeader("User-Agent"), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Import queued", response));
+    }
+}
@@ -0,0 +1,39 @@
+package com.smartconnect.auth.controller;
+
+import com.smartconnect.auth.security.JwtKeys;
+import com.smartconnect.auth.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * REST Controller publishing the token verification keys
+ */
+@RestController
+@RequestMapping(Constants.AUTH_BASE_PATH)
+@RequiredArgsConstructor
+@Tag(name = "Token Keys", description = "Public keys for verifying access tokens locally")
+public class JwksController {
+
+    private final JwtKeys jwtKeys;
+
+    @GetMapping("/jwks")
+    @Operation(
+        summary = "JSON Web Key Set",
+        description = "RSA public keys (RS256) that verify tokens issued by this service, matched by the token's kid header. " +
+                      "Retired keys stay listed until their tokens expire; fetch again when a token names an unknown kid"
+    )
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtKeys.jwks());
+    }
+}
@@ -0,0 +1,52 @@
+package com.smartconnect.auth.controller;
+
+import com.smartconnect.auth.dto.response.ApiResponse;
+import com.smartconnect.auth.dto.response.TypeaheadSuggestion;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.security.Authorize;
+import com.smartconnect.auth.service.TypeaheadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST Controller for cross-directory people lookups
+ */
+@RestController
+@RequestMapping("/v1/people")
+@RequiredArgsConstructor
+@Tag(name = "People", description = "APIs for searching students, teachers and admins together")
+@SecurityRequirement(name = "Bearer Authentication")
+public class PeopleController {
+
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final TypeaheadService typeaheadService;
+
+    @GetMapping("/typeahead")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(
+        summary = "People typeahead",
+        description = "Suggest students, teachers and admins whose code or a name word starts with the query. " +
+                      "Accent-insensitive (\"nguyen\" matches \"Nguyễn\"); served from an in-memory index"
+    )
+    public ResponseEntity<ApiResponse<List<TypeaheadSuggestion>>> typeahead(
+            @Parameter(description = "Prefix typed so far") @RequestParam String q,
+            @Parameter(description = "Profile types to include (default: all)") @RequestParam(required = false) Set<EntityType> types,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<TypeaheadSuggestion> response = typeaheadService.suggest(
+                q, types != null ? types : Set.of(), Math.min(limit, MAX_SUGGESTIONS));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,50 @@
+package com.smartconnect.auth.controller;
+
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.revocation.RevocationBroadcaster;
+import com.smartconnect.auth.security.Authorize;
+import com.smartconnect.auth.util.Constants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for token revocation notifications
+ */
+@RestController
+@RequestMapping(Constants.AUTH_BASE_PATH + "/revocations")
+@RequiredArgsConstructor
+@ConditionalOnExpression("${app.revocations.stream.enabled:true} and '${app.security.blacklist.store:redis}' == 'redis'")
+@Tag(name = "Token Revocations", description = "Push feed of revoked tokens for resource servers")
+@SecurityRequirement(name = "Bearer Authentication")
+public class RevocationController {
+
+    private final RevocationBroadcaster revocationBroadcaster;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN}, scopes = Constants.SCOPE_REVOCATIONS_READ)
+    @Operation(
+        summary = "Stream token revocations (SSE)",
+        description = "Pushes 'revocation' events as tokens are revoked at logout (TOKEN: tokenId is the token's nonce claim, " +
+                      "reject it until expiresAt) and accounts are deactivated (USER: reject the user's tokens issued before notBefore). " +
+                      "Reconnects resume after Last-Event-ID; a 'gap' event means older entries were trimmed and local state should be rebuilt. " +
+                      "Resource servers authenticate with a service key in X-Service-Key, which can read this stream and nothing else"
+    )
+    public SseEmitter streamRevocations(
+            @Parameter(description = "Resume after this event id (sent automatically by EventSource on reconnect)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @Parameter(description = "Resume after this event id; 0-0 replays everything retained. Omit for new events only")
+            @RequestParam(required = false) String since) {
+        return revocationBroadcaster.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
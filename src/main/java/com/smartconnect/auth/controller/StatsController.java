@@ -0,0 +1,43 @@
+package com.smartconnect.auth.controller;
+
+import com.smartconnect.auth.dto.response.ApiResponse;
+import com.smartconnect.auth.dto.response.StatsSummaryResponse;
+import com.smartconnect.auth.model.enums.AdminPermission;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.security.Authorize;
+import com.smartconnect.auth.security.RequiresAdminPermission;
+import com.smartconnect.auth.service.ProfileStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for dashboard statistics
+ */
+@RestController
+@RequestMapping("/v1/stats")
+@RequiredArgsConstructor
+@Tag(name = "Statistics", description = "APIs for dashboard profile statistics")
+@SecurityRequirement(name = "Bearer Authentication")
+public class StatsController {
+
+    private final ProfileStatsService profileStatsService;
+
+    @GetMapping("/summary")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @RequiresAdminPermission(AdminPermission.VIEW_REPORTS)
+    @Operation(
+        summary = "Dashboard summary",
+        description = "Student counts by status, major, GPA bucket and admission year, teacher counts by faculty " +
+                      "and admin counts by department in one call. Served from in-memory counters that are " +
+                      "reconciled with the database periodically, so counts may briefly lag bulk imports"
+    )
+    public ResponseEntity<ApiResponse<StatsSummaryResponse>> getSummary() {
+        return ResponseEntity.ok(ApiResponse.success(profileStatsService.getSummary()));
+    }
+}
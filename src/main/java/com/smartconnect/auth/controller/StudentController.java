@@ -1,11 +1,32 @@
 package com.smartconnect.auth.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartconnect.auth.dto.request.BatchGetRequest;
 import com.smartconnect.auth.dto.request.StudentCreateRequest;
 import com.smartconnect.auth.dto.request.StudentUpdateRequest;
 import com.smartconnect.auth.dto.response.ApiResponse;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.ChangeFeedResponse;
+import com.smartconnect.auth.dto.response.CursorPageResponse;
+import com.smartconnect.auth.dto.response.StudentChangeResponse;
 import com.smartconnect.auth.dto.response.StudentResponse;
+import com.smartconnect.auth.dto.response.StudentSummaryResponse;
+import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.AdminPermission;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.ExportFormat;
 import com.smartconnect.auth.model.enums.StudentStatus;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.security.Authorize;
+import com.smartconnect.auth.security.RequiresAdminPermission;
+import com.smartconnect.auth.security.StudentSecurity;
+import com.smartconnect.auth.security.UserSecurity;
 import com.smartconnect.auth.service.StudentService;
+import com.smartconnect.auth.util.Constants;
+import com.smartconnect.auth.util.CsvExportWriter;
+import com.smartconnect.auth.util.KeysetCursor;
+import com.smartconnect.auth.util.StreamingResponses;
+import com.smartconnect.auth.util.SummarySort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,6 +34,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,10 +44,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -40,10 +65,36 @@ import java.util.UUID;
 @SecurityRequirement(name = "Bearer Authentication")
 public class StudentController {
 
+    private static final List<CsvExportWriter.Column<StudentSummaryResponse>> ROSTER_CSV_COLUMNS = List.of(
+            CsvExportWriter.Column.of("id", StudentSummaryResponse::getId),
+            CsvExportWriter.Column.of("student_code", StudentSummaryResponse::getStudentCode),
+            CsvExportWriter.Column.of("full_name", StudentSummaryResponse::getFullName),
+            CsvExportWriter.Column.of("email", StudentSummaryResponse::getEmail),
+            CsvExportWriter.Column.of("major_id", StudentSummaryResponse::getMajorId),
+            CsvExportWriter.Column.of("admission_year", StudentSummaryResponse::getAdmissionYear),
+            CsvExportWriter.Column.of("gpa", StudentSummaryResponse::getGpa),
+            CsvExportWriter.Column.of("status", StudentSummaryResponse::getStatus),
+            CsvExportWriter.Column.of("user_id", StudentSummaryResponse::getUserId)
+    );
+
+    /** Sort keys accepted by /summaries, mapped to the entity paths the projection query orders by */
+    private static final Map<String, String> SUMMARY_SORT_PROPERTIES = Map.ofEntries(
+            Map.entry("createdAt", "createdAt"),
+            Map.entry("studentCode", "studentCode"),
+            Map.entry("fullName", "user.fullName"),
+            Map.entry("email", "user.email"),
+            Map.entry("majorId", "majorId"),
+            Map.entry("admissionYear", "admissionYear"),
+            Map.entry("gpa", "gpa"),
+            Map.entry("status", "status")
+    );
+
     private final StudentService studentService;
+    private final ObjectMapper objectMapper;
+    private final AuditedExport auditedExport;
 
     @PostMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Create student profile",
         description = "Create a new student profile for an existing user"
@@ -75,7 +126,7 @@ public class StudentController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF') or @studentSecurity.isOwner(#id)")
+    @Authorize(roles = UserRole.ADMIN, owner = StudentSecurity.class)
     @Operation(
         summary = "Update student profile",
         description = "Update an existing student profile"
@@ -101,7 +152,7 @@ public class StudentController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'TEACHER', 'SUPER_ADMIN') or @studentSecurity.isOwner(#id)")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN}, owner = StudentSecurity.class)
     @Operation(
         summary = "Get student by ID",
         description = "Retrieve student profile by ID"
@@ -116,7 +167,7 @@ public class StudentController {
     }
 
     @GetMapping("/code/{studentCode}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER')")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Get student by code",
         description = "Retrieve student profile by student code"
@@ -130,8 +181,21 @@ public class StudentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping("/batch")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(
+        summary = "Get students by IDs and/or codes",
+        description = "Resolve up to " + Constants.BATCH_GET_MAX_KEYS + " student IDs and codes in one call; unknown keys are listed as missing"
+    )
+    public ResponseEntity<ApiResponse<BatchGetResponse<StudentResponse>>> getStudentsBatch(
+            @Valid @RequestBody BatchGetRequest request) {
+        BatchGetResponse<StudentResponse> response = studentService.getStudentsBatch(request);
+        
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/user/{userId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'TEACHER') or @userSecurity.isOwner(#userId)")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN}, owner = UserSecurity.class, ownerParam = "userId")
     @Operation(
         summary = "Get student by user ID",
         description = "Retrieve student profile by user ID"
@@ -146,20 +210,20 @@ public class StudentController {
     }
 
     @GetMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER')")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Get all students",
         description = "Retrieve all students with pagination"
     )
     public ResponseEntity<ApiResponse<Page<StudentResponse>>> getAllStudents(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "Sort direction") @RequestParam(defaultValue = "DESC") String direction) {
         log.debug("Fetching all students - page: {}, size: {}", page, size);
         
         Sort sort = Sort.by(Sort.Direction.fromString(direction), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), sort);
         
         Page<StudentResponse> response = studentService.getAllStudents(pageable);
         
@@ -167,7 +231,7 @@ public class StudentController {
     }
 
     @GetMapping("/major/{majorId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER')")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Get students by major",
         description = "Retrieve students by major ID with pagination"
@@ -178,58 +242,192 @@ public class StudentController {
             @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching students by major ID: {}", majorId);
         
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size));
         Page<StudentResponse> response = studentService.getStudentsByMajor(majorId, pageable);
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/summaries")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get all students (summary view)",
+               description = "Compact list rows projected straight from the database; use GET /{id} for the full profile")
+    public ResponseEntity<ApiResponse<Page<StudentSummaryResponse>>> getStudentSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String direction) {
+        Sort sort = SummarySort.of(sortBy, direction, SUMMARY_SORT_PROPERTIES);
+        Page<StudentSummaryResponse> response = studentService.getStudentSummaries(PageRequest.of(page, KeysetCursor.pageSize(size), sort));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/major/{majorId}/summaries")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get students by major (summary view)")
+    public ResponseEntity<ApiResponse<Page<StudentSummaryResponse>>> getStudentSummariesByMajor(
+            @PathVariable UUID majorId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<StudentSummaryResponse> response = studentService.getStudentSummariesByMajor(majorId, PageRequest.of(page, KeysetCursor.pageSize(size)));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/summary")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN}, owner = StudentSecurity.class)
+    @Operation(summary = "Get student summary by ID")
+    public ResponseEntity<ApiResponse<StudentSummaryResponse>> getStudentSummaryById(@PathVariable UUID id) {
+        StudentSummaryResponse response = studentService.getStudentSummaryById(id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/export")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @RequiresAdminPermission(AdminPermission.VIEW_REPORTS)
+    @Operation(summary = "Export student roster",
+               description = "Streams the roster (summary columns, ordered by code) as CSV or NDJSON, optionally gzip-compressed")
+    public ResponseEntity<StreamingResponseBody> exportStudentRoster(
+            @Parameter(description = "Major ID") @RequestParam(required = false) UUID majorId,
+            @Parameter(description = "Admission year") @RequestParam(required = false) Integer admissionYear,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request) {
+        log.info("Exporting student roster as {} for user: {}", format, currentUser.getUsername());
+
+        Map<String, Object> filters = new HashMap<>();
+        if (majorId != null) {
+            filters.put("majorId", majorId.toString());
+        }
+        if (admissionYear != null) {
+            filters.put("admissionYear", admissionYear.toString());
+        }
+
+        return auditedExport.stream(EntityType.STUDENT, "students", ROSTER_CSV_COLUMNS, format, gzip, filters,
+                currentUser, request,
+                sink -> studentService.exportRoster(majorId, admissionYear, sink));
+    }
+
+    @GetMapping("/cursor")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(
+        summary = "Get all students (cursor pagination)",
+        description = "Newest first; pass nextCursor from the previous page to continue. Cost does not grow with depth"
+    )
+    public ResponseEntity<ApiResponse<CursorPageResponse<StudentResponse>>> getStudentsCursor(
+            @Parameter(description = "Cursor from the previous page (omit for the first page)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Include total count") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageResponse<StudentResponse> response = studentService.getStudentsCursor(cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/changes")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(
+        summary = "Get student changes (incremental sync)",
+        description = "Students created, updated or deleted after the watermark, oldest first. Store the returned cursor and pass it as 'since' on the next poll"
+    )
+    public ResponseEntity<ApiResponse<ChangeFeedResponse<StudentChangeResponse>>> getStudentChanges(
+            @Parameter(description = "Cursor from the previous call (omit for a full sync)") @RequestParam(required = false) String since,
+            @Parameter(description = "Batch size (max 1000)") @RequestParam(defaultValue = "500") int size) {
+        ChangeFeedResponse<StudentChangeResponse> response = studentService.getStudentChanges(since, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/major/{majorId}/cursor")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get students by major (cursor pagination)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<StudentResponse>>> getStudentsByMajorCursor(
+            @PathVariable UUID majorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageResponse<StudentResponse> response = studentService.getStudentsByMajorCursor(majorId, cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/status/{status}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Get students by status",
         description = "Retrieve students by enrollment status"
     )
-    public ResponseEntity<ApiResponse<List<StudentResponse>>> getStudentsByStatus(
-            @Parameter(description = "Student status") @PathVariable StudentStatus status) {
+    public ResponseEntity<ApiResponse<Page<StudentResponse>>> getStudentsByStatus(
+            @Parameter(description = "Student status") @PathVariable StudentStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching students by status: {}", status);
         
-        List<StudentResponse> response = studentService.getStudentsByStatus(status);
+        Page<StudentResponse> response = studentService.getStudentsByStatus(status, PageRequest.of(page, KeysetCursor.pageSize(size)));
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping(value = "/status/{status}/stream", produces = "application/x-ndjson")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get students by status (NDJSON stream)",
+               description = "Streams every match as newline-delimited JSON without loading them all in memory")
+    public ResponseEntity<StreamingResponseBody> streamStudentsByStatus(
+            @Parameter(description = "Student status") @PathVariable StudentStatus status) {
+        return StreamingResponses.<StudentResponse>ndjson(objectMapper,
+                sink -> studentService.streamStudentsByStatus(status, sink));
+    }
+
     @GetMapping("/admission-year/{year}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER')")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Get students by admission year",
         description = "Retrieve students by admission year"
     )
-    public ResponseEntity<ApiResponse<List<StudentResponse>>> getStudentsByAdmissionYear(
-            @Parameter(description = "Admission year") @PathVariable Integer year) {
+    public ResponseEntity<ApiResponse<Page<StudentResponse>>> getStudentsByAdmissionYear(
+            @Parameter(description = "Admission year") @PathVariable Integer year,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching students by admission year: {}", year);
         
-        List<StudentResponse> response = studentService.getStudentsByAdmissionYear(year);
+        Page<StudentResponse> response = studentService.getStudentsByAdmissionYear(year, PageRequest.of(page, KeysetCursor.pageSize(size)));
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping(value = "/admission-year/{year}/stream", produces = "application/x-ndjson")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get students by admission year (NDJSON stream)",
+               description = "Streams every match as newline-delimited JSON without loading them all in memory")
+    public ResponseEntity<StreamingResponseBody> streamStudentsByAdmissionYear(
+            @Parameter(description = "Admission year") @PathVariable Integer year) {
+        return StreamingResponses.<StudentResponse>ndjson(objectMapper,
+                sink -> studentService.streamStudentsByAdmissionYear(year, sink));
+    }
+
     @GetMapping("/honors")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER')")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Get honors students",
         description = "Retrieve students with GPA >= 3.5"
     )
-    public ResponseEntity<ApiResponse<List<StudentResponse>>> getHonorsStudents() {
+    public ResponseEntity<ApiResponse<Page<StudentResponse>>> getHonorsStudents(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         log.debug("Fetching honors students");
         
-        List<StudentResponse> response = studentService.getHonorsStudents();
+        Page<StudentResponse> response = studentService.getHonorsStudents(PageRequest.of(page, KeysetCursor.pageSize(size)));
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping(value = "/honors/stream", produces = "application/x-ndjson")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get honors students (NDJSON stream)",
+               description = "Streams every match as newline-delimited JSON without loading them all in memory")
+    public ResponseEntity<StreamingResponseBody> streamHonorsStudents() {
+        return StreamingResponses.<StudentResponse>ndjson(objectMapper,
+                sink -> studentService.streamHonorsStudents(sink));
+    }
+
     @GetMapping("/search")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER')")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Search students",
         description = "Search students by name or student code"
@@ -240,14 +438,14 @@ public class StudentController {
             @RequestParam(defaultValue = "20") int size) {
         log.debug("Searching students with keyword: {}", keyword);
         
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size));
         Page<StudentResponse> response = studentService.searchStudents(keyword, pageable);
         
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Delete student profile",
         description = "Soft delete a student profile (Admin only)"
@@ -272,7 +470,7 @@ public class StudentController {
     }
 
     @GetMapping("/exists/code/{studentCode}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Check if student code exists",
         description = "Check if a student code is already in use"
@@ -285,7 +483,7 @@ public class StudentController {
     }
 
     @GetMapping("/count/major/{majorId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER')")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Count students by major",
         description = "Get the number of students in a major"
@@ -298,7 +496,7 @@ public class StudentController {
     }
 
     @GetMapping("/count/status/{status}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(
         summary = "Count students by status",
         description = "Get the number of students with a specific status"
@@ -1,14 +1,33 @@
 package com.smartconnect.auth.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartconnect.auth.dto.request.BatchGetRequest;
 import com.smartconnect.auth.dto.request.TeacherCreateRequest;
 import com.smartconnect.auth.dto.request.TeacherUpdateRequest;
 import com.smartconnect.auth.dto.response.ApiResponse;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.CursorPageResponse;
 import com.smartconnect.auth.dto.response.TeacherResponse;
+import com.smartconnect.auth.dto.response.TeacherSummaryResponse;
+import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.AdminPermission;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.ExportFormat;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.security.Authorize;
+import com.smartconnect.auth.security.RequiresAdminPermission;
+import com.smartconnect.auth.security.TeacherSecurity;
+import com.smartconnect.auth.security.UserSecurity;
 import com.smartconnect.auth.service.TeacherService;
+import com.smartconnect.auth.util.CsvExportWriter;
+import com.smartconnect.auth.util.KeysetCursor;
+import com.smartconnect.auth.util.StreamingResponses;
+import com.smartconnect.auth.util.SummarySort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,10 +37,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -35,10 +57,36 @@ import java.util.UUID;
 @SecurityRequirement(name = "Bearer Authentication")
 public class TeacherController {
 
+    private static final List<CsvExportWriter.Column<TeacherSummaryResponse>> ROSTER_CSV_COLUMNS = List.of(
+            CsvExportWriter.Column.of("id", TeacherSummaryResponse::getId),
+            CsvExportWriter.Column.of("teacher_code", TeacherSummaryResponse::getTeacherCode),
+            CsvExportWriter.Column.of("full_name", TeacherSummaryResponse::getFullName),
+            CsvExportWriter.Column.of("email", TeacherSummaryResponse::getEmail),
+            CsvExportWriter.Column.of("faculty_id", TeacherSummaryResponse::getFacultyId),
+            CsvExportWriter.Column.of("title", TeacherSummaryResponse::getTitle),
+            CsvExportWriter.Column.of("degree", TeacherSummaryResponse::getDegree),
+            CsvExportWriter.Column.of("is_active", TeacherSummaryResponse::getIsActive),
+            CsvExportWriter.Column.of("user_id", TeacherSummaryResponse::getUserId)
+    );
+
+    /** Sort keys accepted by /summaries, mapped to the entity paths the projection query orders by */
+    private static final Map<String, String> SUMMARY_SORT_PROPERTIES = Map.ofEntries(
+            Map.entry("createdAt", "createdAt"),
+            Map.entry("teacherCode", "teacherCode"),
+            Map.entry("fullName", "user.fullName"),
+            Map.entry("email", "user.email"),
+            Map.entry("facultyId", "facultyId"),
+            Map.entry("title", "title"),
+            Map.entry("degree", "degree"),
+            Map.entry("isActive", "isActive")
+    );
+
     private final TeacherService teacherService;
+    private final ObjectMapper objectMapper;
+    private final AuditedExport auditedExport;
 
     @PostMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Create teacher profile")
     public ResponseEntity<ApiResponse<TeacherResponse>> createTeacher(
             @Valid @RequestBody TeacherCreateRequest request) {
@@ -49,7 +97,7 @@ public class TeacherController {
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF') or @teacherSecurity.isOwner(#id)")
+    @Authorize(roles = UserRole.ADMIN, owner = TeacherSecurity.class)
     @Operation(summary = "Update teacher profile")
     public ResponseEntity<ApiResponse<TeacherResponse>> updateTeacher(
             @PathVariable UUID id,
@@ -60,7 +108,7 @@ public class TeacherController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER', 'STUDENT')")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get teacher by ID")
     public ResponseEntity<ApiResponse<TeacherResponse>> getTeacherById(@PathVariable UUID id) {
         TeacherResponse response = teacherService.getTeacherById(id);
@@ -68,15 +116,24 @@ public class TeacherController {
     }
 
     @GetMapping("/code/{teacherCode}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER', 'STUDENT')")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get teacher by code")
     public ResponseEntity<ApiResponse<TeacherResponse>> getTeacherByCode(@PathVariable String teacherCode) {
         TeacherResponse response = teacherService.getTeacherByCode(teacherCode);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping("/batch")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get teachers by IDs and/or codes")
+    public ResponseEntity<ApiResponse<BatchGetResponse<TeacherResponse>>> getTeachersBatch(
+            @Valid @RequestBody BatchGetRequest request) {
+        BatchGetResponse<TeacherResponse> response = teacherService.getTeachersBatch(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/user/{userId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'TEACHER') or @userSecurity.isOwner(#userId)")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN}, owner = UserSecurity.class, ownerParam = "userId")
     @Operation(summary = "Get teacher by user ID")
     public ResponseEntity<ApiResponse<TeacherResponse>> getTeacherByUserId(@PathVariable UUID userId) {
         TeacherResponse response = teacherService.getTeacherByUserId(userId);
@@ -84,7 +141,7 @@ public class TeacherController {
     }
 
     @GetMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER', 'STUDENT')")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get all teachers")
     public ResponseEntity<ApiResponse<Page<TeacherResponse>>> getAllTeachers(
             @RequestParam(defaultValue = "0") int page,
@@ -92,61 +149,176 @@ public class TeacherController {
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "DESC") String direction) {
         Sort sort = Sort.by(Sort.Direction.fromString(direction), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), sort);
         Page<TeacherResponse> response = teacherService.getAllTeachers(pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/faculty/{facultyId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER')")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get teachers by faculty")
     public ResponseEntity<ApiResponse<Page<TeacherResponse>>> getTeachersByFaculty(
             @PathVariable UUID facultyId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size));
         Page<TeacherResponse> response = teacherService.getTeachersByFaculty(facultyId, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/summaries")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get all teachers (summary view)",
+               description = "Compact list rows projected straight from the database; use GET /{id} for the full profile")
+    public ResponseEntity<ApiResponse<Page<TeacherSummaryResponse>>> getTeacherSummaries(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String direction) {
+        Sort sort = SummarySort.of(sortBy, direction, SUMMARY_SORT_PROPERTIES);
+        Page<TeacherSummaryResponse> response = teacherService.getTeacherSummaries(PageRequest.of(page, KeysetCursor.pageSize(size), sort));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/faculty/{facultyId}/summaries")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get teachers by faculty (summary view)")
+    public ResponseEntity<ApiResponse<Page<TeacherSummaryResponse>>> getTeacherSummariesByFaculty(
+            @PathVariable UUID facultyId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<TeacherSummaryResponse> response = teacherService.getTeacherSummariesByFaculty(facultyId, PageRequest.of(page, KeysetCursor.pageSize(size)));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/summary")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get teacher summary by ID")
+    public ResponseEntity<ApiResponse<TeacherSummaryResponse>> getTeacherSummaryById(@PathVariable UUID id) {
+        TeacherSummaryResponse response = teacherService.getTeacherSummaryById(id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/export")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @RequiresAdminPermission(AdminPermission.VIEW_REPORTS)
+    @Operation(summary = "Export teacher roster",
+               description = "Streams the roster (summary columns, ordered by code) as CSV or NDJSON, optionally gzip-compressed")
+    public ResponseEntity<StreamingResponseBody> exportTeacherRoster(
+            @Parameter(description = "Faculty ID") @RequestParam(required = false) UUID facultyId,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request) {
+        log.info("Exporting teacher roster as {} for user: {}", format, currentUser.getUsername());
+
+        Map<String, Object> filters = new HashMap<>();
+        if (facultyId != null) {
+            filters.put("facultyId", facultyId.toString());
+        }
+
+        return auditedExport.stream(EntityType.TEACHER, "teachers", ROSTER_CSV_COLUMNS, format, gzip, filters,
+                currentUser, request,
+                sink -> teacherService.exportRoster(facultyId, sink));
+    }
+
+    @GetMapping("/cursor")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(
+        summary = "Get all teachers (cursor pagination)",
+        description = "Newest first; pass nextCursor from the previous page to continue. Cost does not grow with depth"
+    )
+    public ResponseEntity<ApiResponse<CursorPageResponse<TeacherResponse>>> getTeachersCursor(
+            @Parameter(description = "Cursor from the previous page (omit for the first page)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Include total count") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageResponse<TeacherResponse> response = teacherService.getTeachersCursor(cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/faculty/{facultyId}/cursor")
+    @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get teachers by faculty (cursor pagination)")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TeacherResponse>>> getTeachersByFacultyCursor(
+            @PathVariable UUID facultyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageResponse<TeacherResponse> response = teacherService.getTeachersByFacultyCursor(facultyId, cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/active")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER', 'STUDENT')")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get active teachers")
-    public ResponseEntity<ApiResponse<List<TeacherResponse>>> getActiveTeachers() {
-        List<TeacherResponse> response = teacherService.getActiveTeachers();
+    public ResponseEntity<ApiResponse<Page<TeacherResponse>>> getActiveTeachers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<TeacherResponse> response = teacherService.getActiveTeachers(PageRequest.of(page, KeysetCursor.pageSize(size)));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping(value = "/active/stream", produces = "application/x-ndjson")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get active teachers (NDJSON stream)",
+               description = "Streams every match as newline-delimited JSON without loading them all in memory")
+    public ResponseEntity<StreamingResponseBody> streamActiveTeachers() {
+        return StreamingResponses.<TeacherResponse>ndjson(objectMapper,
+                sink -> teacherService.streamActiveTeachers(sink));
+    }
+
     @GetMapping("/senior")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get senior teachers (>= 10 years experience)")
-    public ResponseEntity<ApiResponse<List<TeacherResponse>>> getSeniorTeachers() {
-        List<TeacherResponse> response = teacherService.getSeniorTeachers();
+    public ResponseEntity<ApiResponse<Page<TeacherResponse>>> getSeniorTeachers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<TeacherResponse> response = teacherService.getSeniorTeachers(PageRequest.of(page, KeysetCursor.pageSize(size)));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping(value = "/senior/stream", produces = "application/x-ndjson")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get senior teachers (>= 10 years experience) (NDJSON stream)",
+               description = "Streams every match as newline-delimited JSON without loading them all in memory")
+    public ResponseEntity<StreamingResponseBody> streamSeniorTeachers() {
+        return StreamingResponses.<TeacherResponse>ndjson(objectMapper,
+                sink -> teacherService.streamSeniorTeachers(sink));
+    }
+
     @GetMapping("/phd")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Get teachers with PhD")
-    public ResponseEntity<ApiResponse<List<TeacherResponse>>> getTeachersWithPhD() {
-        List<TeacherResponse> response = teacherService.getTeachersWithPhD();
+    public ResponseEntity<ApiResponse<Page<TeacherResponse>>> getTeachersWithPhD(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<TeacherResponse> response = teacherService.getTeachersWithPhD(PageRequest.of(page, KeysetCursor.pageSize(size)));
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping(value = "/phd/stream", produces = "application/x-ndjson")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    @Operation(summary = "Get teachers with PhD (NDJSON stream)",
+               description = "Streams every match as newline-delimited JSON without loading them all in memory")
+    public ResponseEntity<StreamingResponseBody> streamTeachersWithPhD() {
+        return StreamingResponses.<TeacherResponse>ndjson(objectMapper,
+                sink -> teacherService.streamTeachersWithPhD(sink));
+    }
+
     @GetMapping("/search")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN', 'TEACHER', 'STUDENT')")
+    @Authorize(roles = {UserRole.STUDENT, UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Search teachers")
     public ResponseEntity<ApiResponse<Page<TeacherResponse>>> searchTeachers(
             @Parameter(description = "Search keyword") @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size));
         Page<TeacherResponse> response = teacherService.searchTeachers(keyword, pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Delete teacher profile")
     public ResponseEntity<ApiResponse<Void>> deleteTeacher(@PathVariable UUID id) {
         log.info("Deleting teacher profile with ID: {}", id);
@@ -155,7 +327,7 @@ public class TeacherController {
     }
 
     @GetMapping("/exists/code/{teacherCode}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Check if teacher code exists")
     public ResponseEntity<ApiResponse<Boolean>> existsByTeacherCode(@PathVariable String teacherCode) {
         boolean exists = teacherService.existsByTeacherCode(teacherCode);
@@ -163,7 +335,7 @@ public class TeacherController {
     }
 
     @GetMapping("/count/faculty/{facultyId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Count teachers by faculty")
     public ResponseEntity<ApiResponse<Long>> countTeachersByFaculty(@PathVariable UUID facultyId) {
         long count = teacherService.countTeachersByFaculty(facultyId);
@@ -171,7 +343,7 @@ public class TeacherController {
     }
 
     @GetMapping("/count/active")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     @Operation(summary = "Count active teachers")
     public ResponseEntity<ApiResponse<Long>> countActiveTeachers() {
         long count = teacherService.countActiveTeachers();
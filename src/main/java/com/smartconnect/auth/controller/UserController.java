@@ -1,16 +1,24 @@
 package com.smartconnect.auth.controller;
 
+import com.smartconnect.auth.dto.request.BatchGetRequest;
 import com.smartconnect.auth.dto.response.ApiResponse;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.ChangeFeedResponse;
+import com.smartconnect.auth.dto.response.UserChangeResponse;
 import com.smartconnect.auth.dto.response.UserResponse;
 import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.security.Authorize;
 import com.smartconnect.auth.service.UserService;
 import com.smartconnect.auth.util.Constants;
+import com.smartconnect.auth.util.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -18,7 +26,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -63,7 +70,7 @@ public class UserController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     public ResponseEntity<ApiResponse<UserResponse>> getUserById(@PathVariable UUID id) {
         log.info("Getting user by ID: {}", id);
         UserResponse userResponse = userService.getUserById(id);
@@ -71,9 +78,18 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Get users by IDs")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    public ResponseEntity<ApiResponse<BatchGetResponse<UserResponse>>> getUsersBatch(@Valid @RequestBody BatchGetRequest request) {
+        BatchGetResponse<UserResponse> users = userService.getUsersBatch(request);
+        ApiResponse<BatchGetResponse<UserResponse>> response = ApiResponse.success("Users retrieved successfully", users);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @Operation(summary = "Get all active users")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     public ResponseEntity<ApiResponse<Page<UserResponse>>> getAllActiveUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
@@ -82,12 +98,27 @@ public class UserController {
     ) {
         log.info("Getting all active users - page: {}, size: {}", page, size);
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, KeysetCursor.pageSize(size), sort);
         Page<UserResponse> users = userService.getAllActiveUsers(pageable);
         ApiResponse<Page<UserResponse>> response = ApiResponse.success("Users retrieved successfully", users);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/changes")
+    @Operation(
+        summary = "Get user changes (incremental sync)",
+        description = "Users created, updated or deleted after the watermark, oldest first. Store the returned cursor and pass it as 'since' on the next poll"
+    )
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
+    public ResponseEntity<ApiResponse<ChangeFeedResponse<UserChangeResponse>>> getUserChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int size
+    ) {
+        ChangeFeedResponse<UserChangeResponse> changes = userService.getUserChanges(since, size);
+        ApiResponse<ChangeFeedResponse<UserChangeResponse>> response = ApiResponse.success("User changes retrieved successfully", changes);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/me")
     @Operation(summary = "Update current user profile")
     public ResponseEntity<ApiResponse<UserResponse>> updateCurrentUser(
@@ -104,7 +135,7 @@ public class UserController {
 
     @PutMapping("/{id}/activate")
     @Operation(summary = "Activate user account")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     public ResponseEntity<ApiResponse<Void>> activateUser(@PathVariable UUID id) {
         log.info("Activating user: {}", id);
         userService.activateUser(id);
@@ -114,7 +145,7 @@ public class UserController {
 
     @PutMapping("/{id}/deactivate")
     @Operation(summary = "Deactivate user account")
-    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF', 'SUPER_ADMIN')")
+    @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN})
     public ResponseEntity<ApiResponse<Void>> deactivateUser(@PathVariable UUID id) {
         log.info("Deactivating user: {}", id);
         userService.deactivateUser(id);
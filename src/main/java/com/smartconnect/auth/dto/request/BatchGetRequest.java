@@ -0,0 +1,41 @@
+package com.smartconnect.auth.dto.request;
+
+import com.smartconnect.auth.util.Constants;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for resolving many users or profiles in one call
+ * Ids and codes may be combined; results are keyed by whichever was sent
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch lookup by IDs and/or codes")
+public class BatchGetRequest {
+
+    @Builder.Default
+    @Schema(description = "IDs to resolve")
+    private List<@NotNull UUID> ids = new ArrayList<>();
+
+    @Builder.Default
+    @Schema(description = "Student, teacher or admin codes to resolve (profiles only)", example = "[\"SV2024001\"]")
+    private List<@NotNull String> codes = new ArrayList<>();
+
+    @AssertTrue(message = "Between 1 and " + Constants.BATCH_GET_MAX_KEYS + " ids and codes are required")
+    @Schema(hidden = true)
+    public boolean isKeyCountValid() {
+        int keys = (ids != null ? ids.size() : 0) + (codes != null ? codes.size() : 0);
+        return keys > 0 && keys <= Constants.BATCH_GET_MAX_KEYS;
+    }
+}
@@ -0,0 +1,89 @@
+package com.smartconnect.auth.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.smartconnect.auth.importer.ImportedProfileRow;
+import com.smartconnect.auth.model.enums.StudentStatus;
+import com.smartconnect.auth.util.Constants;
+import com.smartconnect.auth.validation.OptionalPhone;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One row of a bulk student import (CSV column or NDJSON property names match the field names)
+ * Creates the user account and the student profile together
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportRow implements ImportedProfileRow {
+
+    @NotBlank(message = Constants.USERNAME_REQUIRED)
+    @Size(min = 3, max = 50, message = Constants.USERNAME_MIN_LENGTH)
+    @Pattern(regexp = "^[a-zA-Z0-9_]+$", message = "Username can only contain letters, numbers and underscore")
+    private String username;
+
+    @NotBlank(message = Constants.EMAIL_REQUIRED)
+    @Email(message = Constants.EMAIL_INVALID)
+    @Size(max = 100, message = "Email must not exceed 100 characters")
+    private String email;
+
+    @NotBlank(message = Constants.PASSWORD_REQUIRED)
+    @Size(min = 8, message = Constants.PASSWORD_MIN_LENGTH)
+    @Pattern(
+        regexp = "^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=]).*$",
+        message = "Password must contain at least one digit, one lowercase, one uppercase and one special character"
+    )
+    private String password;
+
+    @NotBlank(message = "Full name is required")
+    @Size(min = 2, max = 100, message = "Full name must be between 2 and 100 characters")
+    private String fullName;
+
+    @OptionalPhone
+    private String phone;
+
+    @NotBlank(message = "Student code is required")
+    @Size(min = 5, max = 20, message = "Student code must be between 5 and 20 characters")
+    @Pattern(regexp = "^[A-Z0-9]+$", message = "Student code must contain only uppercase letters and numbers")
+    private String studentCode;
+
+    private UUID majorId;
+
+    @NotNull(message = "Admission year is required")
+    @Min(value = 1900, message = "Admission year must be after 1900")
+    @Max(value = 2100, message = "Admission year must be before 2100")
+    private Integer admissionYear;
+
+    @DecimalMin(value = "0.0", message = "GPA must be at least 0.0")
+    @DecimalMax(value = "4.0", message = "GPA must not exceed 4.0")
+    private BigDecimal gpa;
+
+    private StudentStatus status;
+
+    @Past(message = "Date of birth must be in the past")
+    private LocalDate dateOfBirth;
+
+    @Size(max = 500, message = "Address must not exceed 500 characters")
+    private String address;
+
+    @Pattern(regexp = "^[0-9+\\-\\s()]*$", message = "Invalid phone number format")
+    @Size(max = 20, message = "Phone number must not exceed 20 characters")
+    private String parentPhone;
+
+    @Size(max = 100, message = "Emergency contact must not exceed 100 characters")
+    private String emergencyContact;
+
+    @Override
+    @JsonIgnore
+    public String getProfileCode() {
+        return studentCode;
+    }
+}
@@ -0,0 +1,92 @@
+package com.smartconnect.auth.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.smartconnect.auth.importer.ImportedProfileRow;
+import com.smartconnect.auth.util.Constants;
+import com.smartconnect.auth.validation.OptionalPhone;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One row of a bulk teacher import (CSV column or NDJSON property names match the field names)
+ * Creates the user account and the teacher profile together
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeacherImportRow implements ImportedProfileRow {
+
+    @NotBlank(message = Constants.USERNAME_REQUIRED)
+    @Size(min = 3, max = 50, message = Constants.USERNAME_MIN_LENGTH)
+    @Pattern(regexp = "^[a-zA-Z0-9_]+$", message = "Username can only contain letters, numbers and underscore")
+    private String username;
+
+    @NotBlank(message = Constants.EMAIL_REQUIRED)
+    @Email(message = Constants.EMAIL_INVALID)
+    @Size(max = 100, message = "Email must not exceed 100 characters")
+    private String email;
+
+    @NotBlank(message = Constants.PASSWORD_REQUIRED)
+    @Size(min = 8, message = Constants.PASSWORD_MIN_LENGTH)
+    @Pattern(
+        regexp = "^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=]).*$",
+        message = "Password must contain at least one digit, one lowercase, one uppercase and one special character"
+    )
+    private String password;
+
+    @NotBlank(message = "Full name is required")
+    @Size(min = 2, max = 100, message = "Full name must be between 2 and 100 characters")
+    private String fullName;
+
+    @OptionalPhone
+    private String phone;
+
+    @NotBlank(message = "Teacher code is required")
+    @Size(min = 5, max = 20, message = "Teacher code must be between 5 and 20 characters")
+    @Pattern(regexp = "^[A-Z0-9]+$", message = "Teacher code must contain only uppercase letters and numbers")
+    private String teacherCode;
+
+    private UUID facultyId;
+
+    @Size(max = 50, message = "Title must not exceed 50 characters")
+    private String title;
+
+    @Size(max = 50, message = "Degree must not exceed 50 characters")
+    private String degree;
+
+    @Size(max = 1000, message = "Specialization must not exceed 1000 characters")
+    private String specialization;
+
+    @Size(max = 50, message = "Office location must not exceed 50 characters")
+    private String office;
+
+    @Size(max = 200, message = "Office hours must not exceed 200 characters")
+    private String officeHours;
+
+    @Size(max = 2000, message = "Bio must not exceed 2000 characters")
+    private String bio;
+
+    @Size(max = 1000, message = "Research interests must not exceed 1000 characters")
+    private String researchInterests;
+
+    @Min(value = 0, message = "Publications count must be non-negative")
+    private Integer publicationsCount;
+
+    @PastOrPresent(message = "Hire date cannot be in the future")
+    private LocalDate hireDate;
+
+    private Boolean isActive;
+
+    @Override
+    @JsonIgnore
+    public String getProfileCode() {
+        return teacherCode;
+    }
+}
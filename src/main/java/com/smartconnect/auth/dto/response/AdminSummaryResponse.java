@@ -0,0 +1,48 @@
+package com.smartconnect.auth.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Compact admin row for list screens
+ * Filled directly by a constructor projection query - field order must match the repository query
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Admin summary (list view)")
+public class AdminSummaryResponse {
+
+    @Schema(description = "Admin profile ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "User ID")
+    private UUID userId;
+
+    @Schema(description = "Admin code", example = "AD2024001")
+    private String adminCode;
+
+    @Schema(description = "Full name", example = "Lê Văn C")
+    private String fullName;
+
+    @Schema(description = "Email", example = "admin@smartconnect.edu.vn")
+    private String email;
+
+    @Schema(description = "Department", example = "Academic Affairs")
+    private String department;
+
+    @Schema(description = "Position", example = "Senior Administrator")
+    private String position;
+
+    @Schema(description = "Access level (1=basic, 2=advanced, 3=super)", example = "1")
+    private Integer accessLevel;
+
+    @Schema(description = "Whether the admin is active", example = "true")
+    private Boolean isActive;
+}
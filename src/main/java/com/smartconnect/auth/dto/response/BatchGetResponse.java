@@ -0,0 +1,28 @@
+package com.smartconnect.auth.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a batch lookup
+ * Found entries are keyed by the requested id or code, in request order
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch lookup result")
+public class BatchGetResponse<T> {
+
+    @Schema(description = "Found entries keyed by requested id or code")
+    private Map<String, T> items;
+
+    @Schema(description = "Requested ids or codes that were not found (or are deleted)")
+    private List<String> missing;
+}
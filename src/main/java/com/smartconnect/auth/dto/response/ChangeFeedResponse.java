@@ -0,0 +1,52 @@
+package com.smartconnect.auth.dto.response;
+
+import com.smartconnect.auth.util.ChangeFeedCursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Batch of changes after a watermark, oldest first
+ * The cursor is always present: clients store it and pass it back as "since" on the next poll
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Incremental change feed")
+public class ChangeFeedResponse<T> {
+
+    @Schema(description = "Created, updated or deleted rows ordered by (updatedAt, id)")
+    private List<T> changes;
+
+    @Schema(description = "Whether more changes are available right away", example = "false")
+    private boolean hasMore;
+
+    @Schema(description = "Watermark to resume from (pass as 'since' on the next call)")
+    private String cursor;
+
+    /**
+     * Build a batch from rows fetched with a limit of size + 1 (the extra row only signals hasMore)
+     * An empty batch returns the client's own watermark so it can keep polling from there
+     */
+    public static <E, T> ChangeFeedResponse<T> of(
+            List<E> rows,
+            int size,
+            ChangeFeedCursor since,
+            Function<E, T> mapper,
+            Function<E, ChangeFeedCursor> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<E> batch = hasMore ? rows.subList(0, size) : rows;
+        ChangeFeedCursor last = batch.isEmpty() ? since : cursorOf.apply(batch.get(batch.size() - 1));
+        return ChangeFeedResponse.<T>builder()
+                .changes(batch.stream().map(mapper).toList())
+                .hasMore(hasMore)
+                .cursor(last.encode())
+                .build();
+    }
+}
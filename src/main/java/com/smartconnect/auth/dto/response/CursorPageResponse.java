@@ -0,0 +1,59 @@
+package com.smartconnect.auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.smartconnect.auth.util.KeysetCursor;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page of results addressed by an opaque keyset cursor instead of a page number
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Cursor-paginated result")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "Page content")
+    private List<T> content;
+
+    @Schema(description = "Requested page size", example = "20")
+    private int size;
+
+    @Schema(description = "Whether more results follow", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Cursor for the next page (absent on the last page)")
+    private String nextCursor;
+
+    @Schema(description = "Total number of results (only when requested)", example = "200000")
+    private Long totalElements;
+
+    /**
+     * Build a page from rows fetched with a limit of size + 1 (the extra row only signals hasNext)
+     */
+    public static <E, T> CursorPageResponse<T> of(
+            List<E> rows,
+            int size,
+            Function<E, T> mapper,
+            Function<E, KeysetCursor> cursorOf,
+            Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageResponse.<T>builder()
+                .content(pageRows.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.smartconnect.auth.dto.response;
+
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.ExportFormat;
+import com.smartconnect.auth.model.enums.ImportJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress snapshot of a bulk import job
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk import job status and progress")
+public class ImportJobResponse {
+
+    @Schema(description = "Import job ID")
+    private UUID jobId;
+
+    @Schema(description = "Profile type being imported", example = "STUDENT")
+    private EntityType profileType;
+
+    @Schema(description = "Upload format", example = "CSV")
+    private ExportFormat format;
+
+    @Schema(description = "Job status", example = "RUNNING")
+    private ImportJobStatus status;
+
+    @Schema(description = "Data rows in the upload (known once parsing finishes)", example = "5000")
+    private int totalRows;
+
+    @Schema(description = "Rows processed so far", example = "2500")
+    private int processedRows;
+
+    @Schema(description = "Rows imported so far", example = "2490")
+    private int importedRows;
+
+    @Schema(description = "Rows rejected so far", example = "10")
+    private int failedRows;
+
+    @Schema(description = "Rejected rows (capped; see errorsTruncated)")
+    private List<ImportRowError> errors;
+
+    @Schema(description = "Whether more rows failed than are listed in errors")
+    private boolean errorsTruncated;
+
+    @Schema(description = "Why the whole job failed, if it did")
+    private String failureMessage;
+
+    @Schema(description = "Processing rate so far", example = "18000")
+    private long rowsPerMinute;
+
+    @Schema(description = "When the job was accepted")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "When processing started")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When processing finished")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,27 @@
+package com.smartconnect.auth.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A rejected row of a bulk import
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Rejected import row")
+public class ImportRowError {
+
+    @Schema(description = "1-based data row number (header excluded)", example = "42")
+    private int rowNumber;
+
+    @Schema(description = "Username of the row, when it could be read", example = "sv2024001")
+    private String username;
+
+    @Schema(description = "Why the row was rejected", example = "email: Email format is invalid")
+    private String message;
+}
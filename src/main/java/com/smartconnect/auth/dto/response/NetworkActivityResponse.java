@@ -0,0 +1,38 @@
+package com.smartconnect.auth.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for per-network audit activity (e.g. top offending /24 or /64 networks)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Audit activity aggregated per network")
+public class NetworkActivityResponse {
+
+    @Schema(description = "Network in CIDR notation", example = "203.0.113.0/24")
+    private String network;
+
+    @Schema(description = "Number of matching events from the network", example = "1532")
+    private long eventCount;
+
+    @Schema(description = "Number of distinct client addresses in the network", example = "87")
+    private long distinctAddresses;
+
+    @Schema(description = "Number of distinct users targeted from the network", example = "412")
+    private long distinctUsers;
+
+    @Schema(description = "First matching event in the window")
+    private LocalDateTime firstSeen;
+
+    @Schema(description = "Last matching event in the window")
+    private LocalDateTime lastSeen;
+}
@@ -0,0 +1,58 @@
+package com.smartconnect.auth.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Dashboard profile counts served from in-memory counters
+ * Soft-deleted profiles are not counted; buckets with no profiles are omitted
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Profile statistics summary")
+public class StatsSummaryResponse {
+
+    @Schema(description = "Total students", example = "1200")
+    private long totalStudents;
+
+    @Schema(description = "Students per enrollment status", example = "{\"ACTIVE\": 1100, \"GRADUATED\": 100}")
+    private Map<String, Long> studentsByStatus;
+
+    @Schema(description = "Students per major ID (\"none\" = no major)")
+    private Map<String, Long> studentsByMajor;
+
+    @Schema(description = "Students per half-point GPA bucket, keyed by lower bound", example = "{\"3.0\": 400, \"3.5\": 150}")
+    private Map<String, Long> studentGpaDistribution;
+
+    @Schema(description = "Students per admission year", example = "{\"2023\": 600, \"2024\": 600}")
+    private Map<String, Long> studentsByAdmissionYear;
+
+    @Schema(description = "Total teachers", example = "80")
+    private long totalTeachers;
+
+    @Schema(description = "Active teachers", example = "75")
+    private long activeTeachers;
+
+    @Schema(description = "Teachers per faculty ID (\"none\" = no faculty)")
+    private Map<String, Long> teachersByFaculty;
+
+    @Schema(description = "Total admins", example = "10")
+    private long totalAdmins;
+
+    @Schema(description = "Active admins", example = "9")
+    private long activeAdmins;
+
+    @Schema(description = "Admins per department (\"none\" = no department)")
+    private Map<String, Long> adminsByDepartment;
+
+    @Schema(description = "When the counters were last reconciled against the database")
+    private LocalDateTime reconciledAt;
+}
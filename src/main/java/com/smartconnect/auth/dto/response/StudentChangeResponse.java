@@ -0,0 +1,51 @@
+package com.smartconnect.auth.dto.response;
+
+import com.smartconnect.auth.model.enums.StudentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Compact student row for the change feed
+ * Name and email live on the user and arrive through the user feed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Student change")
+public class StudentChangeResponse {
+
+    @Schema(description = "Student profile ID")
+    private UUID id;
+
+    @Schema(description = "User ID")
+    private UUID userId;
+
+    @Schema(description = "Student code", example = "SV2024001")
+    private String studentCode;
+
+    @Schema(description = "Major/Program ID")
+    private UUID majorId;
+
+    @Schema(description = "Admission year", example = "2024")
+    private Integer admissionYear;
+
+    @Schema(description = "Grade Point Average", example = "3.5")
+    private BigDecimal gpa;
+
+    @Schema(description = "Enrollment status", example = "ACTIVE")
+    private StudentStatus status;
+
+    @Schema(description = "Whether the profile was deleted (drop it from the replica)")
+    private Boolean isDeleted;
+
+    @Schema(description = "Time of the change")
+    private LocalDateTime updatedAt;
+}
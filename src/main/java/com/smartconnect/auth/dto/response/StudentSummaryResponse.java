@@ -0,0 +1,50 @@
+package com.smartconnect.auth.dto.response;
+
+import com.smartconnect.auth.model.enums.StudentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Compact student row for list screens
+ * Filled directly by a constructor projection query - field order must match the repository query
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Student summary (list view)")
+public class StudentSummaryResponse {
+
+    @Schema(description = "Student profile ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "User ID")
+    private UUID userId;
+
+    @Schema(description = "Student code", example = "SV2024001")
+    private String studentCode;
+
+    @Schema(description = "Full name", example = "Nguyễn Văn A")
+    private String fullName;
+
+    @Schema(description = "Email", example = "student@smartconnect.edu.vn")
+    private String email;
+
+    @Schema(description = "Major/Program ID")
+    private UUID majorId;
+
+    @Schema(description = "Admission year", example = "2024")
+    private Integer admissionYear;
+
+    @Schema(description = "Grade Point Average", example = "3.5")
+    private BigDecimal gpa;
+
+    @Schema(description = "Enrollment status", example = "ACTIVE")
+    private StudentStatus status;
+}
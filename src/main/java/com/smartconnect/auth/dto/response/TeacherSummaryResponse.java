@@ -0,0 +1,48 @@
+package com.smartconnect.auth.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Compact teacher row for list screens
+ * Filled directly by a constructor projection query - field order must match the repository query
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Teacher summary (list view)")
+public class TeacherSummaryResponse {
+
+    @Schema(description = "Teacher profile ID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "User ID")
+    private UUID userId;
+
+    @Schema(description = "Teacher code", example = "GV2024001")
+    private String teacherCode;
+
+    @Schema(description = "Full name", example = "Trần Thị B")
+    private String fullName;
+
+    @Schema(description = "Email", example = "teacher@smartconnect.edu.vn")
+    private String email;
+
+    @Schema(description = "Faculty ID")
+    private UUID facultyId;
+
+    @Schema(description = "Academic title", example = "Associate Professor")
+    private String title;
+
+    @Schema(description = "Degree", example = "PhD")
+    private String degree;
+
+    @Schema(description = "Whether the teacher is active", example = "true")
+    private Boolean isActive;
+}
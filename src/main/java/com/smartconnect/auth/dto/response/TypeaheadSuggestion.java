@@ -0,0 +1,36 @@
+package com.smartconnect.auth.dto.response;
+
+import com.smartconnect.auth.model.enums.EntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Compact people search suggestion (student, teacher or admin)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Typeahead suggestion for people search")
+public class TypeaheadSuggestion {
+
+    @Schema(description = "Profile type", example = "STUDENT")
+    private EntityType type;
+
+    @Schema(description = "Profile ID")
+    private UUID profileId;
+
+    @Schema(description = "User ID")
+    private UUID userId;
+
+    @Schema(description = "Student, teacher or admin code", example = "SV2024001")
+    private String code;
+
+    @Schema(description = "Full name", example = "Nguyễn Văn A")
+    private String fullName;
+}
@@ -0,0 +1,52 @@
+package com.smartconnect.auth.dto.response;
+
+import com.smartconnect.auth.model.enums.UserRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Compact user row for the change feed (no credentials or login state)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "User change")
+public class UserChangeResponse {
+
+    @Schema(description = "User ID")
+    private UUID id;
+
+    @Schema(description = "Username", example = "student01")
+    private String username;
+
+    @Schema(description = "Email", example = "student@smartconnect.edu.vn")
+    private String email;
+
+    @Schema(description = "Full name", example = "Nguyễn Văn A")
+    private String fullName;
+
+    @Schema(description = "Phone number")
+    private String phone;
+
+    @Schema(description = "Avatar URL")
+    private String avatarUrl;
+
+    @Schema(description = "Role", example = "STUDENT")
+    private UserRole role;
+
+    @Schema(description = "Whether the account is active")
+    private Boolean isActive;
+
+    @Schema(description = "Whether the user was deleted (drop it from the replica)")
+    private Boolean isDeleted;
+
+    @Schema(description = "Time of the change")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,41 @@
+package com.smartconnect.auth.event;
+
+import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.EntityType;
+
+import java.util.UUID;
+
+/**
+ * Published when a student, teacher or admin profile is created, updated or soft-deleted
+ * Carries the values read-side components (search index, caches) need without reloading the row;
+ * listeners should use @TransactionalEventListener so they only see committed changes
+ */
+public record ProfileChangedEvent(
+        EntityType profileType,
+        ChangeType changeType,
+        UUID profileId,
+        UUID userId,
+        String code,
+        String fullName
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * Build an event from a profile's user and code
+     */
+    public static ProfileChangedEvent of(EntityType profileType, ChangeType changeType,
+                                         UUID profileId, User user, String code) {
+        return new ProfileChangedEvent(
+                profileType,
+                changeType,
+                profileId,
+                user != null ? user.getId() : null,
+                code,
+                user != null ? user.getFullName() : null);
+    }
+}
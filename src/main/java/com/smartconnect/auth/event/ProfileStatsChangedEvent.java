@@ -0,0 +1,25 @@
+package com.smartconnect.auth.event;
+
+import com.smartconnect.auth.stats.StatsBucket;
+
+import java.util.List;
+
+/**
+ * Published alongside {@link ProfileChangedEvent} when a change moves a profile between stats buckets
+ * The removed buckets are captured before the change, the added ones after it;
+ * a create has nothing removed and a soft delete adds nothing
+ */
+public record ProfileStatsChangedEvent(List<StatsBucket> removed, List<StatsBucket> added) {
+
+    public static ProfileStatsChangedEvent created(List<StatsBucket> buckets) {
+        return new ProfileStatsChangedEvent(List.of(), buckets);
+    }
+
+    public static ProfileStatsChangedEvent updated(List<StatsBucket> before, List<StatsBucket> after) {
+        return new ProfileStatsChangedEvent(before, after);
+    }
+
+    public static ProfileStatsChangedEvent deleted(List<StatsBucket> buckets) {
+        return new ProfileStatsChangedEvent(buckets, List.of());
+    }
+}
@@ -0,0 +1,30 @@
+package com.smartconnect.auth.event;
+
+import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.UserRole;
+
+import java.util.UUID;
+
+/**
+ * Published when a user account is registered, activated or deactivated
+ * Listeners should use @TransactionalEventListener so they only see committed changes
+ * (the outbox writer joins the transaction with BEFORE_COMMIT instead)
+ */
+public record UserLifecycleEvent(
+        ChangeType changeType,
+        UUID userId,
+        String username,
+        String email,
+        UserRole role
+) {
+
+    public enum ChangeType {
+        REGISTERED,
+        ACTIVATED,
+        DEACTIVATED
+    }
+
+    public static UserLifecycleEvent of(ChangeType changeType, User user) {
+        return new UserLifecycleEvent(changeType, user.getId(), user.getUsername(), user.getEmail(), user.getRole());
+    }
+}
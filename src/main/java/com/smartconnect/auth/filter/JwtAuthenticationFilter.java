@@ -1,5 +1,6 @@
 package com.smartconnect.auth.filter;
 
+import com.smartconnect.auth.security.ProfileClaimsAuthenticationDetails;
 import com.smartconnect.auth.service.CustomUserDetailsService;
 import com.smartconnect.auth.service.JwtService;
 import com.smartconnect.auth.util.Constants;
@@ -9,13 +10,13 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,6 +24,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * JWT Authentication Filter
@@ -37,6 +39,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final CustomUserDetailsService userDetailsService;
     private final com.smartconnect.auth.service.TokenBlacklistService tokenBlacklistService;
 
+    @Value("${app.jwt.profile-claims.enabled:false}")
+    private boolean profileClaimsEnabled;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -48,13 +53,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Get JWT token from request
             String jwt = getJwtFromRequest(request);
 
-            // If token exists and user is not already authenticated
-            if (StringUtils.hasText(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (StringUtils.hasText(jwt)) {
                 // Extract username from token first
                 String username = jwtService.getUsernameFromToken(jwt);
-                
-                // Check if username is valid and token is not blacklisted
-                if (StringUtils.hasText(username) && !tokenBlacklistService.isTokenBlacklisted(jwt)) {
+
+                // Check the blacklist once; it may be a Redis round trip
+                if (StringUtils.hasText(username) && tokenBlacklistService.isTokenBlacklisted(jwt)) {
+                    log.warn("Attempted to use blacklisted token");
+                } else if (StringUtils.hasText(username) && SecurityContextHolder.getContext().getAuthentication() == null) {
                     // Load user details
                     UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
@@ -78,15 +84,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                 authorities
                             );
                         
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        // Profile claims let ownership checks answer without a lookup
+                        authentication.setDetails(new ProfileClaimsAuthenticationDetails(request,
+                                profileClaimsEnabled ? jwtService.getProfileIdsFromToken(jwt) : Map.of()));
 
                         // Set authentication in security context
                         SecurityContextHolder.getContext().setAuthentication(authentication);
                         
                         log.debug("Set authentication for user: {} with role: {}", username, role);
                     }
-                } else if (tokenBlacklistService.isTokenBlacklisted(jwt)) {
-                    log.warn("Attempted to use blacklisted token");
                 }
             }
         } catch (Exception e) {
@@ -0,0 +1,103 @@
+package com.smartconnect.auth.filter;
+
+import com.smartconnect.auth.util.Constants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service Key Authentication Filter
+ * Authenticates resource servers on the revocation stream with a long-lived key sent in X-Service-Key.
+ * Only SHA-256 digests of the keys are configured (app.revocations.stream.service-keys=name:hex,...);
+ * a matching key grants the revocations:read scope and nothing else, and is ignored on every other path.
+ */
+@Slf4j
+@Component
+public class ServiceKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Service-Key";
+
+    private static final String STREAM_PATH = Constants.AUTH_BASE_PATH + "/revocations/stream";
+    private static final List<SimpleGrantedAuthority> AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("SCOPE_" + Constants.SCOPE_REVOCATIONS_READ));
+
+    private final Map<String, byte[]> digestsByName = new LinkedHashMap<>();
+
+    public ServiceKeyAuthenticationFilter(@Value("${app.revocations.stream.service-keys:}") String serviceKeys) {
+        HexFormat hex = HexFormat.of();
+        for (String entry : StringUtils.commaDelimitedListToStringArray(serviceKeys)) {
+            String trimmed = entry.trim();
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Service key entries must be name:sha256-hex, got '" + trimmed + "'");
+            }
+            digestsByName.put(trimmed.substring(0, separator), hex.parseHex(trimmed.substring(separator + 1)));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return digestsByName.isEmpty()
+                || !STREAM_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (StringUtils.hasText(key) && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String service = serviceFor(key);
+            if (service != null) {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new PreAuthenticatedAuthenticationToken(service, null, AUTHORITIES));
+                log.debug("Authenticated service {} on the revocation stream", service);
+            } else {
+                log.warn("Rejected unknown service key on the revocation stream");
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String serviceFor(String key) {
+        byte[] digest = sha256(key);
+        String match = null;
+        // Compare against every entry so the time taken does not reveal which one matched
+        for (Map.Entry<String, byte[]> entry : digestsByName.entrySet()) {
+            if (MessageDigest.isEqual(entry.getValue(), digest)) {
+                match = entry.getKey();
+            }
+        }
+        return match;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.smartconnect.auth.importer;
+
+import com.smartconnect.auth.dto.response.ImportJobResponse;
+import com.smartconnect.auth.dto.response.ImportRowError;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.ExportFormat;
+import com.smartconnect.auth.model.enums.ImportJobStatus;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mutable progress of one bulk import, updated by the import worker and read by status polls
+ * Only the first maxErrors row errors are kept; the failed counter always covers every row
+ */
+public class ImportJob {
+
+    @Getter
+    private final UUID id = UUID.randomUUID();
+    @Getter
+    private final EntityType profileType;
+    @Getter
+    private final ExportFormat format;
+    @Getter
+    private final UUID initiatedBy;
+    private final int maxErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger imported = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile int totalRows;
+    private volatile String failureMessage;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(EntityType profileType, ExportFormat format, UUID initiatedBy, int maxErrors) {
+        this.profileType = profileType;
+        this.format = format;
+        this.initiatedBy = initiatedBy;
+        this.maxErrors = maxErrors;
+    }
+
+    public void start() {
+        startedAt = LocalDateTime.now();
+        status = ImportJobStatus.RUNNING;
+    }
+
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public void rowsImported(int count) {
+        imported.addAndGet(count);
+        processed.addAndGet(count);
+    }
+
+    public void rowFailed(int rowNumber, String username, String message) {
+        failed.incrementAndGet();
+        processed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportRowError(rowNumber, username, message));
+            }
+        }
+    }
+
+    public void complete() {
+        finishedAt = LocalDateTime.now();
+        status = ImportJobStatus.COMPLETED;
+    }
+
+    public void fail(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = ImportJobStatus.FAILED;
+    }
+
+    public int getImportedRows() {
+        return imported.get();
+    }
+
+    public int getFailedRows() {
+        return failed.get();
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    /**
+     * Consistent enough snapshot for progress reporting
+     */
+    public ImportJobResponse toResponse() {
+        List<ImportRowError> errorsSnapshot;
+        synchronized (errors) {
+            errorsSnapshot = List.copyOf(errors);
+        }
+        int processedRows = processed.get();
+        int failedRows = failed.get();
+        return ImportJobResponse.builder()
+                .jobId(id)
+                .profileType(profileType)
+                .format(format)
+                .status(status)
+                .totalRows(totalRows)
+                .processedRows(processedRows)
+                .importedRows(imported.get())
+                .failedRows(failedRows)
+                .errors(errorsSnapshot)
+                .errorsTruncated(failedRows > errorsSnapshot.size())
+                .failureMessage(failureMessage)
+                .rowsPerMinute(rowsPerMinute(processedRows))
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+    private long rowsPerMinute(int processedRows) {
+        LocalDateTime start = startedAt;
+        if (start == null || processedRows == 0) {
+            return 0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(start, end).toMillis());
+        return processedRows * 60_000L / millis;
+    }
+}
@@ -0,0 +1,140 @@
+package com.smartconnect.auth.importer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartconnect.auth.model.enums.ExportFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads an uploaded import file (RFC 4180 CSV with a header row, or NDJSON) into raw rows
+ * Rows that cannot be parsed are returned with an error instead of aborting the whole file
+ */
+public final class ImportRowReader {
+
+    private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {
+    };
+
+    private ImportRowReader() {
+    }
+
+    /**
+     * A raw data row; values is null when error is set
+     */
+    public record ParsedRow(int rowNumber, Map<String, Object> values, String error) {
+    }
+
+    public static List<ParsedRow> read(InputStream inputStream, ExportFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return format == ExportFormat.CSV ? readCsv(reader) : readNdjson(reader, objectMapper);
+    }
+
+    static List<ParsedRow> readNdjson(Reader reader, ObjectMapper objectMapper) throws IOException {
+        List<ParsedRow> rows = new ArrayList<>();
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        int rowNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            try {
+                rows.add(new ParsedRow(rowNumber, objectMapper.readValue(stripBom(line, rowNumber), ROW_TYPE), null));
+            } catch (IOException e) {
+                rows.add(new ParsedRow(rowNumber, null, "Malformed JSON line"));
+            }
+        }
+        return rows;
+    }
+
+    static List<ParsedRow> readCsv(Reader reader) throws IOException {
+        List<ParsedRow> rows = new ArrayList<>();
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            return rows;
+        }
+        if (!header.isEmpty()) {
+            header.set(0, stripBom(header.get(0), 1).trim());
+        }
+
+        List<String> record;
+        int rowNumber = 0;
+        while ((record = readRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            rowNumber++;
+            if (record.size() != header.size()) {
+                rows.add(new ParsedRow(rowNumber, null,
+                        "Expected " + header.size() + " columns but found " + record.size()));
+                continue;
+            }
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                values.put(header.get(i).trim(), record.get(i));
+            }
+            rows.add(new ParsedRow(rowNumber, values, null));
+        }
+        return rows;
+    }
+
+    /**
+     * Read one CSV record; quoted fields may contain separators, doubled quotes and line breaks
+     * Returns null at end of input
+     */
+    private static List<String> readRecord(Reader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean sawAny = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            sawAny = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!sawAny) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String stripBom(String value, int rowNumber) {
+        return rowNumber == 1 && !value.isEmpty() && value.charAt(0) == '\uFEFF' ? value.substring(1) : value;
+    }
+}
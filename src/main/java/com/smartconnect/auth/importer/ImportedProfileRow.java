@@ -0,0 +1,22 @@
+package com.smartconnect.auth.importer;
+
+/**
+ * User account fields shared by every imported profile row
+ */
+public interface ImportedProfileRow {
+
+    String getUsername();
+
+    String getEmail();
+
+    String getPassword();
+
+    String getFullName();
+
+    String getPhone();
+
+    /**
+     * Student or teacher code of the profile
+     */
+    String getProfileCode();
+}
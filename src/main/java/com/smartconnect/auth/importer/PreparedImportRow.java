@@ -0,0 +1,15 @@
+package com.smartconnect.auth.importer;
+
+import java.util.UUID;
+
+/**
+ * A validated, de-duplicated import row with its pre-assigned IDs and hashed password
+ */
+public record PreparedImportRow<R extends ImportedProfileRow>(
+        int rowNumber,
+        R row,
+        UUID userId,
+        UUID profileId,
+        String passwordHash
+) {
+}
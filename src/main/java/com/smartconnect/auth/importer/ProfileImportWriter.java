@@ -0,0 +1,150 @@
+package com.smartconnect.auth.importer;
+
+import com.smartconnect.auth.dto.request.StudentImportRow;
+import com.smartconnect.auth.dto.request.TeacherImportRow;
+import com.smartconnect.auth.model.enums.StudentStatus;
+import com.smartconnect.auth.model.enums.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based duplicate lookups and JDBC batch inserts for bulk imports
+ * Bypasses the persistence context on purpose: rows are written once and never read back in the same unit of work.
+ * Callers own the transaction
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileImportWriter {
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, username, email, password_hash, full_name, phone, role,
+                               is_active, is_email_verified, failed_login_attempts, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, TRUE, FALSE, 0, ?, ?)
+            """;
+
+    private static final String INSERT_STUDENT = """
+            INSERT INTO students (id, user_id, student_code, major_id, admission_year, gpa, status,
+                                  date_of_birth, address, parent_phone, emergency_contact, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, CAST(? AS student_status), ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_TEACHER = """
+            INSERT INTO teachers (id, user_id, teacher_code, faculty_id, title, degree, specialization, office,
+                                  office_hours, bio, research_interests, publications_count, hire_date, is_active,
+                                  created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final Map<String, String> CODE_LOOKUPS = Map.of(
+            "students", "SELECT student_code FROM students WHERE student_code IN (:values)",
+            "teachers", "SELECT teacher_code FROM teachers WHERE teacher_code IN (:values)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        return findExisting("SELECT username FROM users WHERE username IN (:values)", usernames);
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return findExisting("SELECT email FROM users WHERE email IN (:values)", emails);
+    }
+
+    /**
+     * @param table "students" or "teachers"
+     */
+    public Set<String> findExistingCodes(String table, Collection<String> codes) {
+        return findExisting(CODE_LOOKUPS.get(table), codes);
+    }
+
+    public void insertStudents(List<PreparedImportRow<StudentImportRow>> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertUsers(rows, UserRole.STUDENT, now);
+        jdbcTemplate.batchUpdate(INSERT_STUDENT, rows, rows.size(), (ps, prepared) -> {
+            StudentImportRow row = prepared.row();
+            ps.setObject(1, prepared.profileId());
+            ps.setObject(2, prepared.userId());
+            ps.setString(3, row.getStudentCode());
+            ps.setObject(4, row.getMajorId());
+            ps.setInt(5, row.getAdmissionYear());
+            ps.setBigDecimal(6, row.getGpa() != null ? row.getGpa() : BigDecimal.ZERO);
+            ps.setString(7, (row.getStatus() != null ? row.getStatus() : StudentStatus.ACTIVE).name());
+            setDate(ps, 8, row.getDateOfBirth());
+            ps.setString(9, row.getAddress());
+            ps.setString(10, row.getParentPhone());
+            ps.setString(11, row.getEmergencyContact());
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+        });
+    }
+
+    public void insertTeachers(List<PreparedImportRow<TeacherImportRow>> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertUsers(rows, UserRole.TEACHER, now);
+        jdbcTemplate.batchUpdate(INSERT_TEACHER, rows, rows.size(), (ps, prepared) -> {
+            TeacherImportRow row = prepared.row();
+            ps.setObject(1, prepared.profileId());
+            ps.setObject(2, prepared.userId());
+            ps.setString(3, row.getTeacherCode());
+            ps.setObject(4, row.getFacultyId());
+            ps.setString(5, row.getTitle());
+            ps.setString(6, row.getDegree());
+            ps.setString(7, row.getSpecialization());
+            ps.setString(8, row.getOffice());
+            ps.setString(9, row.getOfficeHours());
+            ps.setString(10, row.getBio());
+            ps.setString(11, row.getResearchInterests());
+            ps.setInt(12, row.getPublicationsCount() != null ? row.getPublicationsCount() : 0);
+            setDate(ps, 13, row.getHireDate());
+            ps.setBoolean(14, row.getIsActive() == null || row.getIsActive());
+            ps.setTimestamp(15, now);
+            ps.setTimestamp(16, now);
+        });
+    }
+
+    private void insertUsers(List<? extends PreparedImportRow<?>> rows, UserRole role, Timestamp now) {
+        jdbcTemplate.batchUpdate(INSERT_USER, rows, rows.size(), (ps, prepared) -> {
+            ImportedProfileRow row = prepared.row();
+            ps.setObject(1, prepared.userId());
+            ps.setString(2, row.getUsername());
+            ps.setString(3, row.getEmail());
+            ps.setString(4, prepared.passwordHash());
+            ps.setString(5, row.getFullName());
+            ps.setString(6, row.getPhone());
+            ps.setString(7, role.name());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    private Set<String> findExisting(String sql, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(sql, Map.of("values", values), String.class));
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate date) throws SQLException {
+        if (date != null) {
+            ps.setDate(index, Date.valueOf(date));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+}
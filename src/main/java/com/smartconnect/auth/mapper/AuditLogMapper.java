@@ -2,6 +2,7 @@ package com.smartconnect.auth.mapper;
 
 import com.smartconnect.auth.dto.response.AuditLogResponse;
 import com.smartconnect.auth.model.entity.AuditLog;
+import com.smartconnect.auth.service.AuditStringDictionaryService;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -9,8 +10,9 @@ import org.mapstruct.Mapping;
  * Mapper interface for AuditLog entity and DTOs
  * Following DIP - Dependency Inversion Principle
  * Audit logs are read-only, so no create/update mappers needed
+ * Dictionary-encoded columns are resolved through AuditStringDictionaryService
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = AuditStringDictionaryService.class)
 public interface AuditLogMapper {
 
     /**
@@ -22,6 +24,9 @@ public interface AuditLogMapper {
     @Mapping(target = "username", expression = "java(auditLog.getUser() != null ? auditLog.getUser().getUsername() : null)")
     @Mapping(target = "isSuccessful", expression = "java(auditLog.isSuccessful())")
     @Mapping(target = "isSecurityAction", expression = "java(auditLog.isSecurityAction())")
+    @Mapping(target = "entityName", source = "entityNameId", qualifiedByName = "dictionaryValue")
+    @Mapping(target = "userAgent", source = "userAgentId", qualifiedByName = "dictionaryValue")
+    @Mapping(target = "requestUrl", source = "requestUrlId", qualifiedByName = "dictionaryValue")
     AuditLogResponse toResponse(AuditLog auditLog);
 }
 
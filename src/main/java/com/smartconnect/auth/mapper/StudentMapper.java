@@ -2,8 +2,10 @@ package com.smartconnect.auth.mapper;
 
 import com.smartconnect.auth.dto.request.StudentCreateRequest;
 import com.smartconnect.auth.dto.request.StudentUpdateRequest;
+import com.smartconnect.auth.dto.response.StudentChangeResponse;
 import com.smartconnect.auth.dto.response.StudentResponse;
 import com.smartconnect.auth.model.entity.Student;
+import com.smartconnect.auth.repository.StudentRepository;
 import org.mapstruct.*;
 
 /**
@@ -31,6 +33,11 @@ public interface StudentMapper {
     @Mapping(target = "isHonorsStudent", expression = "java(student.isHonorsStudent())")
     StudentResponse toResponse(Student student);
 
+    /**
+     * Map a change-feed row to its compact response
+     */
+    StudentChangeResponse toChangeResponse(StudentRepository.StudentChange change);
+
     /**
      * Update entity from update request
      * Following OCP - Open for extension
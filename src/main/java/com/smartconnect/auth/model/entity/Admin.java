@@ -1,8 +1,15 @@
 package com.smartconnect.auth.model.entity;
 
+import com.smartconnect.auth.model.enums.AdminPermission;
+import com.smartconnect.auth.util.Constants;
 import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.Type;
 
 import java.time.LocalDate;
@@ -16,8 +23,7 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "admins", indexes = {
-    @Index(name = "idx_admins_user_id", columnList = "user_id"),
-    @Index(name = "idx_admins_admin_code", columnList = "admin_code"),
+    // code and user_id lookups use partial indexes on live rows (V13)
     @Index(name = "idx_admins_department", columnList = "department"),
     @Index(name = "idx_admins_is_active", columnList = "is_active"),
     @Index(name = "idx_admins_access_level", columnList = "access_level")
@@ -26,6 +32,9 @@ import java.util.Map;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CACHE_REGION_ADMINS)
+@NaturalIdCache(region = Constants.CACHE_REGION_ADMINS_BY_CODE)
+@SQLRestriction(Constants.SOFT_DELETE_RESTRICTION)
 @Builder
 public class Admin extends BaseEntity {
 
@@ -33,6 +42,7 @@ public class Admin extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
+    @NaturalId
     @Column(name = "admin_code", unique = true, nullable = false, length = 20)
     private String adminCode;
 
@@ -119,6 +129,39 @@ public class Admin extends BaseEntity {
         };
     }
 
+    /**
+     * Business logic: Compile the admin's grants into an AdminPermission bitset
+     * A permission is granted by its flag column or by an action in the permissions jsonb;
+     * super admins get every bit and inactive or deleted admins none
+     */
+    public long permissionBits() {
+        if (!Boolean.TRUE.equals(isActive) || Boolean.TRUE.equals(getIsDeleted())) {
+            return 0L;
+        }
+        if (isSuperAdmin()) {
+            return AdminPermission.allBits();
+        }
+
+        long bits = 0L;
+        for (AdminPermission permission : AdminPermission.values()) {
+            if (Boolean.TRUE.equals(flagFor(permission))
+                    || hasPermission(permission.getResource(), permission.getAction())) {
+                bits |= permission.bit();
+            }
+        }
+        return bits;
+    }
+
+    private Boolean flagFor(AdminPermission permission) {
+        return switch (permission) {
+            case MANAGE_USERS -> canManageUsers;
+            case MANAGE_COURSES -> canManageCourses;
+            case MANAGE_GRADES -> canManageGrades;
+            case VIEW_REPORTS -> canViewReports;
+            case MANAGE_SYSTEM -> canManageSystem;
+        };
+    }
+
     /**
      * Business logic: Check if admin has specific permission
      */
@@ -5,6 +5,7 @@ import com.smartconnect.auth.model.enums.EntityType;
 import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnTransformer;
 import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
@@ -24,7 +25,7 @@ import java.util.UUID;
     @Index(name = "idx_audit_logs_entity_type", columnList = "entity_type"),
     @Index(name = "idx_audit_logs_entity_id", columnList = "entity_id"),
     @Index(name = "idx_audit_logs_created_at", columnList = "created_at"),
-    @Index(name = "idx_audit_logs_ip_address", columnList = "ip_address"),
+    // idx_audit_logs_ip_address is a GiST inet_ops index owned by migration V9, not declared here
     @Index(name = "idx_audit_logs_session_id", columnList = "session_id")
 })
 @Getter
@@ -53,8 +54,8 @@ public class AuditLog {
     @Column(name = "entity_id")
     private UUID entityId;
 
-    @Column(name = "entity_name")
-    private String entityName;
+    @Column(name = "entity_name_id")
+    private Long entityNameId;
 
     @Type(JsonBinaryType.class)
     @Column(name = "old_values", columnDefinition = "jsonb")
@@ -67,17 +68,18 @@ public class AuditLog {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
-    @Column(name = "ip_address", length = 45)
+    @Column(name = "ip_address", columnDefinition = "inet")
+    @ColumnTransformer(read = "host(ip_address)", write = "CAST(? AS inet)")
     private String ipAddress;
 
-    @Column(name = "user_agent", columnDefinition = "TEXT")
-    private String userAgent;
+    @Column(name = "user_agent_id")
+    private Long userAgentId;
 
     @Column(name = "request_method", length = 10)
     private String requestMethod;
 
-    @Column(name = "request_url", columnDefinition = "TEXT")
-    private String requestUrl;
+    @Column(name = "request_url_id")
+    private Long requestUrlId;
 
     @Column(name = "status_code")
     private Integer statusCode;
@@ -120,66 +122,4 @@ public class AuditLog {
     public boolean isModifyingAction() {
         return action.isModifyingAction();
     }
-
-    /**
-     * Factory method: Create audit log for login
-     * Following Factory Pattern
-     */
-    public static AuditLog createLoginLog(User user, String ipAddress, String userAgent, boolean success) {
-        return AuditLog.builder()
-                .user(user)
-                .action(success ? ActionType.LOGIN : ActionType.LOGIN_FAILED)
-                .entityType(EntityType.USER)
-                .entityId(user.getId())
-                .entityName(user.getUsername())
-                .description(success ? "User logged in successfully" : "Failed login attempt")
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .statusCode(success ? 200 : 401)
-                .build();
-    }
-
-    /**
-     * Factory method: Create audit log for logout
-     */
-    public static AuditLog createLogoutLog(User user, String ipAddress) {
-        return AuditLog.builder()
-                .user(user)
-                .action(ActionType.LOGOUT)
-                .entityType(EntityType.USER)
-                .entityId(user.getId())
-                .entityName(user.getUsername())
-                .description("User logged out")
-                .ipAddress(ipAddress)
-                .statusCode(200)
-                .build();
-    }
-
-    /**
-     * Factory method: Create audit log for entity modification
-     */
-    public static AuditLog createModificationLog(
-            User user, 
-            ActionType action, 
-            EntityType entityType,
-            UUID entityId,
-            String entityName,
-            Map<String, Object> oldValues,
-            Map<String, Object> newValues,
-            String ipAddress) {
-        
-        return AuditLog.builder()
-                .user(user)
-                .action(action)
-                .entityType(entityType)
-                .entityId(entityId)
-                .entityName(entityName)
-                .oldValues(oldValues)
-                .newValues(newValues)
-                .description(String.format("%s %s: %s", action.name(), entityType.name(), entityName))
-                .ipAddress(ipAddress)
-                .statusCode(200)
-                .build();
-    }
 }
-
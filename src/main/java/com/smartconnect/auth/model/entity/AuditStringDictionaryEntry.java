@@ -0,0 +1,30 @@
+package com.smartconnect.auth.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dictionary entry for high-repetition audit strings (user agents, request URLs, entity names)
+ * The id is a hash of the value, see AuditStringDictionaryServiceImpl#hash
+ */
+@Entity
+@Table(name = "audit_string_dictionary")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditStringDictionaryEntry {
+
+    @Id
+    private Long id;
+
+    @Column(name = "value", nullable = false, columnDefinition = "TEXT")
+    private String value;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
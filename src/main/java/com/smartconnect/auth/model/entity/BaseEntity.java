@@ -34,5 +34,14 @@ public abstract class BaseEntity {
 
     @Column(name = "is_deleted")
     private Boolean isDeleted = false;
+
+    /**
+     * Whether the row has not been soft-deleted
+     * Entities found by id or natural id may come from the second-level cache, which
+     * @SQLRestriction does not filter, so callers loading that way check this
+     */
+    public boolean isLive() {
+        return !Boolean.TRUE.equals(isDeleted);
+    }
 }
 
@@ -1,9 +1,15 @@
 package com.smartconnect.auth.model.entity;
 
 import com.smartconnect.auth.model.enums.StudentStatus;
+import com.smartconnect.auth.util.Constants;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
@@ -17,16 +23,16 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "students", indexes = {
-    @Index(name = "idx_students_user_id", columnList = "user_id"),
-    @Index(name = "idx_students_student_code", columnList = "student_code"),
-    @Index(name = "idx_students_major_id", columnList = "major_id"),
-    @Index(name = "idx_students_admission_year", columnList = "admission_year"),
-    @Index(name = "idx_students_status", columnList = "status")
+    // code, user_id, major_id and status lookups use partial indexes on live rows (V13)
+    @Index(name = "idx_students_admission_year", columnList = "admission_year")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CACHE_REGION_STUDENTS)
+@NaturalIdCache(region = Constants.CACHE_REGION_STUDENTS_BY_CODE)
+@SQLRestriction(Constants.SOFT_DELETE_RESTRICTION)
 @Builder
 public class Student extends BaseEntity {
 
@@ -34,6 +40,7 @@ public class Student extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
+    @NaturalId
     @Column(name = "student_code", unique = true, nullable = false, length = 20)
     private String studentCode;
 
@@ -1,7 +1,13 @@
 package com.smartconnect.auth.model.entity;
 
+import com.smartconnect.auth.util.Constants;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
 import java.time.Period;
@@ -14,15 +20,16 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "teachers", indexes = {
-    @Index(name = "idx_teachers_user_id", columnList = "user_id"),
-    @Index(name = "idx_teachers_teacher_code", columnList = "teacher_code"),
-    @Index(name = "idx_teachers_faculty_id", columnList = "faculty_id"),
+    // code, user_id and faculty_id lookups use partial indexes on live rows (V13)
     @Index(name = "idx_teachers_is_active", columnList = "is_active")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CACHE_REGION_TEACHERS)
+@NaturalIdCache(region = Constants.CACHE_REGION_TEACHERS_BY_CODE)
+@SQLRestriction(Constants.SOFT_DELETE_RESTRICTION)
 @Builder
 public class Teacher extends BaseEntity {
 
@@ -30,6 +37,7 @@ public class Teacher extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
+    @NaturalId
     @Column(name = "teacher_code", unique = true, nullable = false, length = 20)
     private String teacherCode;
 
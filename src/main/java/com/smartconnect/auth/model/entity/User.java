@@ -1,8 +1,12 @@
 package com.smartconnect.auth.model.entity;
 
 import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.util.Constants;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +28,8 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Constants.CACHE_REGION_USERS)
+@SQLRestriction(Constants.SOFT_DELETE_RESTRICTION)
 @Builder
 public class User extends BaseEntity implements UserDetails {
 
@@ -0,0 +1,54 @@
+package com.smartconnect.auth.model.enums;
+
+/**
+ * Fine-grained admin permissions
+ * Each permission is one bit of a long so an admin's grants compile into a single bitset;
+ * resource/action mirror the entries of the admin's permissions jsonb
+ */
+public enum AdminPermission {
+    MANAGE_USERS("users", "manage"),
+    MANAGE_COURSES("courses", "manage"),
+    MANAGE_GRADES("grades", "manage"),
+    VIEW_REPORTS("reports", "view"),
+    MANAGE_SYSTEM("system", "manage");
+
+    private static final long ALL_BITS = (1L << values().length) - 1;
+
+    private final String resource;
+    private final String action;
+
+    AdminPermission(String resource, String action) {
+        this.resource = resource;
+        this.action = action;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Bitset granting every permission
+     */
+    public static long allBits() {
+        return ALL_BITS;
+    }
+
+    /**
+     * Bitset of the given permissions
+     */
+    public static long bitsOf(AdminPermission... permissions) {
+        long bits = 0;
+        for (AdminPermission permission : permissions) {
+            bits |= permission.bit();
+        }
+        return bits;
+    }
+}
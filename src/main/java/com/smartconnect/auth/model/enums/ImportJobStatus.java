@@ -0,0 +1,11 @@
+package com.smartconnect.auth.model.enums;
+
+/**
+ * Enum representing the lifecycle of a bulk import job
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.smartconnect.auth.model.enums;
+
+/**
+ * Enum representing the profile counters served by the dashboard summary
+ * Each dimension groups one profile type by a single attribute
+ */
+public enum StatsDimension {
+    STUDENTS_BY_STATUS,
+    STUDENTS_BY_MAJOR,
+    STUDENTS_BY_GPA,
+    STUDENTS_BY_ADMISSION_YEAR,
+    TEACHERS_BY_ACTIVE,
+    TEACHERS_BY_FACULTY,
+    ADMINS_BY_ACTIVE,
+    ADMINS_BY_DEPARTMENT
+}
@@ -0,0 +1,13 @@
+package com.smartconnect.auth.model.enums;
+
+/**
+ * Enum representing how a free-text search query is interpreted
+ */
+public enum TextSearchMode {
+    // All words must appear, in any order
+    WORDS,
+    // Words must appear adjacent and in the given order
+    PHRASE,
+    // Every word is treated as a prefix (typeahead style)
+    PREFIX
+}
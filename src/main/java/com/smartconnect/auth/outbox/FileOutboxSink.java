@@ -0,0 +1,49 @@
+package com.smartconnect.auth.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends events as newline-delimited JSON to a local file
+ * Meant for development and tests, or for a log shipper to tail
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileOutboxSink(
+            ObjectMapper objectMapper,
+            @Value("${app.outbox.file.path:./data/outbox/events.ndjson}") String path) throws IOException {
+        this.objectMapper = objectMapper;
+        this.file = Path.of(path);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        log.info("Outbox events will be appended to {}", file.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized void publish(OutboxMessage message) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(message);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(json));
+            channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+            channel.force(false);
+        }
+    }
+}
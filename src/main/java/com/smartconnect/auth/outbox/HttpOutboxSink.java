@@ -0,0 +1,47 @@
+package com.smartconnect.auth.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * POSTs each event as JSON to a webhook; any non-2xx response is retried with backoff
+ * Delivery runs outside any transaction; the claimed rows stay leased until the relay records the
+ * outcome, so keep batch-size x the timeout below app.outbox.relay.lease-ms
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sink", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+
+    public HttpOutboxSink(
+            RestClient.Builder restClientBuilder,
+            @Value("${app.outbox.http.url}") String url,
+            @Value("${app.outbox.http.timeout-ms:5000}") long timeoutMs) {
+        Duration timeout = Duration.ofMillis(timeoutMs);
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(timeout).build());
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public void publish(OutboxMessage message) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Event-Id", String.valueOf(message.id()))
+                .body(message)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
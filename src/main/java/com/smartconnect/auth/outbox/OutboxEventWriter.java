@@ -0,0 +1,76 @@
+package com.smartconnect.auth.outbox;
+
+import com.smartconnect.auth.event.ProfileChangedEvent;
+import com.smartconnect.auth.event.UserLifecycleEvent;
+import com.smartconnect.auth.model.entity.OutboxEvent;
+import com.smartconnect.auth.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records lifecycle events in the outbox
+ * Runs just before commit inside the publishing transaction, so the outbox row commits or
+ * rolls back together with the change; events published outside a transaction are ignored.
+ * Each write first takes a transaction-scoped advisory lock on its aggregate, so concurrent
+ * transactions touching the same aggregate commit their rows in id order.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventWriter {
+
+    public static final String AGGREGATE_USER = "USER";
+
+    /**
+     * First key of the outbox's advisory locks, keeping them apart from any other advisory lock user
+     */
+    static final int AGGREGATE_LOCK_NAMESPACE = 0x0B0C;
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserLifecycle(UserLifecycleEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("userId", event.userId());
+        payload.put("username", event.username());
+        payload.put("email", event.email());
+        payload.put("role", event.role());
+        write(AGGREGATE_USER, event.userId(), "USER_" + event.changeType().name(), payload);
+    }
+
+    /**
+     * Profile creations and deletions (updates are served by the change feed)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        if (event.changeType() == ProfileChangedEvent.ChangeType.UPDATED) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("profileId", event.profileId());
+        payload.put("userId", event.userId());
+        payload.put("code", event.code());
+        payload.put("fullName", event.fullName());
+        write(event.profileType().name(), event.profileId(),
+                event.profileType().name() + "_" + event.changeType().name(), payload);
+    }
+
+    private void write(String aggregateType, UUID aggregateId, String eventType, Map<String, Object> payload) {
+        outboxEventRepository.lockAggregate(AGGREGATE_LOCK_NAMESPACE, aggregateId.toString());
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(payload)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build());
+    }
+}
@@ -0,0 +1,26 @@
+package com.smartconnect.auth.outbox;
+
+import com.smartconnect.auth.model.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Event as handed to an {@link OutboxSink}
+ * Delivery is at-least-once: consumers de-duplicate on id, which is also the order within an aggregate
+ */
+public record OutboxMessage(
+        long id,
+        String aggregateType,
+        UUID aggregateId,
+        String eventType,
+        Map<String, Object> payload,
+        LocalDateTime createdAt
+) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
@@ -0,0 +1,163 @@
+package com.smartconnect.auth.outbox;
+
+import com.smartconnect.auth.model.entity.OutboxEvent;
+import com.smartconnect.auth.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers outbox events to the configured {@link OutboxSink}
+ *
+ * Each batch claims the oldest pending event of up to batchSize aggregates in a short
+ * transaction: the rows are locked with FOR UPDATE SKIP LOCKED and leased by pushing
+ * next_attempt_at leaseMs ahead, so other replicas skip them once the locks are gone.
+ * The events are delivered with no transaction or connection held, then a second short
+ * transaction deletes the delivered rows and reschedules the failed ones. A relay that
+ * dies mid-batch leaves its events to be claimed again when the lease runs out, so the
+ * lease must outlast a whole batch of sink timeouts. A failed event is retried with
+ * exponential backoff and holds back the later events of its aggregate.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final long leaseMs;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    private final Counter delivered;
+    private final Counter failed;
+    private final Timer deliveryLag;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSink sink,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.outbox.relay.lease-ms:600000}") long leaseMs,
+            @Value("${app.outbox.relay.backoff-initial-ms:1000}") long initialBackoffMs,
+            @Value("${app.outbox.relay.backoff-max-ms:300000}") long maxBackoffMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseMs = leaseMs;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+
+        this.delivered = Counter.builder("outbox.delivered")
+                .description("Outbox events delivered to the sink")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.failed")
+                .description("Outbox delivery attempts that failed and were rescheduled")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+                .description("Time from an event being written to it being delivered")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events not yet delivered")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("Age of the oldest outbox event waiting to be delivered")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deliver one batch
+     *
+     * @return number of events claimed (delivered or rescheduled); less than batchSize means caught up
+     */
+    public int relayBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claim(now, batchSize));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> deliveredIds = new ArrayList<>(batch.size());
+        Map<OutboxEvent, Exception> failures = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            try {
+                sink.publish(OutboxMessage.from(event));
+                deliveredIds.add(event.getId());
+                deliveryLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            } catch (Exception e) {
+                failures.put(event, e);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deliveredIds.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(deliveredIds);
+            }
+            failures.forEach((event, error) -> reschedule(event, error, now));
+        });
+        delivered.increment(deliveredIds.size());
+        return batch.size();
+    }
+
+    /**
+     * Refresh the pending and lag gauges
+     */
+    @Transactional(readOnly = true)
+    public void refreshBacklog() {
+        OutboxEventRepository.Backlog backlog = outboxEventRepository.findBacklog();
+        pending.set(backlog.getPending() != null ? backlog.getPending() : 0);
+        oldestPendingAgeSeconds.set(backlog.getOldestCreatedAt() != null
+                ? Math.max(0, Duration.between(backlog.getOldestCreatedAt(), LocalDateTime.now()).toSeconds())
+                : 0);
+    }
+
+    /**
+     * Lock the next due events and lease them until now + leaseMs
+     */
+    private List<OutboxEvent> claim(LocalDateTime now, int batchSize) {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(now, batchSize);
+        LocalDateTime leasedUntil = now.plus(Duration.ofMillis(leaseMs));
+        for (OutboxEvent event : batch) {
+            event.setNextAttemptAt(leasedUntil);
+        }
+        return batch;
+    }
+
+    private void reschedule(OutboxEvent event, Exception error, LocalDateTime now) {
+        int attempts = event.getAttempts() + 1;
+        long delayMs = backoffMs(attempts);
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(now.plus(Duration.ofMillis(delayMs)));
+        event.setLastError(error.getMessage());
+        outboxEventRepository.save(event);
+        failed.increment();
+        log.warn("Outbox event {} ({} {}) not delivered, attempt {}; retrying in {} ms: {}",
+                event.getId(), event.getEventType(), event.getAggregateId(), attempts, delayMs, error.getMessage());
+    }
+
+    /**
+     * Exponential backoff: initial, 2x, 4x ... capped at the maximum
+     */
+    long backoffMs(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoffMs, initialBackoffMs << doublings);
+    }
+}
@@ -0,0 +1,15 @@
+package com.smartconnect.auth.outbox;
+
+/**
+ * Destination the outbox relay delivers events to
+ * Selected with app.outbox.sink; exactly one implementation is active.
+ */
+public interface OutboxSink {
+
+    /**
+     * Deliver one event; return only once the destination has accepted it
+     *
+     * @throws Exception if delivery failed and should be retried later
+     */
+    void publish(OutboxMessage message) throws Exception;
+}
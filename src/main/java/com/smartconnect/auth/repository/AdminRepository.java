@@ -1,17 +1,27 @@
 package com.smartconnect.auth.repository;
 
+import com.smartconnect.auth.dto.response.AdminSummaryResponse;
+import com.smartconnect.auth.dto.response.TypeaheadSuggestion;
 import com.smartconnect.auth.model.entity.Admin;
+import com.smartconnect.auth.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Admin entity
@@ -31,72 +41,115 @@ public interface AdminRepository extends JpaRepository<Admin, UUID> {
      * Find admin by user ID
      */
     @EntityGraph(attributePaths = {"user"})
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.CACHE_REGION_PROFILES_BY_USER_ID)
+    })
     Optional<Admin> findByUserId(UUID userId);
 
     /**
-     * Find admins by department
+     * Find admin by user ID straight from the database, past the query and second-level caches
+     * (permission checks, which must not see a profile cached by another replica)
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.department = :department")
-    List<Admin> findByDepartment(@Param("department") String department);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("SELECT a FROM Admin a WHERE a.user.id = :userId")
+    Optional<Admin> findUncachedByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Owning user ID of a live admin profile, without loading the profile (ownership checks)
+     */
+    @Query("SELECT a.user.id FROM Admin a WHERE a.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
+
+    /**
+     * ID of the live admin profile owned by a user, without loading the profile (token claims)
+     */
+    @Query("SELECT a.id FROM Admin a WHERE a.user.id = :userId")
+    Optional<UUID> findIdByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Stream admins by department (read-only, fetched in batches)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.department = :department ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<Admin> streamByDepartment(@Param("department") String department);
 
     /**
      * Find admins by department with pagination
      */
-    @Query(value = "SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.department = :department",
-           countQuery = "SELECT COUNT(DISTINCT a) FROM Admin a WHERE a.department = :department")
+    @Query(value = "SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.department = :department",
+           countQuery = "SELECT COUNT(a) FROM Admin a WHERE a.department = :department")
     Page<Admin> findByDepartment(@Param("department") String department, Pageable pageable);
 
     /**
-     * Find active admins
+     * Find active admins with pagination
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.isActive = true")
-    List<Admin> findByIsActiveTrue();
+    @Query(value = "SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.isActive = true ORDER BY a.createdAt DESC, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM Admin a WHERE a.isActive = true")
+    Page<Admin> findByIsActiveTrue(Pageable pageable);
+
+    /**
+     * Stream active admins (read-only, fetched in batches)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.isActive = true ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<Admin> streamByIsActiveTrue();
 
     /**
      * Find admins by access level
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.accessLevel = :accessLevel")
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.accessLevel = :accessLevel")
     List<Admin> findByAccessLevel(@Param("accessLevel") Integer accessLevel);
 
     /**
      * Find super admins (access level 3)
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.accessLevel = 3")
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.accessLevel = 3")
     List<Admin> findSuperAdmins();
 
     /**
      * Find admins with specific permission
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.canManageUsers = true")
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.canManageUsers = true")
     List<Admin> findAdminsWithUserManagementPermission();
 
     /**
      * Find admins with course management permission
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.canManageCourses = true")
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.canManageCourses = true")
     List<Admin> findAdminsWithCourseManagementPermission();
 
     /**
      * Find admins with grade management permission
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.canManageGrades = true")
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.canManageGrades = true")
     List<Admin> findAdminsWithGradeManagementPermission();
 
     /**
      * Find admins with system management permission
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.canManageSystem = true")
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.canManageSystem = true")
     List<Admin> findAdminsWithSystemManagementPermission();
 
     /**
      * Check if admin code exists
+     * Includes soft-deleted rows: the unique constraint does too
      */
-    boolean existsByAdminCode(String adminCode);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM admins WHERE admin_code = :adminCode)", nativeQuery = true)
+    boolean existsByAdminCode(@Param("adminCode") String adminCode);
 
     /**
      * Check if user ID already has an admin profile
+     * Includes soft-deleted rows: the unique constraint does too
      */
-    boolean existsByUserId(UUID userId);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM admins WHERE user_id = :userId)", nativeQuery = true)
+    boolean existsByUserId(@Param("userId") UUID userId);
 
     /**
      * Count admins by department
@@ -116,28 +169,77 @@ public interface AdminRepository extends JpaRepository<Admin, UUID> {
     long countSuperAdmins();
 
     /**
-     * Search admins by name, code, or department
+     * Search admin ids by name, code, or department, best matches first
+     * Accent- and case-insensitive ("nguyen" matches "Nguyễn"), tolerates small typos in names;
+     * served by the trigram indexes from V11. Each searchable column is matched in its own UNION branch so
+     * every branch can use its table's index; an OR across the join would fall back to scanning.
+     * Load the page with findAllWithUserByIdIn.
+     */
+    @Query(value = """
+            SELECT a.id FROM (
+                SELECT a.id FROM users u
+                JOIN admins a ON a.user_id = u.id
+                WHERE a.is_deleted = false
+                  AND (f_search_normalize(u.full_name) LIKE '%' || f_search_normalize(:keyword) || '%'
+                       OR f_search_normalize(:keyword) <% f_search_normalize(u.full_name))
+                UNION
+                SELECT a.id FROM admins a
+                WHERE a.is_deleted = false
+                  AND lower(a.admin_code) LIKE '%' || lower(:keyword) || '%'
+                UNION
+                SELECT a.id FROM admins a
+                WHERE a.is_deleted = false
+                  AND f_search_normalize(a.department) LIKE '%' || f_search_normalize(:keyword) || '%'
+            ) m
+            JOIN admins a ON a.id = m.id
+            JOIN users u ON u.id = a.user_id
+            ORDER BY GREATEST(
+                         word_similarity(f_search_normalize(:keyword), f_search_normalize(u.full_name)),
+                         similarity(lower(a.admin_code), lower(:keyword))) DESC,
+                     a.admin_code
+            """,
+           countQuery = """
+            SELECT COUNT(*) FROM (
+                SELECT a.id FROM users u
+                JOIN admins a ON a.user_id = u.id
+                WHERE a.is_deleted = false
+                  AND (f_search_normalize(u.full_name) LIKE '%' || f_search_normalize(:keyword) || '%'
+                       OR f_search_normalize(:keyword) <% f_search_normalize(u.full_name))
+                UNION
+                SELECT a.id FROM admins a
+                WHERE a.is_deleted = false
+                  AND lower(a.admin_code) LIKE '%' || lower(:keyword) || '%'
+                UNION
+                SELECT a.id FROM admins a
+                WHERE a.is_deleted = false
+                  AND f_search_normalize(a.department) LIKE '%' || f_search_normalize(:keyword) || '%'
+            ) m
+            """,
+           nativeQuery = true)
+    Page<UUID> searchAdminIds(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * Find admins by IDs with user relationship fetched (order not preserved)
      */
-    @Query(value = "SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user u WHERE " +
-           "LOWER(u.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(a.adminCode) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(a.department) LIKE LOWER(CONCAT('%', :keyword, '%'))",
-           countQuery = "SELECT COUNT(DISTINCT a) FROM Admin a JOIN a.user u WHERE " +
-           "LOWER(u.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(a.adminCode) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(a.department) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Admin> searchAdmins(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.id IN :ids")
+    List<Admin> findAllWithUserByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find admins by codes with user relationship fetched (order not preserved)
+     */
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.adminCode IN :codes")
+    List<Admin> findAllWithUserByAdminCodeIn(@Param("codes") Collection<String> codes);
 
     /**
      * Find active admins by department
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.department = :department AND a.isActive = true")
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.department = :department AND a.isActive = true")
     List<Admin> findActiveAdminsByDepartment(@Param("department") String department);
 
     /**
      * Find admins with full access
      */
-    @Query("SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.accessLevel = 3 OR " +
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user WHERE a.accessLevel = 3 OR " +
            "(a.canManageUsers = true AND a.canManageCourses = true AND " +
            "a.canManageGrades = true AND a.canManageSystem = true)")
     List<Admin> findAdminsWithFullAccess();
@@ -145,8 +247,59 @@ public interface AdminRepository extends JpaRepository<Admin, UUID> {
     /**
      * Find all admins with user relationship fetched (for pagination)
      */
-    @Query(value = "SELECT DISTINCT a FROM Admin a LEFT JOIN FETCH a.user",
-           countQuery = "SELECT COUNT(DISTINCT a) FROM Admin a")
+    @Query(value = "SELECT a FROM Admin a LEFT JOIN FETCH a.user",
+           countQuery = "SELECT COUNT(a) FROM Admin a")
     Page<Admin> findAllWithUser(Pageable pageable);
-}
 
+    /**
+     * Keyset page of admins ordered by (createdAt DESC, id DESC), starting after the given key
+     */
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user " +
+           "WHERE (a.createdAt, a.id) < (:createdAt, :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Admin> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Keyset page of admins in a department ordered by (createdAt DESC, id DESC), starting after the given key
+     */
+    @Query("SELECT a FROM Admin a LEFT JOIN FETCH a.user " +
+           "WHERE a.department = :department AND (a.createdAt, a.id) < (:createdAt, :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Admin> findByDepartmentPageAfter(@Param("department") String department, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Limit limit);
+
+    /**
+     * Stream typeahead entries for all non-deleted admins (used to build the in-memory index)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.smartconnect.auth.dto.response.TypeaheadSuggestion(" +
+           "com.smartconnect.auth.model.enums.EntityType.ADMIN, a.id, u.id, a.adminCode, u.fullName) " +
+           "FROM Admin a JOIN a.user u")
+    Stream<TypeaheadSuggestion> streamTypeaheadSuggestions();
+
+    /**
+     * Summary rows for list screens - selects only the summary columns, no managed entities
+     */
+    @Query(value = "SELECT new com.smartconnect.auth.dto.response.AdminSummaryResponse(" +
+           "a.id, u.id, a.adminCode, u.fullName, u.email, a.department, a.position, a.accessLevel, a.isActive) " +
+           "FROM Admin a JOIN a.user u",
+           countQuery = "SELECT COUNT(a) FROM Admin a")
+    Page<AdminSummaryResponse> findSummaries(Pageable pageable);
+
+    /**
+     * Summary rows for one department
+     */
+    @Query(value = "SELECT new com.smartconnect.auth.dto.response.AdminSummaryResponse(" +
+           "a.id, u.id, a.adminCode, u.fullName, u.email, a.department, a.position, a.accessLevel, a.isActive) " +
+           "FROM Admin a JOIN a.user u WHERE a.department = :department",
+           countQuery = "SELECT COUNT(a) FROM Admin a WHERE a.department = :department")
+    Page<AdminSummaryResponse> findSummariesByDepartment(@Param("department") String department, Pageable pageable);
+
+    /**
+     * Summary of a single admin
+     */
+    @Query("SELECT new com.smartconnect.auth.dto.response.AdminSummaryResponse(" +
+           "a.id, u.id, a.adminCode, u.fullName, u.email, a.department, a.position, a.accessLevel, a.isActive) " +
+           "FROM Admin a JOIN a.user u WHERE a.id = :id")
+    Optional<AdminSummaryResponse> findSummaryById(@Param("id") UUID id);
+}
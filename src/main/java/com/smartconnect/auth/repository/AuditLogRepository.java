@@ -3,17 +3,22 @@ package com.smartconnect.auth.repository;
 import com.smartconnect.auth.model.entity.AuditLog;
 import com.smartconnect.auth.model.enums.ActionType;
 import com.smartconnect.auth.model.enums.EntityType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for AuditLog entity
@@ -56,8 +61,67 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
 
     /**
      * Find audit logs by IP address
+     * Using native query so the comparison uses the GiST index on the inet column
      */
-    Page<AuditLog> findByIpAddress(String ipAddress, Pageable pageable);
+    @Query(value = "SELECT * FROM audit_logs WHERE ip_address = CAST(:ipAddress AS inet) ORDER BY created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM audit_logs WHERE ip_address = CAST(:ipAddress AS inet)",
+           nativeQuery = true)
+    Page<AuditLog> findByIpAddress(@Param("ipAddress") String ipAddress, Pageable pageable);
+
+    /**
+     * Find audit logs from addresses inside a network (e.g. 203.0.113.0/24, 2001:db8::/64)
+     */
+    @Query(value = "SELECT * FROM audit_logs WHERE ip_address <<= CAST(:network AS inet) " +
+                   "AND created_at BETWEEN :startDate AND :endDate ORDER BY created_at DESC",
+           nativeQuery = true)
+    Slice<AuditLog> findByNetwork(
+        @Param("network") String network,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        Pageable pageable
+    );
+
+    /**
+     * Find audit logs from addresses in an inclusive address range
+     */
+    @Query(value = "SELECT * FROM audit_logs WHERE ip_address BETWEEN CAST(:fromAddress AS inet) AND CAST(:toAddress AS inet) " +
+                   "AND created_at BETWEEN :startDate AND :endDate ORDER BY created_at DESC",
+           nativeQuery = true)
+    Slice<AuditLog> findByIpRange(
+        @Param("fromAddress") String fromAddress,
+        @Param("toAddress") String toAddress,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        Pageable pageable
+    );
+
+    /**
+     * Aggregate events per network (IPv4 /ipv4Prefix, IPv6 /ipv6Prefix) in a time window
+     * Ordered by event count, busiest networks first
+     */
+    @Query(value = "SELECT CAST(network(set_masklen(a.ip_address, " +
+                   "    CASE WHEN family(a.ip_address) = 4 THEN :ipv4Prefix ELSE :ipv6Prefix END)) AS text) AS \"network\", " +
+                   "COUNT(*) AS \"eventCount\", " +
+                   "COUNT(DISTINCT a.ip_address) AS \"distinctAddresses\", " +
+                   "COUNT(DISTINCT a.user_id) AS \"distinctUsers\", " +
+                   "MIN(a.created_at) AS \"firstSeen\", " +
+                   "MAX(a.created_at) AS \"lastSeen\" " +
+                   "FROM audit_logs a " +
+                   "WHERE a.ip_address IS NOT NULL " +
+                   "AND a.created_at BETWEEN :startDate AND :endDate " +
+                   "AND (CAST(:action AS text) IS NULL OR a.action::text = CAST(:action AS text)) " +
+                   "GROUP BY 1 " +
+                   "ORDER BY 2 DESC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<NetworkActivity> findTopNetworks(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("action") String action,
+        @Param("ipv4Prefix") int ipv4Prefix,
+        @Param("ipv6Prefix") int ipv6Prefix,
+        @Param("limit") int limit
+    );
 
     /**
      * Find audit logs by session ID
@@ -75,6 +139,30 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
         Pageable pageable
     );
 
+    /**
+     * Stream audit logs for export using a server-side cursor
+     * Rows are fetched in chunks of the JDBC fetch size and loaded read-only;
+     * must be consumed inside a transaction and closed afterwards
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM AuditLog a LEFT JOIN FETCH a.user " +
+           "WHERE a.createdAt BETWEEN :startDate AND :endDate " +
+           "AND (:action IS NULL OR CAST(a.action AS String) = :action) " +
+           "AND (:entityType IS NULL OR CAST(a.entityType AS String) = :entityType) " +
+           "AND (:userId IS NULL OR a.user.id = :userId) " +
+           "ORDER BY a.createdAt ASC")
+    Stream<AuditLog> streamForExport(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("action") String action,
+        @Param("entityType") String entityType,
+        @Param("userId") UUID userId
+    );
+
     /**
      * Find security-related audit logs
      */
@@ -140,11 +228,33 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
     Page<AuditLog> findErrorLogs(Pageable pageable);
 
     /**
-     * Search audit logs by description
+     * Full-text search on description, ranked by relevance then recency
+     * Uses the GIN index on description_tsv; mode is WORDS, PHRASE or PREFIX. PREFIX matches
+     * prefixQuery, a to_tsquery expression built by {@link com.smartconnect.auth.util.TextNormalizer#prefixTsQuery};
+     * it is always passed so that every branch stays valid when the planner folds constants.
+     * Returns a Slice to avoid counting every match on large result sets
      */
-    @Query(value = "SELECT a FROM AuditLog a WHERE LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY a.createdAt DESC",
-           countQuery = "SELECT COUNT(a) FROM AuditLog a WHERE LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<AuditLog> searchByDescription(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = "SELECT a.* FROM audit_logs a " +
+                   "CROSS JOIN (SELECT CASE CAST(:mode AS text) " +
+                   "    WHEN 'PHRASE' THEN phraseto_tsquery('simple', :text) " +
+                   "    WHEN 'PREFIX' THEN to_tsquery('simple', :prefixQuery) " +
+                   "    ELSE plainto_tsquery('simple', :text) END AS query) q " +
+                   "WHERE a.description_tsv @@ q.query " +
+                   "AND a.created_at BETWEEN :startDate AND :endDate " +
+                   "AND (CAST(:action AS text) IS NULL OR a.action::text = CAST(:action AS text)) " +
+                   "AND (CAST(:entityType AS text) IS NULL OR a.entity_type::text = CAST(:entityType AS text)) " +
+                   "ORDER BY ts_rank_cd(a.description_tsv, q.query) DESC, a.created_at DESC",
+           nativeQuery = true)
+    Slice<AuditLog> fullTextSearch(
+        @Param("text") String text,
+        @Param("prefixQuery") String prefixQuery,
+        @Param("mode") String mode,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("action") String action,
+        @Param("entityType") String entityType,
+        Pageable pageable
+    );
 
     /**
      * Get recent activity for user
@@ -187,5 +297,16 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
-}
 
+    /**
+     * Projection for per-network activity aggregates
+     */
+    interface NetworkActivity {
+        String getNetwork();
+        Long getEventCount();
+        Long getDistinctAddresses();
+        Long getDistinctUsers();
+        LocalDateTime getFirstSeen();
+        LocalDateTime getLastSeen();
+    }
+}
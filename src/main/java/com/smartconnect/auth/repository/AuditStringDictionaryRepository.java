@@ -0,0 +1,43 @@
+package com.smartconnect.auth.repository;
+
+import com.smartconnect.auth.model.entity.AuditStringDictionaryEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for the audit string dictionary
+ */
+@Repository
+public interface AuditStringDictionaryRepository extends JpaRepository<AuditStringDictionaryEntry, Long> {
+
+    /**
+     * Insert a dictionary entry unless one with the same id already exists
+     * Returns the value stored under the id (the new one, or the existing one on conflict) so
+     * callers can detect hash collisions; null when a concurrent insert has not committed yet.
+     * The query space is declared so this native insert does not invalidate every second-level cache region
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "audit_string_dictionary"))
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO audit_string_dictionary (id, value, created_at)
+                VALUES (:id, :value, CURRENT_TIMESTAMP)
+                ON CONFLICT (id) DO NOTHING
+                RETURNING value
+            )
+            SELECT value FROM inserted
+            UNION ALL
+            SELECT value FROM audit_string_dictionary WHERE id = :id
+            LIMIT 1
+            """, nativeQuery = true)
+    String insertIfAbsent(@Param("id") Long id, @Param("value") String value);
+
+    @Query("SELECT e.value FROM AuditStringDictionaryEntry e WHERE e.id = :id")
+    Optional<String> findValueById(@Param("id") Long id);
+}
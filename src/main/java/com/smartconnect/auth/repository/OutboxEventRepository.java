@@ -0,0 +1,57 @@
+package com.smartconnect.auth.repository;
+
+import com.smartconnect.auth.model.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for OutboxEvent entity
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Serialize outbox writes for one aggregate until the calling transaction ends
+     * Ids come from a sequence and are not visible in commit order; holding this lock from before
+     * the insert until commit makes an aggregate's ids commit in the order they were assigned, which
+     * the id comparison in {@link #lockNextBatch} relies on.
+     */
+    @Query(value = "SELECT COUNT(*) FROM pg_advisory_xact_lock(:namespace, hashtext(:aggregateId))", nativeQuery = true)
+    long lockAggregate(@Param("namespace") int namespace, @Param("aggregateId") String aggregateId);
+
+    /**
+     * Lock the next due events, at most one per aggregate: its oldest pending event
+     * Rows locked by another relay are skipped, and so is every later event of their
+     * aggregate (the earlier one still exists), so replicas share the work without
+     * ever delivering an aggregate's events out of order. Writers take {@link #lockAggregate}
+     * first, so an earlier id of the same aggregate has always committed by the time a later
+     * one is visible.
+     */
+    @Query(value = """
+            SELECT o.* FROM outbox_events o
+            WHERE o.next_attempt_at <= :now
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox_events p
+                  WHERE p.aggregate_id = o.aggregate_id AND p.id < o.id)
+            ORDER BY o.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Pending event count and the creation time of the oldest one
+     */
+    @Query("SELECT COUNT(o) AS pending, MIN(o.createdAt) AS oldestCreatedAt FROM OutboxEvent o")
+    Backlog findBacklog();
+
+    interface Backlog {
+        Long getPending();
+        LocalDateTime getOldestCreatedAt();
+    }
+}
@@ -0,0 +1,54 @@
+package com.smartconnect.auth.repository;
+
+import com.smartconnect.auth.model.entity.Student;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only aggregate queries behind the dashboard stats counters
+ * Bound to Student only because Spring Data needs a domain type; the queries span all profile tables
+ */
+@Repository
+public interface ProfileStatsRepository extends org.springframework.data.repository.Repository<Student, UUID> {
+
+    /**
+     * Every stats bucket of every live profile in one round trip
+     * Dimension names and keys must match StatsDimension and StatsBucket; a NULL status is
+     * keyed 'null' like String.valueOf on the entity side
+     */
+    @Query(value = """
+            SELECT 'STUDENTS_BY_STATUS' AS "dimension", COALESCE(CAST(s.status AS text), 'null') AS "bucketKey", COUNT(*) AS "total"
+            FROM students s WHERE s.is_deleted = false GROUP BY s.status
+            UNION ALL
+            SELECT 'STUDENTS_BY_MAJOR', COALESCE(CAST(s.major_id AS text), 'none'), COUNT(*)
+            FROM students s WHERE s.is_deleted = false GROUP BY s.major_id
+            UNION ALL
+            SELECT 'STUDENTS_BY_GPA', CAST(CAST(LEAST(GREATEST(FLOOR(COALESCE(s.gpa, 0) * 2), 0), 7) / 2 AS numeric(2, 1)) AS text), COUNT(*)
+            FROM students s WHERE s.is_deleted = false GROUP BY 2
+            UNION ALL
+            SELECT 'STUDENTS_BY_ADMISSION_YEAR', CAST(s.admission_year AS text), COUNT(*)
+            FROM students s WHERE s.is_deleted = false GROUP BY s.admission_year
+            UNION ALL
+            SELECT 'TEACHERS_BY_ACTIVE', CAST(COALESCE(t.is_active, false) AS text), COUNT(*)
+            FROM teachers t WHERE t.is_deleted = false GROUP BY 2
+            UNION ALL
+            SELECT 'TEACHERS_BY_FACULTY', COALESCE(CAST(t.faculty_id AS text), 'none'), COUNT(*)
+            FROM teachers t WHERE t.is_deleted = false GROUP BY t.faculty_id
+            UNION ALL
+            SELECT 'ADMINS_BY_ACTIVE', CAST(COALESCE(a.is_active, false) AS text), COUNT(*)
+            FROM admins a WHERE a.is_deleted = false GROUP BY 2
+            UNION ALL
+            SELECT 'ADMINS_BY_DEPARTMENT', COALESCE(a.department, 'none'), COUNT(*)
+            FROM admins a WHERE a.is_deleted = false GROUP BY a.department
+            """, nativeQuery = true)
+    List<BucketCount> countAllBuckets();
+
+    interface BucketCount {
+        String getDimension();
+        String getBucketKey();
+        Long getTotal();
+    }
+}
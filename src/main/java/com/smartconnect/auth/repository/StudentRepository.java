@@ -1,18 +1,29 @@
 package com.smartconnect.auth.repository;
 
+import com.smartconnect.auth.dto.response.StudentSummaryResponse;
+import com.smartconnect.auth.dto.response.TypeaheadSuggestion;
 import com.smartconnect.auth.model.entity.Student;
 import com.smartconnect.auth.model.enums.StudentStatus;
+import com.smartconnect.auth.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Student entity
@@ -32,7 +43,23 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
      * Find student by user ID
      */
     @EntityGraph(attributePaths = {"user"})
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.CACHE_REGION_PROFILES_BY_USER_ID)
+    })
     Optional<Student> findByUserId(UUID userId);
+
+    /**
+     * Owning user ID of a live student profile, without loading the profile (ownership checks)
+     */
+    @Query("SELECT s.user.id FROM Student s WHERE s.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
+
+    /**
+     * ID of the live student profile owned by a user, without loading the profile (token claims)
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.user.id = :userId")
+    Optional<UUID> findIdByUserId(@Param("userId") UUID userId);
     
     /**
      * Find student by ID with user relationship fetched
@@ -43,49 +70,75 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
     /**
      * Find students by major ID
      */
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user WHERE s.majorId = :majorId")
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.majorId = :majorId")
     List<Student> findByMajorId(@Param("majorId") UUID majorId);
 
     /**
      * Find students by major ID with pagination
      */
-    @Query(value = "SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user WHERE s.majorId = :majorId",
-           countQuery = "SELECT COUNT(DISTINCT s) FROM Student s WHERE s.majorId = :majorId")
+    @Query(value = "SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.majorId = :majorId",
+           countQuery = "SELECT COUNT(s) FROM Student s WHERE s.majorId = :majorId")
     Page<Student> findByMajorIdPaged(@Param("majorId") UUID majorId, Pageable pageable);
 
     /**
-     * Find students by status
+     * Find students by status with pagination
+     */
+    @Query(value = "SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.status = :status ORDER BY s.createdAt DESC, s.id DESC",
+           countQuery = "SELECT COUNT(s) FROM Student s WHERE s.status = :status")
+    Page<Student> findByStatus(@Param("status") StudentStatus status, Pageable pageable);
+
+    /**
+     * Stream students by status (read-only, fetched in batches)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.status = :status ORDER BY s.createdAt DESC, s.id DESC")
+    Stream<Student> streamByStatus(@Param("status") StudentStatus status);
+
+    /**
+     * Find students by admission year with pagination
      */
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user WHERE s.status = :status")
-    List<Student> findByStatus(@Param("status") StudentStatus status);
+    @Query(value = "SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.admissionYear = :admissionYear ORDER BY s.createdAt DESC, s.id DESC",
+           countQuery = "SELECT COUNT(s) FROM Student s WHERE s.admissionYear = :admissionYear")
+    Page<Student> findByAdmissionYear(@Param("admissionYear") Integer admissionYear, Pageable pageable);
 
     /**
-     * Find students by admission year
+     * Stream students by admission year (read-only, fetched in batches)
      */
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user WHERE s.admissionYear = :admissionYear")
-    List<Student> findByAdmissionYear(@Param("admissionYear") Integer admissionYear);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.admissionYear = :admissionYear ORDER BY s.createdAt DESC, s.id DESC")
+    Stream<Student> streamByAdmissionYear(@Param("admissionYear") Integer admissionYear);
 
     /**
      * Find students by major and admission year
      */
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user WHERE s.majorId = :majorId AND s.admissionYear = :admissionYear")
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.majorId = :majorId AND s.admissionYear = :admissionYear")
     List<Student> findByMajorIdAndAdmissionYear(@Param("majorId") UUID majorId, @Param("admissionYear") Integer admissionYear);
 
     /**
      * Find students by status and admission year
      */
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user WHERE s.status = :status AND s.admissionYear = :admissionYear")
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.status = :status AND s.admissionYear = :admissionYear")
     List<Student> findByStatusAndAdmissionYear(@Param("status") StudentStatus status, @Param("admissionYear") Integer admissionYear);
 
     /**
      * Check if student code exists
+     * Includes soft-deleted rows: the unique constraint does too
      */
-    boolean existsByStudentCode(String studentCode);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM students WHERE student_code = :studentCode)", nativeQuery = true)
+    boolean existsByStudentCode(@Param("studentCode") String studentCode);
 
     /**
      * Check if user ID already has a student profile
+     * Includes soft-deleted rows: the unique constraint does too
      */
-    boolean existsByUserId(UUID userId);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM students WHERE user_id = :userId)", nativeQuery = true)
+    boolean existsByUserId(@Param("userId") UUID userId);
 
     /**
      * Count students by major
@@ -98,39 +151,188 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
     long countByStatus(StudentStatus status);
 
     /**
-     * Find honors students (GPA >= 3.5)
+     * Find honors students (GPA >= 3.5) with pagination
      */
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user WHERE s.gpa >= 3.5 ORDER BY s.gpa DESC")
-    List<Student> findHonorsStudents();
+    @Query(value = "SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.gpa >= 3.5 ORDER BY s.gpa DESC, s.id",
+           countQuery = "SELECT COUNT(s) FROM Student s WHERE s.gpa >= 3.5")
+    Page<Student> findHonorsStudents(Pageable pageable);
+
+    /**
+     * Stream honors students (GPA >= 3.5) (read-only, fetched in batches)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.gpa >= 3.5 ORDER BY s.gpa DESC, s.id")
+    Stream<Student> streamHonorsStudents();
 
     /**
      * Find students with GPA in range
      */
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user WHERE s.gpa BETWEEN :minGpa AND :maxGpa ORDER BY s.gpa DESC")
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.gpa BETWEEN :minGpa AND :maxGpa ORDER BY s.gpa DESC")
     List<Student> findStudentsByGpaRange(@Param("minGpa") Double minGpa, @Param("maxGpa") Double maxGpa);
 
     /**
-     * Search students by name or student code
+     * Search student ids by name or student code, best matches first
+     * Accent- and case-insensitive ("nguyen" matches "Nguyễn"), tolerates small typos in names;
+     * served by the trigram indexes from V11. Each searchable column is matched in its own UNION branch so
+     * every branch can use its table's index; an OR across the join would fall back to scanning.
+     * Load the page with findAllWithUserByIdIn.
+     */
+    @Query(value = """
+            SELECT s.id FROM (
+                SELECT s.id FROM users u
+                JOIN students s ON s.user_id = u.id
+                WHERE s.is_deleted = false
+                  AND (f_search_normalize(u.full_name) LIKE '%' || f_search_normalize(:keyword) || '%'
+                       OR f_search_normalize(:keyword) <% f_search_normalize(u.full_name))
+                UNION
+                SELECT s.id FROM students s
+                WHERE s.is_deleted = false
+                  AND lower(s.student_code) LIKE '%' || lower(:keyword) || '%'
+            ) m
+            JOIN students s ON s.id = m.id
+            JOIN users u ON u.id = s.user_id
+            ORDER BY GREATEST(
+                         word_similarity(f_search_normalize(:keyword), f_search_normalize(u.full_name)),
+                         similarity(lower(s.student_code), lower(:keyword))) DESC,
+                     s.student_code
+            """,
+           countQuery = """
+            SELECT COUNT(*) FROM (
+                SELECT s.id FROM users u
+                JOIN students s ON s.user_id = u.id
+                WHERE s.is_deleted = false
+                  AND (f_search_normalize(u.full_name) LIKE '%' || f_search_normalize(:keyword) || '%'
+                       OR f_search_normalize(:keyword) <% f_search_normalize(u.full_name))
+                UNION
+                SELECT s.id FROM students s
+                WHERE s.is_deleted = false
+                  AND lower(s.student_code) LIKE '%' || lower(:keyword) || '%'
+            ) m
+            """,
+           nativeQuery = true)
+    Page<UUID> searchStudentIds(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * Find students by IDs with user relationship fetched (order not preserved)
      */
-    @Query(value = "SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user u WHERE " +
-           "LOWER(u.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(s.studentCode) LIKE LOWER(CONCAT('%', :keyword, '%'))",
-           countQuery = "SELECT COUNT(DISTINCT s) FROM Student s JOIN s.user u WHERE " +
-           "LOWER(u.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(s.studentCode) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Student> searchStudents(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.id IN :ids")
+    List<Student> findAllWithUserByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find students by codes with user relationship fetched (order not preserved)
+     */
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.studentCode IN :codes")
+    List<Student> findAllWithUserByStudentCodeIn(@Param("codes") Collection<String> codes);
 
     /**
      * Find active students by major
      */
-    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user WHERE s.majorId = :majorId AND s.status = 'ACTIVE'")
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user WHERE s.majorId = :majorId AND s.status = 'ACTIVE'")
     List<Student> findActiveStudentsByMajor(@Param("majorId") UUID majorId);
 
     /**
      * Find all students with user relationship fetched (for pagination)
      */
-    @Query(value = "SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.user",
-           countQuery = "SELECT COUNT(DISTINCT s) FROM Student s")
+    @Query(value = "SELECT s FROM Student s LEFT JOIN FETCH s.user",
+           countQuery = "SELECT COUNT(s) FROM Student s")
     Page<Student> findAllWithUser(Pageable pageable);
-}
 
+    /**
+     * Keyset page of students ordered by (createdAt DESC, id DESC), starting after the given key
+     */
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user " +
+           "WHERE (s.createdAt, s.id) < (:createdAt, :id) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Student> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Keyset page of students in a major ordered by (createdAt DESC, id DESC), starting after the given key
+     */
+    @Query("SELECT s FROM Student s LEFT JOIN FETCH s.user " +
+           "WHERE s.majorId = :majorId AND (s.createdAt, s.id) < (:createdAt, :id) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Student> findByMajorPageAfter(@Param("majorId") UUID majorId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Limit limit);
+
+    /**
+     * Stream typeahead entries for all non-deleted students (used to build the in-memory index)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.smartconnect.auth.dto.response.TypeaheadSuggestion(" +
+           "com.smartconnect.auth.model.enums.EntityType.STUDENT, s.id, u.id, s.studentCode, u.fullName) " +
+           "FROM Student s JOIN s.user u")
+    Stream<TypeaheadSuggestion> streamTypeaheadSuggestions();
+
+    /**
+     * Summary rows for list screens - selects only the summary columns, no managed entities
+     */
+    @Query(value = "SELECT new com.smartconnect.auth.dto.response.StudentSummaryResponse(" +
+           "s.id, u.id, s.studentCode, u.fullName, u.email, s.majorId, s.admissionYear, s.gpa, s.status) " +
+           "FROM Student s JOIN s.user u",
+           countQuery = "SELECT COUNT(s) FROM Student s")
+    Page<StudentSummaryResponse> findSummaries(Pageable pageable);
+
+    /**
+     * Summary rows for one major
+     */
+    @Query(value = "SELECT new com.smartconnect.auth.dto.response.StudentSummaryResponse(" +
+           "s.id, u.id, s.studentCode, u.fullName, u.email, s.majorId, s.admissionYear, s.gpa, s.status) " +
+           "FROM Student s JOIN s.user u WHERE s.majorId = :majorId",
+           countQuery = "SELECT COUNT(s) FROM Student s WHERE s.majorId = :majorId")
+    Page<StudentSummaryResponse> findSummariesByMajor(@Param("majorId") UUID majorId, Pageable pageable);
+
+    /**
+     * Summary of a single student
+     */
+    @Query("SELECT new com.smartconnect.auth.dto.response.StudentSummaryResponse(" +
+           "s.id, u.id, s.studentCode, u.fullName, u.email, s.majorId, s.admissionYear, s.gpa, s.status) " +
+           "FROM Student s JOIN s.user u WHERE s.id = :id")
+    Optional<StudentSummaryResponse> findSummaryById(@Param("id") UUID id);
+
+    /**
+     * Stream a roster of summary rows ordered by student code, optionally filtered by major and/or admission year
+     * Forward-only cursor over a projection, so memory stays flat however many rows match
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.smartconnect.auth.dto.response.StudentSummaryResponse(" +
+           "s.id, u.id, s.studentCode, u.fullName, u.email, s.majorId, s.admissionYear, s.gpa, s.status) " +
+           "FROM Student s JOIN s.user u " +
+           "WHERE (:majorId IS NULL OR s.majorId = :majorId) " +
+           "AND (:admissionYear IS NULL OR s.admissionYear = :admissionYear) " +
+           "ORDER BY s.studentCode")
+    Stream<StudentSummaryResponse> streamRoster(@Param("majorId") UUID majorId,
+            @Param("admissionYear") Integer admissionYear);
+
+    /**
+     * Students created, updated or deleted after the (updatedAt, id) watermark, oldest first
+     * Native so soft-deleted rows are included; served by idx_students_updated_at_id (V14).
+     * Rows inside the settle window are held back, see UserRepository.findChangesSince.
+     */
+    @Query(value = """
+            SELECT s.id AS "id", s.user_id AS "userId", s.student_code AS "studentCode", s.major_id AS "majorId",
+                   s.admission_year AS "admissionYear", s.gpa AS "gpa", CAST(s.status AS text) AS "status",
+                   s.is_deleted AS "isDeleted", s.updated_at AS "updatedAt"
+            FROM students s
+            WHERE (s.updated_at, s.id) > (:since, :sinceId)
+              AND s.updated_at < LOCALTIMESTAMP - make_interval(secs => :settleSeconds)
+            ORDER BY s.updated_at, s.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<StudentChange> findChangesSince(@Param("since") LocalDateTime since, @Param("sinceId") UUID sinceId,
+            @Param("settleSeconds") int settleSeconds, @Param("limit") int limit);
+
+    interface StudentChange {
+        UUID getId();
+        UUID getUserId();
+        String getStudentCode();
+        UUID getMajorId();
+        Integer getAdmissionYear();
+        BigDecimal getGpa();
+        StudentStatus getStatus();
+        Boolean getIsDeleted();
+        LocalDateTime getUpdatedAt();
+    }
+}
@@ -1,17 +1,28 @@
 package com.smartconnect.auth.repository;
 
+import com.smartconnect.auth.dto.response.TeacherSummaryResponse;
+import com.smartconnect.auth.dto.response.TypeaheadSuggestion;
 import com.smartconnect.auth.model.entity.Teacher;
+import com.smartconnect.auth.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Teacher entity
@@ -31,54 +42,85 @@ public interface TeacherRepository extends JpaRepository<Teacher, UUID> {
      * Find teacher by user ID
      */
     @EntityGraph(attributePaths = {"user"})
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Constants.CACHE_REGION_PROFILES_BY_USER_ID)
+    })
     Optional<Teacher> findByUserId(UUID userId);
 
+    /**
+     * Owning user ID of a live teacher profile, without loading the profile (ownership checks)
+     */
+    @Query("SELECT t.user.id FROM Teacher t WHERE t.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
+
+    /**
+     * ID of the live teacher profile owned by a user, without loading the profile (token claims)
+     */
+    @Query("SELECT t.id FROM Teacher t WHERE t.user.id = :userId")
+    Optional<UUID> findIdByUserId(@Param("userId") UUID userId);
+
     /**
      * Find teachers by faculty ID
      */
-    @Query("SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.facultyId = :facultyId")
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.facultyId = :facultyId")
     List<Teacher> findByFacultyId(@Param("facultyId") UUID facultyId);
 
     /**
      * Find teachers by faculty ID with pagination
      */
-    @Query(value = "SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.facultyId = :facultyId",
-           countQuery = "SELECT COUNT(DISTINCT t) FROM Teacher t WHERE t.facultyId = :facultyId")
+    @Query(value = "SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.facultyId = :facultyId",
+           countQuery = "SELECT COUNT(t) FROM Teacher t WHERE t.facultyId = :facultyId")
     Page<Teacher> findByFacultyIdPaged(@Param("facultyId") UUID facultyId, Pageable pageable);
 
     /**
-     * Find active teachers
+     * Find active teachers with pagination
      */
-    @Query("SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.isActive = true")
-    List<Teacher> findByIsActiveTrue();
+    @Query(value = "SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.isActive = true ORDER BY t.createdAt DESC, t.id DESC",
+           countQuery = "SELECT COUNT(t) FROM Teacher t WHERE t.isActive = true")
+    Page<Teacher> findByIsActiveTrue(Pageable pageable);
+
+    /**
+     * Stream active teachers (read-only, fetched in batches)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.isActive = true ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<Teacher> streamByIsActiveTrue();
 
     /**
      * Find active teachers by faculty
      */
-    @Query("SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.facultyId = :facultyId AND t.isActive = true")
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.facultyId = :facultyId AND t.isActive = true")
     List<Teacher> findByFacultyIdAndIsActiveTrue(@Param("facultyId") UUID facultyId);
 
     /**
      * Find teachers by title
      */
-    @Query("SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.title = :title")
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.title = :title")
     List<Teacher> findByTitle(@Param("title") String title);
 
     /**
      * Find teachers by degree
      */
-    @Query("SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.degree = :degree")
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.degree = :degree")
     List<Teacher> findByDegree(@Param("degree") String degree);
 
     /**
      * Check if teacher code exists
+     * Includes soft-deleted rows: the unique constraint does too
      */
-    boolean existsByTeacherCode(String teacherCode);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM teachers WHERE teacher_code = :teacherCode)", nativeQuery = true)
+    boolean existsByTeacherCode(@Param("teacherCode") String teacherCode);
 
     /**
      * Check if user ID already has a teacher profile
+     * Includes soft-deleted rows: the unique constraint does too
      */
-    boolean existsByUserId(UUID userId);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM teachers WHERE user_id = :userId)", nativeQuery = true)
+    boolean existsByUserId(@Param("userId") UUID userId);
 
     /**
      * Count teachers by faculty
@@ -92,49 +134,182 @@ public interface TeacherRepository extends JpaRepository<Teacher, UUID> {
     long countByIsActiveTrue();
 
     /**
-     * Find teachers with PhD degree
+     * Find teachers with PhD degree with pagination
+     */
+    @Query(value = "SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE (LOWER(t.degree) LIKE '%phd%' OR LOWER(t.degree) LIKE '%tiến sĩ%') ORDER BY t.createdAt DESC, t.id DESC",
+           countQuery = "SELECT COUNT(t) FROM Teacher t WHERE LOWER(t.degree) LIKE '%phd%' OR LOWER(t.degree) LIKE '%tiến sĩ%'")
+    Page<Teacher> findTeachersWithPhD(Pageable pageable);
+
+    /**
+     * Stream teachers with PhD degree (read-only, fetched in batches)
      */
-    @Query("SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user WHERE LOWER(t.degree) LIKE '%phd%' OR LOWER(t.degree) LIKE '%tiến sĩ%'")
-    List<Teacher> findTeachersWithPhD();
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE (LOWER(t.degree) LIKE '%phd%' OR LOWER(t.degree) LIKE '%tiến sĩ%') ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<Teacher> streamTeachersWithPhD();
 
     /**
      * Find professors (by title)
      */
-    @Query("SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user WHERE LOWER(t.title) LIKE '%professor%' OR LOWER(t.title) LIKE '%giáo sư%'")
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE LOWER(t.title) LIKE '%professor%' OR LOWER(t.title) LIKE '%giáo sư%'")
     List<Teacher> findProfessors();
 
     /**
-     * Search teachers by name, code, or specialization
+     * Search teacher ids by name, code, or specialization, best matches first
+     * Accent- and case-insensitive ("nguyen" matches "Nguyễn"), tolerates small typos in names;
+     * served by the trigram indexes from V11. Each searchable column is matched in its own UNION branch so
+     * every branch can use its table's index; an OR across the join would fall back to scanning.
+     * Load the page with findAllWithUserByIdIn.
      */
-    @Query(value = "SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user u WHERE " +
-           "LOWER(u.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.teacherCode) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.specialization) LIKE LOWER(CONCAT('%', :keyword, '%'))",
-           countQuery = "SELECT COUNT(DISTINCT t) FROM Teacher t JOIN t.user u WHERE " +
-           "LOWER(u.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.teacherCode) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.specialization) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Teacher> searchTeachers(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = """
+            SELECT t.id FROM (
+                SELECT t.id FROM users u
+                JOIN teachers t ON t.user_id = u.id
+                WHERE t.is_deleted = false
+                  AND (f_search_normalize(u.full_name) LIKE '%' || f_search_normalize(:keyword) || '%'
+                       OR f_search_normalize(:keyword) <% f_search_normalize(u.full_name))
+                UNION
+                SELECT t.id FROM teachers t
+                WHERE t.is_deleted = false
+                  AND lower(t.teacher_code) LIKE '%' || lower(:keyword) || '%'
+                UNION
+                SELECT t.id FROM teachers t
+                WHERE t.is_deleted = false
+                  AND f_search_normalize(t.specialization) LIKE '%' || f_search_normalize(:keyword) || '%'
+            ) m
+            JOIN teachers t ON t.id = m.id
+            JOIN users u ON u.id = t.user_id
+            ORDER BY GREATEST(
+                         word_similarity(f_search_normalize(:keyword), f_search_normalize(u.full_name)),
+                         similarity(lower(t.teacher_code), lower(:keyword))) DESC,
+                     t.teacher_code
+            """,
+           countQuery = """
+            SELECT COUNT(*) FROM (
+                SELECT t.id FROM users u
+                JOIN teachers t ON t.user_id = u.id
+                WHERE t.is_deleted = false
+                  AND (f_search_normalize(u.full_name) LIKE '%' || f_search_normalize(:keyword) || '%'
+                       OR f_search_normalize(:keyword) <% f_search_normalize(u.full_name))
+                UNION
+                SELECT t.id FROM teachers t
+                WHERE t.is_deleted = false
+                  AND lower(t.teacher_code) LIKE '%' || lower(:keyword) || '%'
+                UNION
+                SELECT t.id FROM teachers t
+                WHERE t.is_deleted = false
+                  AND f_search_normalize(t.specialization) LIKE '%' || f_search_normalize(:keyword) || '%'
+            ) m
+            """,
+           nativeQuery = true)
+    Page<UUID> searchTeacherIds(@Param("keyword") String keyword, Pageable pageable);
 
     /**
-     * Find senior teachers (>= 10 years experience)
+     * Find teachers by IDs with user relationship fetched (order not preserved)
      */
-    @Query(value = "SELECT * FROM teachers t WHERE t.hire_date IS NOT NULL AND " +
-           "EXTRACT(YEAR FROM CURRENT_DATE) - EXTRACT(YEAR FROM t.hire_date) >= 10", 
-           nativeQuery = true)
-    List<Teacher> findSeniorTeachers();
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.id IN :ids")
+    List<Teacher> findAllWithUserByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Find teachers by codes with user relationship fetched (order not preserved)
+     */
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.teacherCode IN :codes")
+    List<Teacher> findAllWithUserByTeacherCodeIn(@Param("codes") Collection<String> codes);
+
+    /**
+     * Find senior teachers with pagination
+     * Callers pass January 1st of (current year - 9) to keep the ">= 10 calendar years" rule sargable
+     */
+    @Query(value = "SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.hireDate < :hiredBefore ORDER BY t.hireDate, t.id",
+           countQuery = "SELECT COUNT(t) FROM Teacher t WHERE t.hireDate < :hiredBefore")
+    Page<Teacher> findSeniorTeachers(@Param("hiredBefore") LocalDate hiredBefore, Pageable pageable);
+
+    /**
+     * Stream senior teachers hired before the given date (read-only, fetched in batches)
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE t.hireDate < :hiredBefore ORDER BY t.hireDate, t.id")
+    Stream<Teacher> streamSeniorTeachers(@Param("hiredBefore") LocalDate hiredBefore);
 
     /**
      * Find teachers by specialization
      */
-    @Query("SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user WHERE LOWER(t.specialization) LIKE LOWER(CONCAT('%', :specialization, '%'))")
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user WHERE LOWER(t.specialization) LIKE LOWER(CONCAT('%', :specialization, '%'))")
     List<Teacher> findBySpecialization(@Param("specialization") String specialization);
 
     /**
      * Find all teachers with user relationship fetched (for pagination)
      */
-    @Query(value = "SELECT DISTINCT t FROM Teacher t LEFT JOIN FETCH t.user",
-           countQuery = "SELECT COUNT(DISTINCT t) FROM Teacher t")
+    @Query(value = "SELECT t FROM Teacher t LEFT JOIN FETCH t.user",
+           countQuery = "SELECT COUNT(t) FROM Teacher t")
     Page<Teacher> findAllWithUser(Pageable pageable);
-}
 
+    /**
+     * Keyset page of teachers ordered by (createdAt DESC, id DESC), starting after the given key
+     */
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user " +
+           "WHERE (t.createdAt, t.id) < (:createdAt, :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Teacher> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Keyset page of teachers in a faculty ordered by (createdAt DESC, id DESC), starting after the given key
+     */
+    @Query("SELECT t FROM Teacher t LEFT JOIN FETCH t.user " +
+           "WHERE t.facultyId = :facultyId AND (t.createdAt, t.id) < (:createdAt, :id) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Teacher> findByFacultyPageAfter(@Param("facultyId") UUID facultyId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Limit limit);
+
+    /**
+     * Stream typeahead entries for all non-deleted teachers (used to build the in-memory index)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.smartconnect.auth.dto.response.TypeaheadSuggestion(" +
+           "com.smartconnect.auth.model.enums.EntityType.TEACHER, t.id, u.id, t.teacherCode, u.fullName) " +
+           "FROM Teacher t JOIN t.user u")
+    Stream<TypeaheadSuggestion> streamTypeaheadSuggestions();
+
+    /**
+     * Summary rows for list screens - selects only the summary columns, no managed entities
+     */
+    @Query(value = "SELECT new com.smartconnect.auth.dto.response.TeacherSummaryResponse(" +
+           "t.id, u.id, t.teacherCode, u.fullName, u.email, t.facultyId, t.title, t.degree, t.isActive) " +
+           "FROM Teacher t JOIN t.user u",
+           countQuery = "SELECT COUNT(t) FROM Teacher t")
+    Page<TeacherSummaryResponse> findSummaries(Pageable pageable);
+
+    /**
+     * Summary rows for one faculty
+     */
+    @Query(value = "SELECT new com.smartconnect.auth.dto.response.TeacherSummaryResponse(" +
+           "t.id, u.id, t.teacherCode, u.fullName, u.email, t.facultyId, t.title, t.degree, t.isActive) " +
+           "FROM Teacher t JOIN t.user u WHERE t.facultyId = :facultyId",
+           countQuery = "SELECT COUNT(t) FROM Teacher t WHERE t.facultyId = :facultyId")
+    Page<TeacherSummaryResponse> findSummariesByFaculty(@Param("facultyId") UUID facultyId, Pageable pageable);
+
+    /**
+     * Summary of a single teacher
+     */
+    @Query("SELECT new com.smartconnect.auth.dto.response.TeacherSummaryResponse(" +
+           "t.id, u.id, t.teacherCode, u.fullName, u.email, t.facultyId, t.title, t.degree, t.isActive) " +
+           "FROM Teacher t JOIN t.user u WHERE t.id = :id")
+    Optional<TeacherSummaryResponse> findSummaryById(@Param("id") UUID id);
+
+    /**
+     * Stream a roster of summary rows ordered by teacher code, optionally filtered by faculty
+     * Forward-only cursor over a projection, so memory stays flat however many rows match
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.smartconnect.auth.dto.response.TeacherSummaryResponse(" +
+           "t.id, u.id, t.teacherCode, u.fullName, u.email, t.facultyId, t.title, t.degree, t.isActive) " +
+           "FROM Teacher t JOIN t.user u " +
+           "WHERE (:facultyId IS NULL OR t.facultyId = :facultyId) " +
+           "ORDER BY t.teacherCode")
+    Stream<TeacherSummaryResponse> streamRoster(@Param("facultyId") UUID facultyId);
+}
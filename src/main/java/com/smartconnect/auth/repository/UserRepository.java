@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,13 +36,17 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     /**
      * Check if username exists
+     * Includes soft-deleted rows: the unique constraint does too
      */
-    boolean existsByUsername(String username);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM users WHERE username = :username)", nativeQuery = true)
+    boolean existsByUsername(@Param("username") String username);
 
     /**
      * Check if email exists
+     * Includes soft-deleted rows: the unique constraint does too
      */
-    boolean existsByEmail(String email);
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM users WHERE email = :email)", nativeQuery = true)
+    boolean existsByEmail(@Param("email") String email);
 
     /**
      * Find all users by role
@@ -69,5 +74,36 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * Find all active users
      */
     org.springframework.data.domain.Page<User> findAllByIsActiveTrue(org.springframework.data.domain.Pageable pageable);
-}
 
+    /**
+     * Users created, updated or deleted after the (updatedAt, id) watermark, oldest first
+     * Native so soft-deleted rows are included; served by idx_users_updated_at_id (V14).
+     * Rows newer than the settle window are held back until transactions that started
+     * before them have had time to commit, so a poll never skips past an in-flight change.
+     */
+    @Query(value = """
+            SELECT u.id AS "id", u.username AS "username", u.email AS "email", u.full_name AS "fullName",
+                   u.phone AS "phone", u.avatar_url AS "avatarUrl", u.role AS "role",
+                   u.is_active AS "isActive", u.is_deleted AS "isDeleted", u.updated_at AS "updatedAt"
+            FROM users u
+            WHERE (u.updated_at, u.id) > (:since, :sinceId)
+              AND u.updated_at < LOCALTIMESTAMP - make_interval(secs => :settleSeconds)
+            ORDER BY u.updated_at, u.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UserChange> findChangesSince(@Param("since") LocalDateTime since, @Param("sinceId") UUID sinceId,
+            @Param("settleSeconds") int settleSeconds, @Param("limit") int limit);
+
+    interface UserChange {
+        UUID getId();
+        String getUsername();
+        String getEmail();
+        String getFullName();
+        String getPhone();
+        String getAvatarUrl();
+        UserRole getRole();
+        Boolean getIsActive();
+        Boolean getIsDeleted();
+        LocalDateTime getUpdatedAt();
+    }
+}
@@ -0,0 +1,212 @@
+package com.smartconnect.auth.revocation;
+
+import com.smartconnect.auth.exception.BadRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans the revocation stream out to this replica's SSE subscribers
+ *
+ * One background {@link TokenRevocationStream.Tail} follows the Redis stream and offers each entry to every
+ * live subscriber's bounded queue; it never writes to a socket, so a slow client cannot hold up the
+ * others. Each subscriber has its own sender on a virtual thread: it replays the entries after the
+ * resume offset in batches read from Redis as fast as the client takes them, marks itself live,
+ * catches up once more, then drains its queue. Entries queued during the final catch-up are skipped
+ * by the offset check, so nothing is lost or sent twice across the switch. A subscriber whose queue
+ * overflows is disconnected and resumes from Redis on reconnect.
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("${app.revocations.stream.enabled:true} and '${app.security.blacklist.store:redis}' == 'redis'")
+public class RevocationBroadcaster {
+
+    private static final int READ_BATCH_SIZE = 100;
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final TokenRevocationStream stream;
+    private final long emitterTimeoutMs;
+    private final int queueCapacity;
+    private final Semaphore replayPermits;
+    private final Counter laggardsDropped;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("revocation-sse-", 0).factory());
+
+    private TokenRevocationStream.Tail tail;
+
+    public RevocationBroadcaster(
+            TokenRevocationStream stream,
+            MeterRegistry meterRegistry,
+            @Value("${app.revocations.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${app.revocations.stream.subscriber-queue-capacity:1000}") int queueCapacity,
+            @Value("${app.revocations.stream.max-concurrent-replays:8}") int maxConcurrentReplays) {
+        this.stream = stream;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.queueCapacity = queueCapacity;
+        this.replayPermits = new Semaphore(maxConcurrentReplays);
+        Gauge.builder("revocations.subscribers", subscribers, Set::size)
+                .description("SSE clients subscribed to token revocations on this replica")
+                .register(meterRegistry);
+        this.laggardsDropped = Counter.builder("revocations.subscribers.dropped")
+                .description("SSE clients disconnected because they fell too far behind the live stream")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        tail = stream.tail("revocation-stream-tail", event -> subscribers.forEach(subscriber -> subscriber.offer(event)));
+    }
+
+    @PreDestroy
+    void stop() {
+        tail.close();
+        senders.shutdownNow();
+    }
+
+    /**
+     * Open a subscription resuming after the offset (null for new events only)
+     * Returns at once; the replay and all sends happen on the subscriber's own sender.
+     */
+    public SseEmitter subscribe(String since) {
+        if (since != null) {
+            try {
+                TokenRevocationStream.compare(since, TokenRevocationStream.BEGINNING);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid offset: " + since);
+            }
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscriber.sender = senders.submit(() -> subscriber.run(since));
+        return emitter;
+    }
+
+    /**
+     * One SSE client; only its sender writes to the emitter
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<RevocationEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private volatile boolean live;
+        private volatile Future<?> sender;
+        private String lastSent;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Called by the tail thread; never blocks
+         */
+        void offer(RevocationEvent event) {
+            if (live && !queue.offer(event)) {
+                log.warn("Revocation subscriber fell {} events behind, disconnecting it", queueCapacity);
+                laggardsDropped.increment();
+                close();
+            }
+        }
+
+        void run(String since) {
+            subscribers.add(this);
+            try {
+                replay(since);
+                live = true;
+                // Entries the tail read before it saw live=true are still in Redis
+                catchUp();
+                while (!Thread.currentThread().isInterrupted()) {
+                    RevocationEvent event = queue.poll(HEARTBEAT_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else if (TokenRevocationStream.compare(event.id(), lastSent) > 0) {
+                        send(event);
+                    }
+                }
+                emitter.complete();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            } catch (Exception e) {
+                log.warn("Revocation subscription closed, Redis unavailable: {}", e.getMessage());
+                emitter.completeWithError(e);
+            } finally {
+                subscribers.remove(this);
+            }
+        }
+
+        void close() {
+            subscribers.remove(this);
+            Future<?> task = sender;
+            if (task != null) {
+                task.cancel(true);
+            }
+        }
+
+        private void replay(String since) throws IOException, InterruptedException {
+            if (since == null) {
+                lastSent = stream.latestOffset();
+                return;
+            }
+            lastSent = since;
+            String oldest = stream.oldestOffset();
+            if (oldest != null && TokenRevocationStream.compare(oldest, since) > 0
+                    && !TokenRevocationStream.BEGINNING.equals(since)) {
+                // Entries after the offset were trimmed; the client must resynchronise
+                emitter.send(SseEmitter.event().name("gap").data(oldest, MediaType.TEXT_PLAIN));
+            }
+            // Bound how many clients replay from Redis at once, e.g. after every replica restarted
+            replayPermits.acquire();
+            try {
+                catchUp();
+            } finally {
+                replayPermits.release();
+            }
+        }
+
+        private void catchUp() throws IOException {
+            List<RevocationEvent> events;
+            do {
+                events = stream.readAfter(lastSent, READ_BATCH_SIZE);
+                for (RevocationEvent event : events) {
+                    send(event);
+                }
+            } while (events.size() == READ_BATCH_SIZE);
+        }
+
+        private void send(RevocationEvent event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(event.id())
+                    .name("revocation")
+                    .data(event, MediaType.APPLICATION_JSON));
+            lastSent = event.id();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.smartconnect.auth.revocation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact token revocation notice for resource servers
+ * TOKEN revokes one token (by its nonce claim) until it expires; RESTORED lifts a TOKEN
+ * revocation again; USER revokes every token of a user issued before notBefore.
+ * Times are epoch seconds.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RevocationEvent(
+        String id,
+        Type type,
+        String tokenId,
+        UUID userId,
+        Long notBefore,
+        Long expiresAt
+) {
+
+    public enum Type {
+        TOKEN,
+        RESTORED,
+        USER
+    }
+
+    public static RevocationEvent token(String tokenId, UUID userId, long expiresAt) {
+        return new RevocationEvent(null, Type.TOKEN, tokenId, userId, null, expiresAt);
+    }
+
+    public static RevocationEvent restored(String tokenId) {
+        return new RevocationEvent(null, Type.RESTORED, tokenId, null, null, null);
+    }
+
+    public static RevocationEvent user(UUID userId, long notBefore) {
+        return new RevocationEvent(null, Type.USER, null, userId, notBefore, null);
+    }
+
+    /**
+     * Stream entry fields (the id is assigned by Redis)
+     */
+    Map<String, String> toFields() {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("type", type.name());
+        if (tokenId != null) {
+            fields.put("tokenId", tokenId);
+        }
+        if (userId != null) {
+            fields.put("userId", userId.toString());
+        }
+        if (notBefore != null) {
+            fields.put("notBefore", notBefore.toString());
+        }
+        if (expiresAt != null) {
+            fields.put("expiresAt", expiresAt.toString());
+        }
+        return fields;
+    }
+
+    static RevocationEvent fromFields(String id, Map<String, String> fields) {
+        String userId = fields.get("userId");
+        String notBefore = fields.get("notBefore");
+        String expiresAt = fields.get("expiresAt");
+        return new RevocationEvent(
+                id,
+                Type.valueOf(fields.get("type")),
+                fields.get("tokenId"),
+                userId != null ? UUID.fromString(userId) : null,
+                notBefore != null ? Long.valueOf(notBefore) : null,
+                expiresAt != null ? Long.valueOf(expiresAt) : null);
+    }
+}
@@ -0,0 +1,195 @@
+package com.smartconnect.auth.revocation;
+
+import com.smartconnect.auth.event.UserLifecycleEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Redis stream of token revocations shared by all replicas
+ * Entry ids double as the resume offsets clients send back after a reconnect; the stream
+ * is trimmed to roughly maxLength entries, which bounds how far back a client can resume.
+ * Only present with the redis blacklist store; the memory store never talks to Redis.
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.blacklist.store", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class TokenRevocationStream {
+
+    static final String STREAM_KEY = "revocations:stream";
+
+    private static final int TAIL_BATCH_SIZE = 100;
+    private static final Duration TAIL_BLOCK = Duration.ofSeconds(15);
+    private static final Duration TAIL_RETRY_DELAY = Duration.ofSeconds(5);
+
+    /**
+     * Offset before the first entry
+     */
+    public static final String BEGINNING = "0-0";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long maxLength;
+
+    public TokenRevocationStream(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${app.revocations.stream.max-length:100000}") long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Append a revocation; failures are logged, the blacklist itself is unaffected
+     */
+    public void publish(RevocationEvent event) {
+        try {
+            redisTemplate.opsForStream().add(
+                    MapRecord.create(STREAM_KEY, event.toFields()),
+                    XAddOptions.maxlen(maxLength).approximateTrimming(true));
+        } catch (Exception e) {
+            log.error("Error publishing {} revocation: {}", event.type(), e.getMessage());
+        }
+    }
+
+    /**
+     * Deactivated accounts lose every token issued so far
+     */
+    @TransactionalEventListener
+    public void onUserLifecycle(UserLifecycleEvent event) {
+        if (event.changeType() == UserLifecycleEvent.ChangeType.DEACTIVATED) {
+            publish(RevocationEvent.user(event.userId(), Instant.now().getEpochSecond()));
+        }
+    }
+
+    /**
+     * Up to count entries strictly after the offset, oldest first
+     */
+    public List<RevocationEvent> readAfter(String offset, int count) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(STREAM_KEY,
+                Range.rightUnbounded(Range.Bound.exclusive(offset)), Limit.limit().count(count));
+        return toEvents(records);
+    }
+
+    /**
+     * Entries after the offset, waiting up to block for the first one to arrive
+     */
+    public List<RevocationEvent> awaitAfter(String offset, int count, Duration block) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                StreamReadOptions.empty().count(count).block(block),
+                StreamOffset.create(STREAM_KEY, ReadOffset.from(offset)));
+        return toEvents(records);
+    }
+
+    /**
+     * Id of the newest entry, or {@link #BEGINNING} for an empty stream
+     */
+    public String latestOffset() {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        return records == null || records.isEmpty() ? BEGINNING : records.get(0).getId().getValue();
+    }
+
+    /**
+     * Id of the oldest retained entry, or null for an empty stream
+     */
+    public String oldestOffset() {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        return records == null || records.isEmpty() ? null : records.get(0).getId().getValue();
+    }
+
+    /**
+     * Feed every entry appended from now on to the listener, on a daemon thread of its own
+     * While Redis is unavailable the tail retries from the last entry it saw, so nothing is skipped.
+     */
+    public Tail tail(String threadName, Consumer<RevocationEvent> listener) {
+        Tail tail = new Tail(threadName, listener);
+        tail.thread.start();
+        return tail;
+    }
+
+    /**
+     * Order two stream offsets
+     */
+    public static int compare(String left, String right) {
+        RecordId a = RecordId.of(left);
+        RecordId b = RecordId.of(right);
+        int byTime = Long.compare(a.getTimestamp(), b.getTimestamp());
+        return byTime != 0 ? byTime : Long.compare(a.getSequence(), b.getSequence());
+    }
+
+    /**
+     * Running tail of the stream; close it to stop the thread
+     */
+    public final class Tail implements AutoCloseable {
+
+        private final Consumer<RevocationEvent> listener;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private Tail(String threadName, Consumer<RevocationEvent> listener) {
+            this.listener = listener;
+            this.thread = Thread.ofPlatform().daemon().name(threadName).unstarted(this::run);
+        }
+
+        @Override
+        public void close() {
+            running = false;
+            thread.interrupt();
+        }
+
+        private void run() {
+            String offset = null;
+            while (running) {
+                try {
+                    if (offset == null) {
+                        offset = latestOffset();
+                    }
+                    List<RevocationEvent> events = awaitAfter(offset, TAIL_BATCH_SIZE, TAIL_BLOCK);
+                    events.forEach(listener);
+                    if (!events.isEmpty()) {
+                        offset = events.get(events.size() - 1).id();
+                    }
+                } catch (Exception e) {
+                    if (!running) {
+                        return;
+                    }
+                    log.warn("Revocation stream tail {} deferred, Redis unavailable: {}", thread.getName(), e.getMessage());
+                    try {
+                        Thread.sleep(TAIL_RETRY_DELAY);
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<RevocationEvent> toEvents(List<MapRecord<String, Object, Object>> records) {
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+                .map(record -> RevocationEvent.fromFields(record.getId().getValue(),
+                        (Map<String, String>) (Map<?, ?>) record.getValue()))
+                .toList();
+    }
+}
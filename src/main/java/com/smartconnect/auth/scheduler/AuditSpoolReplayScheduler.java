@@ -0,0 +1,103 @@
+package com.smartconnect.auth.scheduler;
+
+import com.smartconnect.auth.service.impl.AuditLogWriter;
+import com.smartconnect.auth.spool.AuditEventSpool;
+import com.smartconnect.auth.spool.SpooledAuditEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.util.List;
+
+/**
+ * Scheduled job that drains the local audit spool into audit_logs
+ * Transient database failures leave the spool untouched until the next run; events that fail
+ * for any other reason are retried one by one and quarantined if they fail again
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.audit.spool.enabled", havingValue = "true")
+public class AuditSpoolReplayScheduler {
+
+    private final AuditEventSpool auditEventSpool;
+    private final AuditLogWriter auditLogWriter;
+
+    @Value("${app.audit.spool.replay-batch-size:500}")
+    private int replayBatchSize;
+
+    @Value("${app.audit.spool.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    /**
+     * Replay spooled audit events in batches
+     * Runs with a fixed delay so a stalled database never causes overlapping runs
+     */
+    @Scheduled(fixedDelayString = "${app.audit.spool.replay-interval-ms:1000}")
+    public void replaySpooledEvents() {
+        try {
+            auditEventSpool.force();
+
+            int total = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int replayed = auditEventSpool.drain(replayBatchSize, this::writeBatch);
+                total += replayed;
+                if (replayed < replayBatchSize) {
+                    break;
+                }
+            }
+
+            if (total > 0) {
+                log.info("Replayed {} spooled audit event(s)", total);
+            }
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Audit spool replay deferred, database unavailable: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("Audit spool replay run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Write a batch, isolating events that fail for reasons other than an unreachable database
+     * so they cannot block the spool
+     */
+    private void writeBatch(List<SpooledAuditEvent> events) {
+        try {
+            auditLogWriter.write(events);
+        } catch (RuntimeException e) {
+            if (isDatabaseUnavailable(e)) {
+                throw e;
+            }
+            log.error("Audit batch rejected, replaying events individually", e);
+            for (SpooledAuditEvent event : events) {
+                try {
+                    auditLogWriter.write(List.of(event));
+                } catch (RuntimeException ex) {
+                    if (isDatabaseUnavailable(ex)) {
+                        throw ex;
+                    }
+                    log.error("Quarantining audit event that cannot be written: {}", event, ex);
+                    auditEventSpool.quarantine(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Failures that go away once the database is reachable again; the batch is retried as a whole
+     */
+    static boolean isDatabaseUnavailable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException;
+    }
+}
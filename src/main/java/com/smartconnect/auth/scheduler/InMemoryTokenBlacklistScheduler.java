@@ -0,0 +1,34 @@
+package com.smartconnect.auth.scheduler;
+
+import com.smartconnect.auth.service.impl.InMemoryTokenBlacklistServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled jobs for the in-memory token blacklist
+ * Advances its timing wheel every second and snapshots it to disk when a snapshot path is set
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.security.blacklist.store", havingValue = "memory")
+public class InMemoryTokenBlacklistScheduler {
+
+    private final InMemoryTokenBlacklistServiceImpl tokenBlacklistService;
+
+    @Scheduled(fixedRate = 1000)
+    public void expireTokens() {
+        int expired = tokenBlacklistService.expireTokens();
+        if (expired > 0) {
+            log.debug("Expired {} blacklisted token(s)", expired);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.blacklist.memory.snapshot-interval-ms:60000}")
+    public void writeSnapshot() {
+        tokenBlacklistService.writeSnapshot();
+    }
+}
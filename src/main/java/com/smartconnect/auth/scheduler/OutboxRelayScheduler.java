@@ -0,0 +1,57 @@
+package com.smartconnect.auth.scheduler;
+
+import com.smartconnect.auth.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+/**
+ * Scheduled job that drains the transactional outbox
+ * Safe to run on every replica: batches lock rows with SKIP LOCKED
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    @Value("${app.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.relay.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    /**
+     * Relay pending events in batches
+     * Runs with a fixed delay so a slow sink never causes overlapping runs
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval-ms:1000}")
+    public void relayOutbox() {
+        try {
+            int total = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int relayed = outboxRelay.relayBatch(batchSize);
+                total += relayed;
+                if (relayed < batchSize) {
+                    break;
+                }
+            }
+            outboxRelay.refreshBacklog();
+
+            if (total > 0) {
+                log.debug("Relayed {} outbox event(s)", total);
+            }
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Outbox relay deferred, database unavailable: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("Outbox relay run failed: {}", e.getMessage(), e);
+        }
+    }
+}
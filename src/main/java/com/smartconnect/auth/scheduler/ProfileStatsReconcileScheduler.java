@@ -0,0 +1,28 @@
+package com.smartconnect.auth.scheduler;
+
+import com.smartconnect.auth.service.ProfileStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that reconciles the dashboard stats counters against the database
+ * The first run happens right after startup and doubles as the initial load
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileStatsReconcileScheduler {
+
+    private final ProfileStatsService profileStatsService;
+
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:300000}")
+    public void reconcileStats() {
+        try {
+            profileStatsService.reconcile();
+        } catch (Exception e) {
+            log.warn("Profile stats reconciliation deferred, database unavailable: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.smartconnect.auth.search;
+
+import com.smartconnect.auth.dto.response.TypeaheadSuggestion;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.util.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over folded people names and codes
+ *
+ * Every profile is indexed under its folded code and under each suffix of its folded name
+ * starting at a word boundary ("nguyen van an", "van an", "an"), so a query matches a prefix of
+ * any word. Keys are kept in a sorted concurrent skip list and a prefix lookup is a range scan.
+ * Safe for concurrent reads and writes; changes to the same profile are applied atomically.
+ *
+ * Not a Spring bean - see {@link com.smartconnect.auth.service.impl.TypeaheadServiceImpl}.
+ */
+public class TypeaheadIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final char MAX_CHAR = '\uffff';
+    private static final int MAX_NAME_TOKENS = 6;
+    private static final int MAX_SCANNED_KEYS = 10_000;
+
+    private final ConcurrentSkipListMap<String, TypeaheadSuggestion> keys = new ConcurrentSkipListMap<>();
+    // profile id -> its keys, so replacing or removing a profile never needs a scan
+    private final ConcurrentHashMap<UUID, List<String>> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * Add or replace a profile
+     */
+    public void put(TypeaheadSuggestion suggestion) {
+        profiles.compute(suggestion.getProfileId(), (profileId, existing) -> {
+            if (existing != null) {
+                existing.forEach(keys::remove);
+            }
+            List<String> profileKeys = keysFor(suggestion);
+            profileKeys.forEach(key -> keys.put(key, suggestion));
+            return profileKeys;
+        });
+    }
+
+    /**
+     * Remove a profile (no-op when it is not indexed)
+     */
+    public void remove(UUID profileId) {
+        profiles.computeIfPresent(profileId, (id, existing) -> {
+            existing.forEach(keys::remove);
+            return null;
+        });
+    }
+
+    /**
+     * Find up to limit profiles whose code or a name word starts with the query
+     * Results are ordered by matched key; types may be empty to match every profile type
+     */
+    public List<TypeaheadSuggestion> search(String query, Set<EntityType> types, int limit) {
+        String prefix = TextNormalizer.fold(query);
+        if (prefix == null || prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<UUID, TypeaheadSuggestion> matches = new LinkedHashMap<>();
+        int scanned = 0;
+        for (TypeaheadSuggestion suggestion : keys.subMap(prefix, true, prefix + MAX_CHAR, false).values()) {
+            if (++scanned > MAX_SCANNED_KEYS) {
+                break;
+            }
+            if (types.isEmpty() || types.contains(suggestion.getType())) {
+                matches.putIfAbsent(suggestion.getProfileId(), suggestion);
+                if (matches.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    public int size() {
+        return profiles.size();
+    }
+
+    public void clear() {
+        profiles.clear();
+        keys.clear();
+    }
+
+    private static List<String> keysFor(TypeaheadSuggestion suggestion) {
+        String idSuffix = KEY_SEPARATOR + suggestion.getProfileId().toString();
+        List<String> result = new ArrayList<>(MAX_NAME_TOKENS + 1);
+
+        String code = TextNormalizer.fold(suggestion.getCode());
+        if (code != null && !code.isEmpty()) {
+            result.add(code + idSuffix);
+        }
+
+        String name = TextNormalizer.fold(suggestion.getFullName());
+        if (name != null && !name.isEmpty()) {
+            String[] tokens = name.split(" ");
+            for (int i = 0; i < Math.min(tokens.length, MAX_NAME_TOKENS); i++) {
+                result.add(String.join(" ", Arrays.copyOfRange(tokens, i, tokens.length)) + idSuffix);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.AdminPermission;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Method authorization for {@link RequiresAdminPermission}
+ * The annotation of each method is resolved once into a required-bits mask; a call is then a role
+ * check plus one AND against the caller's cached permission bitset - no SpEL and, on a cache hit, no query.
+ */
+public class AdminPermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Supplier<AdminPermissionCache> permissionCache;
+    private final Map<Method, Long> requiredBits = new ConcurrentHashMap<>();
+
+    /**
+     * @param permissionCache resolved on first use, so the advisor can be created before the repositories
+     */
+    public AdminPermissionAuthorizationManager(Supplier<AdminPermissionCache> permissionCache) {
+        this.permissionCache = permissionCache;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Authentication current = authentication.get();
+        if (current == null || !(current.getPrincipal() instanceof User user) || user.getRole() == null) {
+            return DENIED;
+        }
+        return switch (user.getRole()) {
+            case SUPER_ADMIN -> GRANTED;
+            case ADMIN -> {
+                long required = requiredBits(invocation);
+                yield (permissionCache.get().bitsFor(user.getId()) & required) == required ? GRANTED : DENIED;
+            }
+            default -> DENIED;
+        };
+    }
+
+    private long requiredBits(MethodInvocation invocation) {
+        Long bits = requiredBits.get(invocation.getMethod());
+        if (bits == null) {
+            bits = requiredBits.computeIfAbsent(invocation.getMethod(), method -> resolve(method, invocation.getThis()));
+        }
+        return bits;
+    }
+
+    private static long resolve(Method method, Object target) {
+        Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        RequiresAdminPermission annotation =
+                AnnotatedElementUtils.findMergedAnnotation(specificMethod, RequiresAdminPermission.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, RequiresAdminPermission.class);
+        }
+        if (annotation == null || annotation.value().length == 0) {
+            throw new IllegalStateException("@RequiresAdminPermission without permissions on " + method);
+        }
+        return AdminPermission.bitsOf(annotation.value());
+    }
+}
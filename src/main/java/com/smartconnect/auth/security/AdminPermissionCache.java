@@ -0,0 +1,100 @@
+package com.smartconnect.auth.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.smartconnect.auth.cache.CacheInvalidationBus;
+import com.smartconnect.auth.event.ProfileChangedEvent;
+import com.smartconnect.auth.model.entity.Admin;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.repository.AdminRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user cache of compiled AdminPermission bitsets
+ * A miss loads the admin profile from the database, past the query and second-level caches, which
+ * are per replica; a hit is a single hash lookup. A committed admin profile change drops the entry
+ * here and, through the {@link CacheInvalidationBus}, on every other replica. Entries also expire,
+ * as a safety net for invalidations missed while Redis was unreachable and for changes made outside
+ * the service layer.
+ *
+ * Loads race with invalidations the same way as in {@link OwnershipTable}: a miss reads the
+ * generation before querying and only stores the bits if no invalidation happened meanwhile,
+ * so a load that saw the profile before a revoke committed cannot put the old bits back.
+ */
+@Slf4j
+@Component
+public class AdminPermissionCache {
+
+    static final String INVALIDATION_TOPIC = "admin-permissions";
+
+    private final AdminRepository adminRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<UUID, Long> bitsByUserId;
+    private final AtomicLong generation = new AtomicLong();
+    private final Object putLock = new Object();
+
+    public AdminPermissionCache(
+            AdminRepository adminRepository,
+            ObjectProvider<CacheInvalidationBus> invalidationBus,
+            @Value("${app.security.admin-permissions.cache-size:10000}") long cacheSize,
+            @Value("${app.security.admin-permissions.ttl-minutes:2}") long ttlMinutes) {
+        this.adminRepository = adminRepository;
+        this.invalidationBus = invalidationBus.getIfAvailable();
+        this.bitsByUserId = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    @PostConstruct
+    void followInvalidations() {
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(INVALIDATION_TOPIC, userId -> invalidate(UUID.fromString(userId)));
+        }
+    }
+
+    /**
+     * AdminPermission bits of the user's admin profile; 0 when the user has none
+     */
+    public long bitsFor(UUID userId) {
+        Long bits = bitsByUserId.getIfPresent(userId);
+        if (bits == null) {
+            long loadedAtGeneration = generation.get();
+            bits = adminRepository.findUncachedByUserId(userId).map(Admin::permissionBits).orElse(0L);
+            synchronized (putLock) {
+                if (generation.get() == loadedAtGeneration) {
+                    bitsByUserId.put(userId, bits);
+                }
+            }
+        }
+        return bits;
+    }
+
+    @TransactionalEventListener
+    public void onProfileChanged(ProfileChangedEvent event) {
+        if (event.profileType() != EntityType.ADMIN || event.userId() == null) {
+            return;
+        }
+        invalidate(event.userId());
+        if (invalidationBus != null) {
+            invalidationBus.publish(INVALIDATION_TOPIC, event.userId().toString());
+        }
+    }
+
+    void invalidate(UUID userId) {
+        generation.incrementAndGet();
+        synchronized (putLock) {
+            bitsByUserId.invalidate(userId);
+        }
+        log.debug("Admin permission bits invalidated for user {}", userId);
+    }
+}
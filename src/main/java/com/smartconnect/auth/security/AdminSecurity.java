@@ -1,8 +1,7 @@
 package com.smartconnect.auth.security;
 
-import com.smartconnect.auth.model.entity.Admin;
 import com.smartconnect.auth.model.entity.User;
-import com.smartconnect.auth.repository.AdminRepository;
+import com.smartconnect.auth.model.enums.EntityType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -13,14 +12,14 @@ import java.util.UUID;
 
 /**
  * Security service for Admin resource ownership checks
- * Used in @PreAuthorize expressions to check if current user owns an admin profile
+ * Used as an @Authorize owner check: does the current user own an admin profile
  */
 @Slf4j
 @Component("adminSecurity")
 @RequiredArgsConstructor
 public class AdminSecurity {
 
-    private final AdminRepository adminRepository;
+    private final ProfileOwnershipIndex profileOwnershipIndex;
 
     /**
      * Check if the current authenticated user owns the admin profile
@@ -43,22 +42,17 @@ public class AdminSecurity {
                 return false;
             }
 
-            // Find admin and check if user owns it
-            return adminRepository.findById(adminId)
-                    .map(admin -> {
-                        if (admin.getUser() == null) {
-                            return false;
-                        }
-                        boolean isOwner = admin.getUser().getId().equals(currentUser.getId());
-                        log.debug("Admin ownership check: adminId={}, userId={}, isOwner={}", 
-                                adminId, currentUser.getId(), isOwner);
-                        return isOwner;
-                    })
-                    .orElse(false);
+            // A profile id in the access token answers directly; otherwise ask the cached ownership index
+            UUID claimedAdminId = ProfileClaimsAuthenticationDetails.claimedProfileId(authentication, EntityType.ADMIN);
+            boolean isOwner = claimedAdminId != null
+                    ? claimedAdminId.equals(adminId)
+                    : profileOwnershipIndex.isOwner(EntityType.ADMIN, adminId, currentUser.getId());
+            log.debug("Admin ownership check: adminId={}, userId={}, isOwner={}",
+                    adminId, currentUser.getId(), isOwner);
+            return isOwner;
         } catch (Exception e) {
             log.error("Error checking admin ownership: {}", e.getMessage());
             return false;
         }
     }
 }
-
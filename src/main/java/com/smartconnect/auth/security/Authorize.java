@@ -0,0 +1,39 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.model.enums.UserRole;
+
+import java.lang.annotation.*;
+
+/**
+ * Typed replacement for role/ownership @PreAuthorize expressions
+ * Grants the call when the caller has one of the roles or scopes, or when the owner bean's
+ * {@code boolean isOwner(UUID)} returns true for the named parameter. Rules are compiled and
+ * validated at startup by {@link AuthorizeAuthorizationManager}; a method-level annotation
+ * overrides one on the class.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Authorize {
+
+    /**
+     * Roles allowed without an ownership check
+     */
+    UserRole[] roles() default {};
+
+    /**
+     * Scopes allowed without an ownership check, matched against SCOPE_-prefixed authorities
+     * held by service credentials (see {@link com.smartconnect.auth.filter.ServiceKeyAuthenticationFilter})
+     */
+    String[] scopes() default {};
+
+    /**
+     * Bean type exposing {@code boolean isOwner(UUID)}; Void means no ownership check
+     */
+    Class<?> owner() default Void.class;
+
+    /**
+     * Name of the UUID method parameter handed to the owner check
+     */
+    String ownerParam() default "id";
+}
@@ -0,0 +1,185 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.model.enums.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Method authorization for {@link Authorize}
+ *
+ * Each annotated method compiles once into a rule: the allowed roles as an EnumSet, the allowed
+ * scopes as authority names and, when an
+ * owner is declared, a method handle bound to the owner bean's isOwner(UUID) plus the index of the
+ * argument to pass. A call is then a role lookup from the caller's authority and, only if that
+ * fails, one direct owner call - no expression parsing, reflection or bean lookups.
+ *
+ * Every controller is compiled after the context starts, so a misnamed owner parameter, an owner
+ * bean without isOwner(UUID) or a method still carrying @PreAuthorize fails startup.
+ */
+@Slf4j
+public class AuthorizeAuthorizationManager
+        implements AuthorizationManager<MethodInvocation>, SmartInitializingSingleton {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+    private static final MethodType OWNER_CHECK_TYPE = MethodType.methodType(boolean.class, UUID.class);
+    private static final Map<String, UserRole> ROLES_BY_AUTHORITY = new HashMap<>();
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            ROLES_BY_AUTHORITY.put("ROLE_" + role.name(), role);
+        }
+    }
+
+    private final ListableBeanFactory beanFactory;
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<Method, Rule> rules = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled form of one @Authorize annotation
+     */
+    record Rule(Set<UserRole> roles, Set<String> scopeAuthorities, MethodHandle ownerCheck, int ownerArgument) {
+    }
+
+    public AuthorizeAuthorizationManager(ListableBeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Rule rule = rules.get(invocation.getMethod());
+        if (rule == null) {
+            rule = rules.computeIfAbsent(invocation.getMethod(), method -> compile(method, targetClassOf(invocation)));
+        }
+
+        Authentication current = authentication.get();
+        if (current == null) {
+            return DENIED;
+        }
+        for (GrantedAuthority authority : current.getAuthorities()) {
+            UserRole role = ROLES_BY_AUTHORITY.get(authority.getAuthority());
+            if (role != null ? rule.roles().contains(role) : rule.scopeAuthorities().contains(authority.getAuthority())) {
+                return GRANTED;
+            }
+        }
+        return isOwner(rule, invocation.getArguments()) ? GRANTED : DENIED;
+    }
+
+    /**
+     * Compile every @Authorize method of every controller so rule errors surface at startup
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        int compiled = 0;
+        for (Object controller : beanFactory.getBeansWithAnnotation(Controller.class).values()) {
+            Class<?> targetClass = AopUtils.getTargetClass(controller);
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(targetClass, ReflectionUtils.USER_DECLARED_METHODS)) {
+                if (AnnotatedElementUtils.hasAnnotation(method, PreAuthorize.class)) {
+                    throw new IllegalStateException("Use @Authorize instead of @PreAuthorize on " + method);
+                }
+                if (findAnnotation(method, targetClass) != null) {
+                    rules.computeIfAbsent(method, m -> compile(m, targetClass));
+                    compiled++;
+                }
+            }
+        }
+        log.info("Compiled {} @Authorize rules", compiled);
+    }
+
+    private boolean isOwner(Rule rule, Object[] arguments) {
+        if (rule.ownerCheck() == null || !(arguments[rule.ownerArgument()] instanceof UUID id)) {
+            return false;
+        }
+        try {
+            return (boolean) rule.ownerCheck().invokeExact(id);
+        } catch (Throwable e) {
+            log.error("Ownership check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    Rule compile(Method method, Class<?> targetClass) {
+        Authorize annotation = findAnnotation(method, targetClass);
+        if (annotation == null) {
+            throw new IllegalStateException("No @Authorize on " + method);
+        }
+
+        Set<UserRole> roles = annotation.roles().length == 0
+                ? EnumSet.noneOf(UserRole.class)
+                : EnumSet.copyOf(Arrays.asList(annotation.roles()));
+        Set<String> scopeAuthorities = Arrays.stream(annotation.scopes())
+                .map(scope -> "SCOPE_" + scope)
+                .collect(Collectors.toUnmodifiableSet());
+        if (annotation.owner() == Void.class) {
+            if (roles.isEmpty() && scopeAuthorities.isEmpty()) {
+                throw new IllegalStateException("@Authorize grants nobody on " + method);
+            }
+            return new Rule(roles, scopeAuthorities, null, -1);
+        }
+
+        return new Rule(roles, scopeAuthorities, ownerCheck(annotation.owner(), method),
+                ownerArgument(annotation.ownerParam(), method));
+    }
+
+    private MethodHandle ownerCheck(Class<?> ownerType, Method method) {
+        Object owner = beanFactory.getBean(ownerType);
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(ownerType, "isOwner", OWNER_CHECK_TYPE)
+                    .bindTo(owner);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(ownerType.getSimpleName() + " has no public boolean isOwner(UUID), used on " + method, e);
+        }
+    }
+
+    private int ownerArgument(String ownerParam, Method method) {
+        String[] names = parameterNames.getParameterNames(method);
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(ownerParam) && method.getParameterTypes()[i] == UUID.class) {
+                    return i;
+                }
+            }
+        }
+        throw new IllegalStateException("No UUID parameter named '" + ownerParam + "' on " + method);
+    }
+
+    private static Authorize findAnnotation(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        Authorize annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Authorize.class);
+        return annotation != null ? annotation : AnnotatedElementUtils.findMergedAnnotation(targetClass, Authorize.class);
+    }
+
+    private static Class<?> targetClassOf(MethodInvocation invocation) {
+        return invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+    }
+}
@@ -0,0 +1,167 @@
+package com.smartconnect.auth.security;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of revoked tokens that forgets each one when it expires
+ *
+ * A token is kept as a 128-bit murmur3 hash plus its expiry second (a single small object, no
+ * token string), in a concurrent hash set for lock-free lookups and in a {@link TimingWheel}
+ * that drops it once {@link #expire} passes its expiry. Adds and expiry share one lock; lookups
+ * never take it.
+ *
+ * Snapshots are a flat file of (hash, hash, expiry) longs behind a magic number; loading skips
+ * entries that expired in the meantime.
+ *
+ * Not a Spring bean - see InMemoryTokenBlacklistServiceImpl.
+ */
+public class ExpiringTokenSet {
+
+    private static final HashFunction TOKEN_HASH = Hashing.murmur3_128();
+    private static final int SNAPSHOT_MAGIC = 0x544B424C;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    /**
+     * Token hash and expiry; equality is by hash only
+     */
+    static final class Entry {
+        final long high;
+        final long low;
+        final long expiresAt;
+
+        Entry(long high, long low, long expiresAt) {
+            this.high = high;
+            this.low = low;
+            this.expiresAt = expiresAt;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Entry entry && entry.high == high && entry.low == low;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (low ^ (low >>> 32));
+        }
+    }
+
+    private final Set<Entry> entries = ConcurrentHashMap.newKeySet();
+    private final TimingWheel<Entry> wheel;
+
+    /**
+     * @param nowSecond current epoch second; the wheel ticks once per second from here
+     */
+    public ExpiringTokenSet(long nowSecond) {
+        this.wheel = new TimingWheel<>(nowSecond, entry -> entry.expiresAt);
+    }
+
+    /**
+     * Remember a token until the given epoch second
+     * @return false if it was already present or has already expired
+     */
+    public boolean add(String token, long expiresAtSecond) {
+        return add(entryOf(token, expiresAtSecond));
+    }
+
+    public boolean contains(String token) {
+        return entries.contains(entryOf(token, 0));
+    }
+
+    /**
+     * Forget a token now; its wheel slot is released when it would have expired
+     */
+    public boolean remove(String token) {
+        return entries.remove(entryOf(token, 0));
+    }
+
+    /**
+     * Drop every token that expired up to the given epoch second
+     * @return number of tokens dropped
+     */
+    public int expire(long nowSecond) {
+        synchronized (wheel) {
+            return wheel.advance(nowSecond, entries::remove);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Write all entries to the file, replacing it atomically
+     * @return number of entries written
+     */
+    public int writeSnapshot(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        int written = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            for (Entry entry : entries) {
+                out.writeLong(entry.high);
+                out.writeLong(entry.low);
+                out.writeLong(entry.expiresAt);
+                written++;
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    }
+
+    /**
+     * Add the entries of a snapshot file that have not expired yet
+     * @return number of entries restored
+     */
+    public int readSnapshot(Path file) throws IOException {
+        int restored = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Not a token blacklist snapshot: " + file);
+            }
+            while (true) {
+                long high;
+                try {
+                    high = in.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (add(new Entry(high, in.readLong(), in.readLong()))) {
+                    restored++;
+                }
+            }
+        }
+        return restored;
+    }
+
+    private boolean add(Entry entry) {
+        synchronized (wheel) {
+            if (entry.expiresAt <= wheel.currentTick() || !entries.add(entry)) {
+                return false;
+            }
+            wheel.schedule(entry);
+            return true;
+        }
+    }
+
+    static Entry entryOf(String token, long expiresAtSecond) {
+        ByteBuffer hash = ByteBuffer.wrap(TOKEN_HASH.hashString(token, StandardCharsets.UTF_8).asBytes());
+        return new Entry(hash.getLong(0), hash.getLong(8), expiresAtSecond);
+    }
+}
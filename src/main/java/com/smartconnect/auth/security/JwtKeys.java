@@ -0,0 +1,162 @@
+package com.smartconnect.auth.security;
+
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RSA keys for signing (RS256) and verifying JWTs
+ *
+ * Only this service holds the private key; resource servers verify with the public keys published
+ * at GET /v1/auth/jwks. Key ids are RFC 7638 thumbprints, so every replica configured with the same
+ * key derives the same kid. Retired public keys stay published and accepted until the tokens they
+ * signed have expired. Startup fails without a configured key unless app.jwt.allow-ephemeral-key
+ * is set (dev and test profiles only): the ephemeral key then generated differs on every replica
+ * and every restart.
+ */
+@Slf4j
+@Component
+public class JwtKeys {
+
+    private static final int MIN_KEY_BITS = 2048;
+
+    private final PrivateKey signingKey;
+    private final String signingKeyId;
+    private final Map<String, RSAPublicKey> verificationKeys = new LinkedHashMap<>();
+
+    public JwtKeys(
+            @Value("${app.jwt.private-key:}") String privateKey,
+            @Value("${app.jwt.retired-public-keys:}") List<String> retiredPublicKeys,
+            @Value("${app.jwt.allow-ephemeral-key:false}") boolean allowEphemeralKey) {
+        try {
+            RSAPublicKey publicKey;
+            if (privateKey == null || privateKey.isBlank()) {
+                if (!allowEphemeralKey) {
+                    throw new IllegalStateException("app.jwt.private-key (JWT_PRIVATE_KEY) must be set; "
+                            + "only dev and test runs may set app.jwt.allow-ephemeral-key=true instead");
+                }
+                log.warn("app.jwt.private-key is not set, signing with an ephemeral key: tokens will not survive a restart "
+                        + "and are not accepted by other replicas");
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(MIN_KEY_BITS);
+                KeyPair keyPair = generator.generateKeyPair();
+                this.signingKey = keyPair.getPrivate();
+                publicKey = (RSAPublicKey) keyPair.getPublic();
+            } else {
+                KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+                if (!(keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decode(privateKey))) instanceof RSAPrivateCrtKey key)) {
+                    throw new IllegalStateException("app.jwt.private-key must be a PKCS#8 RSA private key with CRT parameters");
+                }
+                this.signingKey = key;
+                publicKey = (RSAPublicKey) keyFactory.generatePublic(
+                        new RSAPublicKeySpec(key.getModulus(), key.getPublicExponent()));
+            }
+            this.signingKeyId = register(publicKey);
+
+            for (String retired : retiredPublicKeys) {
+                if (!retired.isBlank()) {
+                    register((RSAPublicKey) KeyFactory.getInstance("RSA")
+                            .generatePublic(new X509EncodedKeySpec(decode(retired))));
+                }
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException | ClassCastException e) {
+            throw new IllegalStateException("Invalid JWT key configuration: " + e.getMessage(), e);
+        }
+    }
+
+    public PrivateKey getSigningKey() {
+        return signingKey;
+    }
+
+    public String getSigningKeyId() {
+        return signingKeyId;
+    }
+
+    /**
+     * Public key for a token's kid header
+     *
+     * @throws SignatureException if no current or retired key has that id
+     */
+    public PublicKey verificationKey(String keyId) {
+        RSAPublicKey key = keyId != null ? verificationKeys.get(keyId) : null;
+        if (key == null) {
+            throw new SignatureException("No published key matches the token signature (kid " + keyId + ")");
+        }
+        return key;
+    }
+
+    /**
+     * JSON Web Key Set of every verification key, current key first
+     */
+    public Map<String, Object> jwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        verificationKeys.forEach((keyId, key) -> {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("kid", keyId);
+            jwk.put("n", base64Url(key.getModulus()));
+            jwk.put("e", base64Url(key.getPublicExponent()));
+            keys.add(jwk);
+        });
+        return Map.of("keys", keys);
+    }
+
+    private String register(RSAPublicKey key) throws GeneralSecurityException {
+        if (key.getModulus().bitLength() < MIN_KEY_BITS) {
+            throw new IllegalStateException("JWT RSA keys must have at least " + MIN_KEY_BITS + " bits");
+        }
+        String keyId = thumbprint(key);
+        verificationKeys.putIfAbsent(keyId, key);
+        return keyId;
+    }
+
+    /**
+     * RFC 7638 JWK thumbprint (SHA-256, base64url)
+     */
+    static String thumbprint(RSAPublicKey key) throws GeneralSecurityException {
+        String canonical = "{\"e\":\"" + base64Url(key.getPublicExponent()) + "\",\"kty\":\"RSA\",\"n\":\""
+                + base64Url(key.getModulus()) + "\"}";
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            // Unsigned big-endian, as JWK requires
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Base64 DER, with or without PEM armour
+     */
+    private static byte[] decode(String key) {
+        return Base64.getMimeDecoder().decode(key.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").strip());
+    }
+}
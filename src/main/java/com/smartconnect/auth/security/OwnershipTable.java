@@ -0,0 +1,141 @@
+package com.smartconnect.auth.security;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed-size profile id -> owning user id table
+ *
+ * Direct-mapped like a hardware cache: a profile id hashes to exactly one slot of four longs
+ * (profile id and user id halves), so memory is fixed at 32 bytes per slot, nothing is boxed and
+ * a colliding put simply replaces the previous entry. A slot whose key halves are both zero is
+ * empty; the nil UUID is never a profile id. Slots are guarded by striped locks so a reader never
+ * sees half of an entry.
+ *
+ * Loads race with invalidations: read {@link #generation()} before querying the owner and hand it
+ * to {@link #put}, which drops the entry if anything was removed in between.
+ *
+ * Not a Spring bean - see {@link ProfileOwnershipIndex}.
+ */
+public class OwnershipTable {
+
+    private static final int LONGS_PER_SLOT = 4;
+    private static final int MAX_STRIPES = 64;
+
+    private final long[] slots;
+    private final int mask;
+    private final Object[] locks;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public OwnershipTable(int capacity) {
+        if (capacity < 1 || capacity > (1 << 26)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^26: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new long[size * LONGS_PER_SLOT];
+        this.mask = size - 1;
+        this.locks = new Object[Math.min(size, MAX_STRIPES)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Current invalidation generation; pass it to {@link #put} after loading an owner
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Owning user id, or null when the profile is not in the table
+     */
+    public UUID get(UUID profileId) {
+        long msb = profileId.getMostSignificantBits();
+        long lsb = profileId.getLeastSignificantBits();
+        int slot = slotOf(msb, lsb);
+        int base = slot * LONGS_PER_SLOT;
+        synchronized (lockOf(slot)) {
+            if (slots[base] == msb && slots[base + 1] == lsb && (msb | lsb) != 0) {
+                return new UUID(slots[base + 2], slots[base + 3]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Store an owner loaded at the given generation; ignored if an invalidation happened since
+     * @return true if the entry was stored
+     */
+    public boolean put(UUID profileId, UUID userId, long loadedAtGeneration) {
+        long msb = profileId.getMostSignificantBits();
+        long lsb = profileId.getLeastSignificantBits();
+        if ((msb | lsb) == 0) {
+            return false;
+        }
+        int slot = slotOf(msb, lsb);
+        int base = slot * LONGS_PER_SLOT;
+        synchronized (lockOf(slot)) {
+            if (generation.get() != loadedAtGeneration) {
+                return false;
+            }
+            slots[base] = msb;
+            slots[base + 1] = lsb;
+            slots[base + 2] = userId.getMostSignificantBits();
+            slots[base + 3] = userId.getLeastSignificantBits();
+        }
+        return true;
+    }
+
+    /**
+     * Drop a profile (no-op when it is not in the table) and invalidate loads in flight
+     */
+    public void remove(UUID profileId) {
+        generation.incrementAndGet();
+        long msb = profileId.getMostSignificantBits();
+        long lsb = profileId.getLeastSignificantBits();
+        int slot = slotOf(msb, lsb);
+        int base = slot * LONGS_PER_SLOT;
+        synchronized (lockOf(slot)) {
+            if (slots[base] == msb && slots[base + 1] == lsb) {
+                clearSlot(base);
+            }
+        }
+    }
+
+    /**
+     * Drop every entry and invalidate loads in flight
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        for (int slot = 0; slot <= mask; slot++) {
+            synchronized (lockOf(slot)) {
+                clearSlot(slot * LONGS_PER_SLOT);
+            }
+        }
+    }
+
+    private void clearSlot(int base) {
+        slots[base] = 0;
+        slots[base + 1] = 0;
+        slots[base + 2] = 0;
+        slots[base + 3] = 0;
+    }
+
+    private int slotOf(long msb, long lsb) {
+        long hash = msb ^ lsb;
+        int h = (int) (hash ^ (hash >>> 32));
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private Object lockOf(int slot) {
+        return locks[slot & (locks.length - 1)];
+    }
+}
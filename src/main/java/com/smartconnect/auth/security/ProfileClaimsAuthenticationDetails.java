@@ -0,0 +1,37 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.model.enums.EntityType;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Web authentication details plus the profile ids carried in the caller's access token
+ * Lets ownership checks skip the lookup entirely when the token already names the caller's profile
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class ProfileClaimsAuthenticationDetails extends WebAuthenticationDetails {
+
+    private final Map<EntityType, UUID> profileIds;
+
+    public ProfileClaimsAuthenticationDetails(HttpServletRequest request, Map<EntityType, UUID> profileIds) {
+        super(request);
+        this.profileIds = Map.copyOf(profileIds);
+    }
+
+    /**
+     * Profile id of the given type claimed by the authentication's token, or null when it carries none
+     */
+    public static UUID claimedProfileId(Authentication authentication, EntityType profileType) {
+        if (authentication.getDetails() instanceof ProfileClaimsAuthenticationDetails details) {
+            return details.profileIds.get(profileType);
+        }
+        return null;
+    }
+}
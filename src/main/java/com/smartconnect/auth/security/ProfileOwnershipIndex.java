@@ -0,0 +1,93 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.event.ProfileChangedEvent;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.repository.AdminRepository;
+import com.smartconnect.auth.repository.StudentRepository;
+import com.smartconnect.auth.repository.TeacherRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cached profile id -> owning user id index for @Authorize ownership checks
+ *
+ * Owners are loaded lazily with a single-column query and kept in one bounded {@link OwnershipTable}
+ * per profile type, so an owner-guarded request never hydrates the profile or its user.
+ * Entries are dropped when a profile is created or soft-deleted; a profile's owner never changes otherwise.
+ */
+@Slf4j
+@Component
+public class ProfileOwnershipIndex {
+
+    private final Map<EntityType, OwnershipTable> tables = new EnumMap<>(EntityType.class);
+    private final Map<EntityType, Function<UUID, Optional<UUID>>> ownerLoaders = new EnumMap<>(EntityType.class);
+    private final Map<EntityType, Function<UUID, Optional<UUID>>> profileLoaders = new EnumMap<>(EntityType.class);
+
+    public ProfileOwnershipIndex(
+            StudentRepository studentRepository,
+            TeacherRepository teacherRepository,
+            AdminRepository adminRepository,
+            @Value("${app.security.ownership-index.capacity:65536}") int capacity) {
+        ownerLoaders.put(EntityType.STUDENT, studentRepository::findUserIdById);
+        ownerLoaders.put(EntityType.TEACHER, teacherRepository::findUserIdById);
+        ownerLoaders.put(EntityType.ADMIN, adminRepository::findUserIdById);
+        profileLoaders.put(EntityType.STUDENT, studentRepository::findIdByUserId);
+        profileLoaders.put(EntityType.TEACHER, teacherRepository::findIdByUserId);
+        profileLoaders.put(EntityType.ADMIN, adminRepository::findIdByUserId);
+        ownerLoaders.keySet().forEach(type -> tables.put(type, new OwnershipTable(capacity)));
+    }
+
+    /**
+     * Check whether a live profile of the given type belongs to the user
+     */
+    public boolean isOwner(EntityType profileType, UUID profileId, UUID userId) {
+        if (profileId == null || userId == null) {
+            return false;
+        }
+        OwnershipTable table = table(profileType);
+        UUID owner = table.get(profileId);
+        if (owner == null) {
+            long generation = table.generation();
+            owner = ownerLoaders.get(profileType).apply(profileId).orElse(null);
+            if (owner == null) {
+                return false;
+            }
+            table.put(profileId, owner, generation);
+        }
+        return owner.equals(userId);
+    }
+
+    /**
+     * Live profile ids owned by a user, keyed by profile type (used for access token claims)
+     */
+    public Map<EntityType, UUID> findProfileIds(UUID userId) {
+        Map<EntityType, UUID> profileIds = new EnumMap<>(EntityType.class);
+        profileLoaders.forEach((type, loader) -> loader.apply(userId).ifPresent(id -> profileIds.put(type, id)));
+        return profileIds;
+    }
+
+    @TransactionalEventListener
+    public void onProfileChanged(ProfileChangedEvent event) {
+        if (event.changeType() == ProfileChangedEvent.ChangeType.UPDATED || !tables.containsKey(event.profileType())) {
+            return;
+        }
+        table(event.profileType()).remove(event.profileId());
+        log.debug("Ownership index invalidated: {} {} {}", event.profileType(), event.profileId(), event.changeType());
+    }
+
+    private OwnershipTable table(EntityType profileType) {
+        OwnershipTable table = tables.get(profileType);
+        if (table == null) {
+            throw new IllegalArgumentException("Not a profile type: " + profileType);
+        }
+        return table;
+    }
+}
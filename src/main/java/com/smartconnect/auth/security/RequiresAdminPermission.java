@@ -0,0 +1,18 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.model.enums.AdminPermission;
+
+import java.lang.annotation.*;
+
+/**
+ * Requires the caller to be a SUPER_ADMIN, or an ADMIN whose profile grants every listed permission
+ * Checked by {@link AdminPermissionAuthorizationManager} after @Authorize; both must pass.
+ * An ADMIN-role user without an admin profile holds no permissions and is denied - the role alone
+ * no longer opens these endpoints.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresAdminPermission {
+    AdminPermission[] value();
+}
@@ -1,33 +1,31 @@
 package com.smartconnect.auth.security;
 
 import com.smartconnect.auth.model.entity.User;
-import com.smartconnect.auth.repository.StudentRepository;
+import com.smartconnect.auth.model.enums.EntityType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 /**
  * Security service for Student resource ownership checks
- * Used in @PreAuthorize expressions to check if current user owns a student profile
+ * Used as an @Authorize owner check: does the current user own a student profile
  */
 @Slf4j
 @Component("studentSecurity")
 @RequiredArgsConstructor
 public class StudentSecurity {
 
-    private final StudentRepository studentRepository;
+    private final ProfileOwnershipIndex profileOwnershipIndex;
 
     /**
      * Check if the current authenticated user owns the student profile
      * @param studentId The student ID to check
      * @return true if current user owns the student profile, false otherwise
      */
-    @Transactional(readOnly = true)
     public boolean isOwner(UUID studentId) {
         try {
             // Get current authenticated user
@@ -44,22 +42,17 @@ public class StudentSecurity {
                 return false;
             }
 
-            // Find student with user relationship fetched and check if user owns it
-            return studentRepository.findByIdWithUser(studentId)
-                    .map(student -> {
-                        if (student.getUser() == null) {
-                            return false;
-                        }
-                        boolean isOwner = student.getUser().getId().equals(currentUser.getId());
-                        log.debug("Student ownership check: studentId={}, userId={}, isOwner={}", 
-                                studentId, currentUser.getId(), isOwner);
-                        return isOwner;
-                    })
-                    .orElse(false);
+            // A profile id in the access token answers directly; otherwise ask the cached ownership index
+            UUID claimedStudentId = ProfileClaimsAuthenticationDetails.claimedProfileId(authentication, EntityType.STUDENT);
+            boolean isOwner = claimedStudentId != null
+                    ? claimedStudentId.equals(studentId)
+                    : profileOwnershipIndex.isOwner(EntityType.STUDENT, studentId, currentUser.getId());
+            log.debug("Student ownership check: studentId={}, userId={}, isOwner={}",
+                    studentId, currentUser.getId(), isOwner);
+            return isOwner;
         } catch (Exception e) {
             log.error("Error checking student ownership: {}", e.getMessage());
             return false;
         }
     }
 }
-
@@ -0,0 +1,58 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Security service for Teacher resource ownership checks
+ * Used as an @Authorize owner check: does the current user own a teacher profile
+ */
+@Slf4j
+@Component("teacherSecurity")
+@RequiredArgsConstructor
+public class TeacherSecurity {
+
+    private final ProfileOwnershipIndex profileOwnershipIndex;
+
+    /**
+     * Check if the current authenticated user owns the teacher profile
+     * @param teacherId The teacher ID to check
+     * @return true if current user owns the teacher profile, false otherwise
+     */
+    public boolean isOwner(UUID teacherId) {
+        try {
+            // Get current authenticated user
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || authentication.getPrincipal() == null) {
+                log.debug("No authentication found");
+                return false;
+            }
+
+            // Get user from authentication principal
+            User currentUser = (User) authentication.getPrincipal();
+            if (currentUser == null || currentUser.getId() == null) {
+                log.debug("No user found in authentication");
+                return false;
+            }
+
+            // A profile id in the access token answers directly; otherwise ask the cached ownership index
+            UUID claimedTeacherId = ProfileClaimsAuthenticationDetails.claimedProfileId(authentication, EntityType.TEACHER);
+            boolean isOwner = claimedTeacherId != null
+                    ? claimedTeacherId.equals(teacherId)
+                    : profileOwnershipIndex.isOwner(EntityType.TEACHER, teacherId, currentUser.getId());
+            log.debug("Teacher ownership check: teacherId={}, userId={}, isOwner={}",
+                    teacherId, currentUser.getId(), isOwner);
+            return isOwner;
+        } catch (Exception e) {
+            log.error("Error checking teacher ownership: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.smartconnect.auth.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hierarchical timing wheel for expiring items by deadline tick
+ *
+ * Four levels of 64 slots; a slot on level L spans 64^L ticks, so with one-second ticks the
+ * wheel covers about 194 days. An item goes on the lowest level whose span reaches its deadline
+ * and moves down a level each time the level below wraps, so scheduling is O(1), advancing one tick
+ * touches one slot, and no timer or scan per item exists. Deadlines past the horizon are parked
+ * in the top level and re-placed when it comes round.
+ *
+ * Not thread-safe; the owner serializes calls - see {@link ExpiringTokenSet}.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long HORIZON = 1L << (SLOT_BITS * LEVELS);
+
+    private final ToLongFunction<T> deadlineOf;
+    private final List<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startTick, ToLongFunction<T> deadlineOf) {
+        this.currentTick = startTick;
+        this.deadlineOf = deadlineOf;
+        this.slots = new List[LEVELS][SLOTS];
+    }
+
+    /**
+     * Schedule an item for its deadline tick
+     * @return false if the deadline has already passed; the item is not kept
+     */
+    public boolean schedule(T item) {
+        if (deadlineOf.applyAsLong(item) <= currentTick) {
+            return false;
+        }
+        place(item);
+        size++;
+        return true;
+    }
+
+    /**
+     * Move the wheel forward to the given tick, handing every item whose deadline passed to onExpired
+     * @return number of items expired
+     */
+    public int advance(long toTick, Consumer<T> onExpired) {
+        if (size == 0) {
+            currentTick = Math.max(currentTick, toTick);
+            return 0;
+        }
+        int expired = 0;
+        while (currentTick < toTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    for (T item : take(level, indexOf(currentTick, level))) {
+                        place(item);
+                    }
+                }
+            }
+            for (T item : take(0, indexOf(currentTick, 0))) {
+                if (deadlineOf.applyAsLong(item) <= currentTick) {
+                    onExpired.accept(item);
+                    size--;
+                    expired++;
+                } else {
+                    place(item);
+                }
+            }
+            if (size == 0) {
+                currentTick = toTick;
+            }
+        }
+        return expired;
+    }
+
+    public long currentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void place(T item) {
+        long deadline = Math.min(Math.max(deadlineOf.applyAsLong(item), currentTick), currentTick + HORIZON - 1);
+        long delta = deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int index = indexOf(deadline, level);
+        List<T> slot = slots[level][index];
+        if (slot == null) {
+            slot = new ArrayList<>();
+            slots[level][index] = slot;
+        }
+        slot.add(item);
+    }
+
+    private List<T> take(int level, int index) {
+        List<T> slot = slots[level][index];
+        if (slot == null) {
+            return List.of();
+        }
+        slots[level][index] = null;
+        return slot;
+    }
+
+    private static int indexOf(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+}
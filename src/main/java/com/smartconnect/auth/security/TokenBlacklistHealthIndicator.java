@@ -0,0 +1,32 @@
+package com.smartconnect.auth.security;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the token blacklist circuit breaker ("tokenBlacklist" in /actuator/health)
+ * An open breaker is only DOWN when failing closed, because then every authenticated request is
+ * rejected; failing open keeps the service up with revoked tokens accepted until Redis recovers.
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.blacklist.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class TokenBlacklistHealthIndicator implements HealthIndicator {
+
+    private final TokenBlacklistStore tokenBlacklistStore;
+
+    @Override
+    public Health health() {
+        CircuitBreaker.State state = tokenBlacklistStore.getState();
+        TokenBlacklistStore.FailureMode failureMode = tokenBlacklistStore.getFailureMode();
+        boolean rejecting = state == CircuitBreaker.State.OPEN && failureMode == TokenBlacklistStore.FailureMode.CLOSED;
+        return (rejecting ? Health.down() : Health.up())
+                .withDetail("circuitBreaker", state)
+                .withDetail("failureMode", failureMode)
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.smartconnect.auth.security;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisConnectionDetails;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis access for the token blacklist, bounded so a stalled Redis cannot stall authentication
+ *
+ * The blacklist gets its own Lettuce connection with a command timeout of a few milliseconds
+ * (spring.data.redis.timeout stays long for blocking stream reads) that rejects commands while
+ * reconnecting instead of queueing them. It connects to the same Redis as the rest of the app:
+ * the server comes from Boot's {@link RedisConnectionDetails} (spring.data.redis.url, sentinel,
+ * cluster or host/port, in the auto-configuration's order of precedence). Every call goes
+ * through the "tokenBlacklist" circuit breaker: once enough calls fail it opens, calls fail
+ * fast with {@link CallNotPermittedException}, and a few half-open probes decide when Redis is
+ * trusted again.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.security.blacklist.store", havingValue = "redis", matchIfMissing = true)
+public class TokenBlacklistStore {
+
+    static final String CIRCUIT_BREAKER_NAME = "tokenBlacklist";
+
+    /**
+     * What a lookup answers while Redis cannot: OPEN accepts the token, CLOSED rejects it
+     */
+    public enum FailureMode {
+        OPEN,
+        CLOSED
+    }
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final FailureMode failureMode;
+
+    public TokenBlacklistStore(
+            RedisConnectionDetails connectionDetails,
+            RedisProperties redisProperties,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.blacklist.redis.command-timeout-ms:8}") long commandTimeoutMs,
+            @Value("${app.security.blacklist.redis.connect-timeout-ms:250}") long connectTimeoutMs,
+            @Value("${app.security.blacklist.failure-mode:OPEN}") FailureMode failureMode,
+            @Value("${app.security.blacklist.breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${app.security.blacklist.breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${app.security.blacklist.breaker.open-seconds:10}") long openSeconds) {
+        this.failureMode = failureMode;
+        this.connectionFactory = connectionFactory(connectionDetails, redisProperties, Duration.ofMillis(commandTimeoutMs),
+                Duration.ofMillis(connectTimeoutMs));
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(Math.max(minimumCalls, 50))
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(Duration.ofSeconds(openSeconds))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build());
+        this.circuitBreaker = registry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Token blacklist circuit breaker {} (failure mode {})", event.getStateTransition(), failureMode));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+    }
+
+    public boolean exists(String key) {
+        return circuitBreaker.executeSupplier(() -> Boolean.TRUE.equals(redisTemplate.hasKey(key)));
+    }
+
+    public void put(String key, Duration ttl) {
+        circuitBreaker.executeRunnable(() -> redisTemplate.opsForValue().set(key, "blacklisted", ttl));
+    }
+
+    public void remove(String key) {
+        circuitBreaker.executeRunnable(() -> redisTemplate.delete(key));
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    public FailureMode getFailureMode() {
+        return failureMode;
+    }
+
+    @PreDestroy
+    void close() {
+        connectionFactory.destroy();
+    }
+
+    private static LettuceConnectionFactory connectionFactory(RedisConnectionDetails details, RedisProperties properties,
+                                                              Duration commandTimeout, Duration connectTimeout) {
+        ClientOptions.Builder options = details.getCluster() != null ? ClusterClientOptions.builder() : ClientOptions.builder();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .shutdownTimeout(Duration.ZERO)
+                .clientOptions(options
+                        .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build());
+        if (properties.getSsl().isEnabled() || properties.getUrl() != null && properties.getUrl().startsWith("rediss://")) {
+            client.useSsl();
+        }
+
+        LettuceConnectionFactory factory = newFactory(details, properties, client.build());
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static LettuceConnectionFactory newFactory(RedisConnectionDetails details, RedisProperties properties,
+                                                       LettuceClientConfiguration client) {
+        RedisConnectionDetails.Sentinel sentinel = details.getSentinel();
+        if (sentinel != null) {
+            RedisSentinelConfiguration server = new RedisSentinelConfiguration();
+            server.master(sentinel.getMaster());
+            sentinel.getNodes().forEach(node -> server.sentinel(node.host(), node.port()));
+            server.setSentinelUsername(sentinel.getUsername());
+            server.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+            server.setDatabase(sentinel.getDatabase());
+            server.setUsername(details.getUsername());
+            server.setPassword(RedisPassword.of(details.getPassword()));
+            return new LettuceConnectionFactory(server, client);
+        }
+
+        RedisConnectionDetails.Cluster cluster = details.getCluster();
+        if (cluster != null) {
+            RedisClusterConfiguration server = new RedisClusterConfiguration();
+            cluster.getNodes().forEach(node -> server.clusterNode(node.host(), node.port()));
+            if (properties.getCluster() != null && properties.getCluster().getMaxRedirects() != null) {
+                server.setMaxRedirects(properties.getCluster().getMaxRedirects());
+            }
+            server.setUsername(details.getUsername());
+            server.setPassword(RedisPassword.of(details.getPassword()));
+            return new LettuceConnectionFactory(server, client);
+        }
+
+        RedisConnectionDetails.Standalone standalone = details.getStandalone();
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(standalone.getHost(), standalone.getPort());
+        server.setDatabase(standalone.getDatabase());
+        server.setUsername(details.getUsername());
+        server.setPassword(RedisPassword.of(details.getPassword()));
+        return new LettuceConnectionFactory(server, client);
+    }
+}
@@ -11,7 +11,7 @@ import java.util.UUID;
 
 /**
  * Security service for User resource ownership checks
- * Used in @PreAuthorize expressions to check if current user owns a user resource
+ * Used as an @Authorize owner check: does the current user own a user resource
  */
 @Slf4j
 @Component("userSecurity")
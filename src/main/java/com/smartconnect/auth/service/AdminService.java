@@ -2,12 +2,17 @@ package com.smartconnect.auth.service;
 
 import com.smartconnect.auth.dto.request.AdminCreateRequest;
 import com.smartconnect.auth.dto.request.AdminUpdateRequest;
+import com.smartconnect.auth.dto.request.BatchGetRequest;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.CursorPageResponse;
 import com.smartconnect.auth.dto.response.AdminResponse;
+import com.smartconnect.auth.dto.response.AdminSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Admin operations
@@ -35,6 +40,12 @@ public interface AdminService {
      */
     AdminResponse getAdminByCode(String adminCode);
 
+    /**
+     * Get many admins by IDs and/or admin codes, one query per chunk of keys
+     * Deleted or unknown keys are reported as missing rather than failing the batch
+     */
+    BatchGetResponse<AdminResponse> getAdminsBatch(BatchGetRequest request);
+
     /**
      * Get admin by user ID
      */
@@ -48,7 +59,41 @@ public interface AdminService {
     /**
      * Get admins by department
      */
-    List<AdminResponse> getAdminsByDepartment(String department);
+    Page<AdminResponse> getAdminsByDepartment(String department, Pageable pageable);
+
+    /**
+     * Stream admins by department to the consumer without materializing the full list
+     * @return Number of rows streamed
+     */
+    long streamAdminsByDepartment(String department, Consumer<AdminResponse> consumer);
+
+    /**
+     * Get admin summaries (list view) with pagination
+     * Projected straight from the query; no entities are loaded
+     */
+    Page<AdminSummaryResponse> getAdminSummaries(Pageable pageable);
+
+    /**
+     * Get admin summaries by department with pagination
+     */
+    Page<AdminSummaryResponse> getAdminSummariesByDepartment(String department, Pageable pageable);
+
+    /**
+     * Get a single admin summary by ID
+     */
+    AdminSummaryResponse getAdminSummaryById(UUID id);
+
+    /**
+     * Get admins with keyset pagination (newest first)
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param includeTotal Whether to run the (costly) total count
+     */
+    CursorPageResponse<AdminResponse> getAdminsCursor(String cursor, int size, boolean includeTotal);
+
+    /**
+     * Get admins by department with keyset pagination (newest first)
+     */
+    CursorPageResponse<AdminResponse> getAdminsByDepartmentCursor(String department, String cursor, int size, boolean includeTotal);
 
     /**
      * Get admins by access level
@@ -58,7 +103,13 @@ public interface AdminService {
     /**
      * Get active admins
      */
-    List<AdminResponse> getActiveAdmins();
+    Page<AdminResponse> getActiveAdmins(Pageable pageable);
+
+    /**
+     * Stream active admins to the consumer without materializing the full list
+     * @return Number of rows streamed
+     */
+    long streamActiveAdmins(Consumer<AdminResponse> consumer);
 
     /**
      * Get super admins
@@ -1,15 +1,19 @@
 package com.smartconnect.auth.service;
 
 import com.smartconnect.auth.dto.response.AuditLogResponse;
+import com.smartconnect.auth.dto.response.NetworkActivityResponse;
 import com.smartconnect.auth.model.enums.ActionType;
 import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.TextSearchMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for AuditLog operations
@@ -81,6 +85,68 @@ public interface AuditLogService {
             Pageable pageable
     );
 
+    /**
+     * Stream audit logs matching the filters to the consumer, oldest first
+     * Rows are read through a database cursor, so memory use does not grow with the result size
+     *
+     * @return number of rows streamed
+     */
+    long streamAuditLogs(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            ActionType action,
+            EntityType entityType,
+            UUID userId,
+            Consumer<AuditLogResponse> consumer
+    );
+
+    /**
+     * Full-text search on audit log descriptions, ranked by relevance
+     * Optional filters narrow by action, entity type and time range
+     */
+    Slice<AuditLogResponse> searchAuditLogs(
+            String text,
+            TextSearchMode mode,
+            ActionType action,
+            EntityType entityType,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    /**
+     * Get audit logs from addresses inside a network (CIDR notation)
+     */
+    Slice<AuditLogResponse> getAuditLogsByNetwork(
+            String cidr,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    /**
+     * Get audit logs from addresses in an inclusive address range
+     */
+    Slice<AuditLogResponse> getAuditLogsByIpRange(
+            String fromAddress,
+            String toAddress,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    /**
+     * Get the networks with the most events of the given action (any action when null) in a time window
+     */
+    List<NetworkActivityResponse> getTopNetworks(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            ActionType action,
+            int ipv4Prefix,
+            int ipv6Prefix,
+            int limit
+    );
+
     /**
      * Get security-related audit logs
      */
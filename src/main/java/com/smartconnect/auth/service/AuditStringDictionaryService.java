@@ -0,0 +1,31 @@
+package com.smartconnect.auth.service;
+
+import org.mapstruct.Named;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for dictionary-encoded audit strings
+ * Repeated values (user agents, request URLs, entity names) are stored once and referenced by id
+ */
+public interface AuditStringDictionaryService {
+
+    /**
+     * Resolve dictionary ids for the given values, registering values not seen before
+     * Null values are ignored; the result maps each distinct value to its id
+     */
+    Map<String, Long> encodeAll(Collection<String> values);
+
+    /**
+     * Load the values of all ids not cached yet with a single query
+     * Call before decoding a page or chunk of rows so decode() never queries per row
+     */
+    void preload(Collection<Long> ids);
+
+    /**
+     * Resolve a dictionary id back to its value (null for a null or unknown id)
+     */
+    @Named("dictionaryValue")
+    String decode(Long id);
+}
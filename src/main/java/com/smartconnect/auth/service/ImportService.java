@@ -0,0 +1,36 @@
+package com.smartconnect.auth.service;
+
+import com.smartconnect.auth.dto.response.ImportJobResponse;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.ExportFormat;
+
+import java.util.UUID;
+
+/**
+ * Service interface for bulk student / teacher imports
+ * Each upload becomes an asynchronous job that creates the user accounts and profiles together
+ */
+public interface ImportService {
+
+    /**
+     * Queue an import of an uploaded CSV or NDJSON file
+     * @param profileType STUDENT or TEACHER
+     * @param content Raw file content
+     * @param initiatedBy ID of the user starting the import (recorded in the audit log)
+     * @return The queued job
+     */
+    ImportJobResponse startImport(
+            EntityType profileType,
+            ExportFormat format,
+            byte[] content,
+            UUID initiatedBy,
+            String ipAddress,
+            String userAgent,
+            String requestUrl
+    );
+
+    /**
+     * Get progress and row errors of an import job
+     */
+    ImportJobResponse getImportJob(UUID jobId);
+}
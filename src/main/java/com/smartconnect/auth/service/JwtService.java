@@ -1,9 +1,11 @@
 package com.smartconnect.auth.service;
 
 import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.EntityType;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Date;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -17,11 +19,17 @@ public interface JwtService {
 	String CLAIM_ROLE = "role";
 	String CLAIM_TOKEN_TYPE = "tokenType";
 	String CLAIM_NONCE = "nonce";
+	String CLAIM_PROFILES = "profiles";
 
 	String TOKEN_TYPE_REFRESH = "REFRESH";
 
 	String generateAccessToken(User user);
 
+	/**
+	 * Access token that also names the caller's profiles, so ownership checks can skip the lookup
+	 */
+	String generateAccessToken(User user, Map<EntityType, UUID> profileIds);
+
 	String generateRefreshToken(User user);
 
 	String getUsernameFromToken(String token);
@@ -30,6 +38,11 @@ public interface JwtService {
 
 	String getRoleFromToken(String token);
 
+	/**
+	 * Profile ids carried in the token; empty when the token has none
+	 */
+	Map<EntityType, UUID> getProfileIdsFromToken(String token);
+
 	Date getExpirationDateFromToken(String token);
 
 	<T> T extractClaim(String token, Function<io.jsonwebtoken.Claims, T> claimsResolver);
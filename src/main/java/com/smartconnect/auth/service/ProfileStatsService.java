@@ -0,0 +1,24 @@
+package com.smartconnect.auth.service;
+
+import com.smartconnect.auth.dto.response.StatsSummaryResponse;
+
+/**
+ * Service interface for dashboard profile statistics
+ * Served from node-local counters kept current by profile changes and reconciled against the database
+ */
+public interface ProfileStatsService {
+
+    /**
+     * All dashboard counts in one response
+     * Loads the counters with a single query if they have not been initialized yet
+     *
+     * @throws com.smartconnect.auth.exception.ServiceUnavailableException if the counters could not be loaded
+     */
+    StatsSummaryResponse getSummary();
+
+    /**
+     * Recount every bucket in the database and replace the counters
+     * Changes applied while the query runs are replayed on top of its counts
+     */
+    void reconcile();
+}
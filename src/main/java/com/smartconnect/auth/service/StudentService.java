@@ -1,14 +1,21 @@
 package com.smartconnect.auth.service;
 
+import com.smartconnect.auth.dto.request.BatchGetRequest;
 import com.smartconnect.auth.dto.request.StudentCreateRequest;
 import com.smartconnect.auth.dto.request.StudentUpdateRequest;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.ChangeFeedResponse;
+import com.smartconnect.auth.dto.response.CursorPageResponse;
+import com.smartconnect.auth.dto.response.StudentChangeResponse;
 import com.smartconnect.auth.dto.response.StudentResponse;
+import com.smartconnect.auth.dto.response.StudentSummaryResponse;
 import com.smartconnect.auth.model.enums.StudentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Student operations
@@ -52,6 +59,12 @@ public interface StudentService {
      */
     StudentResponse getStudentByCode(String studentCode);
 
+    /**
+     * Get many students by IDs and/or student codes, one query per chunk of keys
+     * Deleted or unknown keys are reported as missing rather than failing the batch
+     */
+    BatchGetResponse<StudentResponse> getStudentsBatch(BatchGetRequest request);
+
     /**
      * Get student by user ID
      * @param userId User ID
@@ -75,25 +88,84 @@ public interface StudentService {
      */
     Page<StudentResponse> getStudentsByMajor(UUID majorId, Pageable pageable);
 
+    /**
+     * Get student summaries (list view) with pagination
+     * Projected straight from the query; no entities are loaded
+     */
+    Page<StudentSummaryResponse> getStudentSummaries(Pageable pageable);
+
+    /**
+     * Get student summaries by major with pagination
+     */
+    Page<StudentSummaryResponse> getStudentSummariesByMajor(UUID majorId, Pageable pageable);
+
+    /**
+     * Get a single student summary by ID
+     */
+    StudentSummaryResponse getStudentSummaryById(UUID id);
+
+    /**
+     * Stream the student roster (summary rows ordered by student code) to the consumer
+     * @param majorId Optional major filter
+     * @param admissionYear Optional admission year filter
+     * @return Number of rows streamed
+     */
+    long exportRoster(UUID majorId, Integer admissionYear, Consumer<StudentSummaryResponse> consumer);
+
+    /**
+     * Get students with keyset pagination (newest first)
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param includeTotal Whether to run the (costly) total count
+     */
+    CursorPageResponse<StudentResponse> getStudentsCursor(String cursor, int size, boolean includeTotal);
+
+    /**
+     * Get students created, updated or deleted after a watermark, oldest first
+     * @param since Cursor from the previous call, or null for a full sync
+     */
+    ChangeFeedResponse<StudentChangeResponse> getStudentChanges(String since, int size);
+
+    /**
+     * Get students by major ID with keyset pagination (newest first)
+     */
+    CursorPageResponse<StudentResponse> getStudentsByMajorCursor(UUID majorId, String cursor, int size, boolean includeTotal);
+
     /**
      * Get students by status
      * @param status Student status
-     * @return List of student responses
+     * @param pageable Pagination parameters
      */
-    List<StudentResponse> getStudentsByStatus(StudentStatus status);
+    Page<StudentResponse> getStudentsByStatus(StudentStatus status, Pageable pageable);
+
+    /**
+     * Stream students by status to the consumer without materializing the full list
+     * @return Number of rows streamed
+     */
+    long streamStudentsByStatus(StudentStatus status, Consumer<StudentResponse> consumer);
 
     /**
      * Get students by admission year
      * @param admissionYear Admission year
-     * @return List of student responses
+     * @param pageable Pagination parameters
+     */
+    Page<StudentResponse> getStudentsByAdmissionYear(Integer admissionYear, Pageable pageable);
+
+    /**
+     * Stream students by admission year to the consumer without materializing the full list
+     * @return Number of rows streamed
      */
-    List<StudentResponse> getStudentsByAdmissionYear(Integer admissionYear);
+    long streamStudentsByAdmissionYear(Integer admissionYear, Consumer<StudentResponse> consumer);
 
     /**
      * Get honors students (GPA >= 3.5)
-     * @return List of honors student responses
      */
-    List<StudentResponse> getHonorsStudents();
+    Page<StudentResponse> getHonorsStudents(Pageable pageable);
+
+    /**
+     * Stream honors students (GPA >= 3.5) to the consumer without materializing the full list
+     * @return Number of rows streamed
+     */
+    long streamHonorsStudents(Consumer<StudentResponse> consumer);
 
     /**
      * Search students by keyword (name or student code)
@@ -1,13 +1,18 @@
 package com.smartconnect.auth.service;
 
+import com.smartconnect.auth.dto.request.BatchGetRequest;
 import com.smartconnect.auth.dto.request.TeacherCreateRequest;
 import com.smartconnect.auth.dto.request.TeacherUpdateRequest;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.CursorPageResponse;
 import com.smartconnect.auth.dto.response.TeacherResponse;
+import com.smartconnect.auth.dto.response.TeacherSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Teacher operations
@@ -35,6 +40,12 @@ public interface TeacherService {
      */
     TeacherResponse getTeacherByCode(String teacherCode);
 
+    /**
+     * Get many teachers by IDs and/or teacher codes, one query per chunk of keys
+     * Deleted or unknown keys are reported as missing rather than failing the batch
+     */
+    BatchGetResponse<TeacherResponse> getTeachersBatch(BatchGetRequest request);
+
     /**
      * Get teacher by user ID
      */
@@ -50,20 +61,73 @@ public interface TeacherService {
      */
     Page<TeacherResponse> getTeachersByFaculty(UUID facultyId, Pageable pageable);
 
+    /**
+     * Get teacher summaries (list view) with pagination
+     * Projected straight from the query; no entities are loaded
+     */
+    Page<TeacherSummaryResponse> getTeacherSummaries(Pageable pageable);
+
+    /**
+     * Get teacher summaries by faculty with pagination
+     */
+    Page<TeacherSummaryResponse> getTeacherSummariesByFaculty(UUID facultyId, Pageable pageable);
+
+    /**
+     * Get a single teacher summary by ID
+     */
+    TeacherSummaryResponse getTeacherSummaryById(UUID id);
+
+    /**
+     * Stream the teacher roster (summary rows ordered by teacher code) to the consumer
+     * @param facultyId Optional faculty filter
+     * @return Number of rows streamed
+     */
+    long exportRoster(UUID facultyId, Consumer<TeacherSummaryResponse> consumer);
+
+    /**
+     * Get teachers with keyset pagination (newest first)
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param includeTotal Whether to run the (costly) total count
+     */
+    CursorPageResponse<TeacherResponse> getTeachersCursor(String cursor, int size, boolean includeTotal);
+
+    /**
+     * Get teachers by faculty ID with keyset pagination (newest first)
+     */
+    CursorPageResponse<TeacherResponse> getTeachersByFacultyCursor(UUID facultyId, String cursor, int size, boolean includeTotal);
+
     /**
      * Get active teachers
      */
-    List<TeacherResponse> getActiveTeachers();
+    Page<TeacherResponse> getActiveTeachers(Pageable pageable);
+
+    /**
+     * Stream active teachers to the consumer without materializing the full list
+     * @return Number of rows streamed
+     */
+    long streamActiveTeachers(Consumer<TeacherResponse> consumer);
 
     /**
      * Get senior teachers (>= 10 years experience)
      */
-    List<TeacherResponse> getSeniorTeachers();
+    Page<TeacherResponse> getSeniorTeachers(Pageable pageable);
+
+    /**
+     * Stream senior teachers (>= 10 years experience) to the consumer without materializing the full list
+     * @return Number of rows streamed
+     */
+    long streamSeniorTeachers(Consumer<TeacherResponse> consumer);
 
     /**
      * Get teachers with PhD
      */
-    List<TeacherResponse> getTeachersWithPhD();
+    Page<TeacherResponse> getTeachersWithPhD(Pageable pageable);
+
+    /**
+     * Stream teachers with PhD to the consumer without materializing the full list
+     * @return Number of rows streamed
+     */
+    long streamTeachersWithPhD(Consumer<TeacherResponse> consumer);
 
     /**
      * Search teachers by keyword
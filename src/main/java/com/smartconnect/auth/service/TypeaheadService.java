@@ -0,0 +1,30 @@
+package com.smartconnect.auth.service;
+
+import com.smartconnect.auth.dto.response.TypeaheadSuggestion;
+import com.smartconnect.auth.model.enums.EntityType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service interface for people typeahead (students, teachers, admins)
+ * Served from a node-local in-memory index, not from the database
+ */
+public interface TypeaheadService {
+
+    /**
+     * Suggest people whose code or a name word starts with the query (accent-insensitive)
+     * An empty types set matches every profile type
+     */
+    List<TypeaheadSuggestion> suggest(String query, Set<EntityType> types, int limit);
+
+    /**
+     * Rebuild the index from the database
+     */
+    void rebuild();
+
+    /**
+     * Whether the initial load has completed
+     */
+    boolean isReady();
+}
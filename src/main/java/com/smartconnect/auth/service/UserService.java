@@ -1,5 +1,9 @@
 package com.smartconnect.auth.service;
 
+import com.smartconnect.auth.dto.request.BatchGetRequest;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.ChangeFeedResponse;
+import com.smartconnect.auth.dto.response.UserChangeResponse;
 import com.smartconnect.auth.dto.response.UserResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,12 +12,19 @@ public interface UserService {
 
     UserResponse getUserById(java.util.UUID id);
 
+    BatchGetResponse<UserResponse> getUsersBatch(BatchGetRequest request);
+
     UserResponse getUserByUsername(String username);
 
     UserResponse getUserByEmail(String email);
 
     Page<UserResponse> getAllActiveUsers(Pageable pageable);
 
+    /**
+     * Users created, updated or deleted after a watermark (null for a full sync), oldest first
+     */
+    ChangeFeedResponse<UserChangeResponse> getUserChanges(String since, int size);
+
     UserResponse updateUserProfile(java.util.UUID id, String fullName, String phone, String avatarUrl);
 
     void deactivateUser(java.util.UUID id);
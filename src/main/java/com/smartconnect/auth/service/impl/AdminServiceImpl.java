@@ -2,25 +2,47 @@ package com.smartconnect.auth.service.impl;
 
 import com.smartconnect.auth.dto.request.AdminCreateRequest;
 import com.smartconnect.auth.dto.request.AdminUpdateRequest;
+import com.smartconnect.auth.dto.request.BatchGetRequest;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.CursorPageResponse;
 import com.smartconnect.auth.dto.response.AdminResponse;
+import com.smartconnect.auth.dto.response.AdminSummaryResponse;
+import com.smartconnect.auth.event.ProfileChangedEvent;
+import com.smartconnect.auth.event.ProfileStatsChangedEvent;
 import com.smartconnect.auth.exception.DuplicateResourceException;
 import com.smartconnect.auth.exception.ProfileAlreadyExistsException;
 import com.smartconnect.auth.exception.ResourceNotFoundException;
 import com.smartconnect.auth.mapper.AdminMapper;
 import com.smartconnect.auth.model.entity.Admin;
+import com.smartconnect.auth.model.entity.BaseEntity;
 import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.EntityType;
 import com.smartconnect.auth.repository.AdminRepository;
 import com.smartconnect.auth.repository.UserRepository;
 import com.smartconnect.auth.service.AdminService;
+import com.smartconnect.auth.stats.StatsBucket;
+import com.smartconnect.auth.util.BatchLookup;
+import com.smartconnect.auth.util.EntityStreams;
+import com.smartconnect.auth.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +58,11 @@ public class AdminServiceImpl implements AdminService {
     private final AdminRepository adminRepository;
     private final UserRepository userRepository;
     private final AdminMapper adminMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    @Value("${app.export.clear-interval:500}")
+    private int streamClearInterval;
 
     @Override
     @Transactional
@@ -43,6 +70,7 @@ public class AdminServiceImpl implements AdminService {
         log.info("Creating admin profile for user ID: {}", request.getUserId());
 
         User user = userRepository.findById(request.getUserId())
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getUserId().toString()));
 
         if (adminRepository.existsByUserId(request.getUserId())) {
@@ -58,6 +86,9 @@ public class AdminServiceImpl implements AdminService {
 
         Admin savedAdmin = adminRepository.save(admin);
         log.info("Successfully created admin profile with ID: {}", savedAdmin.getId());
+        eventPublisher.publishEvent(ProfileChangedEvent.of(EntityType.ADMIN, ProfileChangedEvent.ChangeType.CREATED,
+                savedAdmin.getId(), user, savedAdmin.getAdminCode()));
+        eventPublisher.publishEvent(ProfileStatsChangedEvent.created(StatsBucket.of(savedAdmin)));
 
         return adminMapper.toResponse(savedAdmin);
     }
@@ -68,12 +99,17 @@ public class AdminServiceImpl implements AdminService {
         log.info("Updating admin profile with ID: {}", id);
 
         Admin admin = adminRepository.findById(id)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin", "id", id.toString()));
 
+        List<StatsBucket> statsBefore = StatsBucket.of(admin);
         adminMapper.updateEntityFromRequest(request, admin);
 
         Admin updatedAdmin = adminRepository.save(admin);
         log.info("Successfully updated admin profile with ID: {}", id);
+        eventPublisher.publishEvent(ProfileChangedEvent.of(EntityType.ADMIN, ProfileChangedEvent.ChangeType.UPDATED,
+                id, updatedAdmin.getUser(), updatedAdmin.getAdminCode()));
+        eventPublisher.publishEvent(ProfileStatsChangedEvent.updated(statsBefore, StatsBucket.of(updatedAdmin)));
 
         return adminMapper.toResponse(updatedAdmin);
     }
@@ -83,6 +119,7 @@ public class AdminServiceImpl implements AdminService {
         log.debug("Fetching admin by ID: {}", id);
 
         Admin admin = adminRepository.findById(id)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin", "id", id.toString()));
 
         return adminMapper.toResponse(admin);
@@ -92,12 +129,27 @@ public class AdminServiceImpl implements AdminService {
     public AdminResponse getAdminByCode(String adminCode) {
         log.debug("Fetching admin by code: {}", adminCode);
 
-        Admin admin = adminRepository.findByAdminCode(adminCode)
+        // Natural-id lookup: resolved through the admin code cache and the entity cache before hitting the database
+        Admin admin = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Admin.class)
+                .loadOptional(adminCode)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin", "adminCode", adminCode));
 
         return adminMapper.toResponse(admin);
     }
 
+    @Override
+    public BatchGetResponse<AdminResponse> getAdminsBatch(BatchGetRequest request) {
+        log.debug("Batch fetching admins");
+
+        BatchGetResponse<AdminResponse> response = BatchLookup.resolve(request.getIds(),
+                adminRepository::findAllWithUserByIdIn, Admin::getId, adminMapper::toResponse);
+        BatchLookup.merge(response, request.getCodes(),
+                adminRepository::findAllWithUserByAdminCodeIn, Admin::getAdminCode, adminMapper::toResponse);
+        return response;
+    }
+
     @Override
     public AdminResponse getAdminByUserId(UUID userId) {
         log.debug("Fetching admin by user ID: {}", userId);
@@ -117,12 +169,68 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
-    public List<AdminResponse> getAdminsByDepartment(String department) {
+    public Page<AdminResponse> getAdminsByDepartment(String department, Pageable pageable) {
         log.debug("Fetching admins by department: {}", department);
 
-        return adminRepository.findByDepartment(department).stream()
-                .map(adminMapper::toResponse)
-                .collect(Collectors.toList());
+        return adminRepository.findByDepartment(department, pageable)
+                .map(adminMapper::toResponse);
+    }
+
+    @Override
+    public long streamAdminsByDepartment(String department, Consumer<AdminResponse> consumer) {
+        log.debug("Streaming admins by department: {}", department);
+
+        return EntityStreams.forEachMapped(adminRepository.streamByDepartment(department),
+                adminMapper::toResponse, consumer, entityManager, streamClearInterval);
+    }
+
+    @Override
+    public Page<AdminSummaryResponse> getAdminSummaries(Pageable pageable) {
+        log.debug("Fetching admin summaries - page: {}", pageable.getPageNumber());
+
+        return adminRepository.findSummaries(pageable);
+    }
+
+    @Override
+    public Page<AdminSummaryResponse> getAdminSummariesByDepartment(String department, Pageable pageable) {
+        log.debug("Fetching admin summaries by department: {}", department);
+
+        return adminRepository.findSummariesByDepartment(department, pageable);
+    }
+
+    @Override
+    public AdminSummaryResponse getAdminSummaryById(UUID id) {
+        log.debug("Fetching admin summary by ID: {}", id);
+
+        return adminRepository.findSummaryById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Admin", "id", id.toString()));
+    }
+
+    @Override
+    public CursorPageResponse<AdminResponse> getAdminsCursor(String cursor, int size, boolean includeTotal) {
+        log.debug("Fetching admins after cursor: {} (size: {})", cursor, size);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        List<Admin> rows = adminRepository.findPageAfter(after.createdAt(), after.id(), Limit.of(pageSize + 1));
+
+        return CursorPageResponse.of(rows, pageSize, adminMapper::toResponse,
+                admin -> new KeysetCursor(admin.getCreatedAt(), admin.getId()),
+                includeTotal ? adminRepository.count() : null);
+    }
+
+    @Override
+    public CursorPageResponse<AdminResponse> getAdminsByDepartmentCursor(
+            String department, String cursor, int size, boolean includeTotal) {
+        log.debug("Fetching admins by department: {} after cursor: {} (size: {})", department, cursor, size);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        List<Admin> rows = adminRepository.findByDepartmentPageAfter(department, after.createdAt(), after.id(), Limit.of(pageSize + 1));
+
+        return CursorPageResponse.of(rows, pageSize, adminMapper::toResponse,
+                admin -> new KeysetCursor(admin.getCreatedAt(), admin.getId()),
+                includeTotal ? adminRepository.countByDepartment(department) : null);
     }
 
     @Override
@@ -135,12 +243,19 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
-    public List<AdminResponse> getActiveAdmins() {
+    public Page<AdminResponse> getActiveAdmins(Pageable pageable) {
         log.debug("Fetching active admins");
 
-        return adminRepository.findByIsActiveTrue().stream()
-                .map(adminMapper::toResponse)
-                .collect(Collectors.toList());
+        return adminRepository.findByIsActiveTrue(pageable)
+                .map(adminMapper::toResponse);
+    }
+
+    @Override
+    public long streamActiveAdmins(Consumer<AdminResponse> consumer) {
+        log.debug("Streaming active admins");
+
+        return EntityStreams.forEachMapped(adminRepository.streamByIsActiveTrue(),
+                adminMapper::toResponse, consumer, entityManager, streamClearInterval);
     }
 
     @Override
@@ -156,8 +271,18 @@ public class AdminServiceImpl implements AdminService {
     public Page<AdminResponse> searchAdmins(String keyword, Pageable pageable) {
         log.debug("Searching admins with keyword: {}", keyword);
 
-        return adminRepository.searchAdmins(keyword, pageable)
-                .map(adminMapper::toResponse);
+        // Rank and page on ids first, then load just that page with users fetched
+        Page<UUID> ids = adminRepository.searchAdminIds(keyword.trim(), pageable);
+        Map<UUID, Admin> admins = adminRepository.findAllWithUserByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Admin::getId, Function.identity()));
+
+        // Rows deleted between the two queries are left out rather than returned as null
+        List<AdminResponse> content = ids.getContent().stream()
+                .map(admins::get)
+                .filter(Objects::nonNull)
+                .map(adminMapper::toResponse)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
     }
 
     @Override
@@ -166,12 +291,16 @@ public class AdminServiceImpl implements AdminService {
         log.info("Deleting admin profile with ID: {}", id);
 
         Admin admin = adminRepository.findById(id)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin", "id", id.toString()));
 
         admin.setIsDeleted(true);
         adminRepository.save(admin);
 
         log.info("Successfully deleted admin profile with ID: {}", id);
+        eventPublisher.publishEvent(ProfileChangedEvent.of(EntityType.ADMIN, ProfileChangedEvent.ChangeType.DELETED,
+                id, admin.getUser(), admin.getAdminCode()));
+        eventPublisher.publishEvent(ProfileStatsChangedEvent.deleted(StatsBucket.of(admin)));
     }
 
     @Override
@@ -1,26 +1,40 @@
 package com.smartconnect.auth.service.impl;
 
 import com.smartconnect.auth.dto.response.AuditLogResponse;
+import com.smartconnect.auth.dto.response.NetworkActivityResponse;
+import com.smartconnect.auth.exception.BadRequestException;
 import com.smartconnect.auth.exception.ResourceNotFoundException;
 import com.smartconnect.auth.mapper.AuditLogMapper;
 import com.smartconnect.auth.model.entity.AuditLog;
-import com.smartconnect.auth.model.entity.User;
 import com.smartconnect.auth.model.enums.ActionType;
 import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.TextSearchMode;
 import com.smartconnect.auth.repository.AuditLogRepository;
-import com.smartconnect.auth.repository.UserRepository;
 import com.smartconnect.auth.service.AuditLogService;
+import com.smartconnect.auth.service.AuditStringDictionaryService;
+import com.smartconnect.auth.spool.AuditEventSpool;
+import com.smartconnect.auth.spool.SpooledAuditEvent;
+import com.smartconnect.auth.util.EntityStreams;
+import com.smartconnect.auth.util.IpAddressUtils;
+import com.smartconnect.auth.util.TextNormalizer;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -34,12 +48,21 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AuditLogServiceImpl implements AuditLogService {
 
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     private final AuditLogRepository auditLogRepository;
-    private final UserRepository userRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final Optional<AuditEventSpool> auditEventSpool;
     private final AuditLogMapper auditLogMapper;
+    private final AuditStringDictionaryService dictionaryService;
+    private final EntityManager entityManager;
+
+    @Value("${app.export.clear-interval:500}")
+    private int exportClearInterval;
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void createAuditLog(
             UUID userId,
             ActionType action,
@@ -61,10 +84,8 @@ public class AuditLogServiceImpl implements AuditLogService {
     ) {
         log.debug("Creating audit log for user: {}, action: {}", userId, action);
 
-        User user = userRepository.findById(userId).orElse(null);
-
-        AuditLog auditLog = AuditLog.builder()
-                .user(user)
+        SpooledAuditEvent event = SpooledAuditEvent.builder()
+                .userId(userId)
                 .action(action)
                 .entityType(entityType)
                 .entityId(entityId)
@@ -81,9 +102,16 @@ public class AuditLogServiceImpl implements AuditLogService {
                 .sessionId(sessionId)
                 .durationMs(durationMs)
                 .metadata(metadata)
+                .createdAt(LocalDateTime.now())
                 .build();
 
-        auditLogRepository.save(auditLog);
+        // Spool first when enabled so a slow database never blocks the caller
+        if (auditEventSpool.isPresent() && auditEventSpool.get().append(event)) {
+            log.debug("Audit log spooled");
+            return;
+        }
+
+        auditLogWriter.write(List.of(event));
         log.debug("Audit log created successfully");
     }
 
@@ -101,7 +129,7 @@ public class AuditLogServiceImpl implements AuditLogService {
     public Page<AuditLogResponse> getAllAuditLogs(Pageable pageable) {
         log.debug("Fetching all audit logs with pagination");
 
-        return auditLogRepository.findAll(pageable)
+        return withDictionary(auditLogRepository.findAll(pageable))
                 .map(auditLogMapper::toResponse);
     }
 
@@ -110,7 +138,7 @@ public class AuditLogServiceImpl implements AuditLogService {
         log.debug("Fetching audit logs by user ID: {}", userId);
         
         try {
-            return auditLogRepository.findByUser_Id(userId, pageable)
+            return withDictionary(auditLogRepository.findByUser_Id(userId, pageable))
                     .map(auditLogMapper::toResponse);
         } catch (Exception e) {
             log.error("Error fetching audit logs by user ID: {}", userId, e);
@@ -124,7 +152,7 @@ public class AuditLogServiceImpl implements AuditLogService {
         log.debug("Fetching audit logs by action: {}", action);
         
         try {
-            return auditLogRepository.findByAction(action.name(), pageable)
+            return withDictionary(auditLogRepository.findByAction(action.name(), pageable))
                     .map(auditLogMapper::toResponse);
         } catch (Exception e) {
             log.error("Error fetching audit logs by action: {}", action, e);
@@ -138,7 +166,7 @@ public class AuditLogServiceImpl implements AuditLogService {
         log.debug("Fetching audit logs by entity type: {}", entityType);
         
         try {
-            return auditLogRepository.findByEntityType(entityType.name(), pageable)
+            return withDictionary(auditLogRepository.findByEntityType(entityType.name(), pageable))
                     .map(auditLogMapper::toResponse);
         } catch (Exception e) {
             log.error("Error fetching audit logs by entity type: {}", entityType, e);
@@ -151,7 +179,7 @@ public class AuditLogServiceImpl implements AuditLogService {
     public List<AuditLogResponse> getAuditLogsByEntity(EntityType entityType, UUID entityId) {
         log.debug("Fetching audit logs by entity: {} - {}", entityType, entityId);
 
-        return auditLogRepository.findByEntityId(entityId).stream()
+        return withDictionary(auditLogRepository.findByEntityId(entityId)).stream()
                 .filter(log -> log.getEntityType() == entityType)
                 .map(auditLogMapper::toResponse)
                 .collect(Collectors.toList());
@@ -165,15 +193,162 @@ public class AuditLogServiceImpl implements AuditLogService {
     ) {
         log.debug("Fetching audit logs by date range: {} to {}", startDate, endDate);
 
-        return auditLogRepository.findByDateRange(startDate, endDate, pageable)
+        return withDictionary(auditLogRepository.findByDateRange(startDate, endDate, pageable))
+                .map(auditLogMapper::toResponse);
+    }
+
+    @Override
+    public long streamAuditLogs(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            ActionType action,
+            EntityType entityType,
+            UUID userId,
+            Consumer<AuditLogResponse> consumer
+    ) {
+        log.debug("Streaming audit logs from {} to {} (action: {}, entityType: {}, user: {})",
+                startDate, endDate, action, entityType, userId);
+
+        long count = EntityStreams.forEachMappedInChunks(
+                auditLogRepository.streamForExport(
+                        startDate,
+                        endDate,
+                        action != null ? action.name() : null,
+                        entityType != null ? entityType.name() : null,
+                        userId),
+                this::withDictionary,
+                auditLogMapper::toResponse,
+                consumer,
+                entityManager,
+                exportClearInterval);
+
+        log.debug("Streamed {} audit logs", count);
+        return count;
+    }
+
+    @Override
+    public Slice<AuditLogResponse> searchAuditLogs(
+            String text,
+            TextSearchMode mode,
+            ActionType action,
+            EntityType entityType,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable
+    ) {
+        log.debug("Searching audit logs: '{}' (mode: {}, action: {}, entityType: {})", text, mode, action, entityType);
+
+        if (text == null || text.isBlank()) {
+            throw new BadRequestException("Search text must not be blank");
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestException("startDate must not be after endDate");
+        }
+
+        TextSearchMode searchMode = mode != null ? mode : TextSearchMode.WORDS;
+        String prefixQuery = TextNormalizer.prefixTsQuery(text);
+        if (searchMode == TextSearchMode.PREFIX && prefixQuery.isEmpty()) {
+            throw new BadRequestException("Search text must contain at least one letter or digit");
+        }
+
+        return withDictionary(auditLogRepository.fullTextSearch(
+                        text.trim(),
+                        prefixQuery,
+                        searchMode.name(),
+                        startDate != null ? startDate : MIN_DATE,
+                        endDate != null ? endDate : MAX_DATE,
+                        action != null ? action.name() : null,
+                        entityType != null ? entityType.name() : null,
+                        pageable))
+                .map(auditLogMapper::toResponse);
+    }
+
+    @Override
+    public Slice<AuditLogResponse> getAuditLogsByNetwork(
+            String cidr,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable
+    ) {
+        log.debug("Fetching audit logs by network: {}", cidr);
+
+        if (!IpAddressUtils.isValidCidr(cidr)) {
+            throw new BadRequestException("Invalid network: " + cidr);
+        }
+
+        return withDictionary(auditLogRepository.findByNetwork(
+                        cidr.trim(),
+                        startDate != null ? startDate : MIN_DATE,
+                        endDate != null ? endDate : MAX_DATE,
+                        pageable))
                 .map(auditLogMapper::toResponse);
     }
 
+    @Override
+    public Slice<AuditLogResponse> getAuditLogsByIpRange(
+            String fromAddress,
+            String toAddress,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Pageable pageable
+    ) {
+        log.debug("Fetching audit logs by IP range: {} - {}", fromAddress, toAddress);
+
+        if (!IpAddressUtils.isValidAddress(fromAddress) || !IpAddressUtils.isValidAddress(toAddress)) {
+            throw new BadRequestException("Invalid IP range: " + fromAddress + " - " + toAddress);
+        }
+
+        return withDictionary(auditLogRepository.findByIpRange(
+                        fromAddress.trim(),
+                        toAddress.trim(),
+                        startDate != null ? startDate : MIN_DATE,
+                        endDate != null ? endDate : MAX_DATE,
+                        pageable))
+                .map(auditLogMapper::toResponse);
+    }
+
+    @Override
+    public List<NetworkActivityResponse> getTopNetworks(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            ActionType action,
+            int ipv4Prefix,
+            int ipv6Prefix,
+            int limit
+    ) {
+        log.debug("Fetching top networks from {} to {} (action: {}, /{} and /{})",
+                startDate, endDate, action, ipv4Prefix, ipv6Prefix);
+
+        if (ipv4Prefix < 0 || ipv4Prefix > 32 || ipv6Prefix < 0 || ipv6Prefix > 128) {
+            throw new BadRequestException("Prefix lengths must be 0-32 for IPv4 and 0-128 for IPv6");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("startDate must not be after endDate");
+        }
+
+        return auditLogRepository.findTopNetworks(
+                        startDate,
+                        endDate,
+                        action != null ? action.name() : null,
+                        ipv4Prefix,
+                        ipv6Prefix,
+                        limit).stream()
+                .map(activity -> NetworkActivityResponse.builder()
+                        .network(activity.getNetwork())
+                        .eventCount(activity.getEventCount())
+                        .distinctAddresses(activity.getDistinctAddresses())
+                        .distinctUsers(activity.getDistinctUsers())
+                        .firstSeen(activity.getFirstSeen())
+                        .lastSeen(activity.getLastSeen())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Page<AuditLogResponse> getSecurityAuditLogs(Pageable pageable) {
         log.debug("Fetching security audit logs");
 
-        return auditLogRepository.findSecurityLogs(pageable)
+        return withDictionary(auditLogRepository.findSecurityLogs(pageable))
                 .map(auditLogMapper::toResponse);
     }
 
@@ -181,7 +356,7 @@ public class AuditLogServiceImpl implements AuditLogService {
     public Page<AuditLogResponse> getFailedActions(Pageable pageable) {
         log.debug("Fetching failed actions");
 
-        return auditLogRepository.findErrorLogs(pageable)
+        return withDictionary(auditLogRepository.findErrorLogs(pageable))
                 .map(auditLogMapper::toResponse);
     }
 
@@ -204,5 +379,18 @@ public class AuditLogServiceImpl implements AuditLogService {
     public long countFailedActions() {
         return auditLogRepository.findErrorLogs(Pageable.unpaged()).getTotalElements();
     }
-}
 
+    /**
+     * Resolve the dictionary-encoded strings of a page or chunk with one query before mapping it
+     */
+    private <T extends Iterable<AuditLog>> T withDictionary(T auditLogs) {
+        List<Long> ids = new ArrayList<>();
+        for (AuditLog auditLog : auditLogs) {
+            ids.add(auditLog.getEntityNameId());
+            ids.add(auditLog.getUserAgentId());
+            ids.add(auditLog.getRequestUrlId());
+        }
+        dictionaryService.preload(ids);
+        return auditLogs;
+    }
+}
@@ -0,0 +1,94 @@
+package com.smartconnect.auth.service.impl;
+
+import com.smartconnect.auth.model.entity.AuditLog;
+import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.repository.AuditLogRepository;
+import com.smartconnect.auth.repository.UserRepository;
+import com.smartconnect.auth.service.AuditStringDictionaryService;
+import com.smartconnect.auth.spool.SpooledAuditEvent;
+import com.smartconnect.auth.util.IpAddressUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Persists audit events into audit_logs
+ * Used for direct writes and for replaying the local audit spool in batches
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogWriter {
+
+    private final AuditLogRepository auditLogRepository;
+    private final UserRepository userRepository;
+    private final AuditStringDictionaryService dictionaryService;
+
+    /**
+     * Insert a batch of audit events in a single transaction
+     * Users are resolved with one query; events for users that no longer exist are kept without a user
+     * Repeated strings are dictionary-encoded once per batch
+     */
+    @Transactional
+    public void write(List<SpooledAuditEvent> events) {
+        Set<UUID> userIds = events.stream()
+                .map(SpooledAuditEvent::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, User> users = userIds.isEmpty()
+                ? Collections.emptyMap()
+                : userRepository.findAllById(userIds).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Map<String, Long> dictionaryIds = dictionaryService.encodeAll(events.stream()
+                .flatMap(event -> Stream.of(event.getEntityName(), event.getUserAgent(), event.getRequestUrl()))
+                .toList());
+
+        List<AuditLog> auditLogs = events.stream()
+                .map(event -> toEntity(event,
+                        event.getUserId() != null ? users.get(event.getUserId()) : null,
+                        dictionaryIds))
+                .toList();
+
+        auditLogRepository.saveAll(auditLogs);
+        log.debug("Persisted {} audit log(s)", auditLogs.size());
+    }
+
+    private AuditLog toEntity(SpooledAuditEvent event, User user, Map<String, Long> dictionaryIds) {
+        return AuditLog.builder()
+                .user(user)
+                .action(event.getAction())
+                .entityType(event.getEntityType())
+                .entityId(event.getEntityId())
+                .entityNameId(dictionaryId(dictionaryIds, event.getEntityName()))
+                .oldValues(event.getOldValues())
+                .newValues(event.getNewValues())
+                .description(event.getDescription())
+                .ipAddress(IpAddressUtils.normalize(event.getIpAddress()))
+                .userAgentId(dictionaryId(dictionaryIds, event.getUserAgent()))
+                .requestMethod(event.getRequestMethod())
+                .requestUrlId(dictionaryId(dictionaryIds, event.getRequestUrl()))
+                .statusCode(event.getStatusCode())
+                .errorMessage(event.getErrorMessage())
+                .sessionId(event.getSessionId())
+                .durationMs(event.getDurationMs())
+                .metadata(event.getMetadata())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
+    private static Long dictionaryId(Map<String, Long> dictionaryIds, String value) {
+        return value != null ? dictionaryIds.get(value) : null;
+    }
+}
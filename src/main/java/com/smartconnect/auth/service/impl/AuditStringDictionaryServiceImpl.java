@@ -0,0 +1,164 @@
+package com.smartconnect.auth.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.smartconnect.auth.model.entity.AuditStringDictionaryEntry;
+import com.smartconnect.auth.repository.AuditStringDictionaryRepository;
+import com.smartconnect.auth.service.AuditStringDictionaryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementation of AuditStringDictionaryService
+ *
+ * Ids are the first 8 bytes of MD5(value), so they are computed locally and match
+ * audit_string_hash() in the database. Every insert reads back the value stored under the id;
+ * on a hash collision the next id is probed, so a row never decodes to a different string.
+ * Values already known to be stored are kept in an in-process LRU, which makes the common
+ * case (a handful of user agents) cost no query at all.
+ * Values are only added to the LRU after the inserting transaction commits, so a rolled back
+ * batch can never leave the cache pointing at a missing dictionary row.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class AuditStringDictionaryServiceImpl implements AuditStringDictionaryService {
+
+    // Same limit as the backfill in migration V10
+    private static final int MAX_PROBES = 8;
+
+    private final AuditStringDictionaryRepository dictionaryRepository;
+    private final Cache<String, Long> storedValues;
+    private final Cache<Long, String> valuesById;
+
+    public AuditStringDictionaryServiceImpl(
+            AuditStringDictionaryRepository dictionaryRepository,
+            @Value("${app.audit.dictionary.cache-size:10000}") long cacheSize) {
+        this.dictionaryRepository = dictionaryRepository;
+        this.storedValues = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        this.valuesById = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    @Override
+    @Transactional
+    public Map<String, Long> encodeAll(Collection<String> values) {
+        Map<String, Long> ids = new HashMap<>();
+        Map<String, Long> inserted = new HashMap<>();
+
+        for (String value : values) {
+            if (value == null || ids.containsKey(value)) {
+                continue;
+            }
+            Long id = storedValues.getIfPresent(value);
+            if (id == null) {
+                id = store(value);
+                inserted.put(value, id);
+            }
+            ids.put(value, id);
+        }
+
+        if (!inserted.isEmpty()) {
+            log.debug("Registered {} audit dictionary value(s)", inserted.size());
+            rememberAfterCommit(inserted);
+        }
+        return ids;
+    }
+
+    @Override
+    public void preload(Collection<Long> ids) {
+        Set<Long> missing = new HashSet<>();
+        for (Long id : ids) {
+            if (id != null && valuesById.getIfPresent(id) == null) {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        dictionaryRepository.findAllById(missing)
+                .forEach(entry -> valuesById.put(entry.getId(), entry.getValue()));
+    }
+
+    @Override
+    public String decode(Long id) {
+        if (id == null) {
+            return null;
+        }
+        String value = valuesById.getIfPresent(id);
+        if (value == null) {
+            value = dictionaryRepository.findById(id)
+                    .map(AuditStringDictionaryEntry::getValue)
+                    .orElse(null);
+            if (value != null) {
+                valuesById.put(id, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Insert a value (or find it stored) and return its id, probing past ids taken by other values
+     */
+    private long store(String value) {
+        long id = hash(value);
+        for (int probe = 0; probe < MAX_PROBES; probe++, id++) {
+            String stored = dictionaryRepository.insertIfAbsent(id, value);
+            if (stored == null) {
+                // Inserted concurrently by a transaction that committed after our statement began
+                stored = dictionaryRepository.findValueById(id).orElse(null);
+            }
+            if (value.equals(stored)) {
+                return id;
+            }
+            log.warn("Audit dictionary id {} is taken by another value, probing the next id", id);
+        }
+        throw new IllegalStateException("No free audit dictionary id after " + MAX_PROBES + " probes");
+    }
+
+    /**
+     * Dictionary id of a value: first 8 bytes of its MD5 digest (big-endian, signed)
+     * Must stay in sync with audit_string_hash() in migration V10
+     */
+    static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+
+    private void rememberAfterCommit(Map<String, Long> inserted) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(inserted);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(inserted);
+            }
+        });
+    }
+
+    private void remember(Map<String, Long> inserted) {
+        inserted.forEach((value, id) -> {
+            storedValues.put(value, id);
+            valuesById.put(id, value);
+        });
+    }
+}
@@ -4,6 +4,7 @@ import com.smartconnect.auth.dto.request.LoginRequest;
 import com.smartconnect.auth.dto.request.RefreshTokenRequest;
 import com.smartconnect.auth.dto.request.RegisterRequest;
 import com.smartconnect.auth.dto.response.AuthResponse;
+import com.smartconnect.auth.event.UserLifecycleEvent;
 import com.smartconnect.auth.exception.InvalidTokenException;
 import com.smartconnect.auth.exception.UnauthorizedException;
 import com.smartconnect.auth.exception.UserAlreadyExistsException;
@@ -11,12 +12,14 @@ import com.smartconnect.auth.model.entity.RefreshToken;
 import com.smartconnect.auth.model.entity.User;
 import com.smartconnect.auth.repository.RefreshTokenRepository;
 import com.smartconnect.auth.repository.UserRepository;
+import com.smartconnect.auth.security.ProfileOwnershipIndex;
 import com.smartconnect.auth.service.AuthService;
 import com.smartconnect.auth.service.JwtService;
 import com.smartconnect.auth.service.TokenBlacklistService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -39,6 +42,8 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final ProfileOwnershipIndex profileOwnershipIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.security.account-lock-threshold:5}")
     private int accountLockThreshold;
@@ -46,6 +51,9 @@ public class AuthServiceImpl implements AuthService {
     @Value("${app.security.account-lock-duration-minutes:30}")
     private int accountLockDurationMinutes;
 
+    @Value("${app.jwt.profile-claims.enabled:false}")
+    private boolean profileClaimsEnabled;
+
     @Override
     @Transactional
     public AuthResponse login(LoginRequest request) {
@@ -78,7 +86,7 @@ public class AuthServiceImpl implements AuthService {
 
         handleSuccessfulLogin(user);
 
-        String accessToken = jwtService.generateAccessToken(user);
+        String accessToken = issueAccessToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
 
         saveRefreshToken(user, refreshToken);
@@ -119,6 +127,7 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         user = userRepository.save(user);
+        eventPublisher.publishEvent(UserLifecycleEvent.of(UserLifecycleEvent.ChangeType.REGISTERED, user));
 
         String accessToken = jwtService.generateAccessToken(user);
         String refreshToken = jwtService.generateRefreshToken(user);
@@ -150,7 +159,7 @@ public class AuthServiceImpl implements AuthService {
             throw new UnauthorizedException("Account is inactive");
         }
 
-        String newAccessToken = jwtService.generateAccessToken(user);
+        String newAccessToken = issueAccessToken(user);
         String newRefreshToken = jwtService.generateRefreshToken(user);
 
         refreshToken.setRevoked(true);
@@ -184,6 +193,16 @@ public class AuthServiceImpl implements AuthService {
                 });
     }
 
+    /**
+     * Access token for an existing account; names the user's profiles when profile claims are enabled
+     */
+    private String issueAccessToken(User user) {
+        if (!profileClaimsEnabled) {
+            return jwtService.generateAccessToken(user);
+        }
+        return jwtService.generateAccessToken(user, profileOwnershipIndex.findProfileIds(user.getId()));
+    }
+
     private AuthResponse buildAuthResponse(User user, String accessToken, String refreshToken) {
         return AuthResponse.builder()
                 .accessToken(accessToken)
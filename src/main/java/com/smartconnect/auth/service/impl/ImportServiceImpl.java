@@ -0,0 +1,430 @@
+package com.smartconnect.auth.service.impl;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.smartconnect.auth.dto.request.StudentImportRow;
+import com.smartconnect.auth.dto.request.TeacherImportRow;
+import com.smartconnect.auth.dto.response.ImportJobResponse;
+import com.smartconnect.auth.event.ProfileChangedEvent;
+import com.smartconnect.auth.event.UserLifecycleEvent;
+import com.smartconnect.auth.exception.BadRequestException;
+import com.smartconnect.auth.exception.ResourceNotFoundException;
+import com.smartconnect.auth.importer.ImportJob;
+import com.smartconnect.auth.importer.ImportRowReader;
+import com.smartconnect.auth.importer.ImportRowReader.ParsedRow;
+import com.smartconnect.auth.importer.ImportedProfileRow;
+import com.smartconnect.auth.importer.PreparedImportRow;
+import com.smartconnect.auth.importer.ProfileImportWriter;
+import com.smartconnect.auth.model.enums.ActionType;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.model.enums.ExportFormat;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.service.AuditLogService;
+import com.smartconnect.auth.service.ImportService;
+import com.smartconnect.auth.service.ProfileStatsService;
+import com.smartconnect.auth.util.Constants;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ImportService
+ *
+ * Rows are processed in chunks. Per chunk: rows are bound and validated on the worker pool,
+ * duplicates are rejected set-based (against earlier rows of the file and with one IN query per
+ * unique column), the surviving passwords are BCrypt-hashed on the worker pool, and users plus
+ * profiles are written with JDBC batch inserts in one transaction. If a chunk fails as a whole
+ * (e.g. a concurrent insert took a username) it is retried row by row so only the offending rows are rejected.
+ */
+@Service
+@Slf4j
+public class ImportServiceImpl implements ImportService {
+
+    private final ProfileImportWriter importWriter;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final AuditLogService auditLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProfileStatsService profileStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final org.hibernate.Cache secondLevelCache;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    private final ExecutorService jobExecutor;
+    private final ExecutorService workerPool;
+    private final Cache<UUID, ImportJob> jobs;
+
+    public ImportServiceImpl(
+            ProfileImportWriter importWriter,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            ObjectMapper objectMapper,
+            AuditLogService auditLogService,
+            ApplicationEventPublisher eventPublisher,
+            ProfileStatsService profileStatsService,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${app.import.chunk-size:500}") int chunkSize,
+            @Value("${app.import.max-errors:1000}") int maxErrors,
+            @Value("${app.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${app.import.max-queued-jobs:10}") int maxQueuedJobs,
+            @Value("${app.import.worker-threads:0}") int workerThreads,
+            @Value("${app.import.job-retention-minutes:60}") long jobRetentionMinutes) {
+        this.importWriter = importWriter;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.auditLogService = auditLogService;
+        this.eventPublisher = eventPublisher;
+        this.profileStatsService = profileStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.jobExecutor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs), namedThreads("import-job-"));
+        this.workerPool = Executors.newFixedThreadPool(
+                workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors(),
+                namedThreads("import-worker-"));
+        this.jobs = CacheBuilder.newBuilder()
+                .expireAfterAccess(jobRetentionMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        workerPool.shutdownNow();
+    }
+
+    @Override
+    public ImportJobResponse startImport(
+            EntityType profileType,
+            ExportFormat format,
+            byte[] content,
+            UUID initiatedBy,
+            String ipAddress,
+            String userAgent,
+            String requestUrl
+    ) {
+        if (profileType != EntityType.STUDENT && profileType != EntityType.TEACHER) {
+            throw new BadRequestException("Import is only supported for students and teachers");
+        }
+        if (content == null || content.length == 0) {
+            throw new BadRequestException("Import file is empty");
+        }
+
+        ImportJob job = new ImportJob(profileType, format, initiatedBy, maxErrors);
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> runJob(job, content, ipAddress, userAgent, requestUrl));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            throw new BadRequestException("Too many imports in progress, try again later");
+        }
+
+        log.info("Queued {} import job {} ({} bytes, {})", profileType, job.getId(), content.length, format);
+        return job.toResponse();
+    }
+
+    @Override
+    public ImportJobResponse getImportJob(UUID jobId) {
+        ImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job", "id", jobId.toString());
+        }
+        return job.toResponse();
+    }
+
+    private void runJob(ImportJob job, byte[] content, String ipAddress, String userAgent, String requestUrl) {
+        long startedAt = System.currentTimeMillis();
+        job.start();
+        try {
+            List<ParsedRow> rows = ImportRowReader.read(new ByteArrayInputStream(content), job.getFormat(), objectMapper);
+            job.setTotalRows(rows.size());
+
+            Seen seen = new Seen();
+            for (List<ParsedRow> chunk : Lists.partition(rows, chunkSize)) {
+                if (job.getProfileType() == EntityType.STUDENT) {
+                    processChunk(job, chunk, StudentImportRow.class, "students", seen, importWriter::insertStudents);
+                } else {
+                    processChunk(job, chunk, TeacherImportRow.class, "teachers", seen, importWriter::insertTeachers);
+                }
+            }
+            job.complete();
+            log.info("Import job {} finished: {} imported, {} failed", job.getId(), job.getImportedRows(), job.getFailedRows());
+        } catch (Exception e) {
+            log.error("Import job {} failed", job.getId(), e);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            reconcileStats(job);
+            recordAudit(job, (int) (System.currentTimeMillis() - startedAt), ipAddress, userAgent, requestUrl);
+        }
+    }
+
+    private <R extends ImportedProfileRow> void processChunk(
+            ImportJob job,
+            List<ParsedRow> chunk,
+            Class<R> rowType,
+            String table,
+            Seen seen,
+            Consumer<List<PreparedImportRow<R>>> inserter) {
+        // 1. Bind and validate in parallel
+        List<BoundRow<R>> bound = inParallel(chunk, parsed -> bind(parsed, rowType));
+        List<BoundRow<R>> valid = new ArrayList<>(bound.size());
+        for (BoundRow<R> row : bound) {
+            if (row.error() != null) {
+                job.rowFailed(row.rowNumber(), row.row() != null ? row.row().getUsername() : null, row.error());
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // 2. Duplicates within the file, then against the database (one query per unique column)
+        valid = rejectDuplicatesInFile(job, valid, seen);
+        valid = rejectExisting(job, valid, table);
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // 3. Hash passwords in parallel
+        List<PreparedImportRow<R>> prepared = inParallel(valid, row -> new PreparedImportRow<>(
+                row.rowNumber(), row.row(), UUID.randomUUID(), UUID.randomUUID(),
+                passwordEncoder.encode(row.row().getPassword())));
+
+        // 4. Batch insert the chunk in one transaction, falling back to one row at a time
+        try {
+            insert(prepared, job.getProfileType(), inserter);
+            job.rowsImported(prepared.size());
+        } catch (DataAccessException e) {
+            log.warn("Import job {}: chunk of {} rows rejected ({}), retrying row by row",
+                    job.getId(), prepared.size(), e.getMostSpecificCause().getMessage());
+            for (PreparedImportRow<R> row : prepared) {
+                try {
+                    insert(List.of(row), job.getProfileType(), inserter);
+                    job.rowsImported(1);
+                } catch (DataIntegrityViolationException rowError) {
+                    job.rowFailed(row.rowNumber(), row.row().getUsername(), "Conflicts with an existing record");
+                } catch (DataAccessException rowError) {
+                    job.rowFailed(row.rowNumber(), row.row().getUsername(), "Could not be saved");
+                }
+            }
+        }
+    }
+
+    private <R extends ImportedProfileRow> void insert(
+            List<PreparedImportRow<R>> rows,
+            EntityType profileType,
+            Consumer<List<PreparedImportRow<R>>> inserter) {
+        UserRole role = profileType == EntityType.TEACHER ? UserRole.TEACHER : UserRole.STUDENT;
+        transactionTemplate.executeWithoutResult(status -> {
+            inserter.accept(rows);
+            // The outbox rows are written before commit, the rest is delivered after commit
+            // to the typeahead index and other read-side listeners
+            for (PreparedImportRow<R> row : rows) {
+                eventPublisher.publishEvent(new UserLifecycleEvent(
+                        UserLifecycleEvent.ChangeType.REGISTERED, row.userId(),
+                        row.row().getUsername(), row.row().getEmail(), role));
+                eventPublisher.publishEvent(new ProfileChangedEvent(
+                        profileType, ProfileChangedEvent.ChangeType.CREATED, row.profileId(), row.userId(),
+                        row.row().getProfileCode(), row.row().getFullName()));
+            }
+        });
+        // JDBC inserts bypass Hibernate, so cached "no profile for this user" results would otherwise go stale
+        secondLevelCache.evictQueryRegion(Constants.CACHE_REGION_PROFILES_BY_USER_ID);
+    }
+
+    /**
+     * Convert a raw row into the typed row and run bean validation
+     */
+    private <R extends ImportedProfileRow> BoundRow<R> bind(ParsedRow parsed, Class<R> rowType) {
+        if (parsed.error() != null) {
+            return new BoundRow<>(parsed.rowNumber(), null, parsed.error());
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        parsed.values().forEach((key, value) -> {
+            Object cleaned = value instanceof String text ? text.trim() : value;
+            if (cleaned != null && !"".equals(cleaned)) {
+                values.put(key, cleaned);
+            }
+        });
+
+        R row;
+        try {
+            row = objectMapper.convertValue(values, rowType);
+        } catch (IllegalArgumentException e) {
+            return new BoundRow<>(parsed.rowNumber(), null, describeBindingError(e));
+        }
+
+        Set<ConstraintViolation<R>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; "));
+            return new BoundRow<>(parsed.rowNumber(), row, message);
+        }
+        return new BoundRow<>(parsed.rowNumber(), row, null);
+    }
+
+    private static String describeBindingError(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException mappingException && !mappingException.getPath().isEmpty()) {
+            String field = mappingException.getPath().get(mappingException.getPath().size() - 1).getFieldName();
+            return field + ": invalid value";
+        }
+        return "Row could not be read";
+    }
+
+    private <R extends ImportedProfileRow> List<BoundRow<R>> rejectDuplicatesInFile(
+            ImportJob job, List<BoundRow<R>> rows, Seen seen) {
+        List<BoundRow<R>> unique = new ArrayList<>(rows.size());
+        for (BoundRow<R> bound : rows) {
+            R row = bound.row();
+            String duplicate = seen.usernames.contains(row.getUsername()) ? "username"
+                    : seen.emails.contains(row.getEmail()) ? "email"
+                    : seen.codes.contains(row.getProfileCode()) ? "code"
+                    : null;
+            if (duplicate != null) {
+                job.rowFailed(bound.rowNumber(), row.getUsername(), "Duplicate " + duplicate + " earlier in the file");
+                continue;
+            }
+            seen.usernames.add(row.getUsername());
+            seen.emails.add(row.getEmail());
+            seen.codes.add(row.getProfileCode());
+            unique.add(bound);
+        }
+        return unique;
+    }
+
+    private <R extends ImportedProfileRow> List<BoundRow<R>> rejectExisting(
+            ImportJob job, List<BoundRow<R>> rows, String table) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> usernames = importWriter.findExistingUsernames(
+                rows.stream().map(row -> row.row().getUsername()).toList());
+        Set<String> emails = importWriter.findExistingEmails(
+                rows.stream().map(row -> row.row().getEmail()).toList());
+        Set<String> codes = importWriter.findExistingCodes(table,
+                rows.stream().map(row -> row.row().getProfileCode()).toList());
+        if (usernames.isEmpty() && emails.isEmpty() && codes.isEmpty()) {
+            return rows;
+        }
+
+        List<BoundRow<R>> remaining = new ArrayList<>(rows.size());
+        for (BoundRow<R> bound : rows) {
+            R row = bound.row();
+            String existing = usernames.contains(row.getUsername()) ? "Username already exists"
+                    : emails.contains(row.getEmail()) ? "Email already exists"
+                    : codes.contains(row.getProfileCode()) ? "Code already exists"
+                    : null;
+            if (existing != null) {
+                job.rowFailed(bound.rowNumber(), row.getUsername(), existing);
+            } else {
+                remaining.add(bound);
+            }
+        }
+        return remaining;
+    }
+
+    private <T, U> List<U> inParallel(List<T> items, Function<T, U> task) {
+        List<CompletableFuture<U>> futures = items.stream()
+                .map(item -> CompletableFuture.supplyAsync(() -> task.apply(item), workerPool))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * JDBC inserts publish no stats deltas, so recount once the job's rows are in
+     */
+    private void reconcileStats(ImportJob job) {
+        if (job.getImportedRows() == 0) {
+            return;
+        }
+        try {
+            profileStatsService.reconcile();
+        } catch (Exception e) {
+            log.warn("Import job {}: stats reconciliation deferred: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private void recordAudit(ImportJob job, int durationMs, String ipAddress, String userAgent, String requestUrl) {
+        String table = job.getProfileType() == EntityType.STUDENT ? "students" : "teachers";
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("jobId", job.getId().toString());
+        metadata.put("format", job.getFormat().name());
+        metadata.put("totalRows", job.getTotalRows());
+        metadata.put("importedRows", job.getImportedRows());
+        metadata.put("failedRows", job.getFailedRows());
+        try {
+            auditLogService.createAuditLog(
+                    job.getInitiatedBy(), ActionType.IMPORT, job.getProfileType(), null, table,
+                    null, null, "Imported " + job.getImportedRows() + " of " + job.getTotalRows() + " " + table,
+                    ipAddress, userAgent, "POST", requestUrl, null,
+                    job.getFailureMessage(), null, durationMs, metadata);
+        } catch (Exception e) {
+            log.warn("Could not record audit log for import job {}", job.getId(), e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record BoundRow<R>(int rowNumber, R row, String error) {
+    }
+
+    /**
+     * Unique values already taken by earlier rows of the same file
+     */
+    private static final class Seen {
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        private final Set<String> codes = new HashSet<>();
+    }
+}
@@ -0,0 +1,110 @@
+package com.smartconnect.auth.service.impl;
+
+import com.smartconnect.auth.security.ExpiringTokenSet;
+import com.smartconnect.auth.service.JwtService;
+import com.smartconnect.auth.service.TokenBlacklistService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Token Blacklist Service kept in process memory, for single-node installs and tests without Redis
+ *
+ * Selected with app.security.blacklist.store=memory. Revocations are only seen by this instance
+ * and are lost on restart unless app.security.blacklist.memory.snapshot-path is set, in which case
+ * they are written there periodically and on shutdown and reloaded at startup. Nothing here touches
+ * Redis: the revocation stream only exists with the redis store, so resource servers validating
+ * tokens locally are not told about revocations made in this mode.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.security.blacklist.store", havingValue = "memory")
+public class InMemoryTokenBlacklistServiceImpl implements TokenBlacklistService {
+
+    private final JwtService jwtService;
+    private final ExpiringTokenSet tokens = new ExpiringTokenSet(Instant.now().getEpochSecond());
+    private final Path snapshotPath;
+
+    public InMemoryTokenBlacklistServiceImpl(
+            JwtService jwtService,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.blacklist.memory.snapshot-path:}") String snapshotPath) {
+        this.jwtService = jwtService;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        Gauge.builder("token.blacklist.entries", tokens, ExpiringTokenSet::size)
+                .description("Revoked, unexpired tokens held in memory")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void restoreSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+        try {
+            log.info("Restored {} blacklisted token(s) from {}", tokens.readSnapshot(snapshotPath), snapshotPath);
+        } catch (IOException e) {
+            log.error("Could not restore token blacklist snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    @Override
+    public void blacklistToken(String token) {
+        try {
+            Date expiration = jwtService.getExpirationDateFromToken(token);
+            long expiresAt = (expiration.getTime() + 999) / 1000;
+
+            if (tokens.add(token, expiresAt)) {
+                log.debug("Token added to in-memory blacklist until {}", expiresAt);
+            }
+        } catch (Exception e) {
+            log.error("Error blacklisting token: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isTokenBlacklisted(String token) {
+        return tokens.contains(token);
+    }
+
+    @Override
+    public void removeFromBlacklist(String token) {
+        if (tokens.remove(token)) {
+            log.debug("Token removed from in-memory blacklist");
+        }
+    }
+
+    /**
+     * Drop tokens that have expired; called every second by the scheduler
+     */
+    public int expireTokens() {
+        return tokens.expire(Instant.now().getEpochSecond());
+    }
+
+    /**
+     * Write the snapshot file if one is configured
+     */
+    @PreDestroy
+    public void writeSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            int written = tokens.writeSnapshot(snapshotPath);
+            log.debug("Wrote {} blacklisted token(s) to {}", written, snapshotPath);
+        } catch (IOException e) {
+            log.error("Could not write token blacklist snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+}
@@ -1,18 +1,20 @@
 package com.smartconnect.auth.service.impl;
 
 import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.security.JwtKeys;
 import com.smartconnect.auth.service.JwtService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.ProtectedHeader;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -20,13 +22,14 @@ import java.util.function.Function;
 
 /**
  * JWT Service implementation
+ * Tokens are signed with RS256 by {@link JwtKeys}; the kid header picks the verification key.
  */
 @Slf4j
 @Service
 public class JwtServiceImpl implements JwtService {
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
+    private final JwtKeys jwtKeys;
+    private final JwtParser parser;
 
     @Value("${app.jwt.access-token-expiration}")
     private long accessTokenExpiration;
@@ -34,12 +37,31 @@ public class JwtServiceImpl implements JwtService {
     @Value("${app.jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
+    public JwtServiceImpl(JwtKeys jwtKeys) {
+        this.jwtKeys = jwtKeys;
+        this.parser = Jwts.parser()
+                .keyLocator(header -> jwtKeys.verificationKey(
+                        header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null))
+                .build();
+    }
+
     @Override
     public String generateAccessToken(User user) {
         Map<String, Object> claims = createAccessTokenClaims(user);
         return generateToken(claims, user.getUsername(), accessTokenExpiration);
     }
 
+    @Override
+    public String generateAccessToken(User user, Map<EntityType, UUID> profileIds) {
+        Map<String, Object> claims = createAccessTokenClaims(user);
+        if (!profileIds.isEmpty()) {
+            Map<String, String> profiles = new HashMap<>();
+            profileIds.forEach((type, id) -> profiles.put(type.name(), id.toString()));
+            claims.put(CLAIM_PROFILES, profiles);
+        }
+        return generateToken(claims, user.getUsername(), accessTokenExpiration);
+    }
+
     @Override
     public String generateRefreshToken(User user) {
         Map<String, Object> claims = createRefreshTokenClaims(user);
@@ -53,11 +75,12 @@ public class JwtServiceImpl implements JwtService {
         claims.put(CLAIM_NONCE, UUID.randomUUID().toString());
 
         return Jwts.builder()
+                .header().keyId(jwtKeys.getSigningKeyId()).and()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(jwtKeys.getSigningKey(), Jwts.SIG.RS256)
                 .compact();
     }
 
@@ -94,6 +117,18 @@ public class JwtServiceImpl implements JwtService {
         return claims.get(CLAIM_ROLE, String.class);
     }
 
+    @Override
+    public Map<EntityType, UUID> getProfileIdsFromToken(String token) {
+        Claims claims = extractAllClaims(token);
+        Map<?, ?> profiles = claims.get(CLAIM_PROFILES, Map.class);
+        if (profiles == null || profiles.isEmpty()) {
+            return Map.of();
+        }
+        Map<EntityType, UUID> profileIds = new EnumMap<>(EntityType.class);
+        profiles.forEach((type, id) -> profileIds.put(EntityType.valueOf(type.toString()), UUID.fromString(id.toString())));
+        return profileIds;
+    }
+
     @Override
     public Date getExpirationDateFromToken(String token) {
         return extractClaim(token, Claims::getExpiration);
@@ -106,10 +141,7 @@ public class JwtServiceImpl implements JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload();
     }
 
@@ -128,11 +160,6 @@ public class JwtServiceImpl implements JwtService {
         return getExpirationDateFromToken(token).before(new Date());
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     @Override
     public long getAccessTokenExpiration() {
         return accessTokenExpiration;
@@ -0,0 +1,116 @@
+package com.smartconnect.auth.service.impl;
+
+import com.smartconnect.auth.dto.response.StatsSummaryResponse;
+import com.smartconnect.auth.event.ProfileStatsChangedEvent;
+import com.smartconnect.auth.exception.ServiceUnavailableException;
+import com.smartconnect.auth.model.enums.StatsDimension;
+import com.smartconnect.auth.repository.ProfileStatsRepository;
+import com.smartconnect.auth.service.ProfileStatsService;
+import com.smartconnect.auth.stats.ProfileStatsCounters;
+import com.smartconnect.auth.stats.StatsBucket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of ProfileStatsService
+ *
+ * Counters move with every committed ProfileStatsChangedEvent, so the summary never touches the
+ * database. Anything that changes profiles without publishing the event (bulk imports, manual SQL)
+ * is picked up by the periodic reconciliation, which recounts everything with one grouped query.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileStatsServiceImpl implements ProfileStatsService {
+
+    private static final long COLD_START_RETRY_MS = 5_000;
+
+    private final ProfileStatsRepository profileStatsRepository;
+    private final ProfileStatsCounters counters = new ProfileStatsCounters();
+
+    private final Object coldStartLock = new Object();
+
+    private volatile LocalDateTime reconciledAt;
+    private volatile long coldStartRetryAt;
+
+    @Override
+    public StatsSummaryResponse getSummary() {
+        if (reconciledAt == null) {
+            loadOnColdStart();
+        }
+        if (reconciledAt == null) {
+            throw new ServiceUnavailableException("Profile statistics are still loading, retry shortly");
+        }
+        return StatsSummaryResponse.builder()
+                .totalStudents(total(StatsDimension.STUDENTS_BY_STATUS))
+                .studentsByStatus(counters.snapshot(StatsDimension.STUDENTS_BY_STATUS))
+                .studentsByMajor(counters.snapshot(StatsDimension.STUDENTS_BY_MAJOR))
+                .studentGpaDistribution(counters.snapshot(StatsDimension.STUDENTS_BY_GPA))
+                .studentsByAdmissionYear(counters.snapshot(StatsDimension.STUDENTS_BY_ADMISSION_YEAR))
+                .totalTeachers(total(StatsDimension.TEACHERS_BY_ACTIVE))
+                .activeTeachers(counters.get(StatsDimension.TEACHERS_BY_ACTIVE, Boolean.TRUE.toString()))
+                .teachersByFaculty(counters.snapshot(StatsDimension.TEACHERS_BY_FACULTY))
+                .totalAdmins(total(StatsDimension.ADMINS_BY_ACTIVE))
+                .activeAdmins(counters.get(StatsDimension.ADMINS_BY_ACTIVE, Boolean.TRUE.toString()))
+                .adminsByDepartment(counters.snapshot(StatsDimension.ADMINS_BY_DEPARTMENT))
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @Override
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+
+        Map<StatsBucket, Long> counts = new HashMap<>();
+        counters.startRecording();
+        try {
+            for (ProfileStatsRepository.BucketCount row : profileStatsRepository.countAllBuckets()) {
+                counts.put(new StatsBucket(StatsDimension.valueOf(row.getDimension()), row.getBucketKey()), row.getTotal());
+            }
+        } catch (RuntimeException e) {
+            counters.stopRecording();
+            throw e;
+        }
+
+        int drifted = counters.replace(counts);
+        if (drifted > 0 && reconciledAt != null) {
+            log.warn("Profile stats reconciliation corrected {} drifted bucket(s)", drifted);
+        }
+        reconciledAt = LocalDateTime.now();
+        log.debug("Profile stats reconciled: {} buckets in {} ms", counts.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    public void onProfileStatsChanged(ProfileStatsChangedEvent event) {
+        counters.apply(event.removed(), event.added());
+    }
+
+    /**
+     * Single-flight initial load: concurrent callers wait for one query instead of each running it,
+     * and after a failure the database is not asked again until the retry delay has passed
+     */
+    private void loadOnColdStart() {
+        synchronized (coldStartLock) {
+            if (reconciledAt != null || System.currentTimeMillis() < coldStartRetryAt) {
+                return;
+            }
+            try {
+                reconcile();
+            } catch (DataAccessException e) {
+                coldStartRetryAt = System.currentTimeMillis() + COLD_START_RETRY_MS;
+                log.error("Failed to load profile stats", e);
+            }
+        }
+    }
+
+    private long total(StatsDimension dimension) {
+        return counters.snapshot(dimension).values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -1,28 +1,55 @@
 package com.smartconnect.auth.service.impl;
 
+import com.smartconnect.auth.dto.request.BatchGetRequest;
 import com.smartconnect.auth.dto.request.StudentCreateRequest;
 import com.smartconnect.auth.dto.request.StudentUpdateRequest;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.ChangeFeedResponse;
+import com.smartconnect.auth.dto.response.CursorPageResponse;
+import com.smartconnect.auth.dto.response.StudentChangeResponse;
 import com.smartconnect.auth.dto.response.StudentResponse;
+import com.smartconnect.auth.dto.response.StudentSummaryResponse;
+import com.smartconnect.auth.event.ProfileChangedEvent;
+import com.smartconnect.auth.event.ProfileStatsChangedEvent;
 import com.smartconnect.auth.exception.DuplicateResourceException;
 import com.smartconnect.auth.exception.ProfileAlreadyExistsException;
 import com.smartconnect.auth.exception.ResourceNotFoundException;
 import com.smartconnect.auth.mapper.StudentMapper;
+import com.smartconnect.auth.model.entity.BaseEntity;
 import com.smartconnect.auth.model.entity.Student;
 import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.EntityType;
 import com.smartconnect.auth.model.enums.StudentStatus;
 import com.smartconnect.auth.repository.StudentRepository;
 import com.smartconnect.auth.repository.UserRepository;
 import com.smartconnect.auth.service.StudentService;
+import com.smartconnect.auth.stats.StatsBucket;
+import com.smartconnect.auth.util.BatchLookup;
+import com.smartconnect.auth.util.ChangeFeedCursor;
+import com.smartconnect.auth.util.EntityStreams;
+import com.smartconnect.auth.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of StudentService
@@ -39,6 +66,14 @@ public class StudentServiceImpl implements StudentService {
     private final StudentRepository studentRepository;
     private final UserRepository userRepository;
     private final StudentMapper studentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    @Value("${app.export.clear-interval:500}")
+    private int streamClearInterval;
+
+    @Value("${app.sync.change-feed.settle-seconds:30}")
+    private int changeFeedSettleSeconds;
 
     @Override
     @Transactional
@@ -47,6 +82,7 @@ public class StudentServiceImpl implements StudentService {
 
         // Validate user exists
         User user = userRepository.findById(request.getUserId())
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getUserId().toString()));
 
         // Check if user already has a student profile
@@ -65,6 +101,9 @@ public class StudentServiceImpl implements StudentService {
 
         Student savedStudent = studentRepository.save(student);
         log.info("Successfully created student profile with ID: {}", savedStudent.getId());
+        eventPublisher.publishEvent(ProfileChangedEvent.of(EntityType.STUDENT, ProfileChangedEvent.ChangeType.CREATED,
+                savedStudent.getId(), user, savedStudent.getStudentCode()));
+        eventPublisher.publishEvent(ProfileStatsChangedEvent.created(StatsBucket.of(savedStudent)));
 
         return studentMapper.toResponse(savedStudent);
     }
@@ -75,13 +114,18 @@ public class StudentServiceImpl implements StudentService {
         log.info("Updating student profile with ID: {}", id);
 
         Student student = studentRepository.findById(id)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id.toString()));
 
+        List<StatsBucket> statsBefore = StatsBucket.of(student);
         // Update using mapper (null values ignored)
         studentMapper.updateEntityFromRequest(request, student);
 
         Student updatedStudent = studentRepository.save(student);
         log.info("Successfully updated student profile with ID: {}", id);
+        eventPublisher.publishEvent(ProfileChangedEvent.of(EntityType.STUDENT, ProfileChangedEvent.ChangeType.UPDATED,
+                id, updatedStudent.getUser(), updatedStudent.getStudentCode()));
+        eventPublisher.publishEvent(ProfileStatsChangedEvent.updated(statsBefore, StatsBucket.of(updatedStudent)));
 
         return studentMapper.toResponse(updatedStudent);
     }
@@ -100,12 +144,27 @@ public class StudentServiceImpl implements StudentService {
     public StudentResponse getStudentByCode(String studentCode) {
         log.debug("Fetching student by code: {}", studentCode);
 
-        Student student = studentRepository.findByStudentCode(studentCode)
+        // Natural-id lookup: resolved through the student code cache and the entity cache before hitting the database
+        Student student = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Student.class)
+                .loadOptional(studentCode)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "studentCode", studentCode));
 
         return studentMapper.toResponse(student);
     }
 
+    @Override
+    public BatchGetResponse<StudentResponse> getStudentsBatch(BatchGetRequest request) {
+        log.debug("Batch fetching students");
+
+        BatchGetResponse<StudentResponse> response = BatchLookup.resolve(request.getIds(),
+                studentRepository::findAllWithUserByIdIn, Student::getId, studentMapper::toResponse);
+        BatchLookup.merge(response, request.getCodes(),
+                studentRepository::findAllWithUserByStudentCodeIn, Student::getStudentCode, studentMapper::toResponse);
+        return response;
+    }
+
     @Override
     public StudentResponse getStudentByUserId(UUID userId) {
         log.debug("Fetching student by user ID: {}", userId);
@@ -134,38 +193,146 @@ public class StudentServiceImpl implements StudentService {
     }
 
     @Override
-    public List<StudentResponse> getStudentsByStatus(StudentStatus status) {
+    public Page<StudentSummaryResponse> getStudentSummaries(Pageable pageable) {
+        log.debug("Fetching student summaries - page: {}", pageable.getPageNumber());
+
+        return studentRepository.findSummaries(pageable);
+    }
+
+    @Override
+    public Page<StudentSummaryResponse> getStudentSummariesByMajor(UUID majorId, Pageable pageable) {
+        log.debug("Fetching student summaries by major: {}", majorId);
+
+        return studentRepository.findSummariesByMajor(majorId, pageable);
+    }
+
+    @Override
+    public StudentSummaryResponse getStudentSummaryById(UUID id) {
+        log.debug("Fetching student summary by ID: {}", id);
+
+        return studentRepository.findSummaryById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id.toString()));
+    }
+
+    @Override
+    public long exportRoster(UUID majorId, Integer admissionYear, Consumer<StudentSummaryResponse> consumer) {
+        log.debug("Exporting student roster (major: {}, admission year: {})", majorId, admissionYear);
+
+        long count = 0;
+        try (Stream<StudentSummaryResponse> rows = studentRepository.streamRoster(majorId, admissionYear)) {
+            Iterator<StudentSummaryResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public CursorPageResponse<StudentResponse> getStudentsCursor(String cursor, int size, boolean includeTotal) {
+        log.debug("Fetching students after cursor: {} (size: {})", cursor, size);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        List<Student> rows = studentRepository.findPageAfter(after.createdAt(), after.id(), Limit.of(pageSize + 1));
+
+        return CursorPageResponse.of(rows, pageSize, studentMapper::toResponse,
+                student -> new KeysetCursor(student.getCreatedAt(), student.getId()),
+                includeTotal ? studentRepository.count() : null);
+    }
+
+    @Override
+    public ChangeFeedResponse<StudentChangeResponse> getStudentChanges(String since, int size) {
+        log.debug("Fetching student changes since: {} (size: {})", since, size);
+
+        ChangeFeedCursor after = ChangeFeedCursor.decode(since);
+        int pageSize = ChangeFeedCursor.pageSize(size);
+        List<StudentRepository.StudentChange> rows = studentRepository.findChangesSince(
+                after.updatedAt(), after.id(), changeFeedSettleSeconds, pageSize + 1);
+
+        return ChangeFeedResponse.of(rows, pageSize, after, studentMapper::toChangeResponse,
+                change -> new ChangeFeedCursor(change.getUpdatedAt(), change.getId()));
+    }
+
+    @Override
+    public CursorPageResponse<StudentResponse> getStudentsByMajorCursor(
+            UUID majorId, String cursor, int size, boolean includeTotal) {
+        log.debug("Fetching students by major ID: {} after cursor: {} (size: {})", majorId, cursor, size);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        List<Student> rows = studentRepository.findByMajorPageAfter(majorId, after.createdAt(), after.id(), Limit.of(pageSize + 1));
+
+        return CursorPageResponse.of(rows, pageSize, studentMapper::toResponse,
+                student -> new KeysetCursor(student.getCreatedAt(), student.getId()),
+                includeTotal ? studentRepository.countByMajorId(majorId) : null);
+    }
+
+    @Override
+    public Page<StudentResponse> getStudentsByStatus(StudentStatus status, Pageable pageable) {
         log.debug("Fetching students by status: {}", status);
 
-        return studentRepository.findByStatus(status).stream()
-                .map(studentMapper::toResponse)
-                .collect(Collectors.toList());
+        return studentRepository.findByStatus(status, pageable)
+                .map(studentMapper::toResponse);
     }
 
     @Override
-    public List<StudentResponse> getStudentsByAdmissionYear(Integer admissionYear) {
+    public long streamStudentsByStatus(StudentStatus status, Consumer<StudentResponse> consumer) {
+        log.debug("Streaming students by status: {}", status);
+
+        return EntityStreams.forEachMapped(studentRepository.streamByStatus(status),
+                studentMapper::toResponse, consumer, entityManager, streamClearInterval);
+    }
+
+    @Override
+    public Page<StudentResponse> getStudentsByAdmissionYear(Integer admissionYear, Pageable pageable) {
         log.debug("Fetching students by admission year: {}", admissionYear);
 
-        return studentRepository.findByAdmissionYear(admissionYear).stream()
-                .map(studentMapper::toResponse)
-                .collect(Collectors.toList());
+        return studentRepository.findByAdmissionYear(admissionYear, pageable)
+                .map(studentMapper::toResponse);
     }
 
     @Override
-    public List<StudentResponse> getHonorsStudents() {
+    public long streamStudentsByAdmissionYear(Integer admissionYear, Consumer<StudentResponse> consumer) {
+        log.debug("Streaming students by admission year: {}", admissionYear);
+
+        return EntityStreams.forEachMapped(studentRepository.streamByAdmissionYear(admissionYear),
+                studentMapper::toResponse, consumer, entityManager, streamClearInterval);
+    }
+
+    @Override
+    public Page<StudentResponse> getHonorsStudents(Pageable pageable) {
         log.debug("Fetching honors students (GPA >= 3.5)");
 
-        return studentRepository.findHonorsStudents().stream()
-                .map(studentMapper::toResponse)
-                .collect(Collectors.toList());
+        return studentRepository.findHonorsStudents(pageable)
+                .map(studentMapper::toResponse);
+    }
+
+    @Override
+    public long streamHonorsStudents(Consumer<StudentResponse> consumer) {
+        log.debug("Streaming honors students (GPA >= 3.5)");
+
+        return EntityStreams.forEachMapped(studentRepository.streamHonorsStudents(),
+                studentMapper::toResponse, consumer, entityManager, streamClearInterval);
     }
 
     @Override
     public Page<StudentResponse> searchStudents(String keyword, Pageable pageable) {
         log.debug("Searching students with keyword: {}", keyword);
 
-        return studentRepository.searchStudents(keyword, pageable)
-                .map(studentMapper::toResponse);
+        // Rank and page on ids first, then load just that page with users fetched
+        Page<UUID> ids = studentRepository.searchStudentIds(keyword.trim(), pageable);
+        Map<UUID, Student> students = studentRepository.findAllWithUserByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        // Rows deleted between the two queries are left out rather than returned as null
+        List<StudentResponse> content = ids.getContent().stream()
+                .map(students::get)
+                .filter(Objects::nonNull)
+                .map(studentMapper::toResponse)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
     }
 
     @Override
@@ -174,6 +341,7 @@ public class StudentServiceImpl implements StudentService {
         log.info("Deleting student profile with ID: {}", id);
 
         Student student = studentRepository.findById(id)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id.toString()));
 
         // Soft delete
@@ -181,6 +349,9 @@ public class StudentServiceImpl implements StudentService {
         studentRepository.save(student);
 
         log.info("Successfully deleted student profile with ID: {}", id);
+        eventPublisher.publishEvent(ProfileChangedEvent.of(EntityType.STUDENT, ProfileChangedEvent.ChangeType.DELETED,
+                id, student.getUser(), student.getStudentCode()));
+        eventPublisher.publishEvent(ProfileStatsChangedEvent.deleted(StatsBucket.of(student)));
     }
 
     @Override
@@ -1,27 +1,52 @@
 package com.smartconnect.auth.service.impl;
 
+import com.smartconnect.auth.dto.request.BatchGetRequest;
 import com.smartconnect.auth.dto.request.TeacherCreateRequest;
 import com.smartconnect.auth.dto.request.TeacherUpdateRequest;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.CursorPageResponse;
 import com.smartconnect.auth.dto.response.TeacherResponse;
+import com.smartconnect.auth.dto.response.TeacherSummaryResponse;
+import com.smartconnect.auth.event.ProfileChangedEvent;
+import com.smartconnect.auth.event.ProfileStatsChangedEvent;
 import com.smartconnect.auth.exception.DuplicateResourceException;
 import com.smartconnect.auth.exception.ProfileAlreadyExistsException;
 import com.smartconnect.auth.exception.ResourceNotFoundException;
 import com.smartconnect.auth.mapper.TeacherMapper;
+import com.smartconnect.auth.model.entity.BaseEntity;
 import com.smartconnect.auth.model.entity.Teacher;
 import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.EntityType;
 import com.smartconnect.auth.repository.TeacherRepository;
 import com.smartconnect.auth.repository.UserRepository;
 import com.smartconnect.auth.service.TeacherService;
+import com.smartconnect.auth.stats.StatsBucket;
+import com.smartconnect.auth.util.BatchLookup;
+import com.smartconnect.auth.util.EntityStreams;
+import com.smartconnect.auth.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of TeacherService
@@ -36,6 +61,11 @@ public class TeacherServiceImpl implements TeacherService {
     private final TeacherRepository teacherRepository;
     private final UserRepository userRepository;
     private final TeacherMapper teacherMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    @Value("${app.export.clear-interval:500}")
+    private int streamClearInterval;
 
     @Override
     @Transactional
@@ -43,6 +73,7 @@ public class TeacherServiceImpl implements TeacherService {
         log.info("Creating teacher profile for user ID: {}", request.getUserId());
 
         User user = userRepository.findById(request.getUserId())
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getUserId().toString()));
 
         if (teacherRepository.existsByUserId(request.getUserId())) {
@@ -63,6 +94,9 @@ public class TeacherServiceImpl implements TeacherService {
 
         Teacher savedTeacher = teacherRepository.save(teacher);
         log.info("Successfully created teacher profile with ID: {}", savedTeacher.getId());
+        eventPublisher.publishEvent(ProfileChangedEvent.of(EntityType.TEACHER, ProfileChangedEvent.ChangeType.CREATED,
+                savedTeacher.getId(), user, savedTeacher.getTeacherCode()));
+        eventPublisher.publishEvent(ProfileStatsChangedEvent.created(StatsBucket.of(savedTeacher)));
 
         return teacherMapper.toResponse(savedTeacher);
     }
@@ -73,12 +107,17 @@ public class TeacherServiceImpl implements TeacherService {
         log.info("Updating teacher profile with ID: {}", id);
 
         Teacher teacher = teacherRepository.findById(id)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Teacher", "id", id.toString()));
 
+        List<StatsBucket> statsBefore = StatsBucket.of(teacher);
         teacherMapper.updateEntityFromRequest(request, teacher);
 
         Teacher updatedTeacher = teacherRepository.save(teacher);
         log.info("Successfully updated teacher profile with ID: {}", id);
+        eventPublisher.publishEvent(ProfileChangedEvent.of(EntityType.TEACHER, ProfileChangedEvent.ChangeType.UPDATED,
+                id, updatedTeacher.getUser(), updatedTeacher.getTeacherCode()));
+        eventPublisher.publishEvent(ProfileStatsChangedEvent.updated(statsBefore, StatsBucket.of(updatedTeacher)));
 
         return teacherMapper.toResponse(updatedTeacher);
     }
@@ -88,6 +127,7 @@ public class TeacherServiceImpl implements TeacherService {
         log.debug("Fetching teacher by ID: {}", id);
 
         Teacher teacher = teacherRepository.findById(id)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Teacher", "id", id.toString()));
 
         return teacherMapper.toResponse(teacher);
@@ -97,12 +137,27 @@ public class TeacherServiceImpl implements TeacherService {
     public TeacherResponse getTeacherByCode(String teacherCode) {
         log.debug("Fetching teacher by code: {}", teacherCode);
 
-        Teacher teacher = teacherRepository.findByTeacherCode(teacherCode)
+        // Natural-id lookup: resolved through the teacher code cache and the entity cache before hitting the database
+        Teacher teacher = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Teacher.class)
+                .loadOptional(teacherCode)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Teacher", "teacherCode", teacherCode));
 
         return teacherMapper.toResponse(teacher);
     }
 
+    @Override
+    public BatchGetResponse<TeacherResponse> getTeachersBatch(BatchGetRequest request) {
+        log.debug("Batch fetching teachers");
+
+        BatchGetResponse<TeacherResponse> response = BatchLookup.resolve(request.getIds(),
+                teacherRepository::findAllWithUserByIdIn, Teacher::getId, teacherMapper::toResponse);
+        BatchLookup.merge(response, request.getCodes(),
+                teacherRepository::findAllWithUserByTeacherCodeIn, Teacher::getTeacherCode, teacherMapper::toResponse);
+        return response;
+    }
+
     @Override
     public TeacherResponse getTeacherByUserId(UUID userId) {
         log.debug("Fetching teacher by user ID: {}", userId);
@@ -131,38 +186,133 @@ public class TeacherServiceImpl implements TeacherService {
     }
 
     @Override
-    public List<TeacherResponse> getActiveTeachers() {
+    public Page<TeacherSummaryResponse> getTeacherSummaries(Pageable pageable) {
+        log.debug("Fetching teacher summaries - page: {}", pageable.getPageNumber());
+
+        return teacherRepository.findSummaries(pageable);
+    }
+
+    @Override
+    public Page<TeacherSummaryResponse> getTeacherSummariesByFaculty(UUID facultyId, Pageable pageable) {
+        log.debug("Fetching teacher summaries by faculty: {}", facultyId);
+
+        return teacherRepository.findSummariesByFaculty(facultyId, pageable);
+    }
+
+    @Override
+    public TeacherSummaryResponse getTeacherSummaryById(UUID id) {
+        log.debug("Fetching teacher summary by ID: {}", id);
+
+        return teacherRepository.findSummaryById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Teacher", "id", id.toString()));
+    }
+
+    @Override
+    public long exportRoster(UUID facultyId, Consumer<TeacherSummaryResponse> consumer) {
+        log.debug("Exporting teacher roster (faculty: {})", facultyId);
+
+        long count = 0;
+        try (Stream<TeacherSummaryResponse> rows = teacherRepository.streamRoster(facultyId)) {
+            Iterator<TeacherSummaryResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public CursorPageResponse<TeacherResponse> getTeachersCursor(String cursor, int size, boolean includeTotal) {
+        log.debug("Fetching teachers after cursor: {} (size: {})", cursor, size);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        List<Teacher> rows = teacherRepository.findPageAfter(after.createdAt(), after.id(), Limit.of(pageSize + 1));
+
+        return CursorPageResponse.of(rows, pageSize, teacherMapper::toResponse,
+                teacher -> new KeysetCursor(teacher.getCreatedAt(), teacher.getId()),
+                includeTotal ? teacherRepository.count() : null);
+    }
+
+    @Override
+    public CursorPageResponse<TeacherResponse> getTeachersByFacultyCursor(
+            UUID facultyId, String cursor, int size, boolean includeTotal) {
+        log.debug("Fetching teachers by faculty ID: {} after cursor: {} (size: {})", facultyId, cursor, size);
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size);
+        List<Teacher> rows = teacherRepository.findByFacultyPageAfter(facultyId, after.createdAt(), after.id(), Limit.of(pageSize + 1));
+
+        return CursorPageResponse.of(rows, pageSize, teacherMapper::toResponse,
+                teacher -> new KeysetCursor(teacher.getCreatedAt(), teacher.getId()),
+                includeTotal ? teacherRepository.countByFacultyId(facultyId) : null);
+    }
+
+    @Override
+    public Page<TeacherResponse> getActiveTeachers(Pageable pageable) {
         log.debug("Fetching active teachers");
 
-        return teacherRepository.findByIsActiveTrue().stream()
-                .map(teacherMapper::toResponse)
-                .collect(Collectors.toList());
+        return teacherRepository.findByIsActiveTrue(pageable)
+                .map(teacherMapper::toResponse);
+    }
+
+    @Override
+    public long streamActiveTeachers(Consumer<TeacherResponse> consumer) {
+        log.debug("Streaming active teachers");
+
+        return EntityStreams.forEachMapped(teacherRepository.streamByIsActiveTrue(),
+                teacherMapper::toResponse, consumer, entityManager, streamClearInterval);
     }
 
     @Override
-    public List<TeacherResponse> getSeniorTeachers() {
+    public Page<TeacherResponse> getSeniorTeachers(Pageable pageable) {
         log.debug("Fetching senior teachers");
 
-        return teacherRepository.findSeniorTeachers().stream()
-                .map(teacherMapper::toResponse)
-                .collect(Collectors.toList());
+        return teacherRepository.findSeniorTeachers(seniorHireCutoff(), pageable)
+                .map(teacherMapper::toResponse);
     }
 
     @Override
-    public List<TeacherResponse> getTeachersWithPhD() {
+    public long streamSeniorTeachers(Consumer<TeacherResponse> consumer) {
+        log.debug("Streaming senior teachers");
+
+        return EntityStreams.forEachMapped(teacherRepository.streamSeniorTeachers(seniorHireCutoff()),
+                teacherMapper::toResponse, consumer, entityManager, streamClearInterval);
+    }
+
+    @Override
+    public Page<TeacherResponse> getTeachersWithPhD(Pageable pageable) {
         log.debug("Fetching teachers with PhD");
 
-        return teacherRepository.findTeachersWithPhD().stream()
-                .map(teacherMapper::toResponse)
-                .collect(Collectors.toList());
+        return teacherRepository.findTeachersWithPhD(pageable)
+                .map(teacherMapper::toResponse);
+    }
+
+    @Override
+    public long streamTeachersWithPhD(Consumer<TeacherResponse> consumer) {
+        log.debug("Streaming teachers with PhD");
+
+        return EntityStreams.forEachMapped(teacherRepository.streamTeachersWithPhD(),
+                teacherMapper::toResponse, consumer, entityManager, streamClearInterval);
     }
 
     @Override
     public Page<TeacherResponse> searchTeachers(String keyword, Pageable pageable) {
         log.debug("Searching teachers with keyword: {}", keyword);
 
-        return teacherRepository.searchTeachers(keyword, pageable)
-                .map(teacherMapper::toResponse);
+        // Rank and page on ids first, then load just that page with users fetched
+        Page<UUID> ids = teacherRepository.searchTeacherIds(keyword.trim(), pageable);
+        Map<UUID, Teacher> teachers = teacherRepository.findAllWithUserByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Teacher::getId, Function.identity()));
+
+        // Rows deleted between the two queries are left out rather than returned as null
+        List<TeacherResponse> content = ids.getContent().stream()
+                .map(teachers::get)
+                .filter(Objects::nonNull)
+                .map(teacherMapper::toResponse)
+                .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
     }
 
     @Override
@@ -171,12 +321,16 @@ public class TeacherServiceImpl implements TeacherService {
         log.info("Deleting teacher profile with ID: {}", id);
 
         Teacher teacher = teacherRepository.findById(id)
+                .filter(BaseEntity::isLive)
                 .orElseThrow(() -> new ResourceNotFoundException("Teacher", "id", id.toString()));
 
         teacher.setIsDeleted(true);
         teacherRepository.save(teacher);
 
         log.info("Successfully deleted teacher profile with ID: {}", id);
+        eventPublisher.publishEvent(ProfileChangedEvent.of(EntityType.TEACHER, ProfileChangedEvent.ChangeType.DELETED,
+                id, teacher.getUser(), teacher.getTeacherCode()));
+        eventPublisher.publishEvent(ProfileStatsChangedEvent.deleted(StatsBucket.of(teacher)));
     }
 
     @Override
@@ -193,5 +347,13 @@ public class TeacherServiceImpl implements TeacherService {
     public long countActiveTeachers() {
         return teacherRepository.countByIsActiveTrue();
     }
-}
 
+    /**
+     * Earliest hire date that no longer counts as senior
+     * Same calendar-year rule as before (current year - hire year >= 10) but as a plain range,
+     * so the hire_date index can be used
+     */
+    private static LocalDate seniorHireCutoff() {
+        return LocalDate.of(LocalDate.now().getYear() - 9, 1, 1);
+    }
+}
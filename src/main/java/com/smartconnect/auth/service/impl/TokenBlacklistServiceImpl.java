@@ -1,27 +1,86 @@
 package com.smartconnect.auth.service.impl;
 
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.smartconnect.auth.revocation.RevocationEvent;
+import com.smartconnect.auth.revocation.TokenRevocationStream;
+import com.smartconnect.auth.security.TokenBlacklistStore;
 import com.smartconnect.auth.service.JwtService;
 import com.smartconnect.auth.service.TokenBlacklistService;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Token Blacklist Service implementation
+ *
+ * Answers come from a short-lived local cache first (blacklisted tokens for minutes, clean ones for
+ * about a second), then from Redis through {@link TokenBlacklistStore}. While Redis is failing or
+ * its circuit breaker is open, lookups answer with the configured failure mode instead of waiting.
+ * A removal is published on the revocation stream as RESTORED; every replica tails the stream and
+ * drops the token from its local cache, so no replica keeps rejecting it for the positive TTL.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.security.blacklist.store", havingValue = "redis", matchIfMissing = true)
 public class TokenBlacklistServiceImpl implements TokenBlacklistService {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private static final String BLACKLIST_PREFIX = "blacklist:token:";
+
+    private final TokenBlacklistStore tokenBlacklistStore;
     private final JwtService jwtService;
+    private final TokenRevocationStream tokenRevocationStream;
+    // Token -> nonce claim ("" when absent), matched against RESTORED events
+    private final Cache<String, String> blacklisted;
+    private final Cache<String, Boolean> notBlacklisted;
+    private final Counter fallbacks;
+    private TokenRevocationStream.Tail restorations;
 
-    private static final String BLACKLIST_PREFIX = "blacklist:token:";
+    public TokenBlacklistServiceImpl(
+            TokenBlacklistStore tokenBlacklistStore,
+            JwtService jwtService,
+            TokenRevocationStream tokenRevocationStream,
+            MeterRegistry meterRegistry,
+            @Value("${app.security.blacklist.cache.positive-ttl-seconds:300}") long positiveTtlSeconds,
+            @Value("${app.security.blacklist.cache.negative-ttl-ms:1000}") long negativeTtlMs,
+            @Value("${app.security.blacklist.cache.max-size:100000}") long maxSize) {
+        this.tokenBlacklistStore = tokenBlacklistStore;
+        this.jwtService = jwtService;
+        this.tokenRevocationStream = tokenRevocationStream;
+        this.blacklisted = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(positiveTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.notBlacklisted = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(negativeTtlMs, TimeUnit.MILLISECONDS)
+                .build();
+        this.fallbacks = Counter.builder("token.blacklist.fallbacks")
+                .description("Blacklist lookups answered by the failure mode because Redis was unavailable")
+                .tag("mode", tokenBlacklistStore.getFailureMode().name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void followRestorations() {
+        restorations = tokenRevocationStream.tail("token-blacklist-restorations", this::onRevocation);
+    }
+
+    @PreDestroy
+    void stopFollowingRestorations() {
+        restorations.close();
+    }
 
     @Override
     public void blacklistToken(String token) {
@@ -30,9 +89,20 @@ public class TokenBlacklistServiceImpl implements TokenBlacklistService {
             long ttl = expiration.getTime() - System.currentTimeMillis();
 
             if (ttl > 0) {
-                String key = BLACKLIST_PREFIX + token;
-                redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofMillis(ttl));
-                log.debug("Token added to blacklist with TTL: {} ms", ttl);
+                String tokenId = tokenIdOf(token);
+                // Rejected on this instance right away, even if the Redis write fails
+                blacklisted.put(token, Strings.nullToEmpty(tokenId));
+                notBlacklisted.invalidate(token);
+                try {
+                    tokenBlacklistStore.put(BLACKLIST_PREFIX + token, Duration.ofMillis(ttl));
+                    log.debug("Token added to blacklist with TTL: {} ms", ttl);
+                } catch (Exception e) {
+                    log.error("Error blacklisting token: {}", e.getMessage());
+                }
+
+                // Let resource servers validating tokens locally reject it too
+                tokenRevocationStream.publish(RevocationEvent.token(
+                        tokenId, jwtService.getUserIdFromToken(token), expiration.getTime() / 1000));
             }
         } catch (Exception e) {
             log.error("Error blacklisting token: {}", e.getMessage());
@@ -41,25 +111,64 @@ public class TokenBlacklistServiceImpl implements TokenBlacklistService {
 
     @Override
     public boolean isTokenBlacklisted(String token) {
+        if (blacklisted.getIfPresent(token) != null) {
+            return true;
+        }
+        if (notBlacklisted.getIfPresent(token) != null) {
+            return false;
+        }
         try {
-            String key = BLACKLIST_PREFIX + token;
-            Boolean exists = redisTemplate.hasKey(key);
-            return exists != null && exists;
+            boolean exists = tokenBlacklistStore.exists(BLACKLIST_PREFIX + token);
+            if (exists) {
+                blacklisted.put(token, Strings.nullToEmpty(tokenIdOf(token)));
+            } else {
+                notBlacklisted.put(token, Boolean.TRUE);
+            }
+            return exists;
+        } catch (CallNotPermittedException e) {
+            return fallback();
         } catch (Exception e) {
-            log.error("Error checking token blacklist: {}", e.getMessage());
-            return false;
+            log.warn("Error checking token blacklist: {}", e.getMessage());
+            return fallback();
         }
     }
 
     @Override
     public void removeFromBlacklist(String token) {
+        blacklisted.invalidate(token);
         try {
-            String key = BLACKLIST_PREFIX + token;
-            redisTemplate.delete(key);
+            tokenBlacklistStore.remove(BLACKLIST_PREFIX + token);
             log.debug("Token removed from blacklist");
         } catch (Exception e) {
             log.error("Error removing token from blacklist: {}", e.getMessage());
         }
+
+        // Other replicas and resource servers cached the revocation; let them drop it too
+        String tokenId = tokenIdOf(token);
+        if (tokenId != null) {
+            tokenRevocationStream.publish(RevocationEvent.restored(tokenId));
+        }
     }
-}
 
+    /**
+     * Drop tokens restored on any replica, this one included, from the local cache
+     */
+    void onRevocation(RevocationEvent event) {
+        if (event.type() == RevocationEvent.Type.RESTORED && event.tokenId() != null) {
+            blacklisted.asMap().values().removeIf(event.tokenId()::equals);
+        }
+    }
+
+    private String tokenIdOf(String token) {
+        try {
+            return jwtService.extractClaim(token, claims -> claims.get(JwtService.CLAIM_NONCE, String.class));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private boolean fallback() {
+        fallbacks.increment();
+        return tokenBlacklistStore.getFailureMode() == TokenBlacklistStore.FailureMode.CLOSED;
+    }
+}
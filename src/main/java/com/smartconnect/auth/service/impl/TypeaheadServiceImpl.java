@@ -0,0 +1,143 @@
+package com.smartconnect.auth.service.impl;
+
+import com.smartconnect.auth.dto.response.TypeaheadSuggestion;
+import com.smartconnect.auth.event.ProfileChangedEvent;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.repository.AdminRepository;
+import com.smartconnect.auth.repository.StudentRepository;
+import com.smartconnect.auth.repository.TeacherRepository;
+import com.smartconnect.auth.search.TypeaheadIndex;
+import com.smartconnect.auth.service.TypeaheadService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of TypeaheadService
+ *
+ * The index is loaded by a streaming scan once the application is ready and kept current from
+ * committed ProfileChangedEvents. Changes that arrive while a scan is running win over the
+ * scanned rows, so a slow scan can never resurrect a profile that was just updated or deleted.
+ */
+@Service
+@Slf4j
+public class TypeaheadServiceImpl implements TypeaheadService {
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final AdminRepository adminRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+
+    private final TypeaheadIndex index = new TypeaheadIndex();
+    private final Object lock = new Object();
+
+    // Profiles changed by events while a scan is running (guarded by lock)
+    private Set<UUID> changedDuringLoad;
+    private volatile boolean ready;
+
+    public TypeaheadServiceImpl(
+            StudentRepository studentRepository,
+            TeacherRepository teacherRepository,
+            AdminRepository adminRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.typeahead.enabled:true}") boolean enabled) {
+        this.studentRepository = studentRepository;
+        this.teacherRepository = teacherRepository;
+        this.adminRepository = adminRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public List<TypeaheadSuggestion> suggest(String query, Set<EntityType> types, int limit) {
+        return index.search(query, types, limit);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        } else {
+            log.info("People typeahead index disabled");
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (lock) {
+            changedDuringLoad = new HashSet<>();
+            index.clear();
+        }
+        try {
+            load(studentRepository::streamTypeaheadSuggestions);
+            load(teacherRepository::streamTypeaheadSuggestions);
+            load(adminRepository::streamTypeaheadSuggestions);
+            ready = true;
+            log.info("People typeahead index loaded: {} profiles in {} ms",
+                    index.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to load people typeahead index", e);
+        } finally {
+            synchronized (lock) {
+                changedDuringLoad = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProfileChanged(ProfileChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(event.profileId());
+            }
+            if (event.changeType() == ProfileChangedEvent.ChangeType.DELETED) {
+                index.remove(event.profileId());
+            } else {
+                index.put(TypeaheadSuggestion.builder()
+                        .type(event.profileType())
+                        .profileId(event.profileId())
+                        .userId(event.userId())
+                        .code(event.code())
+                        .fullName(event.fullName())
+                        .build());
+            }
+        }
+    }
+
+    private void load(Supplier<Stream<TypeaheadSuggestion>> source) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TypeaheadSuggestion> suggestions = source.get()) {
+                suggestions.forEach(suggestion -> {
+                    synchronized (lock) {
+                        if (changedDuringLoad == null || !changedDuringLoad.contains(suggestion.getProfileId())) {
+                            index.put(suggestion);
+                        }
+                    }
+                });
+            }
+        });
+    }
+}
@@ -1,23 +1,39 @@
 package com.smartconnect.auth.service.impl;
 
+import com.smartconnect.auth.dto.request.BatchGetRequest;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import com.smartconnect.auth.dto.response.ChangeFeedResponse;
+import com.smartconnect.auth.dto.response.UserChangeResponse;
 import com.smartconnect.auth.dto.response.UserResponse;
+import com.smartconnect.auth.event.UserLifecycleEvent;
+import com.smartconnect.auth.exception.BadRequestException;
 import com.smartconnect.auth.exception.ResourceNotFoundException;
 import com.smartconnect.auth.model.entity.User;
 import com.smartconnect.auth.repository.UserRepository;
 import com.smartconnect.auth.service.UserService;
+import com.smartconnect.auth.util.BatchLookup;
+import com.smartconnect.auth.util.ChangeFeedCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.sync.change-feed.settle-seconds:30}")
+    private int changeFeedSettleSeconds;
 
     @Override
     @Transactional(readOnly = true)
@@ -30,6 +46,17 @@ public class UserServiceImpl implements UserService {
         return mapToUserResponse(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BatchGetResponse<UserResponse> getUsersBatch(BatchGetRequest request) {
+        log.debug("Batch fetching users");
+
+        if (request.getCodes() != null && !request.getCodes().isEmpty()) {
+            throw new BadRequestException("Users are looked up by id only");
+        }
+        return BatchLookup.resolve(request.getIds(), userRepository::findAllById, User::getId, this::mapToUserResponse);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UserResponse getUserByUsername(String username) {
@@ -61,6 +88,20 @@ public class UserServiceImpl implements UserService {
                 .map(this::mapToUserResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse<UserChangeResponse> getUserChanges(String since, int size) {
+        log.debug("Getting user changes since: {} (size: {})", since, size);
+
+        ChangeFeedCursor after = ChangeFeedCursor.decode(since);
+        int pageSize = ChangeFeedCursor.pageSize(size);
+        List<UserRepository.UserChange> rows = userRepository.findChangesSince(
+                after.updatedAt(), after.id(), changeFeedSettleSeconds, pageSize + 1);
+
+        return ChangeFeedResponse.of(rows, pageSize, after, this::mapToUserChangeResponse,
+                change -> new ChangeFeedCursor(change.getUpdatedAt(), change.getId()));
+    }
+
     @Override
     @Transactional
     public UserResponse updateUserProfile(java.util.UUID id, String fullName, String phone, String avatarUrl) {
@@ -95,6 +136,7 @@ public class UserServiceImpl implements UserService {
 
         user.setIsActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserLifecycleEvent.of(UserLifecycleEvent.ChangeType.DEACTIVATED, user));
 
         log.info("User deactivated successfully: {}", user.getUsername());
     }
@@ -109,6 +151,7 @@ public class UserServiceImpl implements UserService {
 
         user.setIsActive(true);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserLifecycleEvent.of(UserLifecycleEvent.ChangeType.ACTIVATED, user));
 
         log.info("User activated successfully: {}", user.getUsername());
     }
@@ -141,5 +184,19 @@ public class UserServiceImpl implements UserService {
                 .updatedAt(user.getUpdatedAt())
                 .build();
     }
-}
 
+    private UserChangeResponse mapToUserChangeResponse(UserRepository.UserChange change) {
+        return UserChangeResponse.builder()
+                .id(change.getId())
+                .username(change.getUsername())
+                .email(change.getEmail())
+                .fullName(change.getFullName())
+                .phone(change.getPhone())
+                .avatarUrl(change.getAvatarUrl())
+                .role(change.getRole())
+                .isActive(change.getIsActive())
+                .isDeleted(change.getIsDeleted())
+                .updatedAt(change.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.smartconnect.auth.spool;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Local write-ahead spool for audit events
+ * Audit writes land here in microseconds and are replayed into audit_logs by
+ * AuditSpoolReplayScheduler, so a slow or unavailable database never blocks requests.
+ * Records that cannot be read back or that the database rejects are moved to
+ * quarantine.ndjson in the spool directory instead of blocking the records behind them.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.audit.spool.enabled", havingValue = "true")
+public class AuditEventSpool {
+
+    private static final String QUARANTINE_FILE = "quarantine.ndjson";
+
+    private final SegmentedSpool spool;
+    private final ObjectMapper objectMapper;
+    private final Path quarantineFile;
+    private final Counter quarantined;
+
+    public AuditEventSpool(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.audit.spool.directory:./data/audit-spool}") String directory,
+            @Value("${app.audit.spool.segment-size-bytes:16777216}") int segmentSizeBytes) throws IOException {
+        this.objectMapper = objectMapper;
+        this.spool = new SegmentedSpool(Path.of(directory), segmentSizeBytes);
+        this.quarantineFile = Path.of(directory).resolve(QUARANTINE_FILE);
+        log.info("Audit spool opened at {} ({} segment(s), {} bytes pending)",
+                directory, spool.getSegmentCount(), spool.getPendingBytes());
+
+        Gauge.builder("audit.spool.segments", spool, SegmentedSpool::getSegmentCount)
+                .description("Number of audit spool segment files on disk")
+                .register(meterRegistry);
+        Gauge.builder("audit.spool.pending.bytes", spool, SegmentedSpool::getPendingBytes)
+                .description("Spooled audit bytes not yet replayed into the database")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("audit.spool.replay.lag", spool, AuditEventSpool::replayLagSeconds)
+                .description("Age of the oldest audit event waiting to be replayed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.quarantined = Counter.builder("audit.spool.quarantined")
+                .description("Spooled audit events moved to the quarantine file instead of being replayed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Append an event to the spool
+     *
+     * @return false if the event could not be spooled and must be written directly
+     */
+    public boolean append(SpooledAuditEvent event) {
+        try {
+            long timestamp = event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            spool.append(objectMapper.writeValueAsBytes(event), timestamp);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to spool audit event, falling back to direct write: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Hand up to batchSize spooled events to the consumer and commit them once it returns
+     * If the consumer throws, nothing is committed and the same events are offered next time
+     *
+     * @return number of events replayed
+     */
+    public int drain(int batchSize, Consumer<List<SpooledAuditEvent>> consumer) throws IOException {
+        List<SegmentedSpool.SpoolRecord> records = spool.read(batchSize);
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        List<SpooledAuditEvent> events = new ArrayList<>(records.size());
+        for (SegmentedSpool.SpoolRecord record : records) {
+            try {
+                events.add(objectMapper.readValue(record.payload(), SpooledAuditEvent.class));
+            } catch (IOException e) {
+                log.error("Quarantining unreadable spooled audit event in segment {}", record.segmentId(), e);
+                quarantine(record.payload());
+            }
+        }
+
+        if (!events.isEmpty()) {
+            consumer.accept(events);
+        }
+        spool.commit(records.get(records.size() - 1));
+        return records.size();
+    }
+
+    /**
+     * Set aside an event the database will never accept, so replay can move past it
+     */
+    public void quarantine(SpooledAuditEvent event) {
+        try {
+            quarantine(objectMapper.writeValueAsBytes(event));
+        } catch (IOException e) {
+            log.error("Dropping audit event that cannot be quarantined: {}", event, e);
+        }
+    }
+
+    private void quarantine(byte[] payload) {
+        try {
+            Files.write(quarantineFile, payload, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            Files.write(quarantineFile, new byte[] {'\n'}, StandardOpenOption.APPEND);
+            quarantined.increment();
+        } catch (IOException e) {
+            log.error("Dropping audit event, quarantine file {} not writable: {}", quarantineFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Flush appended events to the storage device
+     */
+    public void force() {
+        spool.force();
+    }
+
+    @PreDestroy
+    public void close() {
+        spool.close();
+    }
+
+    private static double replayLagSeconds(SegmentedSpool spool) {
+        long oldest = spool.getOldestPendingTimestamp();
+        return oldest == 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldest) / 1000.0;
+    }
+}
@@ -0,0 +1,351 @@
+package com.smartconnect.auth.spool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Crash-safe append-only spool of byte records on local disk
+ *
+ * Records are appended to fixed-size, memory-mapped segment files that rotate when full.
+ * Each record is laid out as [length:int][crc32:int][timestamp:long][payload]; the length is
+ * written last, so a record torn by a crash fails its checksum and marks the end of valid data
+ * during recovery. A checkpoint file tracks how far the consumer has read; fully consumed
+ * segments are deleted. Delivery is at-least-once: a crash between consuming a batch and
+ * committing it replays that batch.
+ *
+ * Not a Spring bean - see {@link AuditEventSpool} for the audit-specific wrapper.
+ */
+public class SegmentedSpool implements Closeable {
+
+    public static final int RECORD_HEADER_BYTES = 16;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String CHECKPOINT_TEMP_FILE = "checkpoint.tmp";
+
+    private final Path directory;
+    private final int segmentSize;
+
+    // segment id -> bytes of valid data in that segment
+    private final NavigableMap<Long, Integer> segmentLengths = new TreeMap<>();
+
+    private long activeSegmentId;
+    private MappedByteBuffer activeBuffer;
+    private int writePosition;
+
+    private long readSegmentId;
+    private int readOffset;
+    private long readBufferSegmentId = -1;
+    private MappedByteBuffer readBuffer;
+
+    // Kept up to date on append and commit so the lag gauge never takes the lock or touches the files
+    private volatile long oldestPendingTimestamp;
+    private boolean hasPending;
+
+    private boolean closed;
+
+    public SegmentedSpool(Path directory, int segmentSize) throws IOException {
+        if (segmentSize <= RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("Segment size must be larger than the record header");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    /**
+     * Append a record; returns once the bytes are in the mapped segment (page cache)
+     */
+    public synchronized void append(byte[] payload, long timestampMillis) throws IOException {
+        ensureOpen();
+        if (payload.length == 0) {
+            throw new IllegalArgumentException("Empty records are not allowed");
+        }
+        int recordSize = RECORD_HEADER_BYTES + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IOException("Record of " + recordSize + " bytes exceeds segment size " + segmentSize);
+        }
+        if (writePosition + recordSize > segmentSize) {
+            rotate();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        activeBuffer.putInt(writePosition + 4, (int) crc.getValue());
+        activeBuffer.putLong(writePosition + 8, timestampMillis);
+        activeBuffer.put(writePosition + RECORD_HEADER_BYTES, payload);
+        // Length goes last: it is what makes the record visible to recovery
+        activeBuffer.putInt(writePosition, payload.length);
+
+        writePosition += recordSize;
+        segmentLengths.put(activeSegmentId, writePosition);
+        if (!hasPending) {
+            hasPending = true;
+            oldestPendingTimestamp = timestampMillis;
+        }
+    }
+
+    /**
+     * Read up to maxRecords records starting at the committed read position
+     * The position does not move until {@link #commit(SpoolRecord)} is called
+     */
+    public synchronized List<SpoolRecord> read(int maxRecords) {
+        ensureOpen();
+        List<SpoolRecord> records = new ArrayList<>(Math.min(maxRecords, 1024));
+        long segmentId = readSegmentId;
+        int offset = readOffset;
+
+        while (records.size() < maxRecords) {
+            Integer length = segmentLengths.get(segmentId);
+            if (length == null) {
+                break;
+            }
+            if (offset >= length) {
+                if (segmentId >= activeSegmentId) {
+                    break;
+                }
+                segmentId++;
+                offset = 0;
+                continue;
+            }
+
+            ByteBuffer buffer = bufferFor(segmentId);
+            int payloadLength = buffer.getInt(offset);
+            long timestamp = buffer.getLong(offset + 8);
+            byte[] payload = new byte[payloadLength];
+            buffer.get(offset + RECORD_HEADER_BYTES, payload);
+            offset += RECORD_HEADER_BYTES + payloadLength;
+            records.add(new SpoolRecord(payload, timestamp, segmentId, offset));
+        }
+        return records;
+    }
+
+    /**
+     * Mark everything up to and including the given record as consumed
+     * Deletes segments that are no longer needed and persists the checkpoint
+     */
+    public synchronized void commit(SpoolRecord lastRecord) throws IOException {
+        ensureOpen();
+        readSegmentId = lastRecord.segmentId();
+        readOffset = lastRecord.nextOffset();
+        if (readOffset >= segmentLengths.getOrDefault(readSegmentId, 0) && readSegmentId < activeSegmentId) {
+            readSegmentId++;
+            readOffset = 0;
+        }
+
+        while (!segmentLengths.isEmpty() && segmentLengths.firstKey() < readSegmentId) {
+            long segmentId = segmentLengths.pollFirstEntry().getKey();
+            if (segmentId == readBufferSegmentId) {
+                readBuffer = null;
+                readBufferSegmentId = -1;
+            }
+            Files.deleteIfExists(segmentPath(segmentId));
+        }
+        writeCheckpoint();
+        refreshOldestPending();
+    }
+
+    /**
+     * Flush the active segment to the storage device
+     */
+    public synchronized void force() {
+        if (!closed) {
+            activeBuffer.force();
+        }
+    }
+
+    public synchronized int getSegmentCount() {
+        return segmentLengths.size();
+    }
+
+    /**
+     * Bytes appended but not yet committed by the consumer
+     */
+    public synchronized long getPendingBytes() {
+        long pending = 0;
+        for (Map.Entry<Long, Integer> entry : segmentLengths.tailMap(readSegmentId, true).entrySet()) {
+            pending += entry.getValue();
+        }
+        return pending - readOffset;
+    }
+
+    /**
+     * Timestamp of the oldest uncommitted record, or 0 when the spool is drained
+     * Lock-free, so metrics scrapes never hold up {@link #append}
+     */
+    public long getOldestPendingTimestamp() {
+        return oldestPendingTimestamp;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            activeBuffer.force();
+            closed = true;
+            activeBuffer = null;
+            readBuffer = null;
+        }
+    }
+
+    // ==================== INTERNALS ====================
+
+    private void recover() throws IOException {
+        List<Long> segmentIds;
+        try (Stream<Path> files = Files.list(directory)) {
+            segmentIds = files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+
+        readSegmentId = 1;
+        readOffset = 0;
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (Files.exists(checkpoint)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(checkpoint));
+            if (buffer.remaining() >= 12) {
+                readSegmentId = buffer.getLong();
+                readOffset = buffer.getInt();
+            }
+        }
+
+        for (long segmentId : segmentIds) {
+            if (segmentId < readSegmentId) {
+                Files.deleteIfExists(segmentPath(segmentId));
+            } else {
+                segmentLengths.put(segmentId, scanValidLength(segmentId));
+            }
+        }
+
+        if (segmentLengths.isEmpty()) {
+            readOffset = 0;
+            openSegment(readSegmentId, 0);
+        } else {
+            if (segmentLengths.firstKey() > readSegmentId) {
+                readSegmentId = segmentLengths.firstKey();
+                readOffset = 0;
+            }
+            readOffset = Math.min(readOffset, segmentLengths.get(readSegmentId));
+            openSegment(segmentLengths.lastKey(), segmentLengths.lastEntry().getValue());
+        }
+        refreshOldestPending();
+    }
+
+    private void refreshOldestPending() {
+        List<SpoolRecord> next = read(1);
+        hasPending = !next.isEmpty();
+        oldestPendingTimestamp = hasPending ? next.get(0).timestampMillis() : 0L;
+    }
+
+    /**
+     * Walk a segment record by record, stopping at the first empty or corrupt header
+     * Any bytes past that point are zeroed so stale data can never be mistaken for records
+     */
+    private int scanValidLength(long segmentId) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segmentId), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int size = (int) Math.min(channel.size(), segmentSize);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            int position = 0;
+            CRC32 crc = new CRC32();
+            while (position + RECORD_HEADER_BYTES <= size) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || position + RECORD_HEADER_BYTES + length > size) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(position + RECORD_HEADER_BYTES, payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    break;
+                }
+                position += RECORD_HEADER_BYTES + length;
+            }
+
+            boolean dirtyTail = position + 4 <= size && buffer.getInt(position) != 0;
+            if (dirtyTail) {
+                for (int i = position; i < size; i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                buffer.force();
+            }
+            return position;
+        }
+    }
+
+    private void rotate() throws IOException {
+        activeBuffer.force();
+        openSegment(activeSegmentId + 1, 0);
+    }
+
+    private void openSegment(long segmentId, int position) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(segmentId),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            activeBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        activeSegmentId = segmentId;
+        writePosition = position;
+        segmentLengths.put(segmentId, position);
+    }
+
+    private ByteBuffer bufferFor(long segmentId) {
+        if (segmentId == activeSegmentId) {
+            return activeBuffer;
+        }
+        if (segmentId != readBufferSegmentId) {
+            try (FileChannel channel = FileChannel.open(segmentPath(segmentId), StandardOpenOption.READ)) {
+                readBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, segmentLengths.get(segmentId));
+                readBufferSegmentId = segmentId;
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to map spool segment " + segmentId, e);
+            }
+        }
+        return readBuffer;
+    }
+
+    private void writeCheckpoint() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(12).putLong(readSegmentId).putInt(readOffset).flip();
+        Path temp = directory.resolve(CHECKPOINT_TEMP_FILE);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path segmentPath(long segmentId) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segmentId, SEGMENT_SUFFIX));
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Spool is closed");
+        }
+    }
+
+    /**
+     * A record read from the spool together with the position just past it
+     */
+    public record SpoolRecord(byte[] payload, long timestampMillis, long segmentId, int nextOffset) {
+    }
+}
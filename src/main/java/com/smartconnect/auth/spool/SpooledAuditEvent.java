@@ -0,0 +1,42 @@
+package com.smartconnect.auth.spool;
+
+import com.smartconnect.auth.model.enums.ActionType;
+import com.smartconnect.auth.model.enums.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serializable form of an audit event as it travels through the spool
+ * Carries the user ID rather than the User entity so it can be replayed later
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpooledAuditEvent {
+
+    private UUID userId;
+    private ActionType action;
+    private EntityType entityType;
+    private UUID entityId;
+    private String entityName;
+    private Map<String, Object> oldValues;
+    private Map<String, Object> newValues;
+    private String description;
+    private String ipAddress;
+    private String userAgent;
+    private String requestMethod;
+    private String requestUrl;
+    private Integer statusCode;
+    private String errorMessage;
+    private String sessionId;
+    private Integer durationMs;
+    private Map<String, Object> metadata;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,157 @@
+package com.smartconnect.auth.stats;
+
+import com.smartconnect.auth.model.enums.StatsDimension;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory profile counters, one LongAdder per (dimension, key)
+ *
+ * Deltas from concurrent transactions are applied under a shared lock and never contend on a
+ * single counter. A full set of counts from the database replaces everything under the exclusive
+ * lock. Deltas applied between {@link #startRecording()} and {@link #replace(Map)} are recorded and
+ * replayed on top of the counts: they come from commits the counting query could not see. A change
+ * whose after-commit delta lands just after recording starts but was committed before the query took
+ * its snapshot is counted twice until the next pass; that window is the after-commit callback itself.
+ *
+ * Not a Spring bean - see {@link com.smartconnect.auth.service.impl.ProfileStatsServiceImpl}.
+ */
+public class ProfileStatsCounters {
+
+    private final Map<StatsDimension, ConcurrentHashMap<String, LongAdder>> counters = new EnumMap<>(StatsDimension.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Deltas applied since startRecording(), or null when no recount is in progress */
+    private Queue<Delta> recording;
+
+    private record Delta(List<StatsBucket> removed, List<StatsBucket> added) {
+    }
+
+    public ProfileStatsCounters() {
+        for (StatsDimension dimension : StatsDimension.values()) {
+            counters.put(dimension, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Move a profile out of the removed buckets and into the added ones
+     */
+    public void apply(List<StatsBucket> removed, List<StatsBucket> added) {
+        lock.readLock().lock();
+        try {
+            removed.forEach(bucket -> counter(bucket).decrement());
+            added.forEach(bucket -> counter(bucket).increment());
+            Queue<Delta> pending = recording;
+            if (pending != null) {
+                pending.add(new Delta(removed, added));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Start recording deltas; call right before running the counting query
+     */
+    public void startRecording() {
+        lock.writeLock().lock();
+        try {
+            recording = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop the recorded deltas without replacing anything, e.g. when the counting query failed
+     */
+    public void stopRecording() {
+        lock.writeLock().lock();
+        try {
+            recording = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace all counters with exact counts plus the deltas recorded since {@link #startRecording()}
+     *
+     * @return buckets whose value changed
+     */
+    public int replace(Map<StatsBucket, Long> counts) {
+        lock.writeLock().lock();
+        try {
+            Map<StatsBucket, Long> exactCounts = new HashMap<>(counts);
+            if (recording != null) {
+                for (Delta delta : recording) {
+                    delta.removed().forEach(bucket -> exactCounts.merge(bucket, -1L, Long::sum));
+                    delta.added().forEach(bucket -> exactCounts.merge(bucket, 1L, Long::sum));
+                }
+                recording = null;
+            }
+            int drifted = 0;
+            for (StatsDimension dimension : StatsDimension.values()) {
+                ConcurrentHashMap<String, LongAdder> current = counters.get(dimension);
+                Map<String, Long> exact = new HashMap<>();
+                exactCounts.forEach((bucket, count) -> {
+                    if (bucket.dimension() == dimension) {
+                        exact.put(bucket.key(), count);
+                    }
+                });
+                for (Map.Entry<String, LongAdder> entry : current.entrySet()) {
+                    if (entry.getValue().sum() != exact.getOrDefault(entry.getKey(), 0L)) {
+                        drifted++;
+                    }
+                }
+                for (String key : exact.keySet()) {
+                    if (!current.containsKey(key)) {
+                        drifted++;
+                    }
+                }
+                current.clear();
+                exact.forEach((key, count) -> {
+                    LongAdder adder = new LongAdder();
+                    adder.add(count);
+                    current.put(key, adder);
+                });
+            }
+            return drifted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Current non-zero counts of one dimension, sorted by key
+     */
+    public Map<String, Long> snapshot(StatsDimension dimension) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.get(dimension).forEach((key, adder) -> {
+            long count = adder.sum();
+            if (count != 0) {
+                snapshot.put(key, count);
+            }
+        });
+        return snapshot;
+    }
+
+    public long get(StatsDimension dimension, String key) {
+        LongAdder adder = counters.get(dimension).get(key);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    private LongAdder counter(StatsBucket bucket) {
+        return counters.get(bucket.dimension()).computeIfAbsent(bucket.key(), key -> new LongAdder());
+    }
+}
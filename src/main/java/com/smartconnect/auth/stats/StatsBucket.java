@@ -0,0 +1,66 @@
+package com.smartconnect.auth.stats;
+
+import com.smartconnect.auth.model.entity.Admin;
+import com.smartconnect.auth.model.entity.Student;
+import com.smartconnect.auth.model.entity.Teacher;
+import com.smartconnect.auth.model.enums.StatsDimension;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One counter a profile contributes to, e.g. (STUDENTS_BY_STATUS, "ACTIVE")
+ *
+ * Keys must match what {@link com.smartconnect.auth.repository.ProfileStatsRepository#countAllBuckets()}
+ * produces for the same row, otherwise reconciliation reports drift on every run.
+ */
+public record StatsBucket(StatsDimension dimension, String key) {
+
+    /**
+     * Key used for a missing major, faculty or department
+     */
+    public static final String NONE = "none";
+
+    private static final int MAX_GPA_BUCKET = 7;
+
+    public StatsBucket {
+        Objects.requireNonNull(dimension, "dimension");
+        Objects.requireNonNull(key, "key");
+    }
+
+    public static List<StatsBucket> of(Student student) {
+        return List.of(
+                new StatsBucket(StatsDimension.STUDENTS_BY_STATUS, String.valueOf(student.getStatus())),
+                new StatsBucket(StatsDimension.STUDENTS_BY_MAJOR, keyOf(student.getMajorId())),
+                new StatsBucket(StatsDimension.STUDENTS_BY_GPA, gpaBucket(student.getGpa())),
+                new StatsBucket(StatsDimension.STUDENTS_BY_ADMISSION_YEAR, String.valueOf(student.getAdmissionYear())));
+    }
+
+    public static List<StatsBucket> of(Teacher teacher) {
+        return List.of(
+                new StatsBucket(StatsDimension.TEACHERS_BY_ACTIVE, String.valueOf(Boolean.TRUE.equals(teacher.getIsActive()))),
+                new StatsBucket(StatsDimension.TEACHERS_BY_FACULTY, keyOf(teacher.getFacultyId())));
+    }
+
+    public static List<StatsBucket> of(Admin admin) {
+        return List.of(
+                new StatsBucket(StatsDimension.ADMINS_BY_ACTIVE, String.valueOf(Boolean.TRUE.equals(admin.getIsActive()))),
+                new StatsBucket(StatsDimension.ADMINS_BY_DEPARTMENT, admin.getDepartment() != null ? admin.getDepartment() : NONE));
+    }
+
+    /**
+     * Half-point GPA bucket labelled by its lower bound ("0.0" .. "3.5"); 4.0 falls into "3.5"
+     */
+    public static String gpaBucket(BigDecimal gpa) {
+        int bucket = gpa == null ? 0 : gpa.multiply(BigDecimal.TWO).setScale(0, RoundingMode.FLOOR).intValue();
+        bucket = Math.max(0, Math.min(bucket, MAX_GPA_BUCKET));
+        return BigDecimal.valueOf(bucket * 5L, 1).toPlainString();
+    }
+
+    private static String keyOf(UUID id) {
+        return id != null ? id.toString() : NONE;
+    }
+}
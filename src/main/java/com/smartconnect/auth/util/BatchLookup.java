@@ -0,0 +1,75 @@
+package com.smartconnect.auth.util;
+
+import com.google.common.collect.Lists;
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Resolves a batch of keys with chunked IN queries and assembles a {@link BatchGetResponse}
+ * Keys are de-duplicated first; with IN-clause parameter padding enabled every chunk size
+ * maps to a handful of cached query plans.
+ */
+public final class BatchLookup {
+
+    private BatchLookup() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Load entities for the keys, one query per chunk of {@link Constants#BATCH_GET_CHUNK_SIZE} keys
+     *
+     * @param keys   requested keys (duplicates allowed)
+     * @param loader loads the entities matching a chunk of keys, in any order
+     * @param keyOf  key of a loaded entity, comparable to the requested keys
+     * @param mapper converts an entity to its response
+     */
+    public static <K, E, R> BatchGetResponse<R> resolve(
+            Collection<K> keys,
+            Function<List<K>, List<E>> loader,
+            Function<E, K> keyOf,
+            Function<E, R> mapper) {
+        BatchGetResponse<R> response = BatchGetResponse.<R>builder()
+                .items(new LinkedHashMap<>())
+                .missing(new ArrayList<>())
+                .build();
+        merge(response, keys, loader, keyOf, mapper);
+        return response;
+    }
+
+    /**
+     * Resolve another set of keys (e.g. codes after ids) into an existing response
+     */
+    public static <K, E, R> void merge(
+            BatchGetResponse<R> response,
+            Collection<K> keys,
+            Function<List<K>, List<E>> loader,
+            Function<E, K> keyOf,
+            Function<E, R> mapper) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        List<K> unique = new ArrayList<>(new LinkedHashSet<>(keys));
+        Map<K, E> found = new HashMap<>(unique.size() * 2);
+        for (List<K> chunk : Lists.partition(unique, Constants.BATCH_GET_CHUNK_SIZE)) {
+            for (E entity : loader.apply(chunk)) {
+                found.put(keyOf.apply(entity), entity);
+            }
+        }
+        for (K key : unique) {
+            E entity = found.get(key);
+            if (entity != null) {
+                response.getItems().put(key.toString(), mapper.apply(entity));
+            } else {
+                response.getMissing().add(key.toString());
+            }
+        }
+    }
+}
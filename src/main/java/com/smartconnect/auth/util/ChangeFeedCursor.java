@@ -0,0 +1,63 @@
+package com.smartconnect.auth.util;
+
+import com.smartconnect.auth.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque change-feed watermark over (updatedAt ASC, id ASC)
+ * Points at the last change a client has seen; the next read starts strictly after it
+ */
+public record ChangeFeedCursor(LocalDateTime updatedAt, UUID id) {
+
+    /**
+     * Position before the first change (sorts before every real key)
+     */
+    public static final ChangeFeedCursor START = new ChangeFeedCursor(
+            LocalDateTime.of(1970, 1, 1, 0, 0),
+            new UUID(0L, 0L));
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Clamp a requested page size to 1..MAX_PAGE_SIZE
+     */
+    public static int pageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Encode as a URL-safe token
+     */
+    public String encode() {
+        String raw = updatedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token from a client; a null or blank token means a full sync from the start
+     */
+    public static ChangeFeedCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new ChangeFeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
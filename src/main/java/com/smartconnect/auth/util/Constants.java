@@ -25,6 +25,7 @@ public final class Constants {
         "/api" + AUTH_BASE_PATH + "/refresh",
         "/api" + AUTH_BASE_PATH + "/forgot-password",
         "/api" + AUTH_BASE_PATH + "/reset-password",
+        "/api" + AUTH_BASE_PATH + "/jwks",
         
         // Non-prefixed auth endpoints (for backward compatibility)
         AUTH_BASE_PATH + "/login",
@@ -33,6 +34,7 @@ public final class Constants {
         AUTH_BASE_PATH + "/refresh",
         AUTH_BASE_PATH + "/forgot-password",
         AUTH_BASE_PATH + "/reset-password",
+        AUTH_BASE_PATH + "/jwks",
         
         // Sample Data Generation (Public API)
         "/api/v1/dev/generate-sample-data",
@@ -58,6 +60,26 @@ public final class Constants {
     public static final String REDIS_REFRESH_TOKEN_KEY = "refresh_token:";
     public static final String REDIS_BLACKLIST_TOKEN_KEY = "blacklist_token:";
     
+    // Scope of service credentials that may only read the token revocation stream
+    public static final String SCOPE_REVOCATIONS_READ = "revocations:read";
+    
+    // Soft delete: every user and profile query only sees live rows (partial indexes in V13 match this predicate)
+    public static final String SOFT_DELETE_RESTRICTION = "is_deleted = false";
+    
+    // Hibernate Second-Level Cache Regions (configured in hibernate-cache.conf)
+    public static final String CACHE_REGION_USERS = "users";
+    public static final String CACHE_REGION_STUDENTS = "students";
+    public static final String CACHE_REGION_TEACHERS = "teachers";
+    public static final String CACHE_REGION_ADMINS = "admins";
+    public static final String CACHE_REGION_STUDENTS_BY_CODE = "students-by-code";
+    public static final String CACHE_REGION_TEACHERS_BY_CODE = "teachers-by-code";
+    public static final String CACHE_REGION_ADMINS_BY_CODE = "admins-by-code";
+    public static final String CACHE_REGION_PROFILES_BY_USER_ID = "profiles-by-user-id";
+    
+    // Batch multi-get (POST .../batch): keys per request, and keys per IN query
+    public static final int BATCH_GET_MAX_KEYS = 1000;
+    public static final int BATCH_GET_CHUNK_SIZE = 500;
+    
     // Validation Messages
     public static final String EMAIL_REQUIRED = "Email is required";
     public static final String EMAIL_INVALID = "Email format is invalid";
@@ -0,0 +1,81 @@
+package com.smartconnect.auth.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes rows as RFC 4180 CSV using a fixed list of columns
+ * Text cells that spreadsheet tools would evaluate as formulas are prefixed with a quote
+ */
+public class CsvExportWriter<T> implements ExportWriter<T> {
+
+    private final Writer writer;
+    private final List<Column<T>> columns;
+
+    public CsvExportWriter(OutputStream outputStream, List<Column<T>> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.columns = columns;
+        writeHeader();
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(columns.get(i).extractor().apply(row)));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeHeader() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(columns.get(i).header()));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Escape a single cell value
+     */
+    static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean needsQuotes = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * CSV column definition: header plus value extractor
+     */
+    public record Column<T>(String header, Function<T, ?> extractor) {
+
+        public static <T> Column<T> of(String header, Function<T, ?> extractor) {
+            return new Column<>(header, extractor);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.smartconnect.auth.util;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Helpers for consuming large entity result streams with flat heap usage
+ */
+public final class EntityStreams {
+
+    private EntityStreams() {
+    }
+
+    /**
+     * Map each streamed entity and hand it to the consumer, closing the stream at the end
+     * Rows are detached every clearInterval entities so the persistence context stays bounded
+     * Must run inside a transaction; returns the number of rows consumed
+     */
+    public static <E, T> long forEachMapped(
+            Stream<E> rows,
+            Function<E, T> mapper,
+            Consumer<T> consumer,
+            EntityManager entityManager,
+            int clearInterval) {
+        long count = 0;
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(mapper.apply(iterator.next()));
+                if (++count % clearInterval == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Like {@link #forEachMapped}, but buffers clearInterval rows and hands each chunk to
+     * beforeChunk before mapping it, so per-row lookups can be resolved in one query per chunk
+     */
+    public static <E, T> long forEachMappedInChunks(
+            Stream<E> rows,
+            Consumer<List<E>> beforeChunk,
+            Function<E, T> mapper,
+            Consumer<T> consumer,
+            EntityManager entityManager,
+            int clearInterval) {
+        long count = 0;
+        List<E> chunk = new ArrayList<>(clearInterval);
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == clearInterval || !iterator.hasNext()) {
+                    beforeChunk.accept(chunk);
+                    for (E row : chunk) {
+                        consumer.accept(mapper.apply(row));
+                    }
+                    count += chunk.size();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+}
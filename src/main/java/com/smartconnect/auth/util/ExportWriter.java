@@ -0,0 +1,32 @@
+package com.smartconnect.auth.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Row-at-a-time writer used by streamed exports
+ * Implementations never buffer more than the current row, so exports run in constant memory
+ */
+public interface ExportWriter<T> extends Flushable {
+
+    /**
+     * Write a single row to the underlying stream
+     */
+    void write(T row) throws IOException;
+
+    /**
+     * Adapt this writer to a Consumer, rethrowing I/O failures unchecked
+     * (e.g. when the client disconnects mid-download)
+     */
+    default Consumer<T> asConsumer() {
+        return row -> {
+            try {
+                write(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.smartconnect.auth.util;
+
+import com.google.common.net.InetAddresses;
+
+/**
+ * Helpers for validating and normalizing client IP addresses
+ * Values stored in audit_logs.ip_address must be valid inet literals
+ */
+public final class IpAddressUtils {
+
+    private IpAddressUtils() {
+    }
+
+    /**
+     * Normalize a raw client address for storage
+     * Takes the first entry of X-Forwarded-For style lists; returns null if the value is not an IP literal
+     */
+    public static String normalize(String rawAddress) {
+        if (rawAddress == null) {
+            return null;
+        }
+        int comma = rawAddress.indexOf(',');
+        String candidate = (comma >= 0 ? rawAddress.substring(0, comma) : rawAddress).trim();
+        return isValidAddress(candidate) ? candidate : null;
+    }
+
+    /**
+     * Check whether the value is an IPv4 or IPv6 literal (no DNS lookup)
+     */
+    public static boolean isValidAddress(String address) {
+        return address != null && !address.isBlank() && InetAddresses.isInetAddress(address);
+    }
+
+    /**
+     * Check whether the value is a CIDR block such as 10.0.0.0/24 or 2001:db8::/64
+     * A bare address is accepted as a single-host network
+     */
+    public static boolean isValidCidr(String cidr) {
+        if (cidr == null) {
+            return false;
+        }
+        int slash = cidr.indexOf('/');
+        if (slash < 0) {
+            return isValidAddress(cidr);
+        }
+        String address = cidr.substring(0, slash);
+        if (!isValidAddress(address)) {
+            return false;
+        }
+        try {
+            int prefix = Integer.parseInt(cidr.substring(slash + 1));
+            int maxPrefix = InetAddresses.forString(address).getAddress().length * 8;
+            return prefix >= 0 && prefix <= maxPrefix;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
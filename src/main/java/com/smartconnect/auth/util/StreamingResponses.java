@@ -0,0 +1,75 @@
+package com.smartconnect.auth.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartconnect.auth.model.enums.ExportFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Helpers for building streamed file download responses
+ */
+public final class StreamingResponses {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private StreamingResponses() {
+    }
+
+    /**
+     * Build an attachment response whose body is written directly to the servlet output stream
+     * When gzip is requested the body is compressed on the fly (Content-Encoding: gzip)
+     */
+    public static ResponseEntity<StreamingResponseBody> attachment(
+            ExportFormat format,
+            String baseFileName,
+            boolean gzip,
+            StreamingResponseBody body) {
+        String fileName = baseFileName + "-" + LocalDateTime.now().format(FILE_TIMESTAMP)
+                + "." + format.getFileExtension();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(format.getMediaType()));
+        headers.setContentDisposition(ContentDisposition.attachment().filename(fileName).build());
+        headers.setCacheControl("no-store");
+
+        StreamingResponseBody responseBody = body;
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            responseBody = outputStream -> {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+                body.writeTo(gzipStream);
+                gzipStream.finish();
+            };
+        }
+
+        return ResponseEntity.ok().headers(headers).body(responseBody);
+    }
+
+    /**
+     * Build an inline NDJSON response; the producer pushes rows into the given sink as they are read
+     * Runs on an async request thread, so the producer opens its own transaction (e.g. a service call)
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> ndjson(
+            ObjectMapper objectMapper,
+            Consumer<Consumer<T>> producer) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(ExportFormat.NDJSON.getMediaType()));
+        headers.setCacheControl("no-store");
+
+        StreamingResponseBody body = outputStream -> {
+            NdjsonExportWriter<T> writer = new NdjsonExportWriter<>(outputStream, objectMapper);
+            producer.accept(writer.asConsumer());
+            writer.flush();
+        };
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+}
@@ -0,0 +1,36 @@
+package com.smartconnect.auth.util;
+
+import com.smartconnect.auth.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Builds the {@link Sort} for summary list endpoints from request parameters
+ * Only whitelisted keys are accepted; each key maps to the entity path the projection query can order by,
+ * so an unknown column is a 400 instead of a query failure.
+ */
+public final class SummarySort {
+
+    private SummarySort() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @param sortBy     requested sort key
+     * @param direction  ASC or DESC (case-insensitive)
+     * @param properties allowed sort keys mapped to entity property paths
+     * @throws BadRequestException if the key or direction is not allowed
+     */
+    public static Sort of(String sortBy, String direction, Map<String, String> properties) {
+        String property = properties.get(sortBy);
+        if (property == null) {
+            throw new BadRequestException("Unsupported sortBy '" + sortBy + "', expected one of "
+                    + new TreeSet<>(properties.keySet()));
+        }
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BadRequestException("Unsupported direction '" + direction + "', expected ASC or DESC"));
+        return Sort.by(sortDirection, property);
+    }
+}
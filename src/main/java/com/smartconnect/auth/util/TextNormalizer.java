@@ -0,0 +1,52 @@
+package com.smartconnect.auth.util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Folds text for accent- and case-insensitive matching
+ * "Nguyễn Văn Đức" -> "nguyen van duc"; mirrors f_search_normalize() in the database
+ */
+public final class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{M}\\p{N}]+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Strip diacritics, lower-case and collapse whitespace (null-safe)
+     */
+    public static String fold(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                // đ/Đ are separate letters, not a base letter plus a combining mark
+                .replace('đ', 'd')
+                .replace('Đ', 'D');
+        return WHITESPACE.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * to_tsquery expression matching every word of the text as a prefix: "Đăng nhập" -> "đăng:* & nhập:*"
+     * Words are split on anything but letters and digits and lower-cased, so no tsquery operator or
+     * quote can reach the database; accents are kept, like the 'simple' search configuration does.
+     * Returns an empty string when the text has no words.
+     */
+    public static String prefixTsQuery(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Arrays.stream(NON_WORD.split(text.toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -0,0 +1,93 @@
+-- =====================================================
+-- Migration V10: Dictionary-encode repeated audit strings
+-- Description: Moves user_agent, request_url and entity_name out of
+--              audit_logs into a shared dictionary keyed by a 64-bit hash
+-- =====================================================
+
+-- Hash used as the dictionary key: first 8 bytes of MD5(value) as a signed
+-- BIGINT. The application computes the same value, so it can resolve ids
+-- without a round trip. Kept for ad-hoc queries, e.g.
+--   WHERE user_agent_id = audit_string_hash('Mozilla/5.0 ...')
+CREATE OR REPLACE FUNCTION audit_string_hash(value TEXT)
+RETURNS BIGINT AS $$
+    SELECT ('x' || substr(md5(value), 1, 16))::bit(64)::bigint;
+$$ LANGUAGE sql IMMUTABLE STRICT;
+
+CREATE TABLE IF NOT EXISTS audit_string_dictionary (
+    id BIGINT PRIMARY KEY,
+    value TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Backfill the dictionary from existing rows, resolving hash collisions the
+-- same way as AuditStringDictionaryServiceImpl.store(): when an id is taken by
+-- another value, probe the next one, giving up after 8 (MAX_PROBES). Values
+-- that did not get their plain hash are recorded so audit_logs can be pointed
+-- at the probed id below.
+CREATE TEMP TABLE audit_string_probed (
+    value TEXT PRIMARY KEY,
+    id BIGINT NOT NULL
+);
+
+DO $$
+DECLARE
+    string_value TEXT;
+    candidate BIGINT;
+    stored TEXT;
+BEGIN
+    FOR string_value IN
+        SELECT user_agent FROM audit_logs WHERE user_agent IS NOT NULL
+        UNION
+        SELECT request_url FROM audit_logs WHERE request_url IS NOT NULL
+        UNION
+        SELECT entity_name FROM audit_logs WHERE entity_name IS NOT NULL
+    LOOP
+        candidate := audit_string_hash(string_value);
+        FOR probe IN 1..8 LOOP
+            INSERT INTO audit_string_dictionary (id, value) VALUES (candidate, string_value)
+            ON CONFLICT (id) DO NOTHING;
+            SELECT value INTO stored FROM audit_string_dictionary WHERE id = candidate;
+            EXIT WHEN stored = string_value;
+            RAISE WARNING 'Audit dictionary id % is taken by another value, probing the next id', candidate;
+            candidate := candidate + 1;
+        END LOOP;
+
+        IF stored IS DISTINCT FROM string_value THEN
+            RAISE EXCEPTION 'No free audit dictionary id after 8 probes for value %', string_value;
+        END IF;
+        IF candidate <> audit_string_hash(string_value) THEN
+            INSERT INTO audit_string_probed (value, id) VALUES (string_value, candidate);
+        END IF;
+    END LOOP;
+END $$;
+
+ALTER TABLE audit_logs
+ADD COLUMN IF NOT EXISTS user_agent_id BIGINT,
+ADD COLUMN IF NOT EXISTS request_url_id BIGINT,
+ADD COLUMN IF NOT EXISTS entity_name_id BIGINT;
+
+UPDATE audit_logs
+SET user_agent_id = audit_string_hash(user_agent),
+    request_url_id = audit_string_hash(request_url),
+    entity_name_id = audit_string_hash(entity_name)
+WHERE user_agent IS NOT NULL OR request_url IS NOT NULL OR entity_name IS NOT NULL;
+
+-- Rows whose strings collided (normally none)
+UPDATE audit_logs a SET user_agent_id = p.id FROM audit_string_probed p WHERE a.user_agent = p.value;
+UPDATE audit_logs a SET request_url_id = p.id FROM audit_string_probed p WHERE a.request_url = p.value;
+UPDATE audit_logs a SET entity_name_id = p.id FROM audit_string_probed p WHERE a.entity_name = p.value;
+
+DROP TABLE audit_string_probed;
+
+-- NOTE: dropped columns (and the row versions left by the UPDATE above) only
+-- give space back after VACUUM FULL / pg_repack of audit_logs.
+ALTER TABLE audit_logs
+DROP COLUMN IF EXISTS user_agent,
+DROP COLUMN IF EXISTS request_url,
+DROP COLUMN IF EXISTS entity_name;
+
+-- Add comments
+COMMENT ON TABLE audit_string_dictionary IS 'Distinct high-repetition audit strings keyed by audit_string_hash(value)';
+COMMENT ON COLUMN audit_logs.user_agent_id IS 'Client user agent (audit_string_dictionary id)';
+COMMENT ON COLUMN audit_logs.request_url_id IS 'Request endpoint (audit_string_dictionary id)';
+COMMENT ON COLUMN audit_logs.entity_name_id IS 'Human-readable entity name (audit_string_dictionary id)';
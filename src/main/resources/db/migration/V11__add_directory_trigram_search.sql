@@ -0,0 +1,38 @@
+-- =====================================================
+-- Migration V11: Accent-insensitive trigram search for directories
+-- Description: unaccent + pg_trgm GIN indexes on normalized name and code
+--              expressions used by student/teacher/admin search
+-- =====================================================
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- unaccent() is only STABLE (it depends on search_path), so it cannot be used
+-- in an index expression directly. Pinning the dictionary and schema makes this
+-- wrapper safe to declare IMMUTABLE. Folds case and diacritics ("Nguyễn" -> "nguyen",
+-- "Đặng" -> "dang"). Queries must use the same function for the indexes to apply.
+CREATE OR REPLACE FUNCTION f_search_normalize(value TEXT)
+RETURNS TEXT AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, value));
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+-- Names (shared by all three directories through users)
+CREATE INDEX IF NOT EXISTS idx_users_full_name_trgm
+    ON users USING GIN (f_search_normalize(full_name) gin_trgm_ops);
+
+-- Codes
+CREATE INDEX IF NOT EXISTS idx_students_student_code_trgm
+    ON students USING GIN (lower(student_code) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_teachers_teacher_code_trgm
+    ON teachers USING GIN (lower(teacher_code) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_admins_admin_code_trgm
+    ON admins USING GIN (lower(admin_code) gin_trgm_ops);
+
+-- Secondary searchable text
+CREATE INDEX IF NOT EXISTS idx_teachers_specialization_trgm
+    ON teachers USING GIN (f_search_normalize(specialization) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_admins_department_trgm
+    ON admins USING GIN (f_search_normalize(department) gin_trgm_ops);
+
+-- Add comments
+COMMENT ON FUNCTION f_search_normalize(TEXT) IS 'Lower-case, accent-free form of a value for directory search indexes';
@@ -0,0 +1,20 @@
+-- =====================================================
+-- Migration V12: Keyset pagination indexes
+-- Description: Composite (created_at, id) indexes so cursor pages over
+--              students, teachers and admins are index range scans at any depth
+-- =====================================================
+
+-- Full listings (scanned backwards for created_at DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_students_created_at_id ON students(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_teachers_created_at_id ON teachers(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_admins_created_at_id ON admins(created_at, id);
+
+-- Filtered listings
+CREATE INDEX IF NOT EXISTS idx_students_major_created_at_id ON students(major_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_teachers_faculty_created_at_id ON teachers(faculty_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_admins_department_created_at_id ON admins(department, created_at, id);
+
+-- Superseded by the composite indexes above (same leading column)
+DROP INDEX IF EXISTS idx_students_created_at;
+DROP INDEX IF EXISTS idx_teachers_created_at;
+DROP INDEX IF EXISTS idx_admins_created_at;
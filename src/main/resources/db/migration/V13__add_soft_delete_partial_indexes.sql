@@ -0,0 +1,49 @@
+-- =====================================================
+-- Migration V13: Partial indexes for live rows
+-- Description: Entities now carry a global "is_deleted = false" restriction,
+--              so hot lookups only ever touch live rows. Index just those rows
+--              and drop the full indexes they supersede.
+-- =====================================================
+
+-- The restriction is "is_deleted = false"; NULL would hide a row from every query
+UPDATE users SET is_deleted = FALSE WHERE is_deleted IS NULL;
+UPDATE students SET is_deleted = FALSE WHERE is_deleted IS NULL;
+UPDATE teachers SET is_deleted = FALSE WHERE is_deleted IS NULL;
+UPDATE admins SET is_deleted = FALSE WHERE is_deleted IS NULL;
+
+ALTER TABLE users ALTER COLUMN is_deleted SET NOT NULL;
+ALTER TABLE students ALTER COLUMN is_deleted SET NOT NULL;
+ALTER TABLE teachers ALTER COLUMN is_deleted SET NOT NULL;
+ALTER TABLE admins ALTER COLUMN is_deleted SET NOT NULL;
+
+-- Students
+CREATE INDEX IF NOT EXISTS idx_students_live_student_code ON students(student_code) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_students_live_user_id ON students(user_id) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_students_live_major_id ON students(major_id) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_students_live_status ON students(status) WHERE is_deleted = false;
+
+-- Teachers
+CREATE INDEX IF NOT EXISTS idx_teachers_live_teacher_code ON teachers(teacher_code) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_teachers_live_user_id ON teachers(user_id) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_teachers_live_faculty_id ON teachers(faculty_id) WHERE is_deleted = false;
+
+-- Admins
+CREATE INDEX IF NOT EXISTS idx_admins_live_admin_code ON admins(admin_code) WHERE is_deleted = false;
+CREATE INDEX IF NOT EXISTS idx_admins_live_user_id ON admins(user_id) WHERE is_deleted = false;
+
+-- Superseded by the partial indexes above; code and user_id uniqueness still
+-- comes from the UNIQUE constraints, which must keep covering deleted rows
+DROP INDEX IF EXISTS idx_students_student_code;
+DROP INDEX IF EXISTS idx_students_user_id;
+DROP INDEX IF EXISTS idx_students_major_id;
+DROP INDEX IF EXISTS idx_students_status;
+DROP INDEX IF EXISTS idx_teachers_teacher_code;
+DROP INDEX IF EXISTS idx_teachers_user_id;
+DROP INDEX IF EXISTS idx_teachers_faculty_id;
+DROP INDEX IF EXISTS idx_admins_admin_code;
+DROP INDEX IF EXISTS idx_admins_user_id;
+
+-- A boolean index on a column that is false for almost every row is never chosen
+DROP INDEX IF EXISTS idx_students_is_deleted;
+DROP INDEX IF EXISTS idx_teachers_is_deleted;
+DROP INDEX IF EXISTS idx_admins_is_deleted;
@@ -0,0 +1,16 @@
+-- =====================================================
+-- Migration V14: Change feed indexes
+-- Description: Composite (updated_at, id) indexes so incremental sync of
+--              users and students is an index range scan after the watermark.
+--              Not partial: soft-deleted rows must reach the feed too.
+-- =====================================================
+
+-- Rows never touched since creation may still have no updated_at
+UPDATE users SET updated_at = created_at WHERE updated_at IS NULL;
+UPDATE students SET updated_at = created_at WHERE updated_at IS NULL;
+
+ALTER TABLE users ALTER COLUMN updated_at SET NOT NULL;
+ALTER TABLE students ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_users_updated_at_id ON users(updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_students_updated_at_id ON students(updated_at, id);
@@ -0,0 +1,28 @@
+-- =====================================================
+-- Migration V15: Create OUTBOX_EVENTS table
+-- Description: Transactional outbox for user and profile lifecycle events.
+--              Rows are written with the change they describe and deleted
+--              by the relay once delivered, so the table stays small.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT
+);
+
+-- Head-of-aggregate check (is there an earlier event for the same aggregate?)
+CREATE INDEX IF NOT EXISTS idx_outbox_events_aggregate_id ON outbox_events(aggregate_id, id);
+
+-- Due events in delivery order
+CREATE INDEX IF NOT EXISTS idx_outbox_events_next_attempt_at ON outbox_events(next_attempt_at, id);
+
+COMMENT ON TABLE outbox_events IS 'Lifecycle events pending delivery to other services';
+COMMENT ON COLUMN outbox_events.id IS 'Delivery order within an aggregate';
+COMMENT ON COLUMN outbox_events.next_attempt_at IS 'Not retried before this time (exponential backoff after failures)';
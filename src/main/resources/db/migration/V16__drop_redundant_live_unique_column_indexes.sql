@@ -0,0 +1,16 @@
+-- =====================================================
+-- Migration V16: Drop partial indexes duplicating UNIQUE constraints
+-- Description: V13 indexed live rows of the code and user_id columns, but
+--              the UNIQUE constraints on those columns already index every
+--              row, and an equality lookup on a unique index reads at most
+--              one entry whatever is_deleted holds. The planner is free to
+--              pick either, so the partial copies only cost writes.
+--              The non-unique partial indexes (major, status, faculty) stay.
+-- =====================================================
+
+DROP INDEX IF EXISTS idx_students_live_student_code;
+DROP INDEX IF EXISTS idx_students_live_user_id;
+DROP INDEX IF EXISTS idx_teachers_live_teacher_code;
+DROP INDEX IF EXISTS idx_teachers_live_user_id;
+DROP INDEX IF EXISTS idx_admins_live_admin_code;
+DROP INDEX IF EXISTS idx_admins_live_user_id;
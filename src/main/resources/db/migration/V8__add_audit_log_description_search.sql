@@ -0,0 +1,19 @@
+-- =====================================================
+-- Migration V8: Full-text search on audit log descriptions
+-- Description: Generated tsvector column with GIN index so description
+--              search no longer sequentially scans audit_logs
+-- =====================================================
+
+-- Generated search vector ('simple' config: no stemming, works for mixed
+-- Vietnamese/English descriptions; prefix queries cover word variants).
+-- NOTE: adding a STORED generated column rewrites the table; schedule this
+-- migration in a maintenance window on large installations.
+ALTER TABLE audit_logs
+ADD COLUMN IF NOT EXISTS description_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(description, ''))) STORED;
+
+-- GIN index for @@ matching (word, phrase and prefix queries)
+CREATE INDEX IF NOT EXISTS idx_audit_logs_description_tsv ON audit_logs USING GIN (description_tsv);
+
+-- Add comments
+COMMENT ON COLUMN audit_logs.description_tsv IS 'Full-text search vector generated from description (simple config)';
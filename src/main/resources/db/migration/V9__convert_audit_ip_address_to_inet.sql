@@ -0,0 +1,70 @@
+-- =====================================================
+-- Migration V9: Convert audit_logs.ip_address to inet
+-- Description: Native inet type with GiST index so subnet (<<=) and
+--              range queries on client addresses use an index
+-- =====================================================
+
+-- Lenient cast: values that are not valid addresses become NULL
+-- (takes the first entry of X-Forwarded-For style lists)
+CREATE OR REPLACE FUNCTION try_cast_inet(value TEXT)
+RETURNS inet AS $$
+BEGIN
+    RETURN NULLIF(trim(split_part(value, ',', 1)), '')::inet;
+EXCEPTION WHEN others THEN
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Views depending on ip_address must be dropped before changing its type
+DROP VIEW IF EXISTS failed_login_attempts;
+DROP VIEW IF EXISTS recent_security_events;
+DROP INDEX IF EXISTS idx_audit_logs_ip_address;
+
+ALTER TABLE audit_logs
+ALTER COLUMN ip_address TYPE inet USING try_cast_inet(ip_address);
+
+DROP FUNCTION try_cast_inet(TEXT);
+
+-- GiST index supports containment (<<=, >>=), equality and range comparisons
+CREATE INDEX IF NOT EXISTS idx_audit_logs_ip_address ON audit_logs USING GIST (ip_address inet_ops);
+
+-- Recreate views
+CREATE OR REPLACE VIEW recent_security_events AS
+SELECT 
+    al.id,
+    al.user_id,
+    u.username,
+    u.email,
+    al.action,
+    al.entity_type,
+    al.description,
+    al.ip_address,
+    al.created_at
+FROM audit_logs al
+LEFT JOIN users u ON al.user_id = u.id
+WHERE al.action IN ('LOGIN', 'LOGOUT', 'LOGIN_FAILED', 'PASSWORD_CHANGE', 'PASSWORD_RESET', 'PERMISSION_CHANGE')
+AND al.created_at >= CURRENT_TIMESTAMP - INTERVAL '30 days'
+ORDER BY al.created_at DESC;
+
+COMMENT ON VIEW recent_security_events IS 'Recent security-related events from the last 30 days';
+
+CREATE OR REPLACE VIEW failed_login_attempts AS
+SELECT 
+    al.user_id,
+    u.username,
+    u.email,
+    COUNT(*) as attempt_count,
+    MAX(al.created_at) as last_attempt,
+    array_agg(DISTINCT al.ip_address) as ip_addresses
+FROM audit_logs al
+LEFT JOIN users u ON al.user_id = u.id
+WHERE al.action = 'LOGIN_FAILED'
+AND al.created_at >= CURRENT_TIMESTAMP - INTERVAL '24 hours'
+GROUP BY al.user_id, u.username, u.email
+HAVING COUNT(*) >= 3
+ORDER BY attempt_count DESC, last_attempt DESC;
+
+COMMENT ON VIEW failed_login_attempts IS 'Users with 3+ failed login attempts in the last 24 hours';
+
+-- Add comments
+COMMENT ON COLUMN audit_logs.ip_address IS 'Client IP address (inet, IPv4 or IPv6)';
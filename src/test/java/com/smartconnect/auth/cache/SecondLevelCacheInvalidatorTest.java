@@ -0,0 +1,91 @@
+package com.smartconnect.auth.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SecondLevelCacheInvalidator
+ */
+@DisplayName("SecondLevelCacheInvalidator Tests")
+class SecondLevelCacheInvalidatorTest {
+
+    private static final String STUDENT = "com.smartconnect.auth.model.entity.Student";
+
+    private CacheInvalidationBus invalidationBus;
+    private EntityPersister persister;
+    private CacheImplementor cache;
+    private SecondLevelCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = mock(CacheInvalidationBus.class);
+        persister = mock(EntityPersister.class);
+        cache = mock(CacheImplementor.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        MappingMetamodelImplementor metamodel = mock(MappingMetamodelImplementor.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getMappingMetamodel()).thenReturn(metamodel);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        when(metamodel.findEntityDescriptor(STUDENT)).thenReturn(persister);
+        when(persister.getEntityName()).thenReturn(STUDENT);
+        invalidator = new SecondLevelCacheInvalidator(entityManagerFactory, invalidationBus);
+    }
+
+    // ==================== BROADCAST TESTS ====================
+
+    @Test
+    @DisplayName("Should announce committed writes to cached entities")
+    void shouldAnnounceCachedEntityWrites() {
+        UUID id = UUID.randomUUID();
+        when(persister.canWriteToCache()).thenReturn(true);
+
+        invalidator.onPostUpdate(new PostUpdateEvent(null, id, null, null, null, persister, null));
+
+        verify(invalidationBus).publish(SecondLevelCacheInvalidator.INVALIDATION_TOPIC, STUDENT + "#" + id);
+    }
+
+    @Test
+    @DisplayName("Should not announce writes to entities outside the second-level cache")
+    void shouldIgnoreUncachedEntities() {
+        when(persister.canWriteToCache()).thenReturn(false);
+
+        invalidator.onPostUpdate(new PostUpdateEvent(null, UUID.randomUUID(), null, null, null, persister, null));
+
+        verifyNoInteractions(invalidationBus);
+    }
+
+    // ==================== EVICTION TESTS ====================
+
+    @Test
+    @DisplayName("Should evict the entity, its natural ids and cached query results")
+    void shouldEvictAnnouncedEntity() {
+        UUID id = UUID.randomUUID();
+        when(persister.hasNaturalIdCache()).thenReturn(true);
+
+        invalidator.evict(STUDENT + "#" + id);
+
+        verify(cache).evictEntityData(STUDENT, id);
+        verify(cache).evictNaturalIdData(STUDENT);
+        verify(cache).evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("Should ignore entities this replica does not map")
+    void shouldIgnoreUnknownEntities() {
+        invalidator.evict("com.example.Unknown#" + UUID.randomUUID());
+
+        verifyNoInteractions(cache);
+    }
+}
@@ -0,0 +1,60 @@
+package com.smartconnect.auth.config;
+
+import com.github.benmanes.caffeine.jcache.CacheProxy;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.smartconnect.auth.util.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the second-level cache region configuration
+ */
+@DisplayName("HibernateCacheConfig Tests")
+class HibernateCacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new HibernateCacheConfig().hibernateCacheManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    // ==================== REGION TESTS ====================
+
+    @Test
+    @DisplayName("Should create every region from hibernate-cache.conf")
+    void shouldCreateAllRegions() {
+        for (String region : HibernateCacheConfig.REGIONS) {
+            assertThat(cacheManager.getCache(region)).as(region).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should bound profile regions to seconds but never evict update timestamps")
+    void shouldApplyRegionPolicies() {
+        CaffeineConfiguration<?, ?> students = configurationOf(Constants.CACHE_REGION_STUDENTS);
+        CaffeineConfiguration<?, ?> timestamps = configurationOf("default-update-timestamps-region");
+
+        assertThat(students.getMaximumSize()).hasValue(50_000L);
+        assertThat(students.getExpireAfterWrite()).hasValue(TimeUnit.SECONDS.toNanos(30));
+        assertThat(timestamps.getMaximumSize()).isEmpty();
+        assertThat(timestamps.getExpireAfterWrite()).isEmpty();
+    }
+
+    private CaffeineConfiguration<?, ?> configurationOf(String region) {
+        CacheProxy<?, ?> cache = cacheManager.getCache(region).unwrap(CacheProxy.class);
+        return cache.getConfiguration(CaffeineConfiguration.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.smartconnect.auth.filter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ServiceKeyAuthenticationFilter
+ */
+@DisplayName("ServiceKeyAuthenticationFilter Tests")
+class ServiceKeyAuthenticationFilterTest {
+
+    // SHA-256 of "test-key"
+    private static final String DIGEST = "62af8704764faf8ea82fc61ce9c4c3908b6cb97d463a634e9e587d7c885db0ef";
+
+    private final ServiceKeyAuthenticationFilter filter = new ServiceKeyAuthenticationFilter("grades-api:" + DIGEST);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should grant only the revocations:read scope for a known key on the stream")
+    void shouldAuthenticateKnownKeyOnStream() throws Exception {
+        filter.doFilter(request("/api/v1/auth/revocations/stream", "test-key"), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("grades-api");
+        assertThat(AuthorityUtils.authorityListToSet(authentication.getAuthorities()))
+                .containsExactly("SCOPE_revocations:read");
+    }
+
+    @Test
+    @DisplayName("Should ignore unknown keys and keys sent to other paths")
+    void shouldIgnoreUnknownKeysAndOtherPaths() throws Exception {
+        filter.doFilter(request("/api/v1/auth/revocations/stream", "other-key"), new MockHttpServletResponse(), new MockFilterChain());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+
+        filter.doFilter(request("/api/v1/users", "test-key"), new MockHttpServletResponse(), new MockFilterChain());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private static MockHttpServletRequest request(String uri, String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/api");
+        request.addHeader(ServiceKeyAuthenticationFilter.HEADER, key);
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+package com.smartconnect.auth.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartconnect.auth.importer.ImportRowReader.ParsedRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ImportRowReader
+ */
+@DisplayName("ImportRowReader Tests")
+class ImportRowReaderTest {
+
+    // ==================== CSV TESTS ====================
+
+    @Test
+    @DisplayName("Should map CSV columns by header and handle quoted fields")
+    void shouldReadQuotedCsvFields() throws IOException {
+        String csv = "\uFEFFusername,fullName,address\r\n"
+                + "sv001,\"Nguyễn, Văn A\",\"12 \"\"Main\"\" St\nHanoi\"\r\n"
+                + "\r\n"
+                + "sv002,Trần Thị B,\r\n";
+
+        List<ParsedRow> rows = ImportRowReader.readCsv(new StringReader(csv));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).rowNumber()).isEqualTo(1);
+        assertThat(rows.get(0).values())
+                .containsEntry("username", "sv001")
+                .containsEntry("fullName", "Nguyễn, Văn A")
+                .containsEntry("address", "12 \"Main\" St\nHanoi");
+        assertThat(rows.get(1).values()).containsEntry("address", "");
+    }
+
+    @Test
+    @DisplayName("Should report rows with the wrong number of columns")
+    void shouldRejectRaggedCsvRows() throws IOException {
+        List<ParsedRow> rows = ImportRowReader.readCsv(new StringReader("a,b\n1,2,3\n4,5\n"));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).error()).isEqualTo("Expected 2 columns but found 3");
+        assertThat(rows.get(1).values()).containsEntry("a", "4").containsEntry("b", "5");
+    }
+
+    // ==================== NDJSON TESTS ====================
+
+    @Test
+    @DisplayName("Should skip blank NDJSON lines and keep going after a malformed one")
+    void shouldReadNdjsonLines() throws IOException {
+        String ndjson = "{\"username\":\"sv001\",\"admissionYear\":2024}\n\n{not json\n{\"username\":\"sv002\"}\n";
+
+        List<ParsedRow> rows = ImportRowReader.readNdjson(new StringReader(ndjson), new ObjectMapper());
+
+        assertThat(rows).extracting(ParsedRow::rowNumber).containsExactly(1, 2, 3);
+        assertThat(rows.get(0).values()).containsEntry("admissionYear", 2024);
+        assertThat(rows.get(1).error()).isEqualTo("Malformed JSON line");
+        assertThat(rows.get(2).values()).containsEntry("username", "sv002");
+    }
+}
@@ -0,0 +1,45 @@
+package com.smartconnect.auth.outbox;
+
+import com.smartconnect.auth.event.UserLifecycleEvent;
+import com.smartconnect.auth.model.entity.OutboxEvent;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.repository.OutboxEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxEventWriter
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventWriter Tests")
+class OutboxEventWriterTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @InjectMocks
+    private OutboxEventWriter outboxEventWriter;
+
+    @Test
+    @DisplayName("Should lock the aggregate before inserting its event")
+    void shouldLockAggregateBeforeInsert() {
+        UUID userId = UUID.randomUUID();
+
+        outboxEventWriter.onUserLifecycle(new UserLifecycleEvent(
+                UserLifecycleEvent.ChangeType.REGISTERED, userId, "alice", "alice@example.com", UserRole.STUDENT));
+
+        InOrder inOrder = inOrder(outboxEventRepository);
+        inOrder.verify(outboxEventRepository).lockAggregate(OutboxEventWriter.AGGREGATE_LOCK_NAMESPACE, userId.toString());
+        inOrder.verify(outboxEventRepository).save(any(OutboxEvent.class));
+    }
+}
@@ -0,0 +1,143 @@
+package com.smartconnect.auth.outbox;
+
+import com.smartconnect.auth.model.entity.OutboxEvent;
+import com.smartconnect.auth.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxRelay
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxEventRepository, sink, meterRegistry, transactionManager, 600000, 1000, 60000);
+    }
+
+    @Test
+    @DisplayName("Should delete delivered events and reschedule failed ones with backoff")
+    void shouldDeleteDeliveredAndRescheduleFailed() throws Exception {
+        // Given
+        OutboxEvent ok = event(1L);
+        OutboxEvent broken = event(2L);
+        when(outboxEventRepository.lockNextBatch(any(), anyInt())).thenReturn(List.of(ok, broken));
+        doAnswer(invocation -> {
+            if (invocation.<OutboxMessage>getArgument(0).id() == 2L) {
+                throw new IOException("sink down");
+            }
+            return null;
+        }).when(sink).publish(any());
+
+        // When
+        int relayed = outboxRelay.relayBatch(10);
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxEventRepository).save(broken);
+        verify(outboxEventRepository, never()).save(ok);
+        assertThat(broken.getAttempts()).isEqualTo(1);
+        assertThat(broken.getNextAttemptAt())
+                .isAfter(LocalDateTime.now().plusNanos(500_000_000))
+                .isBefore(LocalDateTime.now().plusSeconds(2));
+        assertThat(broken.getLastError()).isEqualTo("sink down");
+        assertThat(meterRegistry.counter("outbox.delivered").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("outbox.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should lease claimed events and publish them outside any transaction")
+    void shouldPublishBetweenClaimAndFinishTransactions() throws Exception {
+        // Given
+        OutboxEvent event = event(1L);
+        when(outboxEventRepository.lockNextBatch(any(), anyInt())).thenReturn(List.of(event));
+        doAnswer(invocation -> {
+            assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(9));
+            return null;
+        }).when(sink).publish(any());
+
+        // When
+        outboxRelay.relayBatch(10);
+
+        // Then: claim commits before the sink is called, and the delete runs in a second transaction
+        InOrder inOrder = inOrder(transactionManager, outboxEventRepository, sink);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(outboxEventRepository).lockNextBatch(any(), anyInt());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(sink).publish(any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should not open a second transaction when nothing is due")
+    void shouldSkipFinishWhenNothingClaimed() throws Exception {
+        // Given
+        when(outboxEventRepository.lockNextBatch(any(), anyInt())).thenReturn(List.of());
+
+        // When
+        int relayed = outboxRelay.relayBatch(10);
+
+        // Then
+        assertThat(relayed).isZero();
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(sink, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Should double the backoff per attempt up to the maximum")
+    void shouldCapExponentialBackoff() {
+        assertThat(outboxRelay.backoffMs(1)).isEqualTo(1000);
+        assertThat(outboxRelay.backoffMs(3)).isEqualTo(4000);
+        assertThat(outboxRelay.backoffMs(7)).isEqualTo(60000);
+        assertThat(outboxRelay.backoffMs(100)).isEqualTo(60000);
+    }
+
+    private static OutboxEvent event(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("USER")
+                .aggregateId(UUID.randomUUID())
+                .eventType("USER_REGISTERED")
+                .payload(Map.of("username", "user" + id))
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+}
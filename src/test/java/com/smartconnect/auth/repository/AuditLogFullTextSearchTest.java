@@ -0,0 +1,120 @@
+package com.smartconnect.auth.repository;
+
+import com.smartconnect.auth.model.enums.TextSearchMode;
+import com.smartconnect.auth.util.TextNormalizer;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the audit log full-text search query (AuditLogRepository.fullTextSearch, V8)
+ * Runs the native query against the real migrations on PostgreSQL in each search mode
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Audit Log Full-Text Search Tests")
+class AuditLogFullTextSearchTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static NamedParameterJdbcTemplate jdbc;
+    private static String searchSql;
+
+    @BeforeAll
+    static void migrateAndSeed() throws Exception {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbc = new NamedParameterJdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        searchSql = AuditLogRepository.class
+                .getMethod("fullTextSearch", String.class, String.class, String.class, LocalDateTime.class,
+                        LocalDateTime.class, String.class, String.class, Pageable.class)
+                .getAnnotation(Query.class).value();
+
+        for (String description : List.of(
+                "User password was reset by admin",
+                "Password reset requested",
+                "Password changed",
+                "Reset password link sent",
+                "Đăng nhập thành công")) {
+            jdbc.update("INSERT INTO audit_logs (action, entity_type, description) "
+                            + "VALUES ('UPDATE', 'USER', :description)",
+                    new MapSqlParameterSource("description", description));
+        }
+        jdbc.update("INSERT INTO audit_logs (action, entity_type, description) "
+                + "VALUES ('LOGIN', 'USER', 'Password reset before login')", new MapSqlParameterSource());
+    }
+
+    @Test
+    @DisplayName("Should match all words in any order in WORDS mode")
+    void shouldMatchAllWords() {
+        assertThat(search("password reset", TextSearchMode.WORDS, null)).containsExactlyInAnyOrder(
+                "User password was reset by admin",
+                "Password reset requested",
+                "Reset password link sent",
+                "Password reset before login");
+    }
+
+    @Test
+    @DisplayName("Should match adjacent words in order in PHRASE mode")
+    void shouldMatchPhrase() {
+        assertThat(search("password reset", TextSearchMode.PHRASE, null)).containsExactlyInAnyOrder(
+                "Password reset requested",
+                "Password reset before login");
+    }
+
+    @Test
+    @DisplayName("Should match every word as a prefix in PREFIX mode")
+    void shouldMatchPrefixes() {
+        assertThat(search("pass res", TextSearchMode.PREFIX, null)).containsExactlyInAnyOrder(
+                "User password was reset by admin",
+                "Password reset requested",
+                "Reset password link sent",
+                "Password reset before login");
+        assertThat(search("Đăng nh", TextSearchMode.PREFIX, null)).containsExactly("Đăng nhập thành công");
+    }
+
+    @Test
+    @DisplayName("Should treat quotes and tsquery operators as plain separators in PREFIX mode")
+    void shouldSanitizePrefixInput() {
+        assertThat(search("'pass' & !res:* | (x", TextSearchMode.PREFIX, null)).isEmpty();
+        assertThat(search("'pass' & !res:*", TextSearchMode.PREFIX, null)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should apply the action filter")
+    void shouldFilterByAction() {
+        assertThat(search("password", TextSearchMode.WORDS, "LOGIN")).containsExactly("Password reset before login");
+    }
+
+    private static List<String> search(String text, TextSearchMode mode, String action) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("text", text)
+                .addValue("prefixQuery", TextNormalizer.prefixTsQuery(text))
+                .addValue("mode", mode.name())
+                .addValue("startDate", LocalDateTime.of(2000, 1, 1, 0, 0))
+                .addValue("endDate", LocalDateTime.of(2100, 1, 1, 0, 0))
+                .addValue("action", action, Types.VARCHAR)
+                .addValue("entityType", null, Types.VARCHAR);
+        return jdbc.query(searchSql, params, (rows, rowNum) -> rows.getString("description"));
+    }
+}
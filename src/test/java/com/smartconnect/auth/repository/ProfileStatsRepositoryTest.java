@@ -0,0 +1,96 @@
+package com.smartconnect.auth.repository;
+
+import com.smartconnect.auth.model.entity.Student;
+import com.smartconnect.auth.model.enums.StatsDimension;
+import com.smartconnect.auth.stats.StatsBucket;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Tests for the stats recount query (ProfileStatsRepository.countAllBuckets)
+ * Runs the native query against the real migrations on PostgreSQL and checks its keys match
+ * the ones StatsBucket derives from entities, including for nullable columns
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Profile Stats Repository Tests")
+class ProfileStatsRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, username, email, password_hash, full_name, role)
+                    SELECT md5('user' || g)::uuid, 'user' || g, 'user' || g || '@example.com', 'x', 'User ' || g, 'STUDENT'
+                    FROM generate_series(1, 3) g
+                    """);
+            statement.execute("""
+                    INSERT INTO students (user_id, student_code, admission_year, status)
+                    VALUES (md5('user1')::uuid, 'SV1', 2024, 'ACTIVE'),
+                           (md5('user2')::uuid, 'SV2', 2024, 'ACTIVE'),
+                           (md5('user3')::uuid, 'SV3', 2024, NULL)
+                    """);
+        }
+    }
+
+    @Test
+    @DisplayName("Should key a NULL student status like the entity-side delta path")
+    void shouldKeyNullStatusLikeStatsBucket() throws Exception {
+        Map<String, Long> byStatus = countAllBuckets().get(StatsDimension.STUDENTS_BY_STATUS.name());
+
+        String nullStatusKey = StatsBucket.of(Student.builder().status(null).admissionYear(2024).build())
+                .get(0).key();
+        assertThat(byStatus).containsExactlyInAnyOrderEntriesOf(Map.of("ACTIVE", 2L, nullStatusKey, 1L));
+    }
+
+    @Test
+    @DisplayName("Should only return rows that make valid stats buckets")
+    void shouldReturnNonNullKeys() throws Exception {
+        countAllBuckets().forEach((dimension, counts) -> counts.keySet().forEach(key ->
+                assertThatCode(() -> new StatsBucket(StatsDimension.valueOf(dimension), key))
+                        .doesNotThrowAnyException()));
+    }
+
+    private static Map<String, Map<String, Long>> countAllBuckets() throws Exception {
+        String sql = ProfileStatsRepository.class.getMethod("countAllBuckets").getAnnotation(Query.class).value();
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(sql)) {
+            while (rows.next()) {
+                counts.computeIfAbsent(rows.getString(1), dimension -> new HashMap<>())
+                        .put(rows.getString(2), rows.getLong(3));
+            }
+        }
+        return counts;
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
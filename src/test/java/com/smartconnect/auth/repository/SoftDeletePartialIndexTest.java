@@ -0,0 +1,164 @@
+package com.smartconnect.auth.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plan tests for the live-row partial indexes (V13, V16)
+ * Runs the real migrations against PostgreSQL, soft-deletes 90% of the profiles and checks
+ * that filters carrying the entity restriction are planned on the partial indexes, and that
+ * code and user lookups stay on the UNIQUE constraint indexes once V16 dropped their
+ * partial duplicates
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Soft Delete Partial Index Tests")
+class SoftDeletePartialIndexTest {
+
+    private static final int PROFILES = 20_000;
+    private static final String LIVE = " AND (p.is_deleted = false)";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO users (id, username, email, password_hash, full_name, role)
+                    SELECT md5('user' || g)::uuid, 'user' || g, 'user' || g || '@example.com', 'x', 'User ' || g, 'STUDENT'
+                    FROM generate_series(1, %d) g
+                    """.formatted(PROFILES));
+            // Every tenth profile is live, the rest are soft-deleted
+            statement.execute("""
+                    INSERT INTO students (user_id, student_code, major_id, admission_year, status, is_deleted)
+                    SELECT md5('user' || g)::uuid, 'SV' || g, md5('major' || (g % 50))::uuid, 2020 + g % 5,
+                           (ARRAY['ACTIVE', 'SUSPENDED', 'GRADUATED', 'DROPPED'])[1 + g % 4]::student_status, g % 10 <> 0
+                    FROM generate_series(1, %d) g
+                    """.formatted(PROFILES));
+            statement.execute("""
+                    INSERT INTO teachers (user_id, teacher_code, faculty_id, is_deleted)
+                    SELECT md5('user' || g)::uuid, 'GV' || g, md5('faculty' || (g % 20))::uuid, g % 10 <> 0
+                    FROM generate_series(1, %d) g
+                    """.formatted(PROFILES));
+            statement.execute("""
+                    INSERT INTO admins (user_id, admin_code, department, is_deleted)
+                    SELECT md5('user' || g)::uuid, 'AD' || g, 'Department ' || (g % 10), g % 10 <> 0
+                    FROM generate_series(1, %d) g
+                    """.formatted(PROFILES));
+            statement.execute("ANALYZE");
+        }
+    }
+
+    // ==================== UNIQUE LOOKUP TESTS ====================
+
+    @Test
+    @DisplayName("Should look up live profiles by code and user on the UNIQUE constraint indexes")
+    void shouldUseUniqueIndexesForCodeAndUserLookups() throws SQLException {
+        assertThat(plan("SELECT * FROM students p WHERE p.student_code = 'SV100'" + LIVE))
+                .contains("Index Scan using students_student_code_key");
+        assertThat(plan("SELECT * FROM students p WHERE p.user_id = md5('user100')::uuid" + LIVE))
+                .contains("Index Scan using students_user_id_key");
+        assertThat(plan("SELECT * FROM teachers p WHERE p.teacher_code = 'GV100'" + LIVE))
+                .contains("Index Scan using teachers_teacher_code_key");
+        assertThat(plan("SELECT * FROM teachers p WHERE p.user_id = md5('user100')::uuid" + LIVE))
+                .contains("Index Scan using teachers_user_id_key");
+        assertThat(plan("SELECT * FROM admins p WHERE p.admin_code = 'AD100'" + LIVE))
+                .contains("Index Scan using admins_admin_code_key");
+        assertThat(plan("SELECT * FROM admins p WHERE p.user_id = md5('user100')::uuid" + LIVE))
+                .contains("Index Scan using admins_user_id_key");
+    }
+
+    @Test
+    @DisplayName("Should not keep partial indexes that duplicate UNIQUE constraints")
+    void shouldDropRedundantPartialIndexes() throws SQLException {
+        assertThat(indexNames("students")).doesNotContain("idx_students_live_student_code", "idx_students_live_user_id");
+        assertThat(indexNames("teachers")).doesNotContain("idx_teachers_live_teacher_code", "idx_teachers_live_user_id");
+        assertThat(indexNames("admins")).doesNotContain("idx_admins_live_admin_code", "idx_admins_live_user_id");
+    }
+
+    // ==================== PARTIAL INDEX TESTS ====================
+
+    @Test
+    @DisplayName("Should filter live students by major and status on partial indexes")
+    void shouldUsePartialIndexesForStudentFilters() throws SQLException {
+        assertThat(plan("SELECT * FROM students p WHERE p.major_id = md5('major10')::uuid" + LIVE))
+                .contains("idx_students_live_major_id");
+        assertThat(plan("SELECT * FROM students p WHERE p.status = 'SUSPENDED'" + LIVE))
+                .contains("idx_students_live_status");
+    }
+
+    @Test
+    @DisplayName("Should filter live teachers by faculty on a partial index")
+    void shouldUsePartialIndexForTeacherFilter() throws SQLException {
+        assertThat(plan("SELECT * FROM teachers p WHERE p.faculty_id = md5('faculty10')::uuid" + LIVE))
+                .contains("idx_teachers_live_faculty_id");
+    }
+
+    @Test
+    @DisplayName("Should keep partial indexes an order of magnitude smaller than a full index on the same key type")
+    void shouldKeepPartialIndexesSmall() throws SQLException {
+        // Both are single-column uuid btrees; the partial one holds the live tenth of the rows
+        long partial = indexSize("idx_students_live_major_id");
+        long full = indexSize("students_user_id_key");
+
+        assertThat(partial).isLessThan(full / 5);
+    }
+
+    private static String plan(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static long indexSize(String index) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT pg_relation_size('" + index + "')")) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static List<String> indexNames(String table) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT indexname FROM pg_indexes WHERE tablename = '" + table + "'")) {
+            while (rows.next()) {
+                names.add(rows.getString(1));
+            }
+        }
+        return names;
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,113 @@
+package com.smartconnect.auth.repository;
+
+import com.smartconnect.auth.dto.response.StudentSummaryResponse;
+import com.smartconnect.auth.model.entity.Student;
+import com.smartconnect.auth.model.entity.User;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary page loaded through the constructor projection against the entity + mapping path it replaced
+ * Not a unit test; needs a migrated Postgres with students in it (bench.jdbc.url / .user / .password,
+ * defaulting to the local dev database). Scores are rows/sec; main() adds the GC profiler, so
+ * gc.alloc.rate.norm gives the bytes allocated per row.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(SummaryProjectionBenchmark.PAGE_SIZE)
+public class SummaryProjectionBenchmark {
+
+    static final int PAGE_SIZE = 500;
+
+    private static final String PROJECTION_QUERY = "SELECT new com.smartconnect.auth.dto.response.StudentSummaryResponse(" +
+            "s.id, u.id, s.studentCode, u.fullName, u.email, s.majorId, s.admissionYear, s.gpa, s.status) " +
+            "FROM Student s JOIN s.user u ORDER BY s.createdAt DESC, s.id";
+    private static final String ENTITY_QUERY = "SELECT s FROM Student s JOIN FETCH s.user ORDER BY s.createdAt DESC, s.id";
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL,
+                        System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/smartconnect_auth"))
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("bench.jdbc.user", "postgres"))
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("bench.jdbc.password", "postgres"))
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Student.class)
+                .getMetadataBuilder()
+                .applyPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .build()
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void projection(Blackhole blackhole) {
+        try (Session session = sessionFactory.openSession()) {
+            List<StudentSummaryResponse> rows = session.createQuery(PROJECTION_QUERY, StudentSummaryResponse.class)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            rows.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void entity(Blackhole blackhole) {
+        try (Session session = sessionFactory.openSession()) {
+            List<Student> students = session.createQuery(ENTITY_QUERY, Student.class)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            for (Student student : students) {
+                blackhole.consume(toSummary(student));
+            }
+        }
+    }
+
+    private static StudentSummaryResponse toSummary(Student student) {
+        User user = student.getUser();
+        return StudentSummaryResponse.builder()
+                .id(student.getId())
+                .userId(user.getId())
+                .studentCode(student.getStudentCode())
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .majorId(student.getMajorId())
+                .admissionYear(student.getAdmissionYear())
+                .gpa(student.getGpa())
+                .status(student.getStatus())
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SummaryProjectionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,45 @@
+package com.smartconnect.auth.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RevocationEvent and stream offset ordering
+ */
+@DisplayName("RevocationEvent Tests")
+class RevocationEventTest {
+
+    // ==================== STREAM ENTRY TESTS ====================
+
+    @Test
+    @DisplayName("Should round-trip stream fields and omit absent values")
+    void shouldRoundTripStreamFields() {
+        UUID userId = UUID.randomUUID();
+        RevocationEvent token = RevocationEvent.token("nonce-1", userId, 1_700_000_000L);
+
+        assertThat(token.toFields()).doesNotContainKey("notBefore");
+        assertThat(RevocationEvent.fromFields("5-0", token.toFields()))
+                .isEqualTo(new RevocationEvent("5-0", RevocationEvent.Type.TOKEN, "nonce-1", userId, null, 1_700_000_000L));
+
+        RevocationEvent user = RevocationEvent.user(userId, 1_700_000_100L);
+        assertThat(RevocationEvent.fromFields("6-0", user.toFields()).notBefore()).isEqualTo(1_700_000_100L);
+
+        RevocationEvent restored = RevocationEvent.restored("nonce-1");
+        assertThat(restored.toFields()).containsOnlyKeys("type", "tokenId");
+        assertThat(RevocationEvent.fromFields("7-0", restored.toFields()).type()).isEqualTo(RevocationEvent.Type.RESTORED);
+    }
+
+    // ==================== OFFSET TESTS ====================
+
+    @Test
+    @DisplayName("Should order offsets numerically by time then sequence")
+    void shouldCompareOffsetsNumerically() {
+        assertThat(TokenRevocationStream.compare("10-0", "9-5")).isPositive();
+        assertThat(TokenRevocationStream.compare("10-2", "10-10")).isNegative();
+        assertThat(TokenRevocationStream.compare(TokenRevocationStream.BEGINNING, "0-0")).isZero();
+    }
+}
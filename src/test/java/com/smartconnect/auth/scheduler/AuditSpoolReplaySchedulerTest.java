@@ -0,0 +1,84 @@
+package com.smartconnect.auth.scheduler;
+
+import com.smartconnect.auth.model.enums.ActionType;
+import com.smartconnect.auth.service.impl.AuditLogWriter;
+import com.smartconnect.auth.spool.AuditEventSpool;
+import com.smartconnect.auth.spool.SpooledAuditEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditSpoolReplayScheduler
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditSpoolReplayScheduler Tests")
+class AuditSpoolReplaySchedulerTest {
+
+    @Mock
+    private AuditEventSpool auditEventSpool;
+
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
+    @InjectMocks
+    private AuditSpoolReplayScheduler scheduler;
+
+    private SpooledAuditEvent good;
+    private SpooledAuditEvent poison;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(scheduler, "replayBatchSize", 500);
+        ReflectionTestUtils.setField(scheduler, "maxBatchesPerRun", 20);
+        good = SpooledAuditEvent.builder().action(ActionType.LOGIN).description("good").build();
+        poison = SpooledAuditEvent.builder().action(ActionType.LOGIN).description("poison").build();
+        when(auditEventSpool.drain(anyInt(), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<List<SpooledAuditEvent>>>getArgument(1).accept(List.of(good, poison));
+            return 2;
+        });
+    }
+
+    // ==================== POISON EVENT TESTS ====================
+
+    @Test
+    @DisplayName("Should quarantine events that fail on their own and write the rest")
+    void shouldQuarantinePoisonEvents() throws Exception {
+        // Lenient: the writer is also called with the good event alone, which must not count as a stubbing mismatch
+        lenient().doThrow(new IllegalArgumentException("unmappable")).when(auditLogWriter).write(List.of(good, poison));
+        lenient().doThrow(new DataIntegrityViolationException("rejected")).when(auditLogWriter).write(List.of(poison));
+
+        scheduler.replaySpooledEvents();
+
+        verify(auditLogWriter).write(List.of(good));
+        verify(auditEventSpool).quarantine(poison);
+        verify(auditEventSpool, never()).quarantine(good);
+    }
+
+    // ==================== DATABASE UNAVAILABLE TESTS ====================
+
+    @Test
+    @DisplayName("Should leave the batch in the spool while the database is unavailable")
+    void shouldRetryWholeBatchWhileDatabaseUnavailable() throws Exception {
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(auditLogWriter).write(any());
+
+        scheduler.replaySpooledEvents();
+
+        verify(auditLogWriter, times(1)).write(any());
+        verify(auditEventSpool, never()).quarantine(any());
+    }
+}
@@ -0,0 +1,85 @@
+package com.smartconnect.auth.search;
+
+import com.smartconnect.auth.dto.response.TypeaheadSuggestion;
+import com.smartconnect.auth.model.enums.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TypeaheadIndex
+ */
+@DisplayName("TypeaheadIndex Tests")
+class TypeaheadIndexTest {
+
+    private TypeaheadIndex index;
+    private TypeaheadSuggestion student;
+    private TypeaheadSuggestion teacher;
+
+    @BeforeEach
+    void setUp() {
+        index = new TypeaheadIndex();
+        student = suggestion(EntityType.STUDENT, "SV2024001", "Nguyễn Văn Đức");
+        teacher = suggestion(EntityType.TEACHER, "GV2024001", "Trần Thị Nguyệt");
+        index.put(student);
+        index.put(teacher);
+    }
+
+    // ==================== SEARCH TESTS ====================
+
+    @Test
+    @DisplayName("Should match any name word without diacritics")
+    void shouldMatchNameWordsWithoutDiacritics() {
+        assertThat(index.search("nguy", Set.of(), 10)).containsExactly(student, teacher);
+        assertThat(index.search("duc", Set.of(), 10)).containsExactly(student);
+        assertThat(index.search("Văn Đ", Set.of(), 10)).containsExactly(student);
+    }
+
+    @Test
+    @DisplayName("Should match codes and filter by profile type")
+    void shouldMatchCodesAndFilterByType() {
+        assertThat(index.search("sv2024", Set.of(), 10)).containsExactly(student);
+        assertThat(index.search("nguy", Set.of(EntityType.TEACHER), 10)).containsExactly(teacher);
+        assertThat(index.search("nguy", Set.of(), 1)).hasSize(1);
+    }
+
+    // ==================== UPDATE TESTS ====================
+
+    @Test
+    @DisplayName("Should replace old keys on update and drop them on remove")
+    void shouldReplaceKeysOnUpdateAndRemove() {
+        // When
+        index.put(suggestion(EntityType.STUDENT, "SV2024001", "Lê Minh Anh", student.getProfileId()));
+
+        // Then
+        assertThat(index.search("duc", Set.of(), 10)).isEmpty();
+        assertThat(index.search("anh", Set.of(), 10)).extracting(TypeaheadSuggestion::getProfileId)
+                .containsExactly(student.getProfileId());
+
+        // When
+        index.remove(student.getProfileId());
+
+        // Then
+        assertThat(index.search("sv", Set.of(), 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static TypeaheadSuggestion suggestion(EntityType type, String code, String fullName) {
+        return suggestion(type, code, fullName, UUID.randomUUID());
+    }
+
+    private static TypeaheadSuggestion suggestion(EntityType type, String code, String fullName, UUID profileId) {
+        return TypeaheadSuggestion.builder()
+                .type(type)
+                .profileId(profileId)
+                .userId(UUID.randomUUID())
+                .code(code)
+                .fullName(fullName)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.cache.CacheInvalidationBus;
+import com.smartconnect.auth.model.entity.Admin;
+import com.smartconnect.auth.model.entity.User;
+import com.smartconnect.auth.model.enums.AdminPermission;
+import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.repository.AdminRepository;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdminPermissionAuthorizationManager and the compiled admin permission bits
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdminPermissionAuthorizationManager Tests")
+class AdminPermissionAuthorizationManagerTest {
+
+    @Mock
+    private AdminPermissionCache permissionCache;
+
+    @Mock
+    private MethodInvocation invocation;
+
+    @Mock
+    private ObjectProvider<CacheInvalidationBus> invalidationBus;
+
+    private AdminPermissionAuthorizationManager manager;
+    private User admin;
+
+    static class ReportsController {
+        @RequiresAdminPermission({AdminPermission.VIEW_REPORTS, AdminPermission.MANAGE_USERS})
+        public void export() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        manager = new AdminPermissionAuthorizationManager(() -> permissionCache);
+        admin = user(UserRole.ADMIN);
+        lenient().when(invocation.getMethod()).thenReturn(ReportsController.class.getMethod("export"));
+        lenient().when(invocation.getThis()).thenReturn(new ReportsController());
+    }
+
+    // ==================== DECISION TESTS ====================
+
+    @Test
+    @DisplayName("Should grant an admin holding every required permission")
+    void shouldGrantAdminWithAllPermissions() {
+        when(permissionCache.bitsFor(admin.getId())).thenReturn(
+                AdminPermission.bitsOf(AdminPermission.VIEW_REPORTS, AdminPermission.MANAGE_USERS, AdminPermission.MANAGE_GRADES));
+
+        assertThat(manager.check(() -> authenticated(admin), invocation).isGranted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should deny an admin missing one required permission")
+    void shouldDenyAdminMissingPermission() {
+        when(permissionCache.bitsFor(admin.getId())).thenReturn(AdminPermission.VIEW_REPORTS.bit());
+
+        assertThat(manager.check(() -> authenticated(admin), invocation).isGranted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should grant super admins and deny other roles without a lookup")
+    void shouldDecideOtherRolesWithoutLookup() {
+        User superAdmin = user(UserRole.SUPER_ADMIN);
+        User teacher = user(UserRole.TEACHER);
+
+        assertThat(manager.check(() -> authenticated(superAdmin), invocation).isGranted()).isTrue();
+        assertThat(manager.check(() -> authenticated(teacher), invocation).isGranted()).isFalse();
+        verifyNoInteractions(permissionCache);
+    }
+
+    @Test
+    @DisplayName("Should deny an ADMIN-role user that has no admin profile")
+    void shouldDenyAdminWithoutProfile() {
+        AdminRepository adminRepository = mock(AdminRepository.class);
+        when(adminRepository.findUncachedByUserId(admin.getId())).thenReturn(Optional.empty());
+        AdminPermissionCache cache = new AdminPermissionCache(adminRepository, invalidationBus, 100, 10);
+        AdminPermissionAuthorizationManager withoutProfile = new AdminPermissionAuthorizationManager(() -> cache);
+
+        assertThat(withoutProfile.check(() -> authenticated(admin), invocation).isGranted()).isFalse();
+        assertThat(withoutProfile.check(() -> authenticated(admin), invocation).isGranted()).isFalse();
+        verify(adminRepository, times(1)).findUncachedByUserId(admin.getId());
+    }
+
+    // ==================== PERMISSION BITS TESTS ====================
+
+    @Test
+    @DisplayName("Should compile flags and jsonb actions into permission bits")
+    void shouldCompileAdminPermissionBits() {
+        Admin profile = Admin.builder()
+                .canViewReports(true)
+                .permissions(Map.of("grades", List.of("manage")))
+                .build();
+        Admin inactive = Admin.builder().canViewReports(true).isActive(false).build();
+        Admin superAdmin = Admin.builder().accessLevel(3).build();
+
+        assertThat(profile.permissionBits())
+                .isEqualTo(AdminPermission.bitsOf(AdminPermission.VIEW_REPORTS, AdminPermission.MANAGE_GRADES));
+        assertThat(inactive.permissionBits()).isZero();
+        assertThat(superAdmin.permissionBits()).isEqualTo(AdminPermission.allBits());
+    }
+
+    private static User user(UserRole role) {
+        User user = User.builder().username(role.name().toLowerCase()).role(role).build();
+        user.setId(UUID.randomUUID());
+        return user;
+    }
+
+    private static Authentication authenticated(User user) {
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+}
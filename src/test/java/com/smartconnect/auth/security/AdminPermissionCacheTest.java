@@ -0,0 +1,108 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.cache.CacheInvalidationBus;
+import com.smartconnect.auth.event.ProfileChangedEvent;
+import com.smartconnect.auth.model.entity.Admin;
+import com.smartconnect.auth.model.enums.AdminPermission;
+import com.smartconnect.auth.model.enums.EntityType;
+import com.smartconnect.auth.repository.AdminRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdminPermissionCache
+ */
+@DisplayName("AdminPermissionCache Tests")
+class AdminPermissionCacheTest {
+
+    private AdminRepository adminRepository;
+    private CacheInvalidationBus invalidationBus;
+    private AdminPermissionCache cache;
+    private UUID userId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        adminRepository = mock(AdminRepository.class);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        ObjectProvider<CacheInvalidationBus> invalidationBusProvider = mock(ObjectProvider.class);
+        when(invalidationBusProvider.getIfAvailable()).thenReturn(invalidationBus);
+        cache = new AdminPermissionCache(adminRepository, invalidationBusProvider, 100, 10);
+        cache.followInvalidations();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should load bits once and reload after an invalidation")
+    void shouldCacheUntilInvalidated() {
+        when(adminRepository.findUncachedByUserId(userId))
+                .thenReturn(Optional.of(Admin.builder().canViewReports(true).build()))
+                .thenReturn(Optional.of(Admin.builder().build()));
+
+        assertThat(cache.bitsFor(userId)).isEqualTo(AdminPermission.bitsOf(AdminPermission.VIEW_REPORTS));
+        assertThat(cache.bitsFor(userId)).isEqualTo(AdminPermission.bitsOf(AdminPermission.VIEW_REPORTS));
+        cache.onProfileChanged(adminChanged());
+
+        assertThat(cache.bitsFor(userId)).isZero();
+        verify(adminRepository, times(2)).findUncachedByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("Should not cache bits loaded before an invalidation that landed during the load")
+    void shouldDropLoadRacingInvalidation() {
+        // The load reads the profile before the revoke commits; the invalidation arrives before it returns
+        when(adminRepository.findUncachedByUserId(userId))
+                .thenAnswer(invocation -> {
+                    cache.onProfileChanged(adminChanged());
+                    return Optional.of(Admin.builder().canViewReports(true).build());
+                })
+                .thenReturn(Optional.of(Admin.builder().build()));
+
+        assertThat(cache.bitsFor(userId)).isEqualTo(AdminPermission.bitsOf(AdminPermission.VIEW_REPORTS));
+
+        // The stale bits were not stored, so the next check sees the revoke
+        assertThat(cache.bitsFor(userId)).isZero();
+        verify(adminRepository, times(2)).findUncachedByUserId(userId);
+    }
+
+    // ==================== CROSS-REPLICA INVALIDATION TESTS ====================
+
+    @Test
+    @DisplayName("Should broadcast committed admin profile changes to the other replicas")
+    void shouldPublishInvalidation() {
+        cache.onProfileChanged(adminChanged());
+
+        verify(invalidationBus).publish(AdminPermissionCache.INVALIDATION_TOPIC, userId.toString());
+    }
+
+    @Test
+    @DisplayName("Should drop bits when another replica broadcasts a change")
+    @SuppressWarnings("unchecked")
+    void shouldInvalidateOnBroadcast() {
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(invalidationBus).subscribe(eq(AdminPermissionCache.INVALIDATION_TOPIC), listener.capture());
+        when(adminRepository.findUncachedByUserId(userId))
+                .thenReturn(Optional.of(Admin.builder().canViewReports(true).build()))
+                .thenReturn(Optional.of(Admin.builder().build()));
+
+        assertThat(cache.bitsFor(userId)).isEqualTo(AdminPermission.bitsOf(AdminPermission.VIEW_REPORTS));
+        listener.getValue().accept(userId.toString());
+
+        assertThat(cache.bitsFor(userId)).isZero();
+    }
+
+    private ProfileChangedEvent adminChanged() {
+        return new ProfileChangedEvent(EntityType.ADMIN, ProfileChangedEvent.ChangeType.UPDATED,
+                UUID.randomUUID(), userId, "ADM001", "Admin");
+    }
+}
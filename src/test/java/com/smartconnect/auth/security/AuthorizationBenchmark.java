@@ -0,0 +1,104 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.model.enums.UserRole;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiled @Authorize rules against the equivalent SpEL @PreAuthorize expression
+ * Not a unit test; run main() (or the JMH runner) from the IDE with the test classpath.
+ * Both paths are measured once with a role that matches and once falling through to the owner check.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthorizationBenchmark {
+
+    /**
+     * Owner bean shared by both paths
+     */
+    public static class StudentOwner {
+        public boolean isOwner(UUID id) {
+            return id != null;
+        }
+    }
+
+    public static class GuardedController {
+        @PreAuthorize("hasAnyRole('TEACHER', 'ADMIN', 'SUPER_ADMIN') or @studentOwner.isOwner(#id)")
+        public void spel(UUID id) {
+        }
+
+        @Authorize(roles = {UserRole.TEACHER, UserRole.ADMIN, UserRole.SUPER_ADMIN}, owner = StudentOwner.class)
+        public void compiled(UUID id) {
+        }
+    }
+
+    private PreAuthorizeAuthorizationManager spelManager;
+    private AuthorizeAuthorizationManager compiledManager;
+    private MethodInvocation spelInvocation;
+    private MethodInvocation compiledInvocation;
+    private Authentication admin;
+    private Authentication student;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.registerSingleton("studentOwner", StudentOwner.class);
+        context.refresh();
+
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(context);
+        spelManager = new PreAuthorizeAuthorizationManager();
+        spelManager.setExpressionHandler(expressionHandler);
+        compiledManager = new AuthorizeAuthorizationManager(context);
+
+        GuardedController controller = new GuardedController();
+        Object[] arguments = {UUID.randomUUID()};
+        spelInvocation = new SimpleMethodInvocation(controller, GuardedController.class.getMethod("spel", UUID.class), arguments);
+        compiledInvocation = new SimpleMethodInvocation(controller, GuardedController.class.getMethod("compiled", UUID.class), arguments);
+
+        admin = new UsernamePasswordAuthenticationToken("admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+        student = new UsernamePasswordAuthenticationToken("student", null, AuthorityUtils.createAuthorityList("ROLE_STUDENT"));
+    }
+
+    @Benchmark
+    public boolean spelRoleMatch() {
+        return spelManager.check(() -> admin, spelInvocation).isGranted();
+    }
+
+    @Benchmark
+    public boolean spelOwnerCheck() {
+        return spelManager.check(() -> student, spelInvocation).isGranted();
+    }
+
+    @Benchmark
+    public boolean compiledRoleMatch() {
+        return compiledManager.check(() -> admin, compiledInvocation).isGranted();
+    }
+
+    @Benchmark
+    public boolean compiledOwnerCheck() {
+        return compiledManager.check(() -> student, compiledInvocation).isGranted();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AuthorizationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
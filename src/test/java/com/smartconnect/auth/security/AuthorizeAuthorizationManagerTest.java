@@ -0,0 +1,105 @@
+package com.smartconnect.auth.security;
+
+import com.smartconnect.auth.model.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for AuthorizeAuthorizationManager
+ */
+@DisplayName("AuthorizeAuthorizationManager Tests")
+class AuthorizeAuthorizationManagerTest {
+
+    private static final UUID OWNED_ID = UUID.randomUUID();
+
+    private StaticApplicationContext context;
+    private AuthorizeAuthorizationManager manager;
+
+    public static class OwnerCheck {
+        public boolean isOwner(UUID id) {
+            return OWNED_ID.equals(id);
+        }
+    }
+
+    @RestController
+    static class GuardedController {
+        @Authorize(roles = {UserRole.ADMIN, UserRole.SUPER_ADMIN}, scopes = "profiles:write",
+                owner = OwnerCheck.class, ownerParam = "profileId")
+        public void update(String reason, UUID profileId) {
+        }
+    }
+
+    @RestController
+    static class MisconfiguredController {
+        @Authorize(roles = UserRole.ADMIN, owner = OwnerCheck.class)
+        public void update(UUID profileId) {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        context = new StaticApplicationContext();
+        context.registerSingleton("ownerCheck", OwnerCheck.class);
+        context.registerSingleton("guardedController", GuardedController.class);
+        context.refresh();
+        manager = new AuthorizeAuthorizationManager(context);
+    }
+
+    // ==================== DECISION TESTS ====================
+
+    @Test
+    @DisplayName("Should grant listed roles without an ownership check")
+    void shouldGrantListedRoles() throws NoSuchMethodException {
+        assertThat(check(authenticated("ROLE_ADMIN"), UUID.randomUUID())).isTrue();
+        assertThat(check(authenticated("ROLE_TEACHER"), UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should grant listed scopes of service credentials")
+    void shouldGrantListedScopes() throws NoSuchMethodException {
+        assertThat(check(authenticated("SCOPE_profiles:write"), UUID.randomUUID())).isTrue();
+        assertThat(check(authenticated("SCOPE_profiles:read"), UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the owner bean for other roles")
+    void shouldFallBackToOwnerCheck() throws NoSuchMethodException {
+        assertThat(check(authenticated("ROLE_STUDENT"), OWNED_ID)).isTrue();
+        assertThat(check(authenticated("ROLE_STUDENT"), null)).isFalse();
+    }
+
+    // ==================== STARTUP VALIDATION TESTS ====================
+
+    @Test
+    @DisplayName("Should compile controllers at startup and reject unknown owner parameters")
+    void shouldRejectUnknownOwnerParameterAtStartup() {
+        manager.afterSingletonsInstantiated();
+
+        context.registerSingleton("misconfiguredController", MisconfiguredController.class);
+        assertThatThrownBy(() -> manager.afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No UUID parameter named 'id'");
+    }
+
+    private boolean check(Authentication authentication, UUID profileId) throws NoSuchMethodException {
+        SimpleMethodInvocation invocation = new SimpleMethodInvocation(new GuardedController(),
+                GuardedController.class.getMethod("update", String.class, UUID.class), "reason", profileId);
+        return manager.check(() -> authentication, invocation).isGranted();
+    }
+
+    private static Authentication authenticated(String authority) {
+        return new UsernamePasswordAuthenticationToken("user", null, AuthorityUtils.createAuthorityList(authority));
+    }
+}
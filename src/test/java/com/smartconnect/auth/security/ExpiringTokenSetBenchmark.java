@@ -0,0 +1,84 @@
+package com.smartconnect.auth.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups against an in-memory blacklist of 1M revoked tokens, plus its heap footprint
+ * Not a unit test; run main() from the IDE with the test classpath. main() first prints the
+ * retained heap per entry (measured after full GCs), then runs the JMH lookups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpiringTokenSetBenchmark {
+
+    static final int ENTRIES = 1_000_000;
+    static final long NOW = 1_700_000_000L;
+
+    private ExpiringTokenSet tokens;
+    private String revokedToken;
+    private String validToken;
+
+    @Setup
+    public void setUp() {
+        tokens = fill(ENTRIES);
+        revokedToken = token(ENTRIES / 2);
+        validToken = token(ENTRIES + 1);
+    }
+
+    @Benchmark
+    public boolean lookupRevoked() {
+        return tokens.contains(revokedToken);
+    }
+
+    @Benchmark
+    public boolean lookupValid() {
+        return tokens.contains(validToken);
+    }
+
+    /**
+     * Spread expiries over a day so the entries sit on several wheel levels
+     */
+    static ExpiringTokenSet fill(int count) {
+        ExpiringTokenSet set = new ExpiringTokenSet(NOW);
+        for (int i = 0; i < count; i++) {
+            set.add(token(i), NOW + 1 + (i % 86_400));
+        }
+        return set;
+    }
+
+    /**
+     * Access-token sized string (real tokens are about 300 characters)
+     */
+    static String token(int i) {
+        return "eyJhbGciOiJIUzUxMiJ9." + new UUID(i, i * 31L) + ".signature-" + i;
+    }
+
+    static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException, InterruptedException {
+        long before = usedHeapAfterGc();
+        ExpiringTokenSet set = fill(ENTRIES);
+        long after = usedHeapAfterGc();
+        System.out.printf("%,d entries retain %,d bytes (%.1f bytes/entry)%n",
+                set.size(), after - before, (after - before) / (double) set.size());
+
+        new Runner(new OptionsBuilder().include(ExpiringTokenSetBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,58 @@
+package com.smartconnect.auth.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ExpiringTokenSet
+ */
+@DisplayName("ExpiringTokenSet Tests")
+class ExpiringTokenSetTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    // ==================== MEMBERSHIP TESTS ====================
+
+    @Test
+    @DisplayName("Should hold tokens until they expire")
+    void shouldForgetExpiredTokens() {
+        ExpiringTokenSet tokens = new ExpiringTokenSet(NOW);
+
+        assertThat(tokens.add("short", NOW + 10)).isTrue();
+        assertThat(tokens.add("long", NOW + 86_400)).isTrue();
+        assertThat(tokens.add("long", NOW + 86_400)).isFalse();
+        assertThat(tokens.add("stale", NOW)).isFalse();
+
+        assertThat(tokens.expire(NOW + 10)).isEqualTo(1);
+        assertThat(tokens.contains("short")).isFalse();
+        assertThat(tokens.contains("long")).isTrue();
+        assertThat(tokens.contains("stale")).isFalse();
+        assertThat(tokens.remove("long")).isTrue();
+        assertThat(tokens.size()).isZero();
+    }
+
+    // ==================== SNAPSHOT TESTS ====================
+
+    @Test
+    @DisplayName("Should restore a snapshot without the tokens that expired meanwhile")
+    void shouldRoundTripSnapshot() throws Exception {
+        Path file = tempDir.resolve("blacklist.snapshot");
+        ExpiringTokenSet tokens = new ExpiringTokenSet(NOW);
+        tokens.add("short", NOW + 60);
+        tokens.add("long", NOW + 3600);
+        assertThat(tokens.writeSnapshot(file)).isEqualTo(2);
+
+        ExpiringTokenSet restored = new ExpiringTokenSet(NOW + 120);
+        assertThat(restored.readSnapshot(file)).isEqualTo(1);
+        assertThat(restored.contains("long")).isTrue();
+        assertThat(restored.contains("short")).isFalse();
+    }
+}
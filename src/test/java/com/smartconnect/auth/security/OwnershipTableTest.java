@@ -0,0 +1,79 @@
+package com.smartconnect.auth.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for OwnershipTable
+ */
+@DisplayName("OwnershipTable Tests")
+class OwnershipTableTest {
+
+    private OwnershipTable table;
+    private UUID profileId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        table = new OwnershipTable(1000);
+        profileId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    // ==================== LOOKUP TESTS ====================
+
+    @Test
+    @DisplayName("Should round capacity up to a power of two")
+    void shouldRoundCapacityUp() {
+        assertThat(table.capacity()).isEqualTo(1024);
+        assertThat(new OwnershipTable(1).capacity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return stored owner and null for unknown profiles")
+    void shouldReturnStoredOwner() {
+        assertThat(table.put(profileId, userId, table.generation())).isTrue();
+
+        assertThat(table.get(profileId)).isEqualTo(userId);
+        assertThat(table.get(UUID.randomUUID())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should replace the previous entry when two profiles share a slot")
+    void shouldReplaceOnCollision() {
+        OwnershipTable single = new OwnershipTable(1);
+        UUID otherProfile = UUID.randomUUID();
+        single.put(profileId, userId, single.generation());
+        single.put(otherProfile, userId, single.generation());
+
+        assertThat(single.get(profileId)).isNull();
+        assertThat(single.get(otherProfile)).isEqualTo(userId);
+    }
+
+    // ==================== INVALIDATION TESTS ====================
+
+    @Test
+    @DisplayName("Should drop removed profiles")
+    void shouldDropRemovedProfiles() {
+        table.put(profileId, userId, table.generation());
+
+        table.remove(profileId);
+
+        assertThat(table.get(profileId)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should discard an owner loaded before a concurrent removal")
+    void shouldDiscardStaleLoad() {
+        long generation = table.generation();
+        table.remove(profileId);
+
+        assertThat(table.put(profileId, userId, generation)).isFalse();
+        assertThat(table.get(profileId)).isNull();
+    }
+}
@@ -0,0 +1,55 @@
+package com.smartconnect.auth.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TimingWheel
+ */
+@DisplayName("TimingWheel Tests")
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000L;
+
+    // ==================== EXPIRY TESTS ====================
+
+    @Test
+    @DisplayName("Should expire each item exactly at its deadline across all levels")
+    void shouldExpireAtDeadline() {
+        TimingWheel<Long> wheel = new TimingWheel<>(START, Long::longValue);
+        long[] offsets = {1, 63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 300_000, 16_777_215};
+        for (long offset : offsets) {
+            assertThat(wheel.schedule(START + offset)).isTrue();
+        }
+
+        List<Long> expired = new ArrayList<>();
+        for (long offset : offsets) {
+            wheel.advance(START + offset - 1, expired::add);
+            assertThat(expired).doesNotContain(START + offset);
+            wheel.advance(START + offset, expired::add);
+            assertThat(expired).last().isEqualTo(START + offset);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should park deadlines beyond the horizon and reject past ones")
+    void shouldHandleDeadlinesOutsideTheWheel() {
+        TimingWheel<Long> wheel = new TimingWheel<>(START, Long::longValue);
+        long farAway = START + (1L << 24) + 1000;
+
+        assertThat(wheel.schedule(START)).isFalse();
+        assertThat(wheel.schedule(farAway)).isTrue();
+
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(farAway - 1, expired::add);
+        assertThat(expired).isEmpty();
+        wheel.advance(farAway, expired::add);
+        assertThat(expired).containsExactly(farAway);
+    }
+}
@@ -2,8 +2,12 @@ package com.smartconnect.auth.service;
 
 import com.smartconnect.auth.model.entity.User;
 import com.smartconnect.auth.model.enums.UserRole;
+import com.smartconnect.auth.security.JwtKeys;
 import com.smartconnect.auth.service.impl.JwtServiceImpl;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +16,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -28,14 +33,14 @@ class JwtServiceTest {
     private JwtService jwtService;
     private User testUser;
     
-    // Use a valid base64 encoded secret key (256 bits)
-    private static final String TEST_SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1qd3QtdG9rZW4tdGVzdGluZy1wdXJwb3Nlcy1vbmx5LTEyMzQ1Njc4OTA=";
+    // Ephemeral RSA key pair, generated once for the whole class
+    private static final JwtKeys TEST_KEYS = new JwtKeys("", List.of(), true);
     private static final long ACCESS_TOKEN_EXPIRATION = 86400000L; // 24 hours
     private static final long REFRESH_TOKEN_EXPIRATION = 604800000L; // 7 days
 
     @BeforeEach
     void setUp() {
-        jwtService = createJwtService(TEST_SECRET, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION);
+        jwtService = createJwtService(TEST_KEYS, ACCESS_TOKEN_EXPIRATION, REFRESH_TOKEN_EXPIRATION);
 
         testUser = User.builder()
                 .username("testuser")
@@ -48,9 +53,8 @@ class JwtServiceTest {
         testUser.setId(UUID.randomUUID());
     }
 
-    private JwtService createJwtService(String secret, long accessExpiration, long refreshExpiration) {
-        JwtServiceImpl service = new JwtServiceImpl();
-        ReflectionTestUtils.setField(service, "jwtSecret", secret);
+    private JwtService createJwtService(JwtKeys keys, long accessExpiration, long refreshExpiration) {
+        JwtServiceImpl service = new JwtServiceImpl(keys);
         ReflectionTestUtils.setField(service, "accessTokenExpiration", accessExpiration);
         ReflectionTestUtils.setField(service, "refreshTokenExpiration", refreshExpiration);
         return service;
@@ -279,7 +283,7 @@ class JwtServiceTest {
     @DisplayName("Should detect expired token")
     void shouldDetectExpiredToken() {
         // Given - create a service with very short expiration
-        JwtService shortExpirationService = createJwtService(TEST_SECRET, 1L, 1L); // 1ms
+        JwtService shortExpirationService = createJwtService(TEST_KEYS, 1L, 1L); // 1ms
 
         String token = shortExpirationService.generateAccessToken(testUser);
 
@@ -328,16 +332,16 @@ class JwtServiceTest {
     }
 
     @Test
-    @DisplayName("Should reject token signed with different secret")
-    void shouldRejectTokenSignedWithDifferentSecret() {
+    @DisplayName("Should reject token signed with different key")
+    void shouldRejectTokenSignedWithDifferentKey() {
         // Given
-        JwtService differentSecretService = createJwtService(
-                "ZGlmZmVyZW50LXNlY3JldC1rZXktZm9yLWp3dC10b2tlbi10ZXN0aW5nLXB1cnBvc2VzLW9ubHktdXNlZC1mb3ItdGVzdGluZy1zZWN1cml0eS1mZWF0dXJlcy1vZi1qd3QtbGlicmFyeQ==",
+        JwtService differentKeyService = createJwtService(
+                new JwtKeys("", List.of(), true),
                 ACCESS_TOKEN_EXPIRATION,
                 REFRESH_TOKEN_EXPIRATION
         );
 
-        String token = differentSecretService.generateAccessToken(testUser);
+        String token = differentKeyService.generateAccessToken(testUser);
 
         // When & Then - Should throw exception due to signature mismatch
         assertThatThrownBy(() -> jwtService.getUsernameFromToken(token))
@@ -345,6 +349,22 @@ class JwtServiceTest {
                 .hasMessageContaining("signature");
     }
 
+    @Test
+    @DisplayName("Should reject HMAC token claiming the published key id")
+    void shouldRejectHmacTokenWithPublishedKeyId() {
+        // Given - a forger who knows the public key id but not the private key
+        String forged = Jwts.builder()
+                .header().keyId(TEST_KEYS.getSigningKeyId()).and()
+                .subject(testUser.getUsername())
+                .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION))
+                .signWith(Keys.hmacShaKeyFor(TEST_KEYS.verificationKey(TEST_KEYS.getSigningKeyId()).getEncoded()))
+                .compact();
+
+        // When & Then
+        assertThatThrownBy(() -> jwtService.getUsernameFromToken(forged))
+                .isInstanceOf(JwtException.class);
+    }
+
     @Test
     @DisplayName("Two tokens for same user should be different")
     void twoTokensForSameUserShouldBeDifferent() {
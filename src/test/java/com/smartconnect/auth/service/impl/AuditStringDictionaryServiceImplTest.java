@@ -0,0 +1,112 @@
+package com.smartconnect.auth.service.impl;
+
+import com.smartconnect.auth.model.entity.AuditStringDictionaryEntry;
+import com.smartconnect.auth.repository.AuditStringDictionaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditStringDictionaryServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditStringDictionaryService Tests")
+class AuditStringDictionaryServiceImplTest {
+
+    @Mock
+    private AuditStringDictionaryRepository dictionaryRepository;
+
+    private AuditStringDictionaryServiceImpl dictionaryService;
+
+    @BeforeEach
+    void setUp() {
+        dictionaryService = new AuditStringDictionaryServiceImpl(dictionaryRepository, 100);
+    }
+
+    // ==================== HASH TESTS ====================
+
+    @Test
+    @DisplayName("Should match audit_string_hash() in the database")
+    void shouldMatchDatabaseHash() {
+        // Expected values: ('x' || substr(md5(value), 1, 16))::bit(64)::bigint
+        assertThat(AuditStringDictionaryServiceImpl.hash("/v1/auth/login")).isEqualTo(4033768965241242244L);
+        assertThat(AuditStringDictionaryServiceImpl.hash("/v1/auth/refresh")).isEqualTo(-9003363595622812025L);
+        assertThat(AuditStringDictionaryServiceImpl.hash("Nguyễn Văn A")).isEqualTo(5242118663660350416L);
+    }
+
+    // ==================== ENCODE / DECODE TESTS ====================
+
+    @Test
+    @DisplayName("Should insert each new value once and serve repeats from the cache")
+    void shouldInsertNewValuesOnce() {
+        // Given
+        when(dictionaryRepository.insertIfAbsent(-7463529699895993298L, "Chrome")).thenReturn("Chrome");
+
+        // When
+        Map<String, Long> first = dictionaryService.encodeAll(Arrays.asList("Chrome", "Chrome", null));
+        Map<String, Long> second = dictionaryService.encodeAll(List.of("Chrome"));
+
+        // Then
+        assertThat(first).containsExactly(entry("Chrome", -7463529699895993298L));
+        assertThat(second).isEqualTo(first);
+        verify(dictionaryRepository, times(1)).insertIfAbsent(-7463529699895993298L, "Chrome");
+    }
+
+    @Test
+    @DisplayName("Should load unknown ids once and return null for missing entries")
+    void shouldDecodeThroughRepository() {
+        // Given
+        when(dictionaryRepository.findById(1L)).thenReturn(Optional.of(
+                AuditStringDictionaryEntry.builder().id(1L).value("curl/8.4.0").build()));
+        when(dictionaryRepository.findById(2L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThat(dictionaryService.decode(1L)).isEqualTo("curl/8.4.0");
+        assertThat(dictionaryService.decode(1L)).isEqualTo("curl/8.4.0");
+        assertThat(dictionaryService.decode(2L)).isNull();
+        assertThat(dictionaryService.decode(null)).isNull();
+        verify(dictionaryRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should probe the next id when the hash is taken by another value")
+    void shouldProbePastHashCollisions() {
+        // Given
+        long id = AuditStringDictionaryServiceImpl.hash("Chrome");
+        when(dictionaryRepository.insertIfAbsent(id, "Chrome")).thenReturn("Firefox");
+        when(dictionaryRepository.insertIfAbsent(id + 1, "Chrome")).thenReturn("Chrome");
+
+        // When / Then
+        assertThat(dictionaryService.encodeAll(List.of("Chrome"))).containsExactly(entry("Chrome", id + 1));
+    }
+
+    @Test
+    @DisplayName("Should resolve a page of ids with one query")
+    void shouldPreloadMissingIdsInOneQuery() {
+        // Given
+        when(dictionaryRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(
+                AuditStringDictionaryEntry.builder().id(1L).value("/v1/users").build(),
+                AuditStringDictionaryEntry.builder().id(2L).value("curl/8.4.0").build()));
+
+        // When
+        dictionaryService.preload(Arrays.asList(1L, 2L, 1L, null));
+
+        // Then
+        assertThat(dictionaryService.decode(1L)).isEqualTo("/v1/users");
+        assertThat(dictionaryService.decode(2L)).isEqualTo("curl/8.4.0");
+        verify(dictionaryRepository, never()).findById(any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.smartconnect.auth.service.impl;
+
+import com.smartconnect.auth.revocation.RevocationEvent;
+import com.smartconnect.auth.revocation.TokenRevocationStream;
+import com.smartconnect.auth.security.TokenBlacklistStore;
+import com.smartconnect.auth.service.JwtService;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenBlacklistServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklistServiceImpl Tests")
+class TokenBlacklistServiceImplTest {
+
+    @Mock
+    private TokenBlacklistStore tokenBlacklistStore;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TokenRevocationStream tokenRevocationStream;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // ==================== LOCAL CACHE TESTS ====================
+
+    @Test
+    @DisplayName("Should answer repeated lookups from the local cache")
+    void shouldCacheLookups() {
+        TokenBlacklistServiceImpl service = service(TokenBlacklistStore.FailureMode.OPEN);
+        when(tokenBlacklistStore.exists("blacklist:token:clean")).thenReturn(false);
+        when(tokenBlacklistStore.exists("blacklist:token:revoked")).thenReturn(true);
+
+        assertThat(service.isTokenBlacklisted("clean")).isFalse();
+        assertThat(service.isTokenBlacklisted("clean")).isFalse();
+        assertThat(service.isTokenBlacklisted("revoked")).isTrue();
+        assertThat(service.isTokenBlacklisted("revoked")).isTrue();
+
+        verify(tokenBlacklistStore, times(2)).exists(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a token blacklisted here even when the Redis write fails")
+    void shouldRejectLocallyBlacklistedToken() {
+        TokenBlacklistServiceImpl service = service(TokenBlacklistStore.FailureMode.OPEN);
+        when(jwtService.getExpirationDateFromToken("token")).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+        doThrow(new RedisConnectionFailureException("down")).when(tokenBlacklistStore).put(anyString(), any(Duration.class));
+
+        service.blacklistToken("token");
+
+        assertThat(service.isTokenBlacklisted("token")).isTrue();
+        verify(tokenBlacklistStore, never()).exists(anyString());
+        verify(tokenRevocationStream).publish(any());
+    }
+
+    // ==================== RESTORATION TESTS ====================
+
+    @Test
+    @DisplayName("Should broadcast a removal so every replica drops the token from its local cache")
+    void shouldBroadcastRemoval() {
+        TokenBlacklistServiceImpl replica = service(TokenBlacklistStore.FailureMode.OPEN);
+        TokenBlacklistServiceImpl restoring = service(TokenBlacklistStore.FailureMode.OPEN);
+        when(jwtService.<String>extractClaim(eq("token"), any())).thenReturn("nonce-1");
+        when(tokenBlacklistStore.exists("blacklist:token:token")).thenReturn(true, false);
+        assertThat(replica.isTokenBlacklisted("token")).isTrue();
+
+        restoring.removeFromBlacklist("token");
+
+        verify(tokenBlacklistStore).remove("blacklist:token:token");
+        verify(tokenRevocationStream).publish(RevocationEvent.restored("nonce-1"));
+        // Still cached until the replica's stream tail delivers the event
+        assertThat(replica.isTokenBlacklisted("token")).isTrue();
+
+        replica.onRevocation(new RevocationEvent("7-0", RevocationEvent.Type.RESTORED, "nonce-1", null, null, null));
+
+        assertThat(replica.isTokenBlacklisted("token")).isFalse();
+        verify(tokenBlacklistStore, times(2)).exists("blacklist:token:token");
+    }
+
+    @Test
+    @DisplayName("Should keep other blacklisted tokens cached when one is restored")
+    void shouldOnlyDropRestoredToken() {
+        TokenBlacklistServiceImpl service = service(TokenBlacklistStore.FailureMode.OPEN);
+        when(jwtService.getExpirationDateFromToken(anyString())).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+        when(jwtService.<String>extractClaim(eq("first"), any())).thenReturn("nonce-1");
+        when(jwtService.<String>extractClaim(eq("second"), any())).thenReturn("nonce-2");
+        service.blacklistToken("first");
+        service.blacklistToken("second");
+
+        service.onRevocation(RevocationEvent.restored("nonce-1"));
+
+        assertThat(service.isTokenBlacklisted("second")).isTrue();
+        verify(tokenBlacklistStore, never()).exists(anyString());
+    }
+
+    // ==================== FAILURE MODE TESTS ====================
+
+    @Test
+    @DisplayName("Should follow the failure mode while Redis is unavailable and not cache the answer")
+    void shouldApplyFailureMode() {
+        CallNotPermittedException breakerOpen = CallNotPermittedException.createCallNotPermittedException(
+                CircuitBreaker.ofDefaults("tokenBlacklist"));
+
+        TokenBlacklistServiceImpl failOpen = service(TokenBlacklistStore.FailureMode.OPEN);
+        when(tokenBlacklistStore.exists(anyString())).thenThrow(breakerOpen);
+        assertThat(failOpen.isTokenBlacklisted("token")).isFalse();
+
+        TokenBlacklistServiceImpl failClosed = service(TokenBlacklistStore.FailureMode.CLOSED);
+        assertThat(failClosed.isTokenBlacklisted("token")).isTrue();
+        assertThat(failClosed.isTokenBlacklisted("token")).isTrue();
+
+        verify(tokenBlacklistStore, times(3)).exists("blacklist:token:token");
+    }
+
+    private TokenBlacklistServiceImpl service(TokenBlacklistStore.FailureMode failureMode) {
+        lenient().when(tokenBlacklistStore.getFailureMode()).thenReturn(failureMode);
+        return new TokenBlacklistServiceImpl(tokenBlacklistStore, jwtService, tokenRevocationStream,
+                meterRegistry, 300, 1000, 1000);
+    }
+}
@@ -0,0 +1,106 @@
+package com.smartconnect.auth.stats;
+
+import com.smartconnect.auth.model.entity.Student;
+import com.smartconnect.auth.model.enums.StatsDimension;
+import com.smartconnect.auth.model.enums.StudentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ProfileStatsCounters and StatsBucket
+ */
+@DisplayName("ProfileStatsCounters Tests")
+class ProfileStatsCountersTest {
+
+    private ProfileStatsCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new ProfileStatsCounters();
+    }
+
+    // ==================== DELTA TESTS ====================
+
+    @Test
+    @DisplayName("Should move a profile between buckets on update and drop it on delete")
+    void shouldApplyDeltas() {
+        Student student = student(StudentStatus.ACTIVE, "3.20");
+        List<StatsBucket> created = StatsBucket.of(student);
+        counters.apply(List.of(), created);
+
+        student.setStatus(StudentStatus.GRADUATED);
+        student.setGpa(new BigDecimal("3.60"));
+        List<StatsBucket> updated = StatsBucket.of(student);
+        counters.apply(created, updated);
+
+        assertThat(counters.snapshot(StatsDimension.STUDENTS_BY_STATUS)).containsExactly(Map.entry("GRADUATED", 1L));
+        assertThat(counters.snapshot(StatsDimension.STUDENTS_BY_GPA)).containsExactly(Map.entry("3.5", 1L));
+        assertThat(counters.get(StatsDimension.STUDENTS_BY_ADMISSION_YEAR, "2024")).isEqualTo(1);
+
+        counters.apply(updated, List.of());
+        assertThat(counters.snapshot(StatsDimension.STUDENTS_BY_STATUS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should bucket GPA by half points and clamp 4.0 into the top bucket")
+    void shouldBucketGpa() {
+        assertThat(StatsBucket.gpaBucket(null)).isEqualTo("0.0");
+        assertThat(StatsBucket.gpaBucket(new BigDecimal("2.49"))).isEqualTo("2.0");
+        assertThat(StatsBucket.gpaBucket(new BigDecimal("2.50"))).isEqualTo("2.5");
+        assertThat(StatsBucket.gpaBucket(new BigDecimal("4.00"))).isEqualTo("3.5");
+    }
+
+    // ==================== RECONCILIATION TESTS ====================
+
+    @Test
+    @DisplayName("Should replace drifted counters with exact counts")
+    void shouldReplaceDriftedCounters() {
+        counters.apply(List.of(), List.of(new StatsBucket(StatsDimension.ADMINS_BY_DEPARTMENT, "IT")));
+        counters.startRecording();
+
+        int drifted = counters.replace(Map.of(
+                new StatsBucket(StatsDimension.ADMINS_BY_DEPARTMENT, "IT"), 1L,
+                new StatsBucket(StatsDimension.ADMINS_BY_DEPARTMENT, "HR"), 2L));
+
+        assertThat(drifted).isEqualTo(1);
+        assertThat(counters.snapshot(StatsDimension.ADMINS_BY_DEPARTMENT))
+                .containsExactly(Map.entry("HR", 2L), Map.entry("IT", 1L));
+    }
+
+    @Test
+    @DisplayName("Should replay deltas that arrived while counting on top of the counts")
+    void shouldReplayDeltasRecordedWhileCounting() {
+        StatsBucket active = new StatsBucket(StatsDimension.TEACHERS_BY_ACTIVE, "true");
+        StatsBucket inactive = new StatsBucket(StatsDimension.TEACHERS_BY_ACTIVE, "false");
+        counters.startRecording();
+        counters.apply(List.of(), List.of(active));
+        counters.apply(List.of(active), List.of(inactive));
+        counters.apply(List.of(), List.of(active));
+
+        int drifted = counters.replace(Map.of(active, 5L));
+
+        assertThat(drifted).isEqualTo(1);
+        assertThat(counters.get(StatsDimension.TEACHERS_BY_ACTIVE, "true")).isEqualTo(6);
+        assertThat(counters.get(StatsDimension.TEACHERS_BY_ACTIVE, "false")).isEqualTo(1);
+
+        counters.apply(List.of(), List.of(active));
+        counters.replace(Map.of(active, 7L));
+        assertThat(counters.get(StatsDimension.TEACHERS_BY_ACTIVE, "true")).isEqualTo(7);
+    }
+
+    private static Student student(StudentStatus status, String gpa) {
+        return Student.builder()
+                .studentCode("SV2024001")
+                .admissionYear(2024)
+                .status(status)
+                .gpa(new BigDecimal(gpa))
+                .build();
+    }
+}
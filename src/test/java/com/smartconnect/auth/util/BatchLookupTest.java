@@ -0,0 +1,56 @@
+package com.smartconnect.auth.util;
+
+import com.smartconnect.auth.dto.response.BatchGetResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Unit tests for BatchLookup
+ */
+@DisplayName("BatchLookup Tests")
+class BatchLookupTest {
+
+    // ==================== RESOLVE TESTS ====================
+
+    @Test
+    @DisplayName("Should key found entries in request order and report missing keys once")
+    void shouldKeyFoundEntriesAndReportMissing() {
+        List<List<String>> queries = new ArrayList<>();
+        Function<List<String>, List<String>> loader = keys -> {
+            queries.add(keys);
+            return keys.stream().filter(key -> !key.startsWith("x")).toList();
+        };
+
+        BatchGetResponse<Integer> response = BatchLookup.resolve(
+                List.of("b", "x1", "a", "b", "x1"), loader, Function.identity(), String::length);
+
+        assertThat(response.getItems()).containsExactly(
+                entry("b", 1), entry("a", 1));
+        assertThat(response.getMissing()).containsExactly("x1");
+        assertThat(queries).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should issue one query per chunk of keys")
+    void shouldChunkKeys() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Integer> keys = IntStream.range(0, Constants.BATCH_GET_CHUNK_SIZE + 1).boxed().toList();
+
+        BatchGetResponse<Integer> response = BatchLookup.resolve(keys, chunk -> {
+            chunkSizes.add(chunk.size());
+            return chunk;
+        }, Function.identity(), Function.identity());
+
+        assertThat(chunkSizes).containsExactly(Constants.BATCH_GET_CHUNK_SIZE, 1);
+        assertThat(response.getItems()).hasSize(keys.size());
+        assertThat(response.getMissing()).isEmpty();
+    }
+}
@@ -0,0 +1,53 @@
+package com.smartconnect.auth.util;
+
+import com.smartconnect.auth.dto.response.ChangeFeedResponse;
+import com.smartconnect.auth.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ChangeFeedCursor and ChangeFeedResponse
+ */
+@DisplayName("ChangeFeedCursor Tests")
+class ChangeFeedCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through the encoded token and start from the beginning without one")
+    void shouldRoundTrip() {
+        ChangeFeedCursor cursor = new ChangeFeedCursor(LocalDateTime.of(2025, 3, 1, 8, 30, 15, 123456000), UUID.randomUUID());
+
+        assertThat(ChangeFeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(ChangeFeedCursor.decode(" ")).isEqualTo(ChangeFeedCursor.START);
+        assertThatThrownBy(() -> ChangeFeedCursor.decode("not a cursor")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should resume after the last change, or from the same watermark when nothing changed")
+    void shouldAlwaysReturnResumableCursor() {
+        // Given
+        ChangeFeedCursor since = new ChangeFeedCursor(LocalDateTime.of(2025, 1, 1, 0, 0), UUID.randomUUID());
+        List<ChangeFeedCursor> rows = List.of(
+                new ChangeFeedCursor(since.updatedAt().plusSeconds(1), UUID.randomUUID()),
+                new ChangeFeedCursor(since.updatedAt().plusSeconds(2), UUID.randomUUID()),
+                new ChangeFeedCursor(since.updatedAt().plusSeconds(3), UUID.randomUUID()));
+
+        // When
+        ChangeFeedResponse<UUID> batch = ChangeFeedResponse.of(rows, 2, since, ChangeFeedCursor::id, row -> row);
+        ChangeFeedResponse<UUID> empty = ChangeFeedResponse.of(List.<ChangeFeedCursor>of(), 2, since, ChangeFeedCursor::id, row -> row);
+
+        // Then
+        assertThat(batch.getChanges()).containsExactly(rows.get(0).id(), rows.get(1).id());
+        assertThat(batch.isHasMore()).isTrue();
+        assertThat(ChangeFeedCursor.decode(batch.getCursor())).isEqualTo(rows.get(1));
+        assertThat(empty.getChanges()).isEmpty();
+        assertThat(empty.isHasMore()).isFalse();
+        assertThat(ChangeFeedCursor.decode(empty.getCursor())).isEqualTo(since);
+    }
+}
@@ -0,0 +1,66 @@
+package com.smartconnect.auth.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for streamed export writers
+ */
+@DisplayName("ExportWriter Tests")
+class ExportWriterTest {
+
+    // ==================== NDJSON TESTS ====================
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NdjsonExportWriter<Map<String, Object>> writer = new NdjsonExportWriter<>(out, new ObjectMapper());
+
+        // When
+        writer.write(Map.of("id", 1));
+        writer.write(Map.of("id", 2));
+        writer.flush();
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n{\"id\":2}\n");
+    }
+
+    // ==================== CSV TESTS ====================
+
+    @Test
+    @DisplayName("Should write header and quote special characters")
+    void shouldWriteHeaderAndQuoteSpecialCharacters() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<CsvExportWriter.Column<String[]>> columns = List.of(
+                CsvExportWriter.Column.of("name", row -> row[0]),
+                CsvExportWriter.Column.of("note", row -> row[1]));
+        CsvExportWriter<String[]> writer = new CsvExportWriter<>(out, columns);
+
+        // When
+        writer.write(new String[]{"Nguyễn Văn A", "said \"hi\", left"});
+        writer.write(new String[]{"B", null});
+        writer.flush();
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "name,note\r\nNguyễn Văn A,\"said \"\"hi\"\", left\"\r\nB,\r\n");
+    }
+
+    @Test
+    @DisplayName("Should neutralize spreadsheet formulas in text cells")
+    void shouldNeutralizeSpreadsheetFormulas() {
+        assertThat(CsvExportWriter.escape("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+        assertThat(CsvExportWriter.escape(-5)).isEqualTo("-5");
+    }
+}
@@ -0,0 +1,39 @@
+package com.smartconnect.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for IpAddressUtils
+ */
+@DisplayName("IpAddressUtils Tests")
+class IpAddressUtilsTest {
+
+    @Test
+    @DisplayName("Should keep the first address of a forwarded list")
+    void shouldKeepFirstForwardedAddress() {
+        assertThat(IpAddressUtils.normalize("203.0.113.7, 10.0.0.1")).isEqualTo("203.0.113.7");
+        assertThat(IpAddressUtils.normalize(" 2001:db8::1 ")).isEqualTo("2001:db8::1");
+    }
+
+    @Test
+    @DisplayName("Should drop values that are not IP literals")
+    void shouldDropInvalidValues() {
+        assertThat(IpAddressUtils.normalize("unknown")).isNull();
+        assertThat(IpAddressUtils.normalize("")).isNull();
+        assertThat(IpAddressUtils.normalize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should validate CIDR blocks per address family")
+    void shouldValidateCidrBlocks() {
+        assertThat(IpAddressUtils.isValidCidr("203.0.113.0/24")).isTrue();
+        assertThat(IpAddressUtils.isValidCidr("2001:db8::/64")).isTrue();
+        assertThat(IpAddressUtils.isValidCidr("10.0.0.1")).isTrue();
+        assertThat(IpAddressUtils.isValidCidr("10.0.0.0/33")).isFalse();
+        assertThat(IpAddressUtils.isValidCidr("2001:db8::/129")).isFalse();
+        assertThat(IpAddressUtils.isValidCidr("example.com/24")).isFalse();
+    }
+}
@@ -0,0 +1,56 @@
+package com.smartconnect.auth.util;
+
+import com.smartconnect.auth.dto.response.CursorPageResponse;
+import com.smartconnect.auth.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for KeysetCursor and CursorPageResponse
+ */
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through the encoded token")
+    void shouldRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 3, 1, 8, 30, 15, 123456000), UUID.randomUUID());
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered tokens")
+    void shouldRejectTamperedTokens() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("bm8tc2VwYXJhdG9y")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should use the extra row only to signal a next page")
+    void shouldBuildPageFromExtraRow() {
+        // Given - three rows fetched for a page size of two
+        LocalDateTime now = LocalDateTime.now();
+        List<KeysetCursor> rows = List.of(
+                new KeysetCursor(now, UUID.randomUUID()),
+                new KeysetCursor(now.minusSeconds(1), UUID.randomUUID()),
+                new KeysetCursor(now.minusSeconds(2), UUID.randomUUID()));
+
+        // When
+        CursorPageResponse<UUID> page = CursorPageResponse.of(rows, 2, KeysetCursor::id, row -> row, null);
+
+        // Then
+        assertThat(page.getContent()).containsExactly(rows.get(0).id(), rows.get(1).id());
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor())).isEqualTo(rows.get(1));
+        assertThat(page.getTotalElements()).isNull();
+    }
+}
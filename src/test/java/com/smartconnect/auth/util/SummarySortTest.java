@@ -0,0 +1,41 @@
+package com.smartconnect.auth.util;
+
+import com.smartconnect.auth.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SummarySort
+ */
+@DisplayName("SummarySort Tests")
+class SummarySortTest {
+
+    private static final Map<String, String> PROPERTIES = Map.of(
+            "createdAt", "createdAt",
+            "fullName", "user.fullName");
+
+    @Test
+    @DisplayName("Should map a whitelisted key to its entity path")
+    void shouldMapWhitelistedKey() {
+        Sort sort = SummarySort.of("fullName", "asc", PROPERTIES);
+
+        assertThat(sort.getOrderFor("user.fullName")).isNotNull()
+                .extracting(Sort.Order::getDirection).isEqualTo(Sort.Direction.ASC);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown sort keys and directions as bad requests")
+    void shouldRejectUnknownKeyOrDirection() {
+        assertThatThrownBy(() -> SummarySort.of("password", "DESC", PROPERTIES))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("[createdAt, fullName]");
+        assertThatThrownBy(() -> SummarySort.of("createdAt", "sideways", PROPERTIES))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,30 @@
+package com.smartconnect.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TextNormalizer
+ */
+@DisplayName("TextNormalizer Tests")
+class TextNormalizerTest {
+
+    @Test
+    @DisplayName("Should fold accents, case and whitespace")
+    void shouldFoldText() {
+        assertThat(TextNormalizer.fold("  Nguyễn   Văn Đức ")).isEqualTo("nguyen van duc");
+        assertThat(TextNormalizer.fold(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should build a prefix tsquery from words only")
+    void shouldBuildPrefixTsQuery() {
+        assertThat(TextNormalizer.prefixTsQuery("Đăng nhập")).isEqualTo("đăng:* & nhập:*");
+        assertThat(TextNormalizer.prefixTsQuery("'pass' & !res:* | (o'brien)"))
+                .isEqualTo("pass:* & res:* & o:* & brien:*");
+        assertThat(TextNormalizer.prefixTsQuery(" &!: ")).isEmpty();
+        assertThat(TextNormalizer.prefixTsQuery(null)).isEmpty();
+    }
+}